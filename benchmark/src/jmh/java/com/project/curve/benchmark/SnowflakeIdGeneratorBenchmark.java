@@ -1,4 +1,90 @@
 package com.project.curve.benchmark;
 
+import com.project.curve.core.envelope.EventId;
+import com.project.curve.spring.infrastructure.LockFreeSnowflakeIdGenerator;
+import com.project.curve.spring.infrastructure.SnowflakeIdGenerator;
+import com.project.curve.spring.infrastructure.StripedSnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark comparing the locking, lock-free and striped Snowflake ID generators.
+ *
+ * <p>Tests various scenarios including:
+ * <ul>
+ *   <li>Uncontended generation (single thread)</li>
+ *   <li>Contended generation (8 threads sharing one generator)</li>
+ * </ul>
+ *
+ * <p>The locking and lock-free generators are capped at 4096 IDs per millisecond by the sequence bits,
+ * so contended throughput converges near that limit; the average time shows the cost of contention.
+ * The striped generator gives every thread its own sequence, so its cap grows with the stripe count.
+ *
+ * <p>Run with: ./gradlew :benchmark:jmh -PjmhInclude=SnowflakeIdGeneratorBenchmark
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
 public class SnowflakeIdGeneratorBenchmark {
+
+    private SnowflakeIdGenerator lockingGenerator;
+    private LockFreeSnowflakeIdGenerator lockFreeGenerator;
+    private StripedSnowflakeIdGenerator stripedGenerator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.lockingGenerator = new SnowflakeIdGenerator(1L);
+        this.lockFreeGenerator = new LockFreeSnowflakeIdGenerator(1L);
+        this.stripedGenerator = new StripedSnowflakeIdGenerator(1L, 4);
+    }
+
+    // ===== Single thread =====
+
+    @Benchmark
+    @Threads(1)
+    public EventId locking_singleThread() {
+        return lockingGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EventId lockFree_singleThread() {
+        return lockFreeGenerator.generate();
+    }
+
+    // ===== Contended (8 threads) =====
+
+    @Benchmark
+    @Threads(8)
+    public EventId locking_contended() {
+        return lockingGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public EventId lockFree_contended() {
+        return lockFreeGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long lockFree_contendedPrimitive() {
+        return lockFreeGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public EventId striped_contended() {
+        return stripedGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long striped_contendedPrimitive() {
+        return stripedGenerator.nextId();
+    }
 }
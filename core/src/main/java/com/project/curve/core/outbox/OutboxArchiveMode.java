@@ -0,0 +1,26 @@
+package com.project.curve.core.outbox;
+
+/**
+ * What happens to Outbox events once they are published.
+ * <p>
+ * Keeps the hot outbox table (and the indexes scanned for PENDING events) small
+ * by moving PUBLISHED events out of it right after publishing.
+ */
+public enum OutboxArchiveMode {
+
+    /**
+     * PUBLISHED events stay in the outbox table until cleanup deletes them.
+     */
+    NONE,
+
+    /**
+     * PUBLISHED events are moved to the {@code curve_outbox_events_archive} table in bulk.
+     * Queries by aggregate and time range read both tables.
+     */
+    ARCHIVE,
+
+    /**
+     * PUBLISHED events are deleted right after publishing (replay only covers unpublished events).
+     */
+    DELETE
+}
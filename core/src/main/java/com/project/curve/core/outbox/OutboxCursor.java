@@ -0,0 +1,46 @@
+package com.project.curve.core.outbox;
+
+import java.time.Instant;
+
+/**
+ * Keyset position in the outbox, ordered by {@code (occurredAt, eventId)}.
+ * <p>
+ * Used to page through the outbox with seek predicates
+ * ({@code occurred_at > ? OR (occurred_at = ? AND event_id > ?)}) instead of offsets,
+ * so every page costs the same and a scan can be resumed from the last position.
+ *
+ * @param occurredAt Occurrence time of the last visited event
+ * @param eventId    ID of the last visited event (empty string for a start position)
+ * @see OutboxEventRepository#findAfter(OutboxCursor, Instant, int)
+ */
+public record OutboxCursor(Instant occurredAt, String eventId) {
+
+    public OutboxCursor {
+        if (occurredAt == null) {
+            throw new IllegalArgumentException("occurredAt must not be null");
+        }
+        if (eventId == null) {
+            throw new IllegalArgumentException("eventId must not be null");
+        }
+    }
+
+    /**
+     * Creates a start position that includes every event occurred at or after the given time.
+     *
+     * @param since Lower bound timestamp (inclusive)
+     * @return Start cursor
+     */
+    public static OutboxCursor start(Instant since) {
+        return new OutboxCursor(since, "");
+    }
+
+    /**
+     * Creates the position right after the given event.
+     *
+     * @param event Last visited event
+     * @return Cursor positioned after the event
+     */
+    public static OutboxCursor after(OutboxEvent event) {
+        return new OutboxCursor(event.getOccurredAt(), event.getEventId());
+    }
+}
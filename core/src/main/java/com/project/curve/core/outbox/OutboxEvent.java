@@ -1,5 +1,6 @@
 package com.project.curve.core.outbox;
 
+import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Instant;
@@ -9,6 +10,9 @@ import java.time.temporal.ChronoUnit;
  * Domain model for event storage using Transactional Outbox Pattern.
  * <p>
  * Used to guarantee atomicity between DB transactions and event publishing.
+ * <p>
+ * Events carrying routing information or an encoded payload are created with {@link #builder()},
+ * and restored from the persistence layer with {@link #restoreBuilder()}.
  *
  * <h3>How It Works</h3>
  * <ol>
@@ -40,6 +44,9 @@ public class OutboxEvent {
     private final String eventType;
     private final String payload;
     private final Instant occurredAt;
+    private final String topic;
+    private final String partitionKey;
+    private final String payloadCodec;
 
     private OutboxStatus status;
     private int retryCount;
@@ -64,6 +71,34 @@ public class OutboxEvent {
             String eventType,
             String payload,
             Instant occurredAt
+    ) {
+        this(eventId, aggregateType, aggregateId, eventType, payload, occurredAt, null, null, null);
+    }
+
+    /**
+     * Outbox event constructor with routing information and an encoded payload, used through {@link #builder()}.
+     *
+     * @param eventId       Unique event ID
+     * @param aggregateType Aggregate type (e.g., "Order", "User")
+     * @param aggregateId   Aggregate ID (e.g., orderId)
+     * @param eventType     Event type (e.g., "ORDER_CREATED")
+     * @param payload       Event payload (JSON, or the Base64 of the compressed JSON if payloadCodec is set)
+     * @param occurredAt    Event occurrence time
+     * @param topic         Target topic (nullable, null means the publisher's default topic)
+     * @param partitionKey  Kafka record key (nullable, null means the key resolved by the publisher's {@link OutboxKeyResolver})
+     * @param payloadCodec  Name of the {@link OutboxPayloadCodec} the payload is compressed with (nullable, null means plain JSON)
+     */
+    @Builder
+    private OutboxEvent(
+            String eventId,
+            String aggregateType,
+            String aggregateId,
+            String eventType,
+            String payload,
+            Instant occurredAt,
+            String topic,
+            String partitionKey,
+            String payloadCodec
     ) {
         validateNotBlank(eventId, "eventId");
         validateNotBlank(aggregateType, "aggregateType");
@@ -81,6 +116,9 @@ public class OutboxEvent {
         this.eventType = eventType;
         this.payload = payload;
         this.occurredAt = occurredAt;
+        this.topic = topic == null || topic.isBlank() ? null : topic;
+        this.partitionKey = partitionKey;
+        this.payloadCodec = payloadCodec;
         this.status = OutboxStatus.PENDING;
         this.retryCount = 0;
         this.nextRetryAt = occurredAt; // Initially eligible for immediate processing
@@ -117,7 +155,49 @@ public class OutboxEvent {
             String errorMessage,
             Instant nextRetryAt
     ) {
-        OutboxEvent event = new OutboxEvent(eventId, aggregateType, aggregateId, eventType, payload, occurredAt);
+        return restoreState(eventId, aggregateType, aggregateId, eventType, payload, occurredAt,
+                status, retryCount, publishedAt, errorMessage, nextRetryAt, null, null, null);
+    }
+
+    /**
+     * Factory method for restoring domain model, including routing information and payload codec, from persistence layer,
+     * used through {@link #restoreBuilder()}.
+     *
+     * @param eventId       Event ID
+     * @param aggregateType Aggregate type
+     * @param aggregateId   Aggregate ID
+     * @param eventType     Event type
+     * @param payload       Payload (as stored)
+     * @param occurredAt    Occurrence time
+     * @param status        Current status
+     * @param retryCount    Retry count
+     * @param publishedAt   Publish time (nullable)
+     * @param errorMessage  Error message (nullable)
+     * @param nextRetryAt   Next retry time (nullable)
+     * @param topic         Target topic (nullable)
+     * @param partitionKey  Kafka record key (nullable)
+     * @param payloadCodec  Payload codec name (nullable)
+     * @return Restored OutboxEvent
+     */
+    @Builder(builderMethodName = "restoreBuilder", builderClassName = "RestoreBuilder")
+    private static OutboxEvent restoreState(
+            String eventId,
+            String aggregateType,
+            String aggregateId,
+            String eventType,
+            String payload,
+            Instant occurredAt,
+            OutboxStatus status,
+            int retryCount,
+            Instant publishedAt,
+            String errorMessage,
+            Instant nextRetryAt,
+            String topic,
+            String partitionKey,
+            String payloadCodec
+    ) {
+        OutboxEvent event = new OutboxEvent(eventId, aggregateType, aggregateId, eventType, payload, occurredAt,
+                topic, partitionKey, payloadCodec);
         event.status = status;
         event.retryCount = retryCount;
         event.publishedAt = publishedAt;
@@ -130,8 +210,17 @@ public class OutboxEvent {
      * Marks event as successfully published.
      */
     public void markAsPublished() {
+        markAsPublished(Instant.now());
+    }
+
+    /**
+     * Marks event as successfully published at the given time.
+     *
+     * @param publishedAt Publish time
+     */
+    public void markAsPublished(Instant publishedAt) {
         this.status = OutboxStatus.PUBLISHED;
-        this.publishedAt = Instant.now();
+        this.publishedAt = publishedAt;
         this.errorMessage = null;
         this.nextRetryAt = null;
     }
@@ -178,6 +267,35 @@ public class OutboxEvent {
         return this.status == OutboxStatus.PENDING;
     }
 
+    /**
+     * Checks if the payload is stored compressed.
+     *
+     * @return true if a payload codec is set
+     */
+    public boolean isPayloadCompressed() {
+        return payloadCodec != null;
+    }
+
+    /**
+     * Returns the topic to publish to.
+     *
+     * @param defaultTopic Topic used when the event has no topic of its own
+     * @return Event topic, or defaultTopic if not set
+     */
+    public String resolveTopic(String defaultTopic) {
+        return topic != null ? topic : defaultTopic;
+    }
+
+    /**
+     * Returns the Kafka record key.
+     *
+     * @param keyResolver Resolver used when the event has no partition key of its own
+     * @return Partition key, or the key resolved by keyResolver if not set
+     */
+    public String resolvePartitionKey(OutboxKeyResolver keyResolver) {
+        return partitionKey != null ? partitionKey : keyResolver.resolveKey(this);
+    }
+
     // Getters
 
     // Private helpers
@@ -195,6 +313,7 @@ public class OutboxEvent {
                 ", aggregateType='" + aggregateType + '\'' +
                 ", aggregateId='" + aggregateId + '\'' +
                 ", eventType='" + eventType + '\'' +
+                ", topic='" + topic + '\'' +
                 ", status=" + status +
                 ", retryCount=" + retryCount +
                 ", occurredAt=" + occurredAt +
@@ -1,6 +1,9 @@
 package com.project.curve.core.outbox;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +32,71 @@ public interface OutboxEventRepository {
      */
     void save(OutboxEvent event);
 
+    /**
+     * Inserts a new Outbox event.
+     * <p>
+     * Used on the write path, where events are always new. Unlike {@link #save(OutboxEvent)},
+     * implementations can skip the existence check (UPDATE probe or select-before-insert)
+     * and issue a single INSERT. Fails if the event already exists.
+     *
+     * @param event New event to insert
+     */
+    default void insert(OutboxEvent event) {
+        save(event);
+    }
+
+    /**
+     * Saves multiple Outbox events at once.
+     * <p>
+     * Used by the publisher to persist the state of a whole batch (e.g., retry scheduling)
+     * in as few round-trips as possible. Implementations should override the default
+     * per-event loop with a batched statement.
+     *
+     * @param events Events to save
+     */
+    default void saveAll(List<OutboxEvent> events) {
+        events.forEach(this::save);
+    }
+
+    /**
+     * Inserts multiple new Outbox events at once.
+     * <p>
+     * Used to flush the events buffered during a business transaction right before it commits.
+     * Unlike {@link #saveAll(List)}, the events are known to be new, so implementations can skip
+     * the existence check and write them with as few statements as possible.
+     * Fails if one of the events already exists.
+     *
+     * @param events New events to insert
+     */
+    default void insertAll(List<OutboxEvent> events) {
+        saveAll(events);
+    }
+
+    /**
+     * Marks multiple events as PUBLISHED in bulk.
+     * <p>
+     * Clears the error message and next retry time of the given events.
+     * The default implementation loads each event and writes them back with {@link #saveAll(List)};
+     * implementations should override it with a single bulk update.
+     *
+     * @param eventIds    IDs of the published events
+     * @param publishedAt Publish time
+     * @return Number of updated events
+     */
+    default int markPublished(Collection<String> eventIds, Instant publishedAt) {
+        List<OutboxEvent> published = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            findById(eventId).ifPresent(event -> {
+                event.markAsPublished(publishedAt);
+                published.add(event);
+            });
+        }
+        if (!published.isEmpty()) {
+            saveAll(published);
+        }
+        return published.size();
+    }
+
     /**
      * Finds event by ID.
      *
@@ -59,6 +127,90 @@ public interface OutboxEventRepository {
      */
     List<OutboxEvent> findPendingForProcessing(int limit);
 
+    /**
+     * Claims PENDING events with a lease (claim-and-lease mode).
+     * <p>
+     * Sets {@code claimed_by} and {@code lease_until} on up to limit events that are due and not leased
+     * (or whose lease has expired), in a short transaction of its own. The caller publishes the claimed events
+     * outside any transaction; if it dies, the events become claimable again once the lease expires.
+     * <p>
+     * Requires the {@code claimed_by} and {@code lease_until} columns.
+     *
+     * @param owner         Claim owner (publisher instance ID)
+     * @param leaseDuration Lease duration
+     * @param limit         Maximum number of events to claim
+     * @return Claimed events (sorted by occurrence time ascending)
+     * @throws UnsupportedOperationException if the implementation does not support leases
+     */
+    default List<OutboxEvent> claimPending(String owner, Duration leaseDuration, int limit) {
+        throw new UnsupportedOperationException(
+                "Claim-and-lease is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Releases the leases held by the owner on the given events, making them claimable again
+     * (e.g., after a failed publish attempt whose retry is due before the lease expires).
+     *
+     * @param eventIds IDs of the claimed events
+     * @param owner    Claim owner
+     * @return Number of released events
+     * @throws UnsupportedOperationException if the implementation does not support leases
+     */
+    default int releaseClaims(Collection<String> eventIds, String owner) {
+        throw new UnsupportedOperationException(
+                "Claim-and-lease is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Extends the leases held by the owner on the given events, while they are still being published.
+     * <p>
+     * Events whose lease was taken over by another owner are not touched.
+     *
+     * @param eventIds      IDs of the claimed events
+     * @param owner         Claim owner
+     * @param leaseDuration New lease duration, counted from now
+     * @return Number of renewed events
+     * @throws UnsupportedOperationException if the implementation does not support leases
+     */
+    default int renewClaims(Collection<String> eventIds, String owner, Duration leaseDuration) {
+        throw new UnsupportedOperationException(
+                "Claim-and-lease is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Marks claimed events as PUBLISHED in bulk, if they are still claimed by the owner.
+     * <p>
+     * Same as {@link #markPublished(Collection, Instant)}, except that events whose lease expired and was
+     * taken over by another owner are left to the new owner.
+     *
+     * @param eventIds    IDs of the published events
+     * @param publishedAt Publish time
+     * @param owner       Claim owner
+     * @return Number of updated events
+     * @throws UnsupportedOperationException if the implementation does not support leases
+     */
+    default int markPublished(Collection<String> eventIds, Instant publishedAt, String owner) {
+        throw new UnsupportedOperationException(
+                "Claim-and-lease is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Saves the state of claimed events (e.g., retry scheduling) and releases their leases,
+     * if they are still claimed by the owner.
+     * <p>
+     * Events whose lease expired and was taken over by another owner are not touched,
+     * so that a late publisher cannot overwrite the retry state written by the new owner.
+     *
+     * @param events Claimed events
+     * @param owner  Claim owner
+     * @return Number of saved events
+     * @throws UnsupportedOperationException if the implementation does not support leases
+     */
+    default int saveClaimed(List<OutboxEvent> events, String owner) {
+        throw new UnsupportedOperationException(
+                "Claim-and-lease is not supported by " + getClass().getSimpleName());
+    }
+
     /**
      * Finds events by aggregate.
      * <p>
@@ -118,4 +270,22 @@ public interface OutboxEventRepository {
      * @return list of events ordered by occurredAt ascending
      */
     List<OutboxEvent> findSince(Instant since, int limit);
+
+    /**
+     * Finds events after the given keyset position (seek pagination).
+     * <p>
+     * Returns events ordered by {@code (occurredAt, eventId)} ascending that come after the cursor and
+     * occurred before until, regardless of their current status. Pass {@link OutboxCursor#after(OutboxEvent)}
+     * of the last returned event to fetch the next page; every page costs the same regardless of depth.
+     *
+     * @param cursor Position to continue after ({@link OutboxCursor#start(Instant)} for the first page)
+     * @param until  Upper bound timestamp (exclusive)
+     * @param limit  Maximum number of events to return
+     * @return Events ordered by occurredAt, eventId ascending
+     * @throws UnsupportedOperationException if the implementation does not support keyset pagination
+     */
+    default List<OutboxEvent> findAfter(OutboxCursor cursor, Instant until, int limit) {
+        throw new UnsupportedOperationException(
+                "Keyset pagination is not supported by " + getClass().getSimpleName());
+    }
 }
@@ -0,0 +1,24 @@
+package com.project.curve.core.outbox;
+
+/**
+ * Resolves the Kafka record key of an Outbox event.
+ * <p>
+ * Kafka only guarantees ordering within a partition, and the partition is chosen by the record key.
+ * Events that must be consumed in order (typically all events of one aggregate) therefore need the same key.
+ * <p>
+ * Built-in strategies are provided by {@link OutboxKeyStrategy}. An event carrying its own
+ * {@link OutboxEvent#getPartitionKey() partition key} is always keyed by it.
+ *
+ * @see OutboxKeyStrategy
+ */
+@FunctionalInterface
+public interface OutboxKeyResolver {
+
+    /**
+     * Resolves the record key of an event.
+     *
+     * @param event Outbox event
+     * @return Record key (null sends the record without a key)
+     */
+    String resolveKey(OutboxEvent event);
+}
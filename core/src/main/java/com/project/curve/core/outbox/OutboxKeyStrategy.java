@@ -0,0 +1,40 @@
+package com.project.curve.core.outbox;
+
+/**
+ * Built-in Kafka record keying strategies for Outbox events.
+ *
+ * @see OutboxKeyResolver
+ */
+public enum OutboxKeyStrategy implements OutboxKeyResolver {
+
+    /**
+     * Keyed by event ID: events are spread evenly, but events of one aggregate land on random partitions.
+     */
+    EVENT_ID {
+        @Override
+        public String resolveKey(OutboxEvent event) {
+            return event.getEventId();
+        }
+    },
+
+    /**
+     * Keyed by aggregate ID: events of one aggregate stay in order on one partition.
+     */
+    AGGREGATE_ID {
+        @Override
+        public String resolveKey(OutboxEvent event) {
+            return event.getAggregateId();
+        }
+    },
+
+    /**
+     * Keyed by {@code aggregateType:aggregateId}: like {@link #AGGREGATE_ID}, for topics shared by
+     * aggregate types whose IDs may collide.
+     */
+    AGGREGATE_TYPE_AND_ID {
+        @Override
+        public String resolveKey(OutboxEvent event) {
+            return event.getAggregateType() + ":" + event.getAggregateId();
+        }
+    }
+}
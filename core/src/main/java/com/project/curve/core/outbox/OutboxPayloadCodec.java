@@ -0,0 +1,36 @@
+package com.project.curve.core.outbox;
+
+/**
+ * Compression codec for Outbox event payloads.
+ * <p>
+ * Large payloads are compressed before being stored in the outbox table, and decompressed by the publisher
+ * before being sent. The codec name is stored with each event, so codecs can be changed while compressed
+ * events are still pending, as long as the previous codec stays registered.
+ *
+ * @see GzipOutboxPayloadCodec
+ */
+public interface OutboxPayloadCodec {
+
+    /**
+     * Name stored in the payload_codec column (e.g., "gzip"). Must be unique and at most 20 characters.
+     *
+     * @return Codec name
+     */
+    String name();
+
+    /**
+     * Compresses payload bytes.
+     *
+     * @param data Uncompressed bytes
+     * @return Compressed bytes
+     */
+    byte[] compress(byte[] data);
+
+    /**
+     * Decompresses payload bytes.
+     *
+     * @param data Compressed bytes
+     * @return Uncompressed bytes
+     */
+    byte[] decompress(byte[] data);
+}
@@ -0,0 +1,74 @@
+package com.project.curve.core.port;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Aggregate outcome of {@link EventProducer#publishAll}.
+ * <p>
+ * Contains one {@link PublishOutcome} per event, in the iteration order of the published collection.
+ * A failed event does not fail the batch; check {@link #hasFailures()} or {@link #failures()}.
+ *
+ * @param outcomes Per-event outcomes
+ */
+public record BatchPublishResult(List<PublishOutcome> outcomes) {
+
+    public BatchPublishResult {
+        outcomes = (outcomes != null) ? List.copyOf(outcomes) : List.of();
+    }
+
+    /**
+     * Waits for all futures and collects their outcomes.
+     * <p>
+     * The returned future never completes exceptionally; failed futures become failed outcomes.
+     *
+     * @param futures Per-event futures, in publish order
+     * @return Future completed once every event is acknowledged or has failed
+     */
+    public static CompletableFuture<BatchPublishResult> aggregate(List<CompletableFuture<PublishResult>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, ex) -> {
+                    List<PublishOutcome> outcomes = new ArrayList<>(futures.size());
+                    for (int i = 0; i < futures.size(); i++) {
+                        CompletableFuture<PublishResult> future = futures.get(i);
+                        try {
+                            outcomes.add(PublishOutcome.succeeded(i, future.join()));
+                        } catch (CompletionException | CancellationException e) {
+                            outcomes.add(PublishOutcome.failed(i, unwrap(e)));
+                        }
+                    }
+                    return new BatchPublishResult(outcomes);
+                });
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        if ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+            return ex.getCause();
+        }
+        return ex;
+    }
+
+    public int size() {
+        return outcomes.size();
+    }
+
+    public long successCount() {
+        return outcomes.stream().filter(PublishOutcome::isSuccess).count();
+    }
+
+    public long failureCount() {
+        return outcomes.size() - successCount();
+    }
+
+    public boolean hasFailures() {
+        return outcomes.stream().anyMatch(outcome -> !outcome.isSuccess());
+    }
+
+    public List<PublishOutcome> failures() {
+        return outcomes.stream().filter(outcome -> !outcome.isSuccess()).toList();
+    }
+}
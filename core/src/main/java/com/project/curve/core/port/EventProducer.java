@@ -3,6 +3,11 @@ package com.project.curve.core.port;
 import com.project.curve.core.payload.DomainEventPayload;
 import com.project.curve.core.type.EventSeverity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Primary port for publishing domain events.
  * <p>
@@ -25,6 +30,21 @@ import com.project.curve.core.type.EventSeverity;
  * }
  * }</pre>
  *
+ * <h3>Awaiting Acknowledgements:</h3>
+ * The {@code publishAsync} methods return as soon as the event is handed to the broker client.
+ * Their futures complete with a {@link PublishResult} once the broker acknowledges the event,
+ * so several events can be sent first and awaited together:
+ * <pre>{@code
+ * CompletableFuture.allOf(
+ *     eventProducer.publishAsync(new OrderCreatedPayload(order)),
+ *     eventProducer.publishAsync(new StockReservedPayload(order))
+ * ).join();
+ * }</pre>
+ *
+ * <h3>Batch Publishing:</h3>
+ * {@code publishAll} hands a whole collection to the broker client before awaiting any acknowledgement,
+ * and completes one aggregate future with a {@link PublishOutcome} per event.
+ *
  * @see com.project.curve.core.payload.DomainEventPayload
  * @see com.project.curve.core.type.EventSeverity
  * @since 0.0.1
@@ -99,4 +119,110 @@ public interface EventProducer {
      * @throws com.project.curve.core.exception.EventSerializationException if serialization fails
      */
     <T extends DomainEventPayload> void publish(T payload, EventSeverity severity, String topic);
+
+    /**
+     * Publishes a domain event with default severity level (INFO) without waiting for the acknowledgement.
+     *
+     * @param <T>     the type of the event payload
+     * @param payload the domain event payload to publish
+     * @return future completed with the publish result once the broker acknowledges the event,
+     * or exceptionally if the event is invalid ({@link com.project.curve.core.exception.InvalidEventException}),
+     * cannot be serialized ({@link com.project.curve.core.exception.EventSerializationException})
+     * or could not be sent; errors are never thrown to the caller
+     */
+    <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload);
+
+    /**
+     * Publishes a domain event with a specified severity level without waiting for the acknowledgement.
+     *
+     * @param <T>      the type of the event payload
+     * @param payload  the domain event payload to publish
+     * @param severity the severity level of the event
+     * @return future completed with the publish result once the broker acknowledges the event,
+     * or exceptionally if the event is invalid ({@link com.project.curve.core.exception.InvalidEventException}),
+     * cannot be serialized ({@link com.project.curve.core.exception.EventSerializationException})
+     * or could not be sent; errors are never thrown to the caller
+     */
+    <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, EventSeverity severity);
+
+    /**
+     * Publishes a domain event to a specific Kafka topic with default severity level (INFO)
+     * without waiting for the acknowledgement.
+     *
+     * @param <T>     the type of the event payload
+     * @param payload the domain event payload to publish
+     * @param topic   the target Kafka topic to publish to
+     * @return future completed with the publish result once the broker acknowledges the event,
+     * or exceptionally if the event is invalid ({@link com.project.curve.core.exception.InvalidEventException}),
+     * cannot be serialized ({@link com.project.curve.core.exception.EventSerializationException})
+     * or could not be sent; errors are never thrown to the caller
+     */
+    <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, String topic);
+
+    /**
+     * Publishes a domain event to a specific Kafka topic with a specified severity level
+     * without waiting for the acknowledgement.
+     *
+     * @param <T>      the type of the event payload
+     * @param payload  the domain event payload to publish
+     * @param severity the severity level of the event
+     * @param topic    the target Kafka topic to publish to
+     * @return future completed with the publish result once the broker acknowledges the event,
+     * or exceptionally if the event is invalid ({@link com.project.curve.core.exception.InvalidEventException}),
+     * cannot be serialized ({@link com.project.curve.core.exception.EventSerializationException})
+     * or could not be sent; errors are never thrown to the caller
+     */
+    <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, EventSeverity severity, String topic);
+
+    /**
+     * Publishes a batch of domain events with default severity level (INFO).
+     *
+     * @param <T>      the type of the event payloads
+     * @param payloads the domain event payloads to publish
+     * @return future completed with the outcome of every event once all of them are acknowledged or failed
+     * @see #publishAll(Collection, EventSeverity, String)
+     */
+    default <T extends DomainEventPayload> CompletableFuture<BatchPublishResult> publishAll(Collection<T> payloads) {
+        return publishAll(payloads, EventSeverity.INFO);
+    }
+
+    /**
+     * Publishes a batch of domain events with a specified severity level.
+     *
+     * @param <T>      the type of the event payloads
+     * @param payloads the domain event payloads to publish
+     * @param severity the severity level of every event
+     * @return future completed with the outcome of every event once all of them are acknowledged or failed
+     * @see #publishAll(Collection, EventSeverity, String)
+     */
+    default <T extends DomainEventPayload> CompletableFuture<BatchPublishResult> publishAll(
+            Collection<T> payloads, EventSeverity severity) {
+        return publishAll(payloads, severity, null);
+    }
+
+    /**
+     * Publishes a batch of domain events to a specific Kafka topic with a specified severity level.
+     * <p>
+     * Invalid or unserializable events do not fail the batch; they are reported as failed outcomes.
+     * The default implementation calls {@link #publishAsync(DomainEventPayload, EventSeverity, String)}
+     * for each payload; implementations can override it to amortize the per-event overhead.
+     *
+     * @param <T>      the type of the event payloads
+     * @param payloads the domain event payloads to publish
+     * @param severity the severity level of every event
+     * @param topic    the target Kafka topic, or {@code null} for the default topic
+     * @return future completed with the outcome of every event once all of them are acknowledged or failed
+     */
+    default <T extends DomainEventPayload> CompletableFuture<BatchPublishResult> publishAll(
+            Collection<T> payloads, EventSeverity severity, String topic) {
+        List<CompletableFuture<PublishResult>> futures = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            try {
+                futures.add(publishAsync(payload, severity, topic));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return BatchPublishResult.aggregate(futures);
+    }
 }
@@ -2,6 +2,29 @@ package com.project.curve.core.port;
 
 import com.project.curve.core.envelope.EventId;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface IdGenerator {
     EventId generate();
+
+    /**
+     * Generates a block of IDs at once.
+     * <p>
+     * Implementations can override this method to amortize synchronization over the block.
+     * The default implementation calls {@link #generate()} for each ID.
+     *
+     * @param count Number of IDs to generate
+     * @return Generated IDs in generation order
+     */
+    default List<EventId> generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative, but got " + count);
+        }
+        List<EventId> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(generate());
+        }
+        return ids;
+    }
 }
@@ -0,0 +1,32 @@
+package com.project.curve.core.port;
+
+/**
+ * Outcome of a single event in a batch publish.
+ * <p>
+ * Exactly one of {@code result} and {@code error} is set.
+ *
+ * @param index  Position of the event in the published collection
+ * @param result Publish result if the event was acknowledged
+ * @param error  Error if the event could not be published
+ * @see BatchPublishResult
+ */
+public record PublishOutcome(int index, PublishResult result, Throwable error) {
+
+    public PublishOutcome {
+        if ((result == null) == (error == null)) {
+            throw new IllegalArgumentException("Exactly one of result and error must be set");
+        }
+    }
+
+    public static PublishOutcome succeeded(int index, PublishResult result) {
+        return new PublishOutcome(index, result, null);
+    }
+
+    public static PublishOutcome failed(int index, Throwable error) {
+        return new PublishOutcome(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
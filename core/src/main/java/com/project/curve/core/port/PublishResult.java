@@ -0,0 +1,32 @@
+package com.project.curve.core.port;
+
+import java.time.Duration;
+
+/**
+ * Outcome of an event that was acknowledged by the message broker (or accepted for later delivery).
+ * <p>
+ * Returned by the {@code publishAsync} methods of {@link EventProducer}.
+ * Brokers without partitions or offsets report {@link #UNKNOWN_PARTITION} and {@link #UNKNOWN_OFFSET}.
+ * Events that were accepted into a durable fallback (such as the outbox) instead of being written
+ * to the broker right away report them as well.
+ *
+ * @param eventId   ID of the published event
+ * @param topic     Topic the event was written to ({@code null} if unknown)
+ * @param partition Partition the event was written to
+ * @param offset    Offset of the event in the partition
+ * @param latency   Time from the start of sending (serialization included) until the acknowledgement
+ */
+public record PublishResult(String eventId, String topic, int partition, long offset, Duration latency) {
+
+    public static final int UNKNOWN_PARTITION = -1;
+    public static final long UNKNOWN_OFFSET = -1L;
+
+    public PublishResult {
+        if (eventId == null) {
+            throw new IllegalArgumentException("eventId must not be null");
+        }
+        if (latency == null) {
+            throw new IllegalArgumentException("latency must not be null");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.curve.core.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GzipOutboxPayloadCodec Test")
+class GzipOutboxPayloadCodecTest {
+
+    private final GzipOutboxPayloadCodec codec = new GzipOutboxPayloadCodec();
+
+    @Test
+    @DisplayName("Compressed payloads should decompress to the original bytes")
+    void compress_shouldRoundTrip() {
+        // Given
+        byte[] payload = "{\"items\":[\"a\",\"a\",\"a\",\"a\",\"a\",\"a\",\"a\",\"a\"]}".repeat(50)
+                .getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] compressed = codec.compress(payload);
+
+        // Then
+        assertThat(compressed.length).isLessThan(payload.length);
+        assertThat(codec.decompress(compressed)).isEqualTo(payload);
+        assertThat(codec.name()).isEqualTo("gzip");
+    }
+
+    @Test
+    @DisplayName("Decompressing invalid data should fail")
+    void decompress_invalidData_shouldThrow() {
+        assertThatThrownBy(() -> codec.decompress(new byte[]{1, 2, 3}))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.curve.core.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OutboxCursor Test")
+class OutboxCursorTest {
+
+    @Test
+    @DisplayName("start should create a position before every event at the given time")
+    void start_shouldUseEmptyEventId() {
+        Instant since = Instant.parse("2026-03-01T00:00:00Z");
+
+        OutboxCursor cursor = OutboxCursor.start(since);
+
+        assertThat(cursor.occurredAt()).isEqualTo(since);
+        assertThat(cursor.eventId()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("after should position the cursor on the given event")
+    void after_shouldUseEventKey() {
+        Instant occurredAt = Instant.parse("2026-03-01T00:00:00Z");
+        OutboxEvent event = new OutboxEvent("evt-1", "Order", "order-1", "ORDER_CREATED", "{}", occurredAt);
+
+        OutboxCursor cursor = OutboxCursor.after(event);
+
+        assertThat(cursor).isEqualTo(new OutboxCursor(occurredAt, "evt-1"));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when occurredAt is null")
+    void constructor_withNullOccurredAt_shouldThrowException() {
+        assertThatThrownBy(() -> new OutboxCursor(null, "evt-1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("occurredAt");
+    }
+}
@@ -144,6 +144,26 @@ class OutboxEventTest {
         assertNull(event.getNextRetryAt());
     }
 
+    @Test
+    @DisplayName("markAsPublished should use the given publish time")
+    void testMarkAsPublishedAt() {
+        // given
+        OutboxEvent event = new OutboxEvent(
+                "evt-123", "Order", "order-123", "ORDER_CREATED",
+                "{}", Instant.now()
+        );
+        event.scheduleNextRetry(1000L);
+        Instant publishedAt = Instant.parse("2026-03-01T00:00:00Z");
+
+        // when
+        event.markAsPublished(publishedAt);
+
+        // then
+        assertEquals(OutboxStatus.PUBLISHED, event.getStatus());
+        assertEquals(publishedAt, event.getPublishedAt());
+        assertNull(event.getNextRetryAt());
+    }
+
     @Test
     @DisplayName("markAsFailed test")
     void testMarkAsFailed() {
@@ -341,6 +361,48 @@ class OutboxEventTest {
         assertEquals(occurredAt, event.getNextRetryAt());
     }
 
+    @Test
+    @DisplayName("restore method test - routing columns")
+    void testRestore_withRouting() {
+        // when
+        OutboxEvent event = OutboxEvent.restoreBuilder()
+                .eventId("evt-123")
+                .aggregateType("Order")
+                .aggregateId("order-123")
+                .eventType("ORDER_CREATED")
+                .payload("{}")
+                .occurredAt(Instant.now())
+                .status(OutboxStatus.PENDING)
+                .topic("order.events")
+                .partitionKey("order-123")
+                .build();
+
+        // then
+        assertEquals("order.events", event.resolveTopic("default.events"));
+        assertEquals("order-123", event.resolvePartitionKey(OutboxKeyStrategy.EVENT_ID));
+    }
+
+    @Test
+    @DisplayName("Events without routing should fall back to the default topic and the key resolver")
+    void testResolveRouting_withoutRouting() {
+        // given
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId("evt-123")
+                .aggregateType("Order")
+                .aggregateId("order-123")
+                .eventType("ORDER_CREATED")
+                .payload("{}")
+                .occurredAt(Instant.now())
+                .topic(" ")
+                .build();
+
+        // then
+        assertNull(event.getTopic());
+        assertEquals("default.events", event.resolveTopic("default.events"));
+        assertEquals("evt-123", event.resolvePartitionKey(OutboxKeyStrategy.EVENT_ID));
+        assertEquals("order-123", event.resolvePartitionKey(OutboxKeyStrategy.AGGREGATE_ID));
+    }
+
     @Test
     @DisplayName("toString test")
     void testToString() {
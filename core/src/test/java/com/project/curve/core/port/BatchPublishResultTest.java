@@ -0,0 +1,61 @@
+package com.project.curve.core.port;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BatchPublishResult Test")
+class BatchPublishResultTest {
+
+    @Test
+    @DisplayName("aggregate should wait for every future and keep the publish order")
+    void aggregate_shouldCollectOutcomesInOrder() {
+        CompletableFuture<PublishResult> first = new CompletableFuture<>();
+        CompletableFuture<PublishResult> second = CompletableFuture.failedFuture(new IllegalStateException("Broker down"));
+        CompletableFuture<PublishResult> third = CompletableFuture.completedFuture(result("evt-3"));
+
+        CompletableFuture<BatchPublishResult> aggregate = BatchPublishResult.aggregate(List.of(first, second, third));
+
+        assertThat(aggregate).isNotDone();
+
+        first.complete(result("evt-1"));
+        BatchPublishResult batch = aggregate.join();
+
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(batch.successCount()).isEqualTo(2);
+        assertThat(batch.failureCount()).isEqualTo(1);
+        assertThat(batch.hasFailures()).isTrue();
+        assertThat(batch.outcomes().get(0).result().eventId()).isEqualTo("evt-1");
+        assertThat(batch.failures()).singleElement().satisfies(outcome -> {
+            assertThat(outcome.index()).isEqualTo(1);
+            assertThat(outcome.error()).isInstanceOf(IllegalStateException.class).hasMessage("Broker down");
+        });
+    }
+
+    @Test
+    @DisplayName("aggregate of no futures should complete with an empty result")
+    void aggregate_withNoFutures_shouldBeEmpty() {
+        BatchPublishResult batch = BatchPublishResult.aggregate(List.of()).join();
+
+        assertThat(batch.size()).isZero();
+        assertThat(batch.hasFailures()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Outcome should require exactly one of result and error")
+    void outcome_withResultAndError_shouldThrowException() {
+        assertThatThrownBy(() -> new PublishOutcome(0, result("evt-1"), new RuntimeException()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PublishOutcome(0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PublishResult result(String eventId) {
+        return new PublishResult(eventId, "orders", 0, 0L, Duration.ZERO);
+    }
+}
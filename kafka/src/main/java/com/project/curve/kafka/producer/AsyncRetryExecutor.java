@@ -0,0 +1,171 @@
+package com.project.curve.kafka.producer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking retry executor for asynchronous operations.
+ * <p>
+ * Unlike {@link org.springframework.retry.support.RetryTemplate}, which sleeps on the calling thread
+ * between attempts, each retry is scheduled on a timer after the backoff delay.
+ * No thread waits while an operation is retried, so callers are not stalled by a slow or unavailable broker.
+ *
+ * <h3>Backoff</h3>
+ * Exponential: {@code min(initialInterval * multiplier^(retryCount - 1), maxInterval)}
+ *
+ * <h3>Shutdown</h3>
+ * Retries that are already scheduled still run after {@link #shutdown()}.
+ * Retries requested afterwards are not scheduled, and the operation fails with its last error.
+ */
+@Slf4j
+public class AsyncRetryExecutor {
+
+    private final ScheduledExecutorService scheduler;
+    private final int maxAttempts;
+    private final long initialIntervalMs;
+    private final double multiplier;
+    private final long maxIntervalMs;
+
+    /**
+     * @param scheduler         Timer that starts the retry attempts
+     * @param maxAttempts       Maximum number of attempts, including the first one
+     * @param initialIntervalMs Delay before the first retry in milliseconds
+     * @param multiplier        Backoff multiplier
+     * @param maxIntervalMs     Maximum delay between attempts in milliseconds
+     */
+    public AsyncRetryExecutor(
+            ScheduledExecutorService scheduler,
+            int maxAttempts,
+            long initialIntervalMs,
+            double multiplier,
+            long maxIntervalMs
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, but got " + maxAttempts);
+        }
+        if (initialIntervalMs <= 0 || maxIntervalMs <= 0) {
+            throw new IllegalArgumentException("Backoff intervals must be positive");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier must be at least 1, but got " + multiplier);
+        }
+        this.scheduler = scheduler;
+        this.maxAttempts = maxAttempts;
+        this.initialIntervalMs = initialIntervalMs;
+        this.multiplier = multiplier;
+        this.maxIntervalMs = maxIntervalMs;
+    }
+
+    /**
+     * Runs the operation and retries it with backoff until it succeeds or the attempts are exhausted.
+     *
+     * @param operation Starts one attempt of the operation
+     * @param listener  Notified before each retry is scheduled and once the operation gives up
+     * @return Future completed with the first successful result, or exceptionally with the last error
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> operation, RetryListener listener) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(operation, listener, 1, result);
+        return result;
+    }
+
+    private <T> void attempt(
+            Supplier<CompletableFuture<T>> operation,
+            RetryListener listener,
+            int attemptNumber,
+            CompletableFuture<T> result
+    ) {
+        CompletableFuture<T> future;
+        try {
+            future = operation.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = unwrap(ex);
+            if (attemptNumber >= maxAttempts) {
+                listener.onExhausted(attemptNumber, cause);
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            listener.onRetry(attemptNumber, cause);
+            try {
+                scheduler.schedule(
+                        () -> attempt(operation, listener, attemptNumber + 1, result),
+                        backoffDelayMs(attemptNumber),
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                log.warn("Retry scheduler is shut down, giving up after {} attempt(s)", attemptNumber);
+                listener.onExhausted(attemptNumber, cause);
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    /**
+     * Delay before the given retry.
+     *
+     * @param retryCount Number of failed attempts so far (1 for the first retry)
+     * @return Delay in milliseconds
+     */
+    long backoffDelayMs(int retryCount) {
+        double delay = initialIntervalMs * Math.pow(multiplier, retryCount - 1);
+        return (long) Math.min(delay, maxIntervalMs);
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        if ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+            return ex.getCause();
+        }
+        return ex;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Stops accepting new retries. Already scheduled retries still run.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Callback invoked before a retry is scheduled.
+     */
+    @FunctionalInterface
+    public interface RetryListener {
+
+        /**
+         * @param retryCount Number of failed attempts so far
+         * @param lastError  Error of the last failed attempt
+         */
+        void onRetry(int retryCount, Throwable lastError);
+
+        /**
+         * Invoked once the operation gives up, before the result future fails. This happens when the attempts
+         * are exhausted or when the retry could not be scheduled after {@link #shutdown()}.
+         *
+         * @param attempts  Number of attempts actually made, including the first one
+         * @param lastError Error of the last failed attempt
+         */
+        default void onExhausted(int attempts, Throwable lastError) {
+            // no-op by default
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.curve.kafka.producer;
+
+/**
+ * What {@link KafkaEventProducer} does with an asynchronous send when the {@link InFlightLimiter} window is full.
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Blocks the publishing thread until the window has room, then rejects the event once the block timeout elapses.
+     */
+    BLOCK,
+
+    /**
+     * Rejects the event right away.
+     */
+    FAIL_FAST,
+
+    /**
+     * Writes the serialized record into the outbox right away, so that the outbox publisher delivers it later.
+     * Rejects the event if it cannot be written to the outbox.
+     */
+    SHED_TO_OUTBOX
+}
@@ -0,0 +1,17 @@
+package com.project.curve.kafka.producer;
+
+/**
+ * Exception thrown when an asynchronous send is rejected because the {@link InFlightLimiter} window is full.
+ * <p>
+ * The event was neither sent to Kafka nor to the DLQ, so the caller can retry it later.
+ */
+public class InFlightLimitExceededException extends RuntimeException {
+
+    public InFlightLimitExceededException(String message) {
+        super(message);
+    }
+
+    public InFlightLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
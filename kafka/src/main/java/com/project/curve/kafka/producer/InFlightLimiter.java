@@ -0,0 +1,136 @@
+package com.project.curve.kafka.producer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded window of in-flight Kafka sends.
+ * <p>
+ * Limits the number of records that were handed to Kafka but not yet acknowledged, and optionally
+ * their total size, so that pending futures and their captured state cannot grow without bound
+ * while the broker is slow. Each acquired permit must be released once the send completes.
+ *
+ * <h3>Limits</h3>
+ * <ul>
+ *   <li>{@code maxInFlight} - maximum number of in-flight records (0 = unlimited)</li>
+ *   <li>{@code maxInFlightBytes} - maximum total size of in-flight records (0 = unlimited)</li>
+ * </ul>
+ * A single record larger than the byte budget is admitted when nothing else is in flight,
+ * so that it cannot be rejected forever.
+ */
+public class InFlightLimiter {
+
+    private final int maxInFlight;
+    private final long maxInFlightBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // Written under the lock, read without it by the gauges
+    private volatile int inFlight;
+    private volatile long inFlightBytes;
+
+    /**
+     * @param maxInFlight      Maximum number of in-flight records (0 = unlimited)
+     * @param maxInFlightBytes Maximum total size of in-flight records in bytes (0 = unlimited)
+     */
+    public InFlightLimiter(int maxInFlight, long maxInFlightBytes) {
+        if (maxInFlight < 0 || maxInFlightBytes < 0) {
+            throw new IllegalArgumentException("In-flight limits must be 0 or greater");
+        }
+        if (maxInFlight == 0 && maxInFlightBytes == 0) {
+            throw new IllegalArgumentException("At least one of maxInFlight and maxInFlightBytes must be set");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    /**
+     * Acquires a permit for a record if the window has room, without waiting.
+     *
+     * @param bytes Size of the record
+     * @return true if the permit was acquired
+     */
+    public boolean tryAcquire(long bytes) {
+        lock.lock();
+        try {
+            if (!hasRoomFor(bytes)) {
+                return false;
+            }
+            acquire(bytes);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit for a record, waiting up to the timeout for in-flight records to complete.
+     *
+     * @param bytes   Size of the record
+     * @param timeout Maximum time to wait
+     * @param unit    Unit of the timeout
+     * @return true if the permit was acquired, false if the timeout elapsed first
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean tryAcquire(long bytes, long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (!hasRoomFor(bytes)) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            acquire(bytes);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the permit of a completed record.
+     *
+     * @param bytes Size the permit was acquired with
+     */
+    public void release(long bytes) {
+        lock.lock();
+        try {
+            inFlight--;
+            inFlightBytes -= bytes;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasRoomFor(long bytes) {
+        if (maxInFlight > 0 && inFlight >= maxInFlight) {
+            return false;
+        }
+        return maxInFlightBytes == 0 || inFlightBytes == 0 || inFlightBytes + bytes <= maxInFlightBytes;
+    }
+
+    private void acquire(long bytes) {
+        inFlight++;
+        inFlightBytes += bytes;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+}
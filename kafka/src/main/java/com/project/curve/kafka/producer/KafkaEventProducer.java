@@ -6,23 +6,35 @@ import com.project.curve.core.context.EventContextProvider;
 import com.project.curve.core.envelope.EventEnvelope;
 import com.project.curve.core.exception.EventSerializationException;
 import com.project.curve.core.payload.DomainEventPayload;
+import com.project.curve.core.port.PublishResult;
 import com.project.curve.core.serde.EventSerializer;
 import com.project.curve.kafka.backup.EventBackupStrategy;
 import com.project.curve.kafka.dlq.FailedEventRecord;
 import com.project.curve.spring.factory.EventEnvelopeFactory;
 import com.project.curve.spring.metrics.CurveMetricsCollector;
+import com.project.curve.spring.metrics.PublishStage;
 import com.project.curve.spring.publisher.AbstractEventPublisher;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.MDC;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.retry.support.RetryTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Kafka-based event publisher.
@@ -31,12 +43,66 @@ import java.util.concurrent.TimeUnit;
  *
  * <h2>Key Features</h2>
  * <ul>
- *   <li>Retry support via RetryTemplate</li>
+ *   <li>Retry support via RetryTemplate, or non-blocking retry via {@link AsyncRetryExecutor}</li>
  *   <li>Sends to DLQ (Dead Letter Queue) on transmission failure to prevent event loss</li>
+ *   <li>Optionally spills failed records into the outbox, which redelivers them once the broker recovers</li>
  *   <li>Backup strategy support (Local File, S3, etc.) as last resort if DLQ transmission also fails</li>
  *   <li>Supports both synchronous and asynchronous transmission modes</li>
+ *   <li>Bounded in-flight window for asynchronous sends via {@link InFlightLimiter}</li>
  * </ul>
  *
+ * <h2>publishAsync</h2>
+ * {@code publishAsync} always sends asynchronously, regardless of {@code asyncMode}, and completes its future
+ * with the partition and offset of the acknowledged record. Since RetryTemplate blocks between attempts,
+ * it is not used for {@code publishAsync}; retries are applied only when an {@link AsyncRetryExecutor} is configured.
+ * The future completes exceptionally after the failure has been handed to the DLQ/backup fallback.
+ *
+ * <h2>publishAll</h2>
+ * Batches are serialized in chunks of {@value #SERIALIZATION_CHUNK_SIZE} events on the serialization executor
+ * (with the caller's MDC) once they reach {@value #PARALLEL_SERIALIZATION_THRESHOLD} events, or on the calling
+ * thread if no serialization executor is configured. Then every record is handed to Kafka before
+ * any acknowledgement is awaited. Sending follows the same rules as {@code publishAsync}.
+ * Events that fail to serialize are reported as failed outcomes and are not sent to the DLQ.
+ *
+ * <h2>Non-blocking Retry</h2>
+ * When an {@link AsyncRetryExecutor} is configured, it takes precedence over the RetryTemplate and the
+ * send mode: every attempt is an asynchronous send bounded by {@code asyncTimeoutMs}, and retries are
+ * started by the retry timer after the backoff delay. The publishing thread returns right after the first
+ * send is handed to Kafka, and no thread sleeps during backoff. DLQ and backup fallbacks run once all
+ * attempts have failed.
+ *
+ * <h2>Backpressure</h2>
+ * When an {@link InFlightLimiter} is configured, every asynchronous send (async mode, {@code publishAsync},
+ * {@code publishAll} and non-blocking retry) holds a permit from the moment it is handed to Kafka until it
+ * completes, including all of its retries. When the window is full, the {@link BackpressurePolicy} decides:
+ * <ul>
+ *   <li>{@code BLOCK} - waits up to {@code backpressureBlockTimeoutMs}, then rejects the event</li>
+ *   <li>{@code FAIL_FAST} - rejects the event right away</li>
+ *   <li>{@code SHED_TO_OUTBOX} - writes the record into the outbox via {@link OutboxSpillover}
+ *       and reports it as accepted with unknown partition and offset</li>
+ * </ul>
+ * When {@code spillToOutbox} is enabled, rejected events are spilled to the outbox as with {@code SHED_TO_OUTBOX},
+ * whatever the policy, since a full window means the broker is not keeping up.
+ * Rejected events fail with {@link InFlightLimitExceededException}: {@code publish} throws it and
+ * {@code publishAsync}/{@code publishAll} complete their futures with it. Rejected events are not sent to the
+ * DLQ, since that would add load to the broker that is already falling behind. Synchronous sends are
+ * bounded by the publishing threads and are not limited.
+ *
+ * <h2>Outbox Fallback</h2>
+ * When {@code spillToOutbox} is enabled, a record whose send has finally failed is written into the outbox via
+ * {@link OutboxSpillover} instead of being sent to the DLQ. The outbox publisher delivers it to the original topic
+ * once the broker is reachable again, so no manual replay is needed. A spilled event is reported as accepted:
+ * {@code publishAsync}/{@code publishAll} futures complete with unknown partition and offset, as with
+ * {@code SHED_TO_OUTBOX}. The DLQ (and then the backup strategy) is used only when the outbox write fails, and
+ * the future then fails with the send error. The outbox write runs on the DLQ executor, which is required in this
+ * mode, so Kafka callback threads are not blocked by the database. A record whose send timed out may still reach
+ * the broker, so consumers should deduplicate by event ID.
+ *
+ * <h2>Metrics</h2>
+ * Publish durations are measured with {@link System#nanoTime()}. Besides the overall publish timer,
+ * the envelope creation, serialization, Kafka acknowledgement and DLQ dispatch are timed as
+ * separate {@link PublishStage stages}.
+ *
  * <h2>PII (Personally Identifiable Information) Handling</h2>
  * <p>
  * During event serialization, if {@link com.project.curve.spring.pii.jackson.PiiModule} is registered
@@ -54,6 +120,16 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class KafkaEventProducer extends AbstractEventPublisher {
 
+    /**
+     * Minimum batch size for parallel serialization in {@code publishAll}.
+     */
+    static final int PARALLEL_SERIALIZATION_THRESHOLD = 64;
+
+    /**
+     * Number of events serialized by one serialization executor task.
+     */
+    static final int SERIALIZATION_CHUNK_SIZE = 32;
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final EventSerializer eventSerializer;
     private final ObjectMapper objectMapper;
@@ -65,9 +141,16 @@ public class KafkaEventProducer extends AbstractEventPublisher {
     private final long asyncTimeoutMs;
     private final long syncTimeoutSeconds;
     private final ExecutorService dlqExecutor;
+    private final ExecutorService serializationExecutor;
     private final CurveMetricsCollector metricsCollector;
     private final boolean isProduction;
     private final EventBackupStrategy backupStrategy;
+    private final AsyncRetryExecutor asyncRetryExecutor;
+    private final InFlightLimiter inFlightLimiter;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long backpressureBlockTimeoutMs;
+    private final OutboxSpillover outboxSpillover;
+    private final boolean spillToOutbox;
 
     @Builder
     public KafkaEventProducer(
@@ -83,9 +166,16 @@ public class KafkaEventProducer extends AbstractEventPublisher {
             Long asyncTimeoutMs,
             Long syncTimeoutSeconds,
             ExecutorService dlqExecutor,
+            ExecutorService serializationExecutor,
             @NonNull CurveMetricsCollector metricsCollector,
             Boolean isProduction,
-            EventBackupStrategy backupStrategy
+            EventBackupStrategy backupStrategy,
+            AsyncRetryExecutor asyncRetryExecutor,
+            InFlightLimiter inFlightLimiter,
+            BackpressurePolicy backpressurePolicy,
+            Long backpressureBlockTimeoutMs,
+            OutboxSpillover outboxSpillover,
+            Boolean spillToOutbox
     ) {
         super(envelopeFactory, eventContextProvider);
         this.kafkaTemplate = kafkaTemplate;
@@ -99,109 +189,350 @@ public class KafkaEventProducer extends AbstractEventPublisher {
         this.asyncTimeoutMs = asyncTimeoutMs != null ? asyncTimeoutMs : 5000L;
         this.syncTimeoutSeconds = syncTimeoutSeconds != null ? syncTimeoutSeconds : 30L;
         this.dlqExecutor = dlqExecutor;
+        this.serializationExecutor = serializationExecutor;
         this.metricsCollector = metricsCollector;
         this.isProduction = isProduction != null ? isProduction : false;
         this.backupStrategy = backupStrategy;
+        this.asyncRetryExecutor = asyncRetryExecutor;
+        this.inFlightLimiter = inFlightLimiter;
+        this.backpressurePolicy = backpressurePolicy != null ? backpressurePolicy : BackpressurePolicy.BLOCK;
+        this.backpressureBlockTimeoutMs = backpressureBlockTimeoutMs != null ? backpressureBlockTimeoutMs : 1000L;
+        this.outboxSpillover = outboxSpillover;
+        this.spillToOutbox = spillToOutbox != null && spillToOutbox && outboxSpillover != null;
+        if (this.spillToOutbox && dlqExecutor == null) {
+            // Failures are handled on Kafka callback threads, which must not block on the database
+            throw new IllegalArgumentException("spillToOutbox requires a dlqExecutor to write to the outbox");
+        }
 
-        log.debug("KafkaEventProducer initialized: topic={}, asyncMode={}, syncTimeout={}s, asyncTimeout={}ms, dlq={}, retry={}, dlqExecutor={}, isProduction={}, backupStrategy={}",
+        log.debug("KafkaEventProducer initialized: topic={}, asyncMode={}, syncTimeout={}s, asyncTimeout={}ms, dlq={}, retry={}, dlqExecutor={}, serializationExecutor={}, isProduction={}, backupStrategy={}, backpressure={}, spillToOutbox={}",
                 this.topic, this.asyncMode, this.syncTimeoutSeconds, this.asyncTimeoutMs,
                 this.dlqEnabled ? this.dlqTopic : "disabled",
-                this.retryTemplate != null ? "enabled" : "disabled",
+                this.asyncRetryExecutor != null ? "non-blocking" : this.retryTemplate != null ? "enabled" : "disabled",
                 this.dlqExecutor != null ? "enabled" : "disabled",
+                this.serializationExecutor != null ? "enabled" : "disabled",
                 this.isProduction,
-                this.backupStrategy != null ? this.backupStrategy.getClass().getSimpleName() : "none");
+                this.backupStrategy != null ? this.backupStrategy.getClass().getSimpleName() : "none",
+                this.inFlightLimiter != null ? this.backpressurePolicy : "disabled",
+                this.spillToOutbox);
+    }
+
+    @Override
+    protected void onEnvelopeCreated(long durationNanos) {
+        metricsCollector.recordPublishStage(PublishStage.ENVELOPE, durationNanos);
     }
 
     @Override
     protected <T extends DomainEventPayload> void send(EventEnvelope<T> envelope) {
-        sendToTopic(envelope, this.topic);
+        sendToTopic(envelope, this.topic, false);
     }
 
     @Override
     protected <T extends DomainEventPayload> void send(EventEnvelope<T> envelope, String overrideTopic) {
-        String effectiveTopic = (overrideTopic != null && !overrideTopic.isBlank()) ? overrideTopic : this.topic;
-        sendToTopic(envelope, effectiveTopic);
+        sendToTopic(envelope, resolveTopic(overrideTopic), false);
+    }
+
+    @Override
+    protected <T extends DomainEventPayload> CompletableFuture<PublishResult> sendAsync(
+            EventEnvelope<T> envelope, String overrideTopic) {
+        String eventId = envelope.eventId().value();
+        long startTime = System.nanoTime();
+        return sendToTopic(envelope, resolveTopic(overrideTopic), true)
+                .thenApply(result -> toPublishResult(eventId, result, startTime));
+    }
+
+    @Override
+    protected <T extends DomainEventPayload> List<CompletableFuture<PublishResult>> sendAllAsync(
+            List<EventEnvelope<T>> envelopes, String overrideTopic) {
+        String effectiveTopic = resolveTopic(overrideTopic);
+        int size = envelopes.size();
+        Object[] values = new Object[size];
+        RuntimeException[] errors = new RuntimeException[size];
+        long[] startTimes = new long[size];
+
+        IntConsumer serializer = i -> {
+            startTimes[i] = System.nanoTime();
+            try {
+                values[i] = eventSerializer.serialize(envelopes.get(i));
+                metricsCollector.recordPublishStage(PublishStage.SERIALIZATION, System.nanoTime() - startTimes[i]);
+            } catch (RuntimeException e) {
+                errors[i] = e;
+            }
+        };
+        // Serialization (including PII processing) dominates the per-event cost, so large batches are serialized in parallel
+        if (serializationExecutor != null && size >= PARALLEL_SERIALIZATION_THRESHOLD) {
+            serializeInChunks(size, serializer);
+        } else {
+            IntStream.range(0, size).forEach(serializer);
+        }
+
+        // Hand every record to Kafka before any acknowledgement is awaited
+        List<CompletableFuture<PublishResult>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String eventId = envelopes.get(i).eventId().value();
+            String eventType = envelopes.get(i).eventType().getValue();
+            long startTime = startTimes[i];
+
+            if (errors[i] != null) {
+                log.error("Failed to serialize EventEnvelope: eventId={}", eventId, errors[i]);
+                recordErrorMetrics(eventType, startTime, errors[i] instanceof EventSerializationException
+                        ? "SerializationException" : errors[i].getClass().getSimpleName());
+                futures.add(CompletableFuture.failedFuture(errors[i]));
+                continue;
+            }
+
+            CompletableFuture<SendResult<String, Object>> sent;
+            try {
+                sent = doSend(eventId, eventType, values[i], startTime, effectiveTopic, true);
+            } catch (InFlightLimitExceededException e) {
+                sent = CompletableFuture.failedFuture(e);
+            } catch (Exception e) {
+                sent = handleSendError(eventId, eventType, values[i], startTime, e, effectiveTopic);
+            }
+            futures.add(sent.thenApply(result -> toPublishResult(eventId, result, startTime)));
+        }
+
+        log.debug("Batch handed to Kafka: size={}, topic={}", size, effectiveTopic);
+        return futures;
+    }
+
+    /**
+     * Serializes the first chunk on the calling thread and the others on the serialization executor,
+     * then waits for all chunks. Chunks run with the caller's MDC, and run on the calling thread if the
+     * executor rejects them.
+     */
+    private void serializeInChunks(int size, IntConsumer serializer) {
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = SERIALIZATION_CHUNK_SIZE; from < size; from += SERIALIZATION_CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + SERIALIZATION_CHUNK_SIZE, size);
+            Runnable chunk = () -> runWithMdc(contextMap, () -> IntStream.range(start, end).forEach(serializer));
+            try {
+                chunks.add(CompletableFuture.runAsync(chunk, serializationExecutor));
+            } catch (RejectedExecutionException e) {
+                chunk.run();
+            }
+        }
+        IntStream.range(0, Math.min(SERIALIZATION_CHUNK_SIZE, size)).forEach(serializer);
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static PublishResult toPublishResult(String eventId, SendResult<String, Object> result, long startTime) {
+        var metadata = result.getRecordMetadata();
+        if (metadata == null) {
+            // Spilled to the outbox, not yet written to Kafka
+            return new PublishResult(
+                    eventId,
+                    result.getProducerRecord().topic(),
+                    PublishResult.UNKNOWN_PARTITION,
+                    PublishResult.UNKNOWN_OFFSET,
+                    Duration.ofNanos(System.nanoTime() - startTime));
+        }
+        return new PublishResult(
+                eventId,
+                metadata.topic(),
+                metadata.partition(),
+                metadata.offset(),
+                Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    private String resolveTopic(String overrideTopic) {
+        return (overrideTopic != null && !overrideTopic.isBlank()) ? overrideTopic : this.topic;
     }
 
-    private <T extends DomainEventPayload> void sendToTopic(EventEnvelope<T> envelope, String effectiveTopic) {
+    /**
+     * Serializes the envelope and sends it to the given topic.
+     *
+     * @return Future completed with the send result once Kafka acknowledges the record (without record metadata
+     * if it was spilled to the outbox instead), or exceptionally with the send error after the failure has been
+     * handed to the DLQ/backup fallback
+     * @throws EventSerializationException    if a blocking send cannot be serialized
+     * @throws InFlightLimitExceededException if a blocking send is rejected by the in-flight window
+     */
+    private <T extends DomainEventPayload> CompletableFuture<SendResult<String, Object>> sendToTopic(
+            EventEnvelope<T> envelope, String effectiveTopic, boolean nonBlocking) {
         String eventId = envelope.eventId().value();
         String eventType = envelope.eventType().getValue();
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Object value = null;
         try {
             value = eventSerializer.serialize(envelope);
-            doSend(eventId, eventType, value, startTime, effectiveTopic);
+            metricsCollector.recordPublishStage(PublishStage.SERIALIZATION, System.nanoTime() - startTime);
+            return doSend(eventId, eventType, value, startTime, effectiveTopic, nonBlocking);
         } catch (EventSerializationException e) {
             handleSerializationError(eventId, eventType, startTime, e);
+            if (nonBlocking) {
+                return CompletableFuture.failedFuture(e);
+            }
+            throw e;
+        } catch (InFlightLimitExceededException e) {
+            if (nonBlocking) {
+                return CompletableFuture.failedFuture(e);
+            }
+            throw e;
         } catch (Exception e) {
-            handleSendError(eventId, eventType, value, startTime, e, effectiveTopic);
+            return handleSendError(eventId, eventType, value, startTime, e, effectiveTopic);
         }
     }
 
-    private void doSend(String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
-        log.debug("Sending event to Kafka: eventId={}, topic={}, mode={}", eventId, effectiveTopic, asyncMode ? "async" : "sync");
+    private CompletableFuture<SendResult<String, Object>> doSend(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic, boolean nonBlocking) {
+        if (asyncRetryExecutor != null) {
+            log.debug("Sending event to Kafka: eventId={}, topic={}, mode=non-blocking-retry", eventId, effectiveTopic);
+            return sendWithinLimit(eventId, eventType, value, startTime, effectiveTopic,
+                    () -> sendWithAsyncRetry(eventId, eventType, value, startTime, effectiveTopic));
+        }
+
+        boolean async = asyncMode || nonBlocking;
+        log.debug("Sending event to Kafka: eventId={}, topic={}, mode={}", eventId, effectiveTopic, async ? "async" : "sync");
 
-        if (asyncMode) {
-            sendAsync(eventId, eventType, value, startTime, effectiveTopic);
+        if (async) {
+            return sendWithinLimit(eventId, eventType, value, startTime, effectiveTopic,
+                    () -> sendAsync(eventId, eventType, value, startTime, effectiveTopic));
         } else {
-            sendSync(eventId, eventType, value, startTime, effectiveTopic);
+            return sendSync(eventId, eventType, value, startTime, effectiveTopic);
+        }
+    }
+
+    /**
+     * Runs the asynchronous send within the in-flight window.
+     * The permit is held until the returned future completes, including DLQ/backup fallback and retries.
+     */
+    private CompletableFuture<SendResult<String, Object>> sendWithinLimit(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic,
+            Supplier<CompletableFuture<SendResult<String, Object>>> send) {
+        if (inFlightLimiter == null) {
+            return send.get();
+        }
+
+        long bytes = estimateSize(value);
+        if (!acquireInFlight(bytes)) {
+            return rejectOverLimit(eventId, eventType, value, startTime, effectiveTopic);
+        }
+
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException e) {
+            inFlightLimiter.release(bytes);
+            throw e;
         }
+        future.whenComplete((result, ex) -> inFlightLimiter.release(bytes));
+        return future;
     }
 
-    private void sendSync(String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
+    private boolean acquireInFlight(long bytes) {
+        if (backpressurePolicy != BackpressurePolicy.BLOCK) {
+            return inFlightLimiter.tryAcquire(bytes);
+        }
+        try {
+            return inFlightLimiter.tryAcquire(bytes, backpressureBlockTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Handles an event that did not fit into the in-flight window.
+     *
+     * @return Future completed with a send result without record metadata if the record was spilled to the outbox
+     * @throws InFlightLimitExceededException if the event is rejected
+     */
+    private CompletableFuture<SendResult<String, Object>> rejectOverLimit(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
+        if ((backpressurePolicy == BackpressurePolicy.SHED_TO_OUTBOX || spillToOutbox) && outboxSpillover != null) {
+            try {
+                outboxSpillover.spill(eventId, eventType, value, effectiveTopic);
+                log.warn("In-flight limit reached, event spilled to outbox: eventId={}, topic={}, inFlight={}",
+                        eventId, effectiveTopic, inFlightLimiter.getInFlight());
+                metricsCollector.recordEventPublishDuration(eventType, true, System.nanoTime() - startTime);
+                return CompletableFuture.completedFuture(
+                        new SendResult<>(new ProducerRecord<>(effectiveTopic, eventId, value), null));
+            } catch (RuntimeException e) {
+                log.error("Failed to spill event to outbox: eventId={}, topic={}", eventId, effectiveTopic, e);
+                recordErrorMetrics(eventType, startTime, "InFlightLimitExceeded");
+                throw new InFlightLimitExceededException(
+                        "In-flight limit reached and outbox spill failed: eventId=" + eventId, e);
+            }
+        }
+
+        log.warn("In-flight limit reached, event rejected: eventId={}, topic={}, inFlight={}, inFlightBytes={}",
+                eventId, effectiveTopic, inFlightLimiter.getInFlight(), inFlightLimiter.getInFlightBytes());
+        recordErrorMetrics(eventType, startTime, "InFlightLimitExceeded");
+        throw new InFlightLimitExceededException("In-flight limit reached, event rejected: eventId=" + eventId);
+    }
+
+    /**
+     * Size of the record counted against the in-flight byte budget.
+     * String values are counted by their length; other values (e.g. Avro records) are not counted.
+     */
+    static long estimateSize(Object value) {
+        if (value instanceof String s) {
+            return s.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return 0;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> sendSync(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
         if (retryTemplate != null) {
-            sendWithRetry(eventId, eventType, value, startTime, effectiveTopic);
+            return sendWithRetry(eventId, eventType, value, startTime, effectiveTopic);
         } else {
-            sendWithoutRetry(eventId, eventType, value, startTime, effectiveTopic);
+            return sendWithoutRetry(eventId, eventType, value, startTime, effectiveTopic);
         }
     }
 
     private void handleSerializationError(String eventId, String eventType, long startTime, EventSerializationException e) {
         log.error("Failed to serialize EventEnvelope: eventId={}", eventId, e);
         recordErrorMetrics(eventType, startTime, "SerializationException");
-        throw e;
     }
 
-    private void handleSendError(String eventId, String eventType, Object value, long startTime, Exception e, String effectiveTopic) {
+    private CompletableFuture<SendResult<String, Object>> handleSendError(
+            String eventId, String eventType, Object value, long startTime, Exception e, String effectiveTopic) {
         log.error("Failed to send event to Kafka: eventId={}, topic={}, error={}", eventId, effectiveTopic, e.getMessage(), e);
         recordErrorMetrics(eventType, startTime, e.getClass().getSimpleName());
-        handleSendFailure(eventId, eventType, value, e);
+        return handleSendFailure(eventId, eventType, value, e, effectiveTopic);
     }
 
     private void recordErrorMetrics(String eventType, long startTime, String errorType) {
-        metricsCollector.recordEventPublished(eventType, false, System.currentTimeMillis() - startTime);
+        metricsCollector.recordEventPublishDuration(eventType, false, System.nanoTime() - startTime);
         metricsCollector.recordKafkaError(errorType);
     }
 
-    private void sendWithRetry(String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
+    private CompletableFuture<SendResult<String, Object>> sendWithRetry(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
         try {
-            retryTemplate.execute(context -> {
+            return retryTemplate.execute(context -> {
                 if (context.getRetryCount() > 0) {
                     log.warn("Retrying event send: eventId={}, attempt={}", eventId, context.getRetryCount() + 1);
                     metricsCollector.recordRetry(eventType, context.getRetryCount(), "in_progress");
                 }
-                return doSendSync(eventId, eventType, value, startTime, effectiveTopic);
+                return CompletableFuture.completedFuture(doSendSync(eventId, eventType, value, startTime, effectiveTopic));
             }, context -> {
                 int retryCount = context.getRetryCount();
                 log.error("All retry attempts exhausted for event: eventId={}, attempts={}", eventId, retryCount, context.getLastThrowable());
                 metricsCollector.recordRetry(eventType, retryCount, "failure");
-                handleSendFailure(eventId, eventType, value, context.getLastThrowable());
-                return null;
+                return handleSendFailure(eventId, eventType, value, context.getLastThrowable(), effectiveTopic);
             });
         } catch (Exception e) {
             log.error("Unexpected error during retry for event: eventId={}", eventId, e);
-            handleSendFailure(eventId, eventType, value, e);
+            return handleSendFailure(eventId, eventType, value, e, effectiveTopic);
         }
     }
 
-    private void sendWithoutRetry(String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
+    private CompletableFuture<SendResult<String, Object>> sendWithoutRetry(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
         try {
-            doSendSync(eventId, eventType, value, startTime, effectiveTopic);
+            return CompletableFuture.completedFuture(doSendSync(eventId, eventType, value, startTime, effectiveTopic));
         } catch (Exception e) {
             log.error("Failed to send event to Kafka: eventId={}, topic={}", eventId, effectiveTopic, e);
             recordErrorMetrics(eventType, startTime, e.getClass().getSimpleName());
-            handleSendFailure(eventId, eventType, value, e);
+            return handleSendFailure(eventId, eventType, value, e, effectiveTopic);
         }
     }
 
@@ -209,50 +540,99 @@ public class KafkaEventProducer extends AbstractEventPublisher {
      * Asynchronous transmission - CompletableFuture based
      * Handles transmission success/failure via callbacks without blocking the main thread
      */
-    private void sendAsync(String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
+    private CompletableFuture<SendResult<String, Object>> sendAsync(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
         // Capture MDC context from current thread
         Map<String, String> contextMap = MDC.getCopyOfContextMap();
 
-        kafkaTemplate.send(effectiveTopic, eventId, value)
+        long sendTime = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(effectiveTopic, eventId, value)
                 .orTimeout(asyncTimeoutMs, TimeUnit.MILLISECONDS)
-                .whenComplete((result, ex) -> {
-                    // Save previous MDC context for restoration
-                    Map<String, String> previousContext = MDC.getCopyOfContextMap();
-                    if (contextMap != null) {
-                        MDC.setContextMap(contextMap);
+                .handle((result, ex) -> callWithMdc(contextMap, () -> {
+                    if (ex != null) {
+                        String errorType = ex instanceof java.util.concurrent.TimeoutException
+                                ? "TimeoutException" : ex.getClass().getSimpleName();
+                        log.error("Async send failed: eventId={}, topic={}, errorType={}",
+                                eventId, effectiveTopic, errorType, ex);
+                        metricsCollector.recordEventPublishDuration(eventType, false, System.nanoTime() - startTime);
+                        metricsCollector.recordKafkaError(errorType);
+                        return handleSendFailure(eventId, eventType, value, ex, effectiveTopic);
                     }
-                    try {
-                        if (ex != null) {
-                            String errorType = ex instanceof java.util.concurrent.TimeoutException
-                                    ? "TimeoutException" : ex.getClass().getSimpleName();
-                            log.error("Async send failed: eventId={}, topic={}, errorType={}",
-                                    eventId, effectiveTopic, errorType, ex);
-                            metricsCollector.recordEventPublished(eventType, false, System.currentTimeMillis() - startTime);
-                            metricsCollector.recordKafkaError(errorType);
-                            handleSendFailure(eventId, eventType, value, ex);
-                        } else {
-                            metricsCollector.recordEventPublished(eventType, true, System.currentTimeMillis() - startTime);
-                            handleSendSuccess(eventId, result);
-                        }
-                    } finally {
-                        // Restore previous MDC context instead of clearing
-                        if (previousContext != null) {
-                            MDC.setContextMap(previousContext);
-                        } else {
-                            MDC.clear();
+                    long ackTime = System.nanoTime();
+                    metricsCollector.recordPublishStage(PublishStage.KAFKA_ACK, ackTime - sendTime);
+                    metricsCollector.recordEventPublishDuration(eventType, true, ackTime - startTime);
+                    handleSendSuccess(eventId, result);
+                    return CompletableFuture.completedFuture(result);
+                }))
+                .thenCompose(Function.identity());
+
+        log.debug("Event sent asynchronously (non-blocking): eventId={}, topic={}", eventId, effectiveTopic);
+        return future;
+    }
+
+    /**
+     * Non-blocking retry - every attempt is an asynchronous send, and retries are started by the
+     * retry timer after the backoff delay, so no thread sleeps between attempts.
+     * DLQ/backup fallback runs on the completing thread once all attempts have failed.
+     */
+    private CompletableFuture<SendResult<String, Object>> sendWithAsyncRetry(
+            String eventId, String eventType, Object value, long startTime, String effectiveTopic) {
+        // Capture MDC context from current thread
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+
+        Supplier<CompletableFuture<SendResult<String, Object>>> attempt = () -> {
+            long sendTime = System.nanoTime();
+            return kafkaTemplate.send(effectiveTopic, eventId, value)
+                    .orTimeout(asyncTimeoutMs, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            metricsCollector.recordPublishStage(PublishStage.KAFKA_ACK, System.nanoTime() - sendTime);
                         }
-                    }
+                    });
+        };
+
+        AsyncRetryExecutor.RetryListener listener = new AsyncRetryExecutor.RetryListener() {
+            @Override
+            public void onRetry(int retryCount, Throwable lastError) {
+                runWithMdc(contextMap, () -> {
+                    log.warn("Retrying event send: eventId={}, attempt={}, error={}",
+                            eventId, retryCount + 1, lastError.getMessage());
+                    metricsCollector.recordRetry(eventType, retryCount, "in_progress");
                 });
+            }
 
-        log.debug("Event sent asynchronously (non-blocking): eventId={}, topic={}", eventId, effectiveTopic);
+            @Override
+            public void onExhausted(int attempts, Throwable lastError) {
+                // Records the retries actually made, which is fewer than configured if the retry scheduler shut down
+                runWithMdc(contextMap, () -> {
+                    log.error("All retry attempts exhausted for event: eventId={}, attempts={}", eventId, attempts, lastError);
+                    metricsCollector.recordRetry(eventType, attempts - 1, "failure");
+                });
+            }
+        };
+
+        return asyncRetryExecutor.execute(attempt, listener)
+                .handle((result, ex) -> callWithMdc(contextMap, () -> {
+                    if (ex != null) {
+                        recordErrorMetrics(eventType, startTime, ex.getClass().getSimpleName());
+                        return handleSendFailure(eventId, eventType, value, ex, effectiveTopic);
+                    }
+                    metricsCollector.recordEventPublishDuration(eventType, true, System.nanoTime() - startTime);
+                    handleSendSuccess(eventId, result);
+                    return CompletableFuture.completedFuture(result);
+                }))
+                .thenCompose(Function.identity());
     }
 
     private SendResult<String, Object> doSendSync(String eventId, String eventType, Object value, long startTime, String effectiveTopic) throws Exception {
+        long sendTime = System.nanoTime();
         SendResult<String, Object> result = kafkaTemplate
                 .send(effectiveTopic, eventId, value)
                 .get(syncTimeoutSeconds, TimeUnit.SECONDS);
 
-        metricsCollector.recordEventPublished(eventType, true, System.currentTimeMillis() - startTime);
+        long ackTime = System.nanoTime();
+        metricsCollector.recordPublishStage(PublishStage.KAFKA_ACK, ackTime - sendTime);
+        metricsCollector.recordEventPublishDuration(eventType, true, ackTime - startTime);
         handleSendSuccess(eventId, result);
         return result;
     }
@@ -263,42 +643,104 @@ public class KafkaEventProducer extends AbstractEventPublisher {
                 eventId, metadata.topic(), metadata.partition(), metadata.offset());
     }
 
-    private void handleSendFailure(String eventId, String eventType, Object originalValue, Throwable ex) {
+    /**
+     * Hands a finally failed send to the outbox, DLQ or backup fallback.
+     *
+     * @return Future completed with a send result without record metadata once the record is spilled to the outbox,
+     * or exceptionally with the send error otherwise
+     */
+    private CompletableFuture<SendResult<String, Object>> handleSendFailure(
+            String eventId, String eventType, Object originalValue, Throwable ex, String effectiveTopic) {
+        if (spillToOutbox) {
+            CompletableFuture<SendResult<String, Object>> spilled = new CompletableFuture<>();
+            dispatchFallback(() -> {
+                if (executeOutboxSpill(eventId, eventType, originalValue, ex, effectiveTopic)) {
+                    spilled.complete(new SendResult<>(new ProducerRecord<>(effectiveTopic, eventId, originalValue), null));
+                } else {
+                    spilled.completeExceptionally(ex);
+                }
+            });
+            return spilled;
+        }
         if (dlqEnabled) {
             metricsCollector.recordDlqEvent(eventType, ex.getClass().getSimpleName());
-            dispatchToDlq(eventId, originalValue, ex);
+            dispatchFallback(() -> executeDlqSend(eventId, originalValue, ex));
         } else {
             log.warn("DLQ not configured. Event may be lost: eventId={}", eventId);
         }
+        return CompletableFuture.failedFuture(ex);
     }
 
     /**
-     * DLQ transmission dispatch - Decides async/sync transmission based on ExecutorService existence
+     * Fallback dispatch - Decides async/sync execution based on ExecutorService existence
      */
-    private void dispatchToDlq(String eventId, Object originalValue, Throwable originalException) {
+    private void dispatchFallback(Runnable fallback) {
         if (dlqExecutor != null) {
             // Capture MDC context from current thread
             Map<String, String> contextMap = MDC.getCopyOfContextMap();
 
-            // Asynchronous transmission - Use separate ExecutorService to prevent callback thread blocking
-            dlqExecutor.submit(() -> {
-                Map<String, String> previousContext = MDC.getCopyOfContextMap();
-                if (contextMap != null) {
-                    MDC.setContextMap(contextMap);
-                }
-                try {
-                    executeDlqSend(eventId, originalValue, originalException);
-                } finally {
-                    if (previousContext != null) {
-                        MDC.setContextMap(previousContext);
-                    } else {
-                        MDC.clear();
-                    }
-                }
-            });
+            // Asynchronous execution - Use separate ExecutorService to prevent callback thread blocking
+            dlqExecutor.submit(() -> runWithMdc(contextMap, fallback));
         } else {
-            // Synchronous transmission - Send immediately to prevent event loss
+            // Synchronous execution - Run immediately to prevent event loss
+            fallback.run();
+        }
+    }
+
+    /**
+     * Execute outbox spill - Falls back to DLQ/backup if the outbox write fails
+     *
+     * @return true if the record was written into the outbox
+     */
+    private boolean executeOutboxSpill(
+            String eventId, String eventType, Object originalValue, Throwable originalException, String effectiveTopic) {
+        long startTime = System.nanoTime();
+        try {
+            outboxSpillover.spill(eventId, eventType, originalValue, effectiveTopic);
+            log.warn("Failed event spilled to outbox for redelivery: eventId={}, topic={}", eventId, effectiveTopic);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to spill event to outbox: eventId={}, topic={}", eventId, effectiveTopic, e);
+        } finally {
+            metricsCollector.recordPublishStage(PublishStage.OUTBOX_SPILL, System.nanoTime() - startTime);
+        }
+
+        if (dlqEnabled) {
+            metricsCollector.recordDlqEvent(eventType, originalException.getClass().getSimpleName());
             executeDlqSend(eventId, originalValue, originalException);
+        } else {
+            executeBackup(eventId, originalValue, originalException);
+        }
+        return false;
+    }
+
+    /**
+     * Runs the task with the given MDC context, then restores the previous context of the current thread.
+     */
+    private static void runWithMdc(Map<String, String> contextMap, Runnable task) {
+        callWithMdc(contextMap, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the task with the given MDC context, then restores the previous context of the current thread.
+     */
+    private static <T> T callWithMdc(Map<String, String> contextMap, Supplier<T> task) {
+        Map<String, String> previousContext = MDC.getCopyOfContextMap();
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        }
+        try {
+            return task.get();
+        } finally {
+            // Restore previous MDC context instead of clearing
+            if (previousContext != null) {
+                MDC.setContextMap(previousContext);
+            } else {
+                MDC.clear();
+            }
         }
     }
 
@@ -307,6 +749,7 @@ public class KafkaEventProducer extends AbstractEventPublisher {
      */
     private void executeDlqSend(String eventId, Object originalValue, Throwable originalException) {
         String mode = dlqExecutor != null ? "async" : "sync";
+        long startTime = System.nanoTime();
         try {
             log.warn("Sending failed event to DLQ ({}): eventId={}, dlqTopic={}", mode, eventId, dlqTopic);
 
@@ -323,6 +766,8 @@ public class KafkaEventProducer extends AbstractEventPublisher {
         } catch (Exception e) {
             log.error("Failed to send event to DLQ ({}): eventId={}, dlqTopic={}", mode, eventId, dlqTopic, e);
             executeBackup(eventId, originalValue, e);
+        } finally {
+            metricsCollector.recordPublishStage(PublishStage.DLQ, System.nanoTime() - startTime);
         }
     }
 
@@ -0,0 +1,69 @@
+package com.project.curve.kafka.producer;
+
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxEventRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Writes already-serialized Kafka records into the transactional outbox.
+ * <p>
+ * The outbox publisher later sends the stored payload unchanged to the same topic with the event ID as key,
+ * so a spilled record reaches consumers exactly as if it had been sent directly.
+ * The outbox row is written in a new transaction ({@code PROPAGATION_REQUIRES_NEW}), so a rollback of the
+ * caller's business transaction does not discard an event that was already reported as accepted.
+ *
+ * <h3>Limitations</h3>
+ * Only String records (JSON serialization) can be spilled, since the outbox stores text payloads.
+ */
+public class OutboxSpillover {
+
+    /**
+     * Aggregate type of spilled outbox events.
+     */
+    public static final String AGGREGATE_TYPE = "curve-spillover";
+
+    private final OutboxEventRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param outboxRepository   Outbox repository
+     * @param transactionManager Transaction manager of the outbox repository
+     */
+    public OutboxSpillover(OutboxEventRepository outboxRepository, PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Stores the record in the outbox in a new transaction.
+     *
+     * @param eventId   Event ID, used as aggregate ID and record key
+     * @param eventType Event type
+     * @param value     Serialized record value
+     * @param topic     Topic the record was meant for
+     * @throws IllegalArgumentException if the record is not a String
+     * @throws RuntimeException         if the outbox write fails
+     */
+    public void spill(String eventId, String eventType, Object value, String topic) {
+        if (!(value instanceof String payload)) {
+            throw new IllegalArgumentException("Only String records can be spilled to the outbox, but got "
+                    + (value != null ? value.getClass().getName() : "null"));
+        }
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId(eventId)
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(eventId)
+                .eventType(eventType)
+                .payload(payload)
+                .occurredAt(Instant.now())
+                .topic(topic)
+                .partitionKey(eventId)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.insert(event));
+    }
+}
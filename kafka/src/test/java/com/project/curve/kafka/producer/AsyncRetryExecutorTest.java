@@ -0,0 +1,192 @@
+package com.project.curve.kafka.producer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AsyncRetryExecutor Test")
+class AsyncRetryExecutorTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Execution")
+    class ExecutionTests {
+
+        @Test
+        @DisplayName("Returns the result of the first attempt without retrying")
+        void execute_firstAttemptSucceeds_shouldNotRetry() throws Exception {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 3, 10, 2.0, 100);
+            AtomicInteger attempts = new AtomicInteger();
+            List<Integer> retries = new CopyOnWriteArrayList<>();
+
+            // when
+            CompletableFuture<String> result = executor.execute(() -> {
+                attempts.incrementAndGet();
+                return CompletableFuture.completedFuture("ok");
+            }, (retryCount, error) -> retries.add(retryCount));
+
+            // then
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+            assertThat(attempts).hasValue(1);
+            assertThat(retries).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Retries failed attempts until one succeeds")
+        void execute_transientFailure_shouldRetryAndSucceed() throws Exception {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 3, 10, 2.0, 100);
+            AtomicInteger attempts = new AtomicInteger();
+            List<Integer> retries = new CopyOnWriteArrayList<>();
+
+            // when
+            CompletableFuture<String> result = executor.execute(() -> attempts.incrementAndGet() < 3
+                    ? CompletableFuture.failedFuture(new RuntimeException("Transient error"))
+                    : CompletableFuture.completedFuture("ok"), (retryCount, error) -> retries.add(retryCount));
+
+            // then
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+            assertThat(attempts).hasValue(3);
+            assertThat(retries).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("Fails with the last error when all attempts are exhausted")
+        void execute_allAttemptsFail_shouldFailWithLastError() {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 3, 10, 2.0, 100);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            CompletableFuture<String> result = executor.execute(() -> CompletableFuture.failedFuture(
+                    new RuntimeException("Attempt " + attempts.incrementAndGet())), (retryCount, error) -> {
+            });
+
+            // then
+            assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("Attempt 3");
+            assertThat(attempts).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Treats an exception thrown while starting an attempt as a failed attempt")
+        void execute_attemptThrows_shouldRetry() throws Exception {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 2, 10, 2.0, 100);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            CompletableFuture<String> result = executor.execute(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Metadata not available");
+                }
+                return CompletableFuture.completedFuture("ok");
+            }, (retryCount, error) -> assertThat(error).isInstanceOf(IllegalStateException.class));
+
+            // then
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("Does not block the calling thread while waiting for a retry")
+        void execute_shouldNotBlockCaller() {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 2, 5000, 2.0, 5000);
+
+            // when
+            long start = System.nanoTime();
+            CompletableFuture<String> result = executor.execute(
+                    () -> CompletableFuture.failedFuture(new RuntimeException("Broker down")), (retryCount, error) -> {
+                    });
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(elapsedMs).isLessThan(1000);
+            assertThat(result).isNotDone();
+        }
+
+        @Test
+        @DisplayName("Fails with the last error when the scheduler is shut down")
+        void execute_schedulerShutDown_shouldFailWithLastError() {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 3, 10, 2.0, 100);
+            executor.shutdown();
+
+            AtomicInteger exhaustedAfter = new AtomicInteger();
+
+            // when
+            CompletableFuture<String> result = executor.execute(
+                    () -> CompletableFuture.failedFuture(new RuntimeException("Broker down")),
+                    new AsyncRetryExecutor.RetryListener() {
+                        @Override
+                        public void onRetry(int retryCount, Throwable lastError) {
+                        }
+
+                        @Override
+                        public void onExhausted(int attempts, Throwable lastError) {
+                            exhaustedAfter.set(attempts);
+                        }
+                    });
+
+            // then
+            assertThat(result).isCompletedExceptionally();
+            assertThatThrownBy(result::join).hasRootCauseMessage("Broker down");
+            assertThat(exhaustedAfter).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Backoff")
+    class BackoffTests {
+
+        @Test
+        @DisplayName("Grows the delay exponentially up to the maximum interval")
+        void backoffDelayMs_shouldGrowExponentiallyUpToMax() {
+            // given
+            AsyncRetryExecutor executor = new AsyncRetryExecutor(scheduler, 5, 1000, 2.0, 5000);
+
+            // when & then
+            assertThat(executor.backoffDelayMs(1)).isEqualTo(1000);
+            assertThat(executor.backoffDelayMs(2)).isEqualTo(2000);
+            assertThat(executor.backoffDelayMs(3)).isEqualTo(4000);
+            assertThat(executor.backoffDelayMs(4)).isEqualTo(5000);
+        }
+
+        @Test
+        @DisplayName("Rejects invalid settings")
+        void constructor_withInvalidSettings_shouldThrowException() {
+            assertThatThrownBy(() -> new AsyncRetryExecutor(scheduler, 0, 1000, 2.0, 5000))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new AsyncRetryExecutor(scheduler, 3, 0, 2.0, 5000))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new AsyncRetryExecutor(scheduler, 3, 1000, 0.5, 5000))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
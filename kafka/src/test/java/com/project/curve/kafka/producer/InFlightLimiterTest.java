@@ -0,0 +1,115 @@
+package com.project.curve.kafka.producer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InFlightLimiter Test")
+class InFlightLimiterTest {
+
+    @Nested
+    @DisplayName("Limits")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Admits records up to the count limit")
+        void tryAcquire_countLimit_shouldRejectBeyondLimit() {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(2, 0);
+
+            // when & then
+            assertThat(limiter.tryAcquire(100)).isTrue();
+            assertThat(limiter.tryAcquire(100)).isTrue();
+            assertThat(limiter.tryAcquire(100)).isFalse();
+            assertThat(limiter.getInFlight()).isEqualTo(2);
+            assertThat(limiter.getInFlightBytes()).isEqualTo(200);
+
+            limiter.release(100);
+            assertThat(limiter.tryAcquire(100)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Admits records up to the byte budget")
+        void tryAcquire_byteLimit_shouldRejectBeyondBudget() {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(0, 1000);
+
+            // when & then
+            assertThat(limiter.tryAcquire(600)).isTrue();
+            assertThat(limiter.tryAcquire(400)).isTrue();
+            assertThat(limiter.tryAcquire(1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Admits a record larger than the byte budget when nothing else is in flight")
+        void tryAcquire_oversizedRecord_shouldBeAdmittedAlone() {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(0, 1000);
+
+            // when & then
+            assertThat(limiter.tryAcquire(5000)).isTrue();
+            assertThat(limiter.tryAcquire(1)).isFalse();
+
+            limiter.release(5000);
+            assertThat(limiter.getInFlightBytes()).isZero();
+        }
+
+        @Test
+        @DisplayName("Rejects invalid settings")
+        void constructor_withInvalidSettings_shouldThrowException() {
+            assertThatThrownBy(() -> new InFlightLimiter(-1, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new InFlightLimiter(0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Waiting")
+    class WaitingTests {
+
+        @Test
+        @DisplayName("Gives up once the timeout elapses")
+        void tryAcquire_withTimeout_shouldGiveUp() throws InterruptedException {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(1, 0);
+            limiter.tryAcquire(1);
+
+            // when
+            long start = System.nanoTime();
+            boolean acquired = limiter.tryAcquire(1, 50, TimeUnit.MILLISECONDS);
+
+            // then
+            assertThat(acquired).isFalse();
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        @Test
+        @DisplayName("Acquires as soon as an in-flight record is released")
+        void tryAcquire_withTimeout_shouldAcquireOnRelease() throws Exception {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(1, 0);
+            limiter.tryAcquire(1);
+
+            // when
+            CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return limiter.tryAcquire(1, 5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+            limiter.release(1);
+
+            // then
+            assertThat(waiting.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+        }
+    }
+}
@@ -4,14 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.curve.core.context.EventContextProvider;
 import com.project.curve.core.envelope.*;
 import com.project.curve.core.exception.EventSerializationException;
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxEventRepository;
 import com.project.curve.core.payload.DomainEventPayload;
+import com.project.curve.core.port.BatchPublishResult;
+import com.project.curve.core.port.PublishOutcome;
+import com.project.curve.core.port.PublishResult;
 import com.project.curve.core.serde.EventSerializer;
 import com.project.curve.core.type.EventSeverity;
 import com.project.curve.core.type.EventType;
 import com.project.curve.kafka.backup.EventBackupStrategy;
 import com.project.curve.spring.factory.EventEnvelopeFactory;
+import com.project.curve.spring.infrastructure.SnowflakeIdGenerator;
 import com.project.curve.spring.metrics.CurveMetricsCollector;
 import com.project.curve.spring.metrics.NoOpCurveMetricsCollector;
+import com.project.curve.spring.metrics.PublishStage;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.TopicPartition;
@@ -20,15 +27,30 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -113,7 +135,7 @@ class KafkaEventProducerUnitTest {
 
             // then
             verify(kafkaTemplate).send(eq(TOPIC), eq("evt-1"), eq(serialized));
-            verify(metricsCollector).recordEventPublished(eq("TEST_EVENT"), eq(true), anyLong());
+            verify(metricsCollector).recordEventPublishDuration(eq("TEST_EVENT"), eq(true), anyLong());
         }
 
         @Test
@@ -237,7 +259,595 @@ class KafkaEventProducerUnitTest {
             // then
             verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any());
             verify(metricsCollector).recordRetry(eq("TEST_EVENT"), eq(1), eq("in_progress"));
-            verify(metricsCollector).recordEventPublished(eq("TEST_EVENT"), eq(true), anyLong());
+            verify(metricsCollector).recordEventPublishDuration(eq("TEST_EVENT"), eq(true), anyLong());
+        }
+
+        @Test
+        @DisplayName("Retries on a timer without blocking the publishing thread")
+        void testNonBlockingRetrySuccess() {
+            // given
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            KafkaEventProducer producer = createProducerWithAsyncRetry(new AsyncRetryExecutor(scheduler, 3, 200, 2.0, 1000));
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenReturn(failedFuture(new RuntimeException("Leader not available")))
+                    .thenReturn(completedFuture("evt-1", TOPIC));
+
+            try {
+                // when
+                producer.publish(payload);
+
+                // then: publish returned before the backoff elapsed
+                verify(kafkaTemplate, times(1)).send(eq(TOPIC), anyString(), any());
+                verify(kafkaTemplate, timeout(2000).times(2)).send(eq(TOPIC), anyString(), any());
+                verify(metricsCollector, timeout(2000)).recordEventPublishDuration(eq("TEST_EVENT"), eq(true), anyLong());
+                verify(metricsCollector).recordRetry(eq("TEST_EVENT"), eq(1), eq("in_progress"));
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Sends to DLQ after non-blocking retries are exhausted")
+        void testNonBlockingRetryExhaustedTriggersDlq() {
+            // given
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            KafkaEventProducer producer = createProducerWithAsyncRetry(new AsyncRetryExecutor(scheduler, 2, 10, 2.0, 100));
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenReturn(failedFuture(new RuntimeException("Kafka down")));
+            when(kafkaTemplate.send(eq(DLQ_TOPIC), anyString(), any()))
+                    .thenReturn(completedFuture("evt-1", DLQ_TOPIC));
+
+            try {
+                // when
+                producer.publish(payload);
+
+                // then
+                verify(kafkaTemplate, timeout(2000)).send(eq(DLQ_TOPIC), eq("evt-1"), anyString());
+                verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any());
+                verify(metricsCollector).recordRetry(eq("TEST_EVENT"), eq(1), eq("failure"));
+                verify(metricsCollector).recordEventPublishDuration(eq("TEST_EVENT"), eq(false), anyLong());
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Publish")
+    class AsyncPublishTests {
+
+        @Test
+        @DisplayName("Completes with the topic, partition and offset of the acknowledged record")
+        void testPublishAsyncSuccess() {
+            // given
+            KafkaEventProducer producer = createMinimalProducer();
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+            CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq("orders"), anyString(), any())).thenReturn(pending);
+
+            // when: sync mode, but publishAsync does not wait for the acknowledgement
+            CompletableFuture<PublishResult> future = producer.publishAsync(payload, "orders");
+
+            // then
+            assertThat(future).isNotDone();
+
+            pending.complete(new SendResult<>(
+                    new ProducerRecord<>("orders", "evt-1", "{}"),
+                    new RecordMetadata(new TopicPartition("orders", 3), 42, 0, 0, 0, 0)));
+
+            PublishResult result = future.join();
+            assertThat(result.eventId()).isEqualTo("evt-1");
+            assertThat(result.topic()).isEqualTo("orders");
+            assertThat(result.partition()).isEqualTo(3);
+            assertThat(result.offset()).isEqualTo(42);
+            assertThat(result.latency().isNegative()).isFalse();
+            verify(metricsCollector).recordEventPublishDuration(eq("TEST_EVENT"), eq(true), anyLong());
+        }
+
+        @Test
+        @DisplayName("Completes exceptionally and sends to DLQ when Kafka send fails")
+        void testPublishAsyncFailure() {
+            // given
+            KafkaEventProducer producer = createProducerWithDlq();
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenReturn(failedFuture(new RuntimeException("Kafka down")));
+            when(kafkaTemplate.send(eq(DLQ_TOPIC), anyString(), any()))
+                    .thenReturn(completedFuture("evt-1", DLQ_TOPIC));
+
+            // when
+            CompletableFuture<PublishResult> future = producer.publishAsync(payload);
+
+            // then
+            assertThatThrownBy(future::join).hasRootCauseMessage("Kafka down");
+            verify(kafkaTemplate).send(eq(DLQ_TOPIC), eq("evt-1"), anyString());
+        }
+
+        @Test
+        @DisplayName("Completes the future exceptionally on serialization errors")
+        void testPublishAsyncSerializationError() {
+            // given
+            KafkaEventProducer producer = createMinimalProducer();
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenThrow(new EventSerializationException("Serialization failed"));
+
+            // when
+            CompletableFuture<PublishResult> future = producer.publishAsync(payload);
+
+            // then
+            assertThatThrownBy(future::join).hasCauseInstanceOf(EventSerializationException.class);
+            verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Publish")
+    class BatchPublishTests {
+
+        @Test
+        @DisplayName("Hands every record to Kafka before any acknowledgement and resolves metadata once")
+        void testPublishAllSendsBeforeAwaiting() {
+            // given
+            KafkaEventProducer producer = createBatchProducer();
+            EventEnvelope<TestPayload> template = createTestEnvelope(new TestPayload());
+            List<TestPayload> payloads = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                payloads.add(new TestPayload());
+            }
+            List<CompletableFuture<SendResult<String, Object>>> pending = new ArrayList<>();
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(template.metadata());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenAnswer(invocation -> {
+                CompletableFuture<SendResult<String, Object>> future = new CompletableFuture<>();
+                pending.add(future);
+                return future;
+            });
+
+            // when
+            CompletableFuture<BatchPublishResult> future = producer.publishAll(payloads, EventSeverity.INFO);
+
+            // then: all records were sent while no acknowledgement has arrived yet
+            assertThat(pending).hasSize(100);
+            assertThat(future).isNotDone();
+            verify(eventContextProvider, times(1)).currentMetadata(any());
+
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i).complete(new SendResult<>(
+                        new ProducerRecord<>(TOPIC, "evt", "{}"),
+                        new RecordMetadata(new TopicPartition(TOPIC, 0), i, 0, 0, 0, 0)));
+            }
+
+            BatchPublishResult result = future.join();
+            assertThat(result.size()).isEqualTo(100);
+            assertThat(result.hasFailures()).isFalse();
+            assertThat(result.outcomes().get(99).result().offset()).isEqualTo(99);
+            assertThat(result.outcomes()).extracting(outcome -> outcome.result().eventId()).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("Reports an unserializable event as a failed outcome without failing the batch")
+        void testPublishAllSerializationFailure() {
+            // given
+            KafkaEventProducer producer = createBatchProducer();
+            EventEnvelope<TestPayload> template = createTestEnvelope(new TestPayload());
+            AtomicInteger calls = new AtomicInteger();
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(template.metadata());
+            when(eventSerializer.serialize(any())).thenAnswer(invocation -> {
+                if (calls.incrementAndGet() == 2) {
+                    throw new EventSerializationException("Serialization failed");
+                }
+                return "{\"test\":\"data\"}";
+            });
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(completedFuture("evt", TOPIC));
+
+            // when
+            BatchPublishResult result = producer
+                    .publishAll(List.of(new TestPayload(), new TestPayload(), new TestPayload()))
+                    .join();
+
+            // then
+            assertThat(result.successCount()).isEqualTo(2);
+            assertThat(result.failures()).singleElement().satisfies(outcome -> {
+                assertThat(outcome.index()).isEqualTo(1);
+                assertThat(outcome.error()).isInstanceOf(EventSerializationException.class);
+            });
+            verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any());
+            verify(metricsCollector).recordKafkaError("SerializationException");
+        }
+
+        @Test
+        @DisplayName("Reports a null payload or event type as a failed outcome without failing the batch")
+        void testPublishAllInvalidPayload() {
+            // given
+            KafkaEventProducer producer = createBatchProducer();
+            EventEnvelope<TestPayload> template = createTestEnvelope(new TestPayload());
+            TestPayload withoutEventType = new TestPayload() {
+                @Override
+                public EventType getEventType() {
+                    return null;
+                }
+            };
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(template.metadata());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(completedFuture("evt", TOPIC));
+
+            // when
+            BatchPublishResult result = producer
+                    .publishAll(Arrays.asList(new TestPayload(), null, withoutEventType))
+                    .join();
+
+            // then
+            assertThat(result.successCount()).isEqualTo(1);
+            assertThat(result.failures()).extracting(PublishOutcome::index).containsExactly(1, 2);
+            verify(kafkaTemplate, times(1)).send(eq(TOPIC), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Serializes a large batch on the serialization executor with the caller's MDC")
+        void testPublishAllSerializesOnExecutorWithMdc() {
+            // given
+            ExecutorService serializationExecutor = Executors.newFixedThreadPool(2, r -> new Thread(r, "test-serialization"));
+            KafkaEventProducer producer = KafkaEventProducer.builder()
+                    .envelopeFactory(new EventEnvelopeFactory(Instant::now, new SnowflakeIdGenerator(1L)))
+                    .eventContextProvider(eventContextProvider)
+                    .kafkaTemplate(kafkaTemplate)
+                    .eventSerializer(eventSerializer)
+                    .objectMapper(objectMapper)
+                    .topic(TOPIC)
+                    .serializationExecutor(serializationExecutor)
+                    .metricsCollector(metricsCollector)
+                    .build();
+            EventEnvelope<TestPayload> template = createTestEnvelope(new TestPayload());
+            List<TestPayload> payloads = new ArrayList<>();
+            for (int i = 0; i < KafkaEventProducer.PARALLEL_SERIALIZATION_THRESHOLD; i++) {
+                payloads.add(new TestPayload());
+            }
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            Set<String> traceIds = ConcurrentHashMap.newKeySet();
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(template.metadata());
+            when(eventSerializer.serialize(any())).thenAnswer(invocation -> {
+                threads.add(Thread.currentThread().getName());
+                traceIds.add(String.valueOf(MDC.get("traceId")));
+                return "{\"test\":\"data\"}";
+            });
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(completedFuture("evt", TOPIC));
+
+            // when
+            BatchPublishResult result;
+            MDC.put("traceId", "trace-1");
+            try {
+                result = producer.publishAll(payloads, EventSeverity.INFO).join();
+            } finally {
+                MDC.clear();
+                serializationExecutor.shutdown();
+            }
+
+            // then
+            assertThat(result.successCount()).isEqualTo(KafkaEventProducer.PARALLEL_SERIALIZATION_THRESHOLD);
+            assertThat(threads).contains(Thread.currentThread().getName(), "test-serialization");
+            assertThat(threads).noneMatch(name -> name.startsWith("ForkJoinPool"));
+            assertThat(traceIds).containsExactly("trace-1");
+        }
+
+        private KafkaEventProducer createBatchProducer() {
+            return KafkaEventProducer.builder()
+                    .envelopeFactory(new EventEnvelopeFactory(Instant::now, new SnowflakeIdGenerator(1L)))
+                    .eventContextProvider(eventContextProvider)
+                    .kafkaTemplate(kafkaTemplate)
+                    .eventSerializer(eventSerializer)
+                    .objectMapper(objectMapper)
+                    .topic(TOPIC)
+                    .metricsCollector(metricsCollector)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("FAIL_FAST rejects sends beyond the in-flight limit without sending them to the DLQ")
+        void testFailFastRejectsBeyondLimit() {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(1, 0);
+            KafkaEventProducer producer = createProducerWithLimiter(limiter, BackpressurePolicy.FAIL_FAST, null);
+            CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+            stubEnvelope();
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(pending);
+
+            // when
+            CompletableFuture<PublishResult> first = producer.publishAsync(new TestPayload());
+            CompletableFuture<PublishResult> second = producer.publishAsync(new TestPayload());
+
+            // then
+            assertThat(first).isNotDone();
+            assertThatThrownBy(second::join).hasCauseInstanceOf(InFlightLimitExceededException.class);
+            verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+            verify(metricsCollector).recordKafkaError("InFlightLimitExceeded");
+
+            pending.complete(completedFuture("evt-1", TOPIC).join());
+            assertThat(limiter.getInFlight()).isZero();
+            assertThat(producer.publishAsync(new TestPayload())).isCompleted();
+        }
+
+        @Test
+        @DisplayName("BLOCK throws to the publish caller once the block timeout elapses")
+        void testBlockThrowsAfterTimeout() {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(1, 0);
+            KafkaEventProducer producer = createProducerWithLimiter(limiter, BackpressurePolicy.BLOCK, null);
+            stubEnvelope();
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(new CompletableFuture<>());
+            producer.publish(new TestPayload());
+
+            // when & then
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> producer.publish(new TestPayload()))
+                    .isInstanceOf(InFlightLimitExceededException.class);
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+            verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("SHED_TO_OUTBOX writes the serialized record into the outbox")
+        void testShedToOutbox() {
+            // given
+            OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+            InFlightLimiter limiter = new InFlightLimiter(1, 0);
+            KafkaEventProducer producer = createProducerWithLimiter(
+                    limiter, BackpressurePolicy.SHED_TO_OUTBOX,
+                    new OutboxSpillover(outboxRepository, mock(PlatformTransactionManager.class)));
+            stubEnvelope();
+            when(kafkaTemplate.send(eq("orders"), anyString(), any())).thenReturn(new CompletableFuture<>());
+            producer.publishAsync(new TestPayload(), "orders");
+
+            // when
+            PublishResult result = producer.publishAsync(new TestPayload(), "orders").join();
+
+            // then
+            assertThat(result.topic()).isEqualTo("orders");
+            assertThat(result.partition()).isEqualTo(PublishResult.UNKNOWN_PARTITION);
+            assertThat(result.offset()).isEqualTo(PublishResult.UNKNOWN_OFFSET);
+
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outboxRepository).insert(captor.capture());
+            OutboxEvent spilled = captor.getValue();
+            assertThat(spilled.getEventId()).isEqualTo("evt-1");
+            assertThat(spilled.getAggregateType()).isEqualTo(OutboxSpillover.AGGREGATE_TYPE);
+            assertThat(spilled.getEventType()).isEqualTo("TEST_EVENT");
+            assertThat(spilled.getPayload()).isEqualTo("{\"test\":\"data\"}");
+            assertThat(spilled.getTopic()).isEqualTo("orders");
+            assertThat(spilled.getPartitionKey()).isEqualTo("evt-1");
+            verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Releases the permit when the send fails")
+        void testPermitReleasedOnFailure() {
+            // given
+            InFlightLimiter limiter = new InFlightLimiter(1, 1024);
+            KafkaEventProducer producer = createProducerWithLimiter(limiter, BackpressurePolicy.FAIL_FAST, null);
+            CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+            stubEnvelope();
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(pending);
+
+            // when
+            CompletableFuture<PublishResult> future = producer.publishAsync(new TestPayload());
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+            assertThat(limiter.getInFlightBytes()).isEqualTo("{\"test\":\"data\"}".length());
+            pending.completeExceptionally(new RuntimeException("Kafka down"));
+
+            // then
+            assertThat(future).isCompletedExceptionally();
+            assertThat(limiter.getInFlight()).isZero();
+            assertThat(limiter.getInFlightBytes()).isZero();
+        }
+
+        private void stubEnvelope() {
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(new TestPayload());
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+        }
+    }
+
+    @Nested
+    @DisplayName("Outbox Fallback")
+    class OutboxFallbackTests {
+
+        @Test
+        @DisplayName("Spills a failed record into the outbox instead of sending it to the DLQ and reports it as accepted")
+        void testFailedSendSpilledToOutbox() {
+            // given
+            OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+            KafkaEventProducer producer = createProducerWithOutboxFallback(outboxRepository);
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+            String serialized = "{\"test\":\"data\"}";
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn(serialized);
+            when(kafkaTemplate.send(eq("orders"), anyString(), any()))
+                    .thenReturn(failedFuture(new RuntimeException("Kafka down")));
+
+            // when
+            CompletableFuture<PublishResult> future = producer.publishAsync(payload, "orders");
+
+            // then
+            PublishResult result = future.join();
+            assertThat(result.topic()).isEqualTo("orders");
+            assertThat(result.partition()).isEqualTo(PublishResult.UNKNOWN_PARTITION);
+            assertThat(result.offset()).isEqualTo(PublishResult.UNKNOWN_OFFSET);
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outboxRepository).insert(captor.capture());
+            assertThat(captor.getValue().getEventId()).isEqualTo("evt-1");
+            assertThat(captor.getValue().getPayload()).isEqualTo(serialized);
+            assertThat(captor.getValue().getTopic()).isEqualTo("orders");
+            assertThat(captor.getValue().getPartitionKey()).isEqualTo("evt-1");
+            verify(kafkaTemplate, never()).send(eq(DLQ_TOPIC), anyString(), any());
+            verify(metricsCollector).recordPublishStage(eq(PublishStage.OUTBOX_SPILL), anyLong());
+        }
+
+        @Test
+        @DisplayName("Falls back to the DLQ when the outbox write fails")
+        void testOutboxFailureFallsBackToDlq() {
+            // given
+            OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+            doThrow(new IllegalStateException("Database down")).when(outboxRepository).insert(any());
+            KafkaEventProducer producer = createProducerWithOutboxFallback(outboxRepository);
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenThrow(new RuntimeException("Connection refused"));
+            when(kafkaTemplate.send(eq(DLQ_TOPIC), anyString(), any()))
+                    .thenReturn(completedFuture("evt-1", DLQ_TOPIC));
+
+            // when
+            producer.publish(payload);
+
+            // then
+            verify(outboxRepository).insert(any());
+            verify(kafkaTemplate).send(eq(DLQ_TOPIC), eq("evt-1"), anyString());
+            verify(metricsCollector).recordDlqEvent("TEST_EVENT", "RuntimeException");
+        }
+
+        @Test
+        @DisplayName("Fails the future with the send error when the outbox write fails")
+        void testOutboxFailureFailsFuture() {
+            // given
+            OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+            doThrow(new IllegalStateException("Database down")).when(outboxRepository).insert(any());
+            KafkaEventProducer producer = createProducerWithOutboxFallback(outboxRepository);
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenReturn(failedFuture(new RuntimeException("Kafka down")));
+            when(kafkaTemplate.send(eq(DLQ_TOPIC), anyString(), any()))
+                    .thenReturn(completedFuture("evt-1", DLQ_TOPIC));
+
+            // when
+            CompletableFuture<PublishResult> future = producer.publishAsync(payload);
+
+            // then
+            assertThatThrownBy(future::join).hasRootCauseMessage("Kafka down");
+            verify(kafkaTemplate).send(eq(DLQ_TOPIC), eq("evt-1"), anyString());
+        }
+
+        @Test
+        @DisplayName("Synchronous publish returns normally once the failed record is spilled")
+        void testSyncPublishSpilledToOutbox() {
+            // given
+            OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+            KafkaEventProducer producer = createProducerWithOutboxFallback(outboxRepository);
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenThrow(new RuntimeException("Connection refused"));
+
+            // when & then
+            assertThatCode(() -> producer.publish(payload)).doesNotThrowAnyException();
+            verify(outboxRepository).insert(any());
+            verify(kafkaTemplate, never()).send(eq(DLQ_TOPIC), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Spills events rejected by the in-flight window whatever the backpressure policy")
+        void testInFlightRejectionSpilledToOutbox() {
+            // given
+            OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+            KafkaEventProducer producer = KafkaEventProducer.builder()
+                    .envelopeFactory(envelopeFactory)
+                    .eventContextProvider(eventContextProvider)
+                    .kafkaTemplate(kafkaTemplate)
+                    .eventSerializer(eventSerializer)
+                    .objectMapper(objectMapper)
+                    .topic(TOPIC)
+                    .dlqExecutor(new ExecutorServiceAdapter(new SyncTaskExecutor()))
+                    .metricsCollector(metricsCollector)
+                    .inFlightLimiter(new InFlightLimiter(1, 0))
+                    .backpressurePolicy(BackpressurePolicy.FAIL_FAST)
+                    .outboxSpillover(new OutboxSpillover(outboxRepository, mock(PlatformTransactionManager.class)))
+                    .spillToOutbox(true)
+                    .build();
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(new CompletableFuture<>());
+            producer.publishAsync(payload);
+
+            // when
+            PublishResult result = producer.publishAsync(payload).join();
+
+            // then
+            assertThat(result.partition()).isEqualTo(PublishResult.UNKNOWN_PARTITION);
+            verify(outboxRepository).insert(any());
+            verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Requires a DLQ executor so that the outbox write never blocks Kafka callback threads")
+        void testOutboxFallbackRequiresExecutor() {
+            assertThatThrownBy(() -> KafkaEventProducer.builder()
+                    .envelopeFactory(envelopeFactory)
+                    .eventContextProvider(eventContextProvider)
+                    .kafkaTemplate(kafkaTemplate)
+                    .eventSerializer(eventSerializer)
+                    .objectMapper(objectMapper)
+                    .topic(TOPIC)
+                    .metricsCollector(metricsCollector)
+                    .outboxSpillover(new OutboxSpillover(
+                            mock(OutboxEventRepository.class), mock(PlatformTransactionManager.class)))
+                    .spillToOutbox(true)
+                    .build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("dlqExecutor");
         }
     }
 
@@ -263,9 +873,33 @@ class KafkaEventProducerUnitTest {
             producer.publish(payload);
 
             // then
-            verify(metricsCollector).recordEventPublished(eq("TEST_EVENT"), eq(false), anyLong());
+            verify(metricsCollector).recordEventPublishDuration(eq("TEST_EVENT"), eq(false), anyLong());
             verify(metricsCollector).recordKafkaError("RuntimeException");
         }
+
+        @Test
+        @DisplayName("Records envelope, serialization and Kafka ack stage durations on success")
+        void testStageDurationsRecorded() {
+            // given
+            KafkaEventProducer producer = createMinimalProducer();
+            TestPayload payload = new TestPayload();
+            EventEnvelope<TestPayload> envelope = createTestEnvelope(payload);
+
+            when(eventContextProvider.currentMetadata(any())).thenReturn(envelope.metadata());
+            doReturn(envelope).when(envelopeFactory).create(any(), any(), any(), any());
+            when(eventSerializer.serialize(any())).thenReturn("{\"test\":\"data\"}");
+            when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                    .thenReturn(completedFuture("evt-1", TOPIC));
+
+            // when
+            producer.publish(payload);
+
+            // then
+            verify(metricsCollector).recordPublishStage(eq(PublishStage.ENVELOPE), longThat(nanos -> nanos >= 0));
+            verify(metricsCollector).recordPublishStage(eq(PublishStage.SERIALIZATION), longThat(nanos -> nanos >= 0));
+            verify(metricsCollector).recordPublishStage(eq(PublishStage.KAFKA_ACK), longThat(nanos -> nanos >= 0));
+            verify(metricsCollector, never()).recordPublishStage(eq(PublishStage.DLQ), anyLong());
+        }
     }
 
     // --- Helper methods ---
@@ -295,6 +929,54 @@ class KafkaEventProducerUnitTest {
                 .build();
     }
 
+    private KafkaEventProducer createProducerWithAsyncRetry(AsyncRetryExecutor asyncRetryExecutor) {
+        return KafkaEventProducer.builder()
+                .envelopeFactory(envelopeFactory)
+                .eventContextProvider(eventContextProvider)
+                .kafkaTemplate(kafkaTemplate)
+                .eventSerializer(eventSerializer)
+                .objectMapper(objectMapper)
+                .topic(TOPIC)
+                .dlqTopic(DLQ_TOPIC)
+                .metricsCollector(metricsCollector)
+                .asyncRetryExecutor(asyncRetryExecutor)
+                .build();
+    }
+
+    private KafkaEventProducer createProducerWithLimiter(
+            InFlightLimiter limiter, BackpressurePolicy policy, OutboxSpillover outboxSpillover) {
+        return KafkaEventProducer.builder()
+                .envelopeFactory(envelopeFactory)
+                .eventContextProvider(eventContextProvider)
+                .kafkaTemplate(kafkaTemplate)
+                .eventSerializer(eventSerializer)
+                .objectMapper(objectMapper)
+                .topic(TOPIC)
+                .asyncMode(true)
+                .metricsCollector(metricsCollector)
+                .inFlightLimiter(limiter)
+                .backpressurePolicy(policy)
+                .backpressureBlockTimeoutMs(50L)
+                .outboxSpillover(outboxSpillover)
+                .build();
+    }
+
+    private KafkaEventProducer createProducerWithOutboxFallback(OutboxEventRepository outboxRepository) {
+        return KafkaEventProducer.builder()
+                .envelopeFactory(envelopeFactory)
+                .eventContextProvider(eventContextProvider)
+                .kafkaTemplate(kafkaTemplate)
+                .eventSerializer(eventSerializer)
+                .objectMapper(objectMapper)
+                .topic(TOPIC)
+                .dlqTopic(DLQ_TOPIC)
+                .dlqExecutor(new ExecutorServiceAdapter(new SyncTaskExecutor()))
+                .metricsCollector(metricsCollector)
+                .outboxSpillover(new OutboxSpillover(outboxRepository, mock(PlatformTransactionManager.class)))
+                .spillToOutbox(true)
+                .build();
+    }
+
     private EventEnvelope<TestPayload> createTestEnvelope(TestPayload payload) {
         return EventEnvelope.of(
                 EventId.of("evt-1"),
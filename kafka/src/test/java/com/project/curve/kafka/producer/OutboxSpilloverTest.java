@@ -0,0 +1,55 @@
+package com.project.curve.kafka.producer;
+
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxSpillover Test")
+class OutboxSpilloverTest {
+
+    private final OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    @DisplayName("Writes the record in a new transaction, independent of the caller's transaction")
+    void spill_shouldInsertInNewTransaction() {
+        // given
+        OutboxSpillover spillover = new OutboxSpillover(outboxRepository, transactionManager);
+
+        // when
+        spillover.spill("evt-1", "ORDER_CREATED", "{\"id\":1}", "orders");
+
+        // then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(transactionManager).commit(any());
+
+        ArgumentCaptor<OutboxEvent> event = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxRepository).insert(event.capture());
+        assertThat(event.getValue().getPayload()).isEqualTo("{\"id\":1}");
+        assertThat(event.getValue().getTopic()).isEqualTo("orders");
+        assertThat(event.getValue().getPartitionKey()).isEqualTo("evt-1");
+    }
+
+    @Test
+    @DisplayName("Rejects records that are not Strings")
+    void spill_withNonStringRecord_shouldThrowException() {
+        // given
+        OutboxSpillover spillover = new OutboxSpillover(outboxRepository, transactionManager);
+
+        // when & then
+        assertThatThrownBy(() -> spillover.spill("evt-1", "ORDER_CREATED", new byte[]{1}, "orders"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(outboxRepository, transactionManager);
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.curve.autoconfigure;
 
 import com.project.curve.autoconfigure.outbox.InitializeSchema;
+import com.project.curve.core.outbox.OutboxArchiveMode;
+import com.project.curve.core.outbox.OutboxKeyStrategy;
+import com.project.curve.kafka.producer.BackpressurePolicy;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
@@ -14,6 +17,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Validated
@@ -49,6 +56,9 @@ public class CurveProperties {
     @Valid
     private final Serde serde = new Serde();
 
+    @Valid
+    private final Metrics metrics = new Metrics();
+
     @Data
     public static class Kafka {
         /**
@@ -132,6 +142,25 @@ public class CurveProperties {
         @Positive(message = "dlqExecutorShutdownTimeoutSeconds must be positive")
         private long dlqExecutorShutdownTimeoutSeconds = 30L;
 
+        /**
+         * Thread pool size for the serialization ExecutorService of publishAll (default: number of processors).
+         * <p>
+         * Batches of 64 or more events are serialized in parallel on this pool and the calling thread,
+         * instead of the common fork-join pool, with the caller's MDC.
+         */
+        @Min(value = 1, message = "serializationThreads must be at least 1")
+        private int serializationThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Whether to write failed events into the outbox instead of the DLQ (default: false).
+         * <p>
+         * The outbox publisher delivers them to the original topic once the broker recovers, and spilled events
+         * are reported as accepted with unknown partition and offset. Events rejected by the in-flight window
+         * are spilled too. The DLQ and backup strategy are used only if the outbox write fails.
+         * Requires curve.outbox.enabled=true.
+         */
+        private boolean spillToOutboxEnabled = false;
+
         /**
          * Whether running in production environment (default: false).
          * <p>
@@ -151,6 +180,47 @@ public class CurveProperties {
         @Valid
         private final Backup backup = new Backup();
 
+        /**
+         * Backpressure configuration for asynchronous sends.
+         */
+        @Valid
+        private final Backpressure backpressure = new Backpressure();
+
+        @Data
+        public static class Backpressure {
+            /**
+             * Maximum number of in-flight asynchronous sends (default: 0 - unlimited).
+             * <p>
+             * A send is in flight from the moment it is handed to Kafka until it is acknowledged or has failed,
+             * including its non-blocking retries.
+             */
+            @PositiveOrZero(message = "maxInFlight must be 0 or greater")
+            private int maxInFlight = 0;
+
+            /**
+             * Maximum total size of in-flight asynchronous sends in bytes (default: 0 - unlimited).
+             * <p>
+             * String records are counted by their length; other records (e.g. Avro) are not counted.
+             */
+            @PositiveOrZero(message = "maxInFlightBytes must be 0 or greater")
+            private long maxInFlightBytes = 0L;
+
+            /**
+             * What to do with a send when the in-flight window is full (default: BLOCK).
+             * <p>
+             * BLOCK: wait up to blockTimeoutMs, then reject the event
+             * FAIL_FAST: reject the event right away
+             * SHED_TO_OUTBOX: write the record into the outbox (requires curve.outbox.enabled=true)
+             */
+            private BackpressurePolicy policy = BackpressurePolicy.BLOCK;
+
+            /**
+             * Maximum time to wait for room in the window with the BLOCK policy, in milliseconds (default: 1000ms).
+             */
+            @Positive(message = "blockTimeoutMs must be positive")
+            private long blockTimeoutMs = 1000L;
+        }
+
         @Data
         public static class Backup {
             /**
@@ -213,6 +283,15 @@ public class CurveProperties {
          */
         @Positive(message = "maxInterval must be positive")
         private long maxInterval = 10000L;
+
+        /**
+         * Whether to retry without blocking the publishing thread (default: false).
+         * <p>
+         * When enabled, each attempt is an asynchronous send bounded by {@code curve.kafka.async-timeout-ms},
+         * and retries are started by a timer after the backoff delay instead of sleeping.
+         * {@code publish} returns as soon as the first send is handed to Kafka, regardless of {@code curve.kafka.async-mode}.
+         */
+        private boolean nonBlocking = false;
     }
 
     @Data
@@ -274,6 +353,38 @@ public class CurveProperties {
          * false: use configured workerId value
          */
         private boolean autoGenerate = false;
+
+        /**
+         * Synchronization mode of the Snowflake ID generator (default: LOCKING).
+         * <p>
+         * - LOCKING: serializes generation with a lock
+         * - LOCK_FREE: advances timestamp and sequence with compare-and-set on a single AtomicLong,
+         *   which avoids lock contention under heavy multi-threaded publishing
+         * - STRIPED: splits the worker ID bits into a node ID (workerId) and a per-thread stripe,
+         *   so threads generate IDs without shared state
+         * <p>
+         * LOCKING and LOCK_FREE produce the same ID layout. All modes handle clock rollback the same way.
+         */
+        private Mode mode = Mode.LOCKING;
+
+        /**
+         * Number of worker ID bits used for the stripe index in STRIPED mode (1 ~ 9, default: 4).
+         * <p>
+         * 4 bits give 16 stripes and leave node IDs (workerId) between 0 and 63.
+         */
+        @Min(value = 1, message = "stripeBits must be at least 1")
+        @Max(value = 9, message = "stripeBits must be at most 9")
+        private int stripeBits = 4;
+
+        @AssertTrue(message = "workerId must fit into the node bits (10 - stripeBits) when mode is STRIPED")
+        private boolean isStripedWorkerIdValid() {
+            if (mode != Mode.STRIPED || autoGenerate) return true;
+            return workerId < (1L << (10 - stripeBits));
+        }
+
+        public enum Mode {
+            LOCKING, LOCK_FREE, STRIPED
+        }
     }
 
     @Data
@@ -365,6 +476,40 @@ public class CurveProperties {
         @Positive(message = "pollIntervalMs must be positive")
         private long pollIntervalMs = 1000L;
 
+        /**
+         * Whether to enable adaptive outbox polling (default: true).
+         * <p>
+         * true: polls according to the previous batch and wakes up on commit
+         *   - Full batch: polls again immediately
+         *   - Empty batch: doubles the wait from pollIntervalMs up to maxPollIntervalMs
+         *   - New outbox events wake up the publisher right after the transaction commits
+         * false: polls at fixed pollIntervalMs intervals
+         * <p>
+         * Reduces publish latency to a few milliseconds while issuing fewer queries when idle.
+         */
+        private boolean adaptivePollingEnabled = true;
+
+        /**
+         * Maximum polling interval of the adaptive poller in milliseconds (default: 10000ms = 10 seconds).
+         * <p>
+         * Back-off ceiling when batches are empty. Also bounds the delay of scheduled retries
+         * and of events saved by other instances. Values below pollIntervalMs are raised to pollIntervalMs.
+         */
+        @Positive(message = "maxPollIntervalMs must be positive")
+        private long maxPollIntervalMs = 10000L;
+
+        /**
+         * Whether to enable PostgreSQL LISTEN/NOTIFY wake-up (default: false).
+         * <p>
+         * true: outbox inserts issue pg_notify, and a listener connection wakes up the publisher
+         *   - Events saved by other instances are published within milliseconds
+         *   - The poll interval only acts as a safety net
+         *   - The curve_outbox_notify trigger is created when the schema is initialized by Curve
+         *   - Requires the PostgreSQL JDBC driver and adaptive polling; holds one pooled connection
+         * false: only in-JVM wake-up and polling
+         */
+        private boolean postgresNotifyEnabled = false;
+
         /**
          * Event batch size to process at once (default: 100).
          * <p>
@@ -439,6 +584,126 @@ public class CurveProperties {
          * Prevents meaningless retries and reduces system load when Kafka is down for extended periods.
          */
         private boolean circuitBreakerEnabled = true;
+
+        /**
+         * Whether to enable pipelined sending of outbox batches (default: false).
+         * <p>
+         * true: sends every event of a batch first, then awaits all acknowledgements
+         *   against a single shared deadline of sendTimeoutSeconds
+         *   - Lets the Kafka producer batch records and use max.in.flight.requests.per.connection
+         *   - Success and failure are still recorded per event
+         * false: sends events one by one, waiting for each acknowledgement
+         * <p>
+         * Greatly increases drain rate when a large backlog has built up (e.g., after an incident).
+         */
+        private boolean pipelinedSendEnabled = false;
+
+        /**
+         * Number of parallel outbox publishing workers (default: 1).
+         * <p>
+         * 1: publishes each batch on the scheduler thread
+         * greater than 1: shards each batch across workers by a hash of aggregateType + aggregateId
+         *   - Events of the same aggregate are always published by the same worker in occurredAt order
+         *   - Different aggregates are published in parallel
+         */
+        @Min(value = 1, message = "workerCount must be at least 1")
+        @Max(value = 64, message = "workerCount must be at most 64")
+        private int workerCount = 1;
+
+        /**
+         * Whether to enable claim-and-lease fetching (default: false).
+         * <p>
+         * true: claims events with a short committed UPDATE (claimed_by, lease_until) and sends them
+         *   outside any transaction
+         *   - No row lock or pooled connection is held while waiting for Kafka
+         *   - Events of a crashed publisher are reclaimed once their lease expires
+         *   - Requires the claimed_by and lease_until columns
+         * false: locks events with FOR UPDATE SKIP LOCKED for the whole publish transaction
+         */
+        private boolean leaseEnabled = false;
+
+        /**
+         * Lease duration of claimed events in seconds (default: 60 seconds).
+         * <p>
+         * Must be longer than {@code sendTimeoutSeconds}. Leases are renewed while a batch is being sent,
+         * so a batch may take longer than the lease; an instance that stops renewing (e.g., a long GC pause)
+         * loses its events to another instance and does not overwrite their outcome.
+         */
+        @Positive(message = "leaseDurationSeconds must be positive")
+        private int leaseDurationSeconds = 60;
+
+        /**
+         * Whether to use a time-partitioned outbox table (default: false).
+         * <p>
+         * true: daily range partitions on occurred_at (PostgreSQL and MySQL only)
+         *   - The auto-created table is partitioned, with primary key (event_id, occurred_at)
+         *   - Partitions are created partitionPremakeDays ahead
+         *   - With cleanupEnabled=true, expired partitions without PENDING events are dropped
+         *     instead of deleting rows
+         * false: regular table, cleanup deletes rows in batches
+         */
+        private boolean partitioningEnabled = false;
+
+        /**
+         * Number of days to create outbox partitions ahead of today (default: 7).
+         * <p>
+         * Used when partitioningEnabled=true.
+         */
+        @Min(value = 1, message = "partitionPremakeDays must be at least 1")
+        @Max(value = 90, message = "partitionPremakeDays must be at most 90")
+        private int partitionPremakeDays = 7;
+
+        /**
+         * What happens to outbox events once they are published (default: NONE).
+         * <p>
+         * Keeps the outbox table, and the indexes scanned for PENDING events, small.
+         *   - NONE: PUBLISHED events stay in the outbox table until cleanup deletes them
+         *   - ARCHIVE: PUBLISHED events are moved to curve_outbox_events_archive in bulk after each batch;
+         *     queries by aggregate and time range (including replay) read both tables
+         *   - DELETE: PUBLISHED events are deleted right after publishing
+         */
+        private OutboxArchiveMode archiveMode = OutboxArchiveMode.NONE;
+
+        /**
+         * Kafka record key of outbox events (default: EVENT_ID).
+         * <p>
+         * Kafka only orders records within a partition, and the partition is chosen by the key.
+         *   - EVENT_ID: spreads events evenly, events of one aggregate land on random partitions
+         *   - AGGREGATE_ID: events of one aggregate stay in order on one partition
+         *   - AGGREGATE_TYPE_AND_ID: "aggregateType:aggregateId", for topics shared by aggregate types
+         * <p>
+         * Ignored when an OutboxKeyResolver bean is defined.
+         */
+        private OutboxKeyStrategy keyStrategy = OutboxKeyStrategy.EVENT_ID;
+
+        /**
+         * Codec used to compress large outbox payloads before storing them (default: none).
+         * <p>
+         *   - none: payloads are stored as plain JSON
+         *   - gzip: JDK GZIP, no additional dependency
+         *   - Name of a custom OutboxPayloadCodec bean (e.g., LZ4 or Zstd)
+         * <p>
+         * Compressed payloads are stored Base64-encoded with the codec name in payload_codec,
+         * and decompressed by the publisher before sending.
+         */
+        private String payloadCompression = "none";
+
+        /**
+         * Minimum payload size in bytes to compress (default: 1024).
+         * <p>
+         * Smaller payloads gain little from compression and are stored as plain JSON.
+         */
+        @Min(value = 0, message = "payloadCompressionThresholdBytes must be 0 or greater")
+        private int payloadCompressionThresholdBytes = 1024;
+
+        /**
+         * Whether to buffer outbox events until the surrounding transaction commits (default: false).
+         * <p>
+         * Buffered events are written with one multi-row INSERT right before commit instead of one
+         * statement per event. They are not visible to queries of the same transaction, and insert
+         * failures (e.g., duplicate event IDs) surface at commit time.
+         */
+        private boolean writeBufferingEnabled = false;
     }
 
     @Data
@@ -467,4 +732,33 @@ public class CurveProperties {
             JSON, AVRO, PROTOBUF
         }
     }
+
+    @Data
+    public static class Metrics {
+        /**
+         * Maximum number of distinct eventType tag values per metric (default: 100).
+         * <p>
+         * Events of further types are recorded with eventType=other, which bounds the number of
+         * time series when event types are not a fixed set.
+         */
+        @Min(value = 1, message = "maxEventTypes must be at least 1")
+        private int maxEventTypes = 100;
+
+        /**
+         * Whether publish timers publish percentile histograms (default: false).
+         * <p>
+         * Lets monitoring systems such as Prometheus compute p99 publish latency across instances.
+         * Each timer then exports about 70 additional bucket series per tag combination, and every
+         * record updates the histogram, including the per-value PII stage.
+         */
+        private boolean percentileHistogram = false;
+
+        /**
+         * SLO boundaries of the publish timers (e.g., 10ms, 50ms, 100ms).
+         * <p>
+         * Each boundary is published as a histogram bucket, so the share of publishes within an SLO
+         * can be queried directly. Empty by default.
+         */
+        private List<Duration> slo = new ArrayList<>();
+    }
 }
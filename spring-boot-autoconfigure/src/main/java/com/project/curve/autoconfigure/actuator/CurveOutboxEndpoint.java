@@ -1,15 +1,21 @@
 package com.project.curve.autoconfigure.actuator;
 
+import com.project.curve.core.outbox.OutboxCursor;
 import com.project.curve.spring.outbox.publisher.OutboxEventPublisher;
+import com.project.curve.spring.outbox.publisher.OutboxWorkerPool;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
 import org.springframework.lang.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,7 +26,7 @@ import java.util.Map;
  * <h3>Available Operations</h3>
  * <ul>
  *   <li>GET /actuator/curve-outbox — Returns current outbox statistics</li>
- *   <li>POST /actuator/curve-outbox — Replays outbox events since a given timestamp</li>
+ *   <li>POST /actuator/curve-outbox — Replays outbox events since a given timestamp, page by page</li>
  * </ul>
  *
  * <h3>Replay Example</h3>
@@ -28,7 +34,11 @@ import java.util.Map;
  * POST /actuator/curve-outbox
  * Content-Type: application/vnd.spring-boot.actuator.v3+json
  *
- * {"since": "2026-03-01T00:00:00Z", "limit": 100}
+ * {"since": "2026-03-01T00:00:00Z", "until": "2026-03-02T00:00:00Z", "limit": 10000, "pageSize": 500}
+ * </pre>
+ * The response contains {@code nextCursor} while events remain; resume with:
+ * <pre>
+ * {"cursor": "&lt;nextCursor&gt;", "limit": 10000}
  * </pre>
  *
  * <b>Idempotency Note:</b> Replay re-publishes events regardless of their current status.
@@ -38,6 +48,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CurveOutboxEndpoint {
 
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final OutboxEventPublisher outboxEventPublisher;
 
     /**
@@ -57,37 +70,115 @@ public class CurveOutboxEndpoint {
         result.put("circuitBreakerState", stats.circuitBreakerState());
         result.put("consecutiveFailures", stats.consecutiveFailures());
         result.put("timeSinceLastSuccessMs", stats.timeSinceLastSuccessMs());
+
+        List<OutboxWorkerPool.WorkerStats> workerStats = outboxEventPublisher.getWorkerStats();
+        if (!workerStats.isEmpty()) {
+            List<Map<String, Object>> workers = new ArrayList<>(workerStats.size());
+            for (OutboxWorkerPool.WorkerStats worker : workerStats) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("worker", worker.worker());
+                entry.put("inFlight", worker.inFlight());
+                entry.put("published", worker.published());
+                entry.put("failed", worker.failed());
+                workers.add(entry);
+            }
+            result.put("workers", workers);
+        }
+
+        OutboxEventPublisher.ReplayProgress replay = outboxEventPublisher.getReplayProgress();
+        if (replay != null) {
+            Map<String, Object> progress = new LinkedHashMap<>();
+            progress.put("running", replay.running());
+            progress.put("total", replay.total());
+            progress.put("success", replay.success());
+            progress.put("failed", replay.failed());
+            progress.put("cursor", replay.cursor().occurredAt() + "/" + replay.cursor().eventId());
+            progress.put("until", replay.until().toString());
+            result.put("replay", progress);
+        }
         return result;
     }
 
     /**
-     * Replays outbox events that occurred at or after the given timestamp.
+     * Replays outbox events page by page using keyset pagination.
+     * <p>
+     * Starts at {@code since}, or resumes from {@code cursor} returned by a previous call.
+     * The response contains {@code nextCursor} until the range up to {@code until} has been fully replayed.
      *
-     * @param since ISO-8601 timestamp string (e.g., "2026-03-01T00:00:00Z"); required
-     * @param limit maximum number of events to replay (default: 100)
+     * @param since    ISO-8601 timestamp string (e.g., "2026-03-01T00:00:00Z"); required unless cursor is given
+     * @param limit    maximum number of events to replay in this call (default: 100)
+     * @param cursor   cursor returned by a previous call, to resume the replay
+     * @param until    ISO-8601 upper bound (exclusive, default: now); ignored when cursor is given
+     * @param pageSize number of events per page (default: 100, at most limit)
      * @return replay result summary
      */
     @WriteOperation
-    public Map<String, Object> replay(String since, @Nullable Integer limit) {
-        Instant sinceInstant;
+    public Map<String, Object> replay(@Nullable String since, @Nullable Integer limit, @Nullable String cursor,
+                                      @Nullable String until, @Nullable Integer pageSize) {
+        OutboxCursor from;
+        Instant untilInstant;
         try {
-            sinceInstant = Instant.parse(since);
+            if (cursor != null && !cursor.isBlank()) {
+                ResumeToken token = ResumeToken.decode(cursor);
+                from = token.cursor();
+                untilInstant = token.until();
+            } else if (since != null) {
+                from = OutboxCursor.start(Instant.parse(since));
+                untilInstant = until != null ? Instant.parse(until) : Instant.now();
+            } else {
+                return error("Either 'since' or 'cursor' is required");
+            }
         } catch (DateTimeParseException e) {
-            Map<String, Object> error = new LinkedHashMap<>();
-            error.put("error", "Invalid 'since' format. Expected ISO-8601 (e.g. 2026-03-01T00:00:00Z)");
-            return error;
+            return error("Invalid 'since' or 'until' format. Expected ISO-8601 (e.g. 2026-03-01T00:00:00Z)");
+        } catch (IllegalArgumentException e) {
+            return error("Invalid 'cursor'");
         }
 
-        int effectiveLimit = (limit != null && limit > 0) ? limit : 100;
-        OutboxEventPublisher.ReplayResult result = outboxEventPublisher.replay(sinceInstant, effectiveLimit);
+        int effectiveLimit = (limit != null && limit > 0) ? limit : DEFAULT_LIMIT;
+        int effectivePageSize = Math.min((pageSize != null && pageSize > 0) ? pageSize : DEFAULT_PAGE_SIZE, effectiveLimit);
+        OutboxEventPublisher.PagedReplayResult result =
+                outboxEventPublisher.replayPaged(from, untilInstant, effectivePageSize, effectiveLimit);
 
         Map<String, Object> response = new LinkedHashMap<>();
-        response.put("since", since);
+        response.put("since", from.occurredAt().toString());
+        response.put("until", untilInstant.toString());
         response.put("limit", effectiveLimit);
         response.put("total", result.total());
         response.put("success", result.success());
         response.put("failed", result.failed());
         response.put("failedEventIds", result.failedEventIds());
+        response.put("completed", result.completed());
+        response.put("nextCursor", result.completed() ? null : new ResumeToken(result.nextCursor(), untilInstant).encode());
         return response;
     }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", message);
+        return error;
+    }
+
+    /**
+     * Opaque resume token: keyset position plus the fixed upper bound of the replayed range.
+     */
+    private record ResumeToken(OutboxCursor cursor, Instant until) {
+
+        String encode() {
+            String raw = cursor.occurredAt() + "|" + until + "|" + cursor.eventId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ResumeToken decode(String token) {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            try {
+                return new ResumeToken(new OutboxCursor(Instant.parse(parts[0]), parts[2]), Instant.parse(parts[1]));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed cursor", e);
+            }
+        }
+    }
 }
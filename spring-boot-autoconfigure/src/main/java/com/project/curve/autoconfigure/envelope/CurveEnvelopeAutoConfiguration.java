@@ -6,7 +6,9 @@ import com.project.curve.core.port.IdGenerator;
 import com.project.curve.core.validation.DefaultEventValidator;
 import com.project.curve.core.validation.EventValidator;
 import com.project.curve.spring.factory.EventEnvelopeFactory;
+import com.project.curve.spring.infrastructure.LockFreeSnowflakeIdGenerator;
 import com.project.curve.spring.infrastructure.SnowflakeIdGenerator;
+import com.project.curve.spring.infrastructure.StripedSnowflakeIdGenerator;
 import com.project.curve.spring.infrastructure.UtcClockProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -28,13 +30,29 @@ public class CurveEnvelopeAutoConfiguration {
     public IdGenerator idGenerator(CurveProperties properties) {
         var idGeneratorConfig = properties.getIdGenerator();
 
+        if (idGeneratorConfig.getMode() == CurveProperties.IdGenerator.Mode.STRIPED) {
+            int stripeBits = idGeneratorConfig.getStripeBits();
+            if (idGeneratorConfig.isAutoGenerate()) {
+                log.debug("Creating StripedSnowflakeIdGenerator with auto-generated node ID, stripeBits={}", stripeBits);
+                return StripedSnowflakeIdGenerator.createWithAutoNodeId(stripeBits);
+            }
+            log.debug("Creating StripedSnowflakeIdGenerator with node ID: {}, stripeBits={}",
+                    idGeneratorConfig.getWorkerId(), stripeBits);
+            return new StripedSnowflakeIdGenerator(idGeneratorConfig.getWorkerId(), stripeBits);
+        }
+
+        boolean lockFree = idGeneratorConfig.getMode() == CurveProperties.IdGenerator.Mode.LOCK_FREE;
+
         if (idGeneratorConfig.isAutoGenerate()) {
-            log.debug("Creating SnowflakeIdGenerator with auto-generated worker ID");
-            return SnowflakeIdGenerator.createWithAutoWorkerId();
+            log.debug("Creating SnowflakeIdGenerator with auto-generated worker ID (mode={})", idGeneratorConfig.getMode());
+            return lockFree
+                    ? LockFreeSnowflakeIdGenerator.createWithAutoWorkerId()
+                    : SnowflakeIdGenerator.createWithAutoWorkerId();
         } else {
             long workerId = idGeneratorConfig.getWorkerId();
-            log.debug("Creating SnowflakeIdGenerator with configured worker ID: {}", workerId);
-            return new SnowflakeIdGenerator(workerId);
+            log.debug("Creating SnowflakeIdGenerator with configured worker ID: {} (mode={})",
+                    workerId, idGeneratorConfig.getMode());
+            return lockFree ? new LockFreeSnowflakeIdGenerator(workerId) : new SnowflakeIdGenerator(workerId);
         }
     }
 
@@ -3,22 +3,31 @@ package com.project.curve.autoconfigure.kafka;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.curve.autoconfigure.CurveProperties;
 import com.project.curve.core.context.EventContextProvider;
+import com.project.curve.core.outbox.OutboxEventRepository;
 import com.project.curve.core.port.EventProducer;
 import com.project.curve.core.serde.EventSerializer;
 import com.project.curve.kafka.backup.CompositeBackupStrategy;
 import com.project.curve.kafka.backup.EventBackupStrategy;
 import com.project.curve.kafka.backup.LocalFileBackupStrategy;
 import com.project.curve.kafka.backup.S3BackupStrategy;
+import com.project.curve.kafka.producer.AsyncRetryExecutor;
+import com.project.curve.kafka.producer.BackpressurePolicy;
+import com.project.curve.kafka.producer.InFlightLimiter;
 import com.project.curve.kafka.producer.KafkaEventProducer;
+import com.project.curve.kafka.producer.OutboxSpillover;
 import com.project.curve.spring.factory.EventEnvelopeFactory;
 import com.project.curve.spring.metrics.CurveMetricsCollector;
 import com.project.curve.spring.infrastructure.GracefulExecutorService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -28,6 +37,7 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.util.ArrayList;
@@ -36,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -43,6 +54,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Configuration
 public class CurveKafkaAutoConfiguration {
 
+    static final String IN_FLIGHT_LIMIT_CONFIGURED =
+            "${curve.kafka.backpressure.max-in-flight:0} > 0 or ${curve.kafka.backpressure.max-in-flight-bytes:0} > 0";
+
     /**
      * Dedicated ExecutorService for DLQ sending (with graceful shutdown support)
      * <p>
@@ -83,6 +97,97 @@ public class CurveKafkaAutoConfiguration {
         return gracefulExecutor;
     }
 
+    /**
+     * Dedicated ExecutorService for serializing large {@code publishAll} batches.
+     * <p>
+     * Keeps serialization (including PII processing) off the common fork-join pool. The publishing thread
+     * waits for its batch, so daemon threads are used and no graceful shutdown is needed.
+     */
+    @Bean(name = "curveSerializationExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "curveSerializationExecutor")
+    public ExecutorService serializationExecutor(CurveProperties properties) {
+        int threadPoolSize = properties.getKafka().getSerializationThreads();
+        AtomicInteger threadNumber = new AtomicInteger(1);
+
+        log.debug("Serialization ExecutorService created with {} threads", threadPoolSize);
+        return Executors.newFixedThreadPool(threadPoolSize, r -> {
+            Thread thread = new Thread(r, "curve-serialization-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Non-blocking retry executor for Kafka sends.
+     * <p>
+     * Retries are started by a single timer thread after the backoff delay, so neither the publishing thread
+     * nor a Kafka callback thread sleeps during backoff. Uses the same attempts and backoff as {@code curve.retry}.
+     */
+    @Bean(name = "curveAsyncRetryExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "curveAsyncRetryExecutor")
+    @ConditionalOnProperty(name = "curve.retry.non-blocking", havingValue = "true")
+    public AsyncRetryExecutor asyncRetryExecutor(CurveProperties properties) {
+        var retryConfig = properties.getRetry();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "curve-retry-timer");
+            // Non-daemon so that already scheduled retries still run during shutdown
+            thread.setDaemon(false);
+            return thread;
+        });
+
+        log.debug("Non-blocking retry configured: maxAttempts={}, initialInterval={}ms, multiplier={}, maxInterval={}ms",
+                retryConfig.getMaxAttempts(),
+                retryConfig.getInitialInterval(),
+                retryConfig.getMultiplier(),
+                retryConfig.getMaxInterval());
+
+        return new AsyncRetryExecutor(
+                scheduler,
+                retryConfig.getMaxAttempts(),
+                retryConfig.getInitialInterval(),
+                retryConfig.getMultiplier(),
+                retryConfig.getMaxInterval());
+    }
+
+    /**
+     * In-flight window for asynchronous Kafka sends, activated when
+     * {@code curve.kafka.backpressure.max-in-flight} or {@code max-in-flight-bytes} is set.
+     */
+    @Bean(name = "curveInFlightLimiter")
+    @ConditionalOnMissingBean(name = "curveInFlightLimiter")
+    @ConditionalOnExpression(IN_FLIGHT_LIMIT_CONFIGURED)
+    public InFlightLimiter inFlightLimiter(CurveProperties properties) {
+        var backpressure = properties.getKafka().getBackpressure();
+        log.debug("In-flight limit configured: maxInFlight={}, maxInFlightBytes={}, policy={}",
+                backpressure.getMaxInFlight(), backpressure.getMaxInFlightBytes(), backpressure.getPolicy());
+        return new InFlightLimiter(backpressure.getMaxInFlight(), backpressure.getMaxInFlightBytes());
+    }
+
+    /**
+     * In-flight window metrics, activated when Micrometer is on the classpath and an in-flight limit is configured.
+     * <p>
+     * Registers the {@code curve.kafka.in.flight} and {@code curve.kafka.in.flight.bytes} gauges.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    @ConditionalOnExpression(IN_FLIGHT_LIMIT_CONFIGURED)
+    static class InFlightMetricsConfiguration {
+
+        @Bean
+        public MeterBinder curveInFlightMetrics(@Qualifier("curveInFlightLimiter") InFlightLimiter inFlightLimiter) {
+            return registry -> {
+                Gauge.builder("curve.kafka.in.flight", inFlightLimiter, InFlightLimiter::getInFlight)
+                        .description("Number of asynchronous Kafka sends awaiting acknowledgement")
+                        .register(registry);
+                Gauge.builder("curve.kafka.in.flight.bytes", inFlightLimiter, InFlightLimiter::getInFlightBytes)
+                        .description("Total size of asynchronous Kafka sends awaiting acknowledgement")
+                        .baseUnit("bytes")
+                        .register(registry);
+            };
+        }
+    }
+
     @Bean
     @ConditionalOnMissingBean(EventBackupStrategy.class)
     public EventBackupStrategy eventBackupStrategy(
@@ -138,10 +243,34 @@ public class CurveKafkaAutoConfiguration {
             CurveMetricsCollector metricsCollector,
             @Autowired(required = false) @Qualifier("curveRetryTemplate") RetryTemplate retryTemplate,
             @Autowired(required = false) @Qualifier("curveDlqExecutor") ExecutorService dlqExecutor,
-            @Autowired(required = false) EventBackupStrategy backupStrategy
+            @Autowired(required = false) @Qualifier("curveSerializationExecutor") ExecutorService serializationExecutor,
+            @Autowired(required = false) EventBackupStrategy backupStrategy,
+            @Autowired(required = false) @Qualifier("curveAsyncRetryExecutor") AsyncRetryExecutor asyncRetryExecutor,
+            @Autowired(required = false) @Qualifier("curveInFlightLimiter") InFlightLimiter inFlightLimiter,
+            ObjectProvider<OutboxEventRepository> outboxRepositoryProvider,
+            ObjectProvider<PlatformTransactionManager> transactionManagerProvider
     ) {
         var kafkaConfig = properties.getKafka();
         boolean hasRetry = retryTemplate != null && properties.getRetry().isEnabled();
+        boolean hasAsyncRetry = asyncRetryExecutor != null && properties.getRetry().isEnabled();
+
+        var backpressure = kafkaConfig.getBackpressure();
+        boolean shedToOutbox = inFlightLimiter != null && backpressure.getPolicy() == BackpressurePolicy.SHED_TO_OUTBOX;
+        OutboxSpillover outboxSpillover = null;
+        if (shedToOutbox || kafkaConfig.isSpillToOutboxEnabled()) {
+            OutboxEventRepository outboxRepository = outboxRepositoryProvider.getIfAvailable();
+            PlatformTransactionManager transactionManager = transactionManagerProvider.getIfUnique();
+            if (outboxRepository != null && transactionManager != null) {
+                outboxSpillover = new OutboxSpillover(outboxRepository, transactionManager);
+            } else {
+                log.warn("Spilling to the outbox (curve.kafka.spill-to-outbox-enabled or backpressure policy " +
+                        "SHED_TO_OUTBOX) requires curve.outbox.enabled=true and a single PlatformTransactionManager. " +
+                        "Outbox fallback is disabled.");
+            }
+        }
+        if (outboxSpillover != null && kafkaConfig.isSpillToOutboxEnabled() && dlqExecutor == null) {
+            throw new IllegalStateException("curve.kafka.spill-to-outbox-enabled=true requires the curveDlqExecutor bean");
+        }
 
         return KafkaEventProducer.builder()
                 .envelopeFactory(envelopeFactory)
@@ -156,9 +285,16 @@ public class CurveKafkaAutoConfiguration {
                 .asyncTimeoutMs(kafkaConfig.getAsyncTimeoutMs())
                 .syncTimeoutSeconds(kafkaConfig.getSyncTimeoutSeconds())
                 .dlqExecutor(dlqExecutor)
+                .serializationExecutor(serializationExecutor)
                 .metricsCollector(metricsCollector)
                 .isProduction(kafkaConfig.isProduction())
                 .backupStrategy(backupStrategy)
+                .asyncRetryExecutor(hasAsyncRetry ? asyncRetryExecutor : null)
+                .inFlightLimiter(inFlightLimiter)
+                .backpressurePolicy(backpressure.getPolicy())
+                .backpressureBlockTimeoutMs(backpressure.getBlockTimeoutMs())
+                .outboxSpillover(outboxSpillover)
+                .spillToOutbox(kafkaConfig.isSpillToOutboxEnabled())
                 .build();
     }
 
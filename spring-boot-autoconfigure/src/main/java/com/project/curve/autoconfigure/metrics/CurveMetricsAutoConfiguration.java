@@ -1,5 +1,6 @@
 package com.project.curve.autoconfigure.metrics;
 
+import com.project.curve.autoconfigure.CurveProperties;
 import com.project.curve.autoconfigure.actuator.CurveMetricsEndpoint;
 import com.project.curve.spring.metrics.CurveMetricsCollector;
 import com.project.curve.spring.metrics.MicrometerCurveMetricsCollector;
@@ -12,6 +13,7 @@ import org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus.
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -28,16 +30,22 @@ import org.springframework.context.annotation.Configuration;
     PrometheusMetricsExportAutoConfiguration.class,
     org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration.class
 })
+@EnableConfigurationProperties(CurveProperties.class)
 @Slf4j
 public class CurveMetricsAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(CurveMetricsCollector.class)
-    public CurveMetricsCollector curveMetricsCollector(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    public CurveMetricsCollector curveMetricsCollector(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            CurveProperties properties
+    ) {
         MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
         if (meterRegistry != null) {
             log.debug("MeterRegistry is available. Using MicrometerCurveMetricsCollector");
-            return new MicrometerCurveMetricsCollector(meterRegistry);
+            CurveProperties.Metrics metricsConfig = properties.getMetrics();
+            return new MicrometerCurveMetricsCollector(meterRegistry, metricsConfig.getMaxEventTypes(),
+                    metricsConfig.isPercentileHistogram(), metricsConfig.getSlo());
         } else {
             return new NoOpCurveMetricsCollector();
         }
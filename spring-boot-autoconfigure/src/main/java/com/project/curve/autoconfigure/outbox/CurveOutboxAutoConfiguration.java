@@ -4,15 +4,28 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.curve.autoconfigure.CurveProperties;
 import com.project.curve.autoconfigure.actuator.CurveOutboxEndpoint;
 import com.project.curve.core.outbox.OutboxEventRepository;
+import com.project.curve.core.outbox.OutboxKeyResolver;
+import com.project.curve.core.outbox.OutboxPayloadCodec;
 import com.project.curve.spring.audit.aop.OutboxEventSaver;
 import com.project.curve.spring.outbox.config.OutboxJpaRepositoryConfig;
 import com.project.curve.spring.outbox.persistence.jdbc.JdbcOutboxEventRepository;
+import com.project.curve.spring.outbox.persistence.jdbc.OutboxPartitionManager;
+import com.project.curve.spring.outbox.persistence.jdbc.PostgresOutboxNotificationListener;
 import com.project.curve.spring.outbox.persistence.jpa.entity.OutboxEventJpaEntity;
+import com.project.curve.spring.infrastructure.GracefulExecutorService;
 import com.project.curve.spring.outbox.publisher.OutboxEventPublisher;
+import com.project.curve.spring.outbox.publisher.OutboxPayloadCompressor;
+import com.project.curve.spring.outbox.publisher.OutboxPoller;
+import com.project.curve.spring.outbox.publisher.OutboxWakeUpListener;
+import com.project.curve.spring.outbox.publisher.OutboxWorkerPool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,6 +38,12 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Transactional Outbox Pattern Auto-Configuration.
@@ -40,8 +59,15 @@ import javax.sql.DataSource;
  * <h3>Registered Beans</h3>
  * <ul>
  *   <li>OutboxEventRepository (JPA or JDBC implementation)</li>
- *   <li>OutboxEventPublisher - Periodic publishing scheduler (when curve.outbox.publisher-enabled=true)</li>
+ *   <li>OutboxEventPublisher - Outbox event publisher (when curve.outbox.publisher-enabled=true)</li>
+ *   <li>OutboxPoller - Adaptive or fixed-delay polling of the publisher (when curve.outbox.publisher-enabled=true)</li>
+ *   <li>OutboxWorkerPool - Parallel publishing workers (when curve.outbox.worker-count &gt; 1)</li>
+ *   <li>PostgresOutboxNotificationListener - Cross-instance wake-up (when curve.outbox.postgres-notify-enabled=true)</li>
+ *   <li>OutboxPartitionManager - Daily partition maintenance (when curve.outbox.partitioning-enabled=true)</li>
  * </ul>
+ * <p>
+ * A custom {@link OutboxKeyResolver} bean replaces curve.outbox.key-strategy for the Kafka record keys.
+ * Custom {@link OutboxPayloadCodec} beans can be selected with curve.outbox.payload-compression.
  */
 @Slf4j
 @AutoConfiguration
@@ -52,15 +78,100 @@ public class CurveOutboxAutoConfiguration {
 
     @Bean
     public OutboxSchemaInitializer outboxSchemaInitializer(DataSource dataSource, CurveProperties properties) {
-        return new OutboxSchemaInitializer(dataSource, properties.getOutbox().getInitializeSchema());
+        return new OutboxSchemaInitializer(
+                dataSource,
+                properties.getOutbox().getInitializeSchema(),
+                properties.getOutbox().isPostgresNotifyEnabled(),
+                properties.getOutbox().isPartitioningEnabled(),
+                properties.getOutbox().getArchiveMode()
+        );
+    }
+
+    /**
+     * Daily partition maintenance of the outbox table (only when curve.outbox.partitioning-enabled=true).
+     * <p>
+     * Takes over the retention cleanup from {@link OutboxEventPublisher}: expired partitions are dropped
+     * instead of deleting rows.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "curve.outbox.partitioning-enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public OutboxPartitionManager curveOutboxPartitionManager(DataSource dataSource, CurveProperties properties) {
+        CurveProperties.Outbox outboxConfig = properties.getOutbox();
+        return new OutboxPartitionManager(
+                dataSource,
+                outboxConfig.isCleanupEnabled(),
+                outboxConfig.getRetentionDays(),
+                outboxConfig.getPartitionPremakeDays()
+        );
+    }
+
+    /**
+     * Compresses large payloads in the saver and decompresses them in the publisher.
+     * <p>
+     * Always registered, so that compressed events can still be published after compression is disabled.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxPayloadCompressor curveOutboxPayloadCompressor(
+            CurveProperties properties,
+            ObjectProvider<OutboxPayloadCodec> codecProvider
+    ) {
+        CurveProperties.Outbox outboxConfig = properties.getOutbox();
+        return new OutboxPayloadCompressor(
+                codecProvider.orderedStream().toList(),
+                outboxConfig.getPayloadCompression(),
+                outboxConfig.getPayloadCompressionThresholdBytes()
+        );
     }
 
     @Bean
     public OutboxEventSaver outboxEventSaver(
             OutboxEventRepository outboxEventRepository,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxWakeUpListener> wakeUpListenerProvider,
+            OutboxPayloadCompressor payloadCompressor,
+            CurveProperties properties
     ) {
-        return new OutboxEventSaver(outboxEventRepository, objectMapper);
+        return OutboxEventSaver.builder()
+                .outboxEventRepository(outboxEventRepository)
+                .objectMapper(objectMapper)
+                .wakeUpListener(wakeUpListenerProvider.getIfAvailable())
+                .payloadCompressor(payloadCompressor)
+                .bufferingEnabled(properties.getOutbox().isWriteBufferingEnabled())
+                .build();
+    }
+
+    /**
+     * Worker pool for parallel outbox publishing (only when curve.outbox.worker-count is greater than 1).
+     * <p>
+     * Uses {@link GracefulExecutorService} so that in-progress sends complete on shutdown.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "curve.outbox.publisher-enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnExpression("${curve.outbox.worker-count:1} > 1")
+    @ConditionalOnMissingBean
+    public OutboxWorkerPool curveOutboxWorkerPool(CurveProperties properties) {
+        int workerCount = properties.getOutbox().getWorkerCount();
+
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "curve-outbox-worker-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+
+        ExecutorService executor = new GracefulExecutorService(
+                Executors.newFixedThreadPool(workerCount, threadFactory),
+                properties.getOutbox().getSendTimeoutSeconds()
+        );
+
+        log.debug("Outbox worker pool created with {} workers", workerCount);
+        return new OutboxWorkerPool(workerCount, executor);
     }
 
     @Bean
@@ -68,15 +179,21 @@ public class CurveOutboxAutoConfiguration {
     public OutboxEventPublisher outboxEventPublisher(
             OutboxEventRepository outboxRepository,
             KafkaTemplate<String, Object> kafkaTemplate,
-            CurveProperties properties
+            CurveProperties properties,
+            ObjectProvider<OutboxWorkerPool> workerPoolProvider,
+            ObjectProvider<OutboxKeyResolver> keyResolverProvider,
+            OutboxPayloadCompressor payloadCompressor
     ) {
         CurveProperties.Outbox outboxConfig = properties.getOutbox();
         String topic = properties.getKafka().getTopic();
+        OutboxKeyResolver keyResolver = keyResolverProvider.getIfAvailable(outboxConfig::getKeyStrategy);
 
         log.info("Registering OutboxEventPublisher: " +
-                        "pollIntervalMs={}, batchSize={}, maxRetries={}, sendTimeoutSeconds={}, topic={}, " +
-                        "cleanupEnabled={}, retentionDays={}, dynamicBatching={}, circuitBreaker={}",
+                        "pollIntervalMs={}, adaptivePolling={}, batchSize={}, maxRetries={}, sendTimeoutSeconds={}, topic={}, " +
+                        "cleanupEnabled={}, retentionDays={}, dynamicBatching={}, circuitBreaker={}, pipelinedSend={}, " +
+                        "workerCount={}, leaseEnabled={}, keyResolver={}, payloadCompression={}",
                 outboxConfig.getPollIntervalMs(),
+                outboxConfig.isAdaptivePollingEnabled(),
                 outboxConfig.getBatchSize(),
                 outboxConfig.getMaxRetries(),
                 outboxConfig.getSendTimeoutSeconds(),
@@ -84,23 +201,71 @@ public class CurveOutboxAutoConfiguration {
                 outboxConfig.isCleanupEnabled(),
                 outboxConfig.getRetentionDays(),
                 outboxConfig.isDynamicBatchingEnabled(),
-                outboxConfig.isCircuitBreakerEnabled()
+                outboxConfig.isCircuitBreakerEnabled(),
+                outboxConfig.isPipelinedSendEnabled(),
+                outboxConfig.getWorkerCount(),
+                outboxConfig.isLeaseEnabled(),
+                keyResolver,
+                outboxConfig.getPayloadCompression()
         );
 
-        return new OutboxEventPublisher(
-                outboxRepository,
-                kafkaTemplate,
-                topic,
-                outboxConfig.getBatchSize(),
-                outboxConfig.getMaxRetries(),
-                outboxConfig.getSendTimeoutSeconds(),
-                outboxConfig.isCleanupEnabled(),
-                outboxConfig.getRetentionDays(),
-                outboxConfig.isDynamicBatchingEnabled(),
-                outboxConfig.isCircuitBreakerEnabled()
+        return OutboxEventPublisher.builder()
+                .outboxRepository(outboxRepository)
+                .kafkaTemplate(kafkaTemplate)
+                .topic(topic)
+                .batchSize(outboxConfig.getBatchSize())
+                .maxRetries(outboxConfig.getMaxRetries())
+                .sendTimeoutSeconds(outboxConfig.getSendTimeoutSeconds())
+                // With partitioning, retention is handled by OutboxPartitionManager
+                .cleanupEnabled(outboxConfig.isCleanupEnabled() && !outboxConfig.isPartitioningEnabled())
+                .retentionDays(outboxConfig.getRetentionDays())
+                .dynamicBatchingEnabled(outboxConfig.isDynamicBatchingEnabled())
+                .circuitBreakerEnabled(outboxConfig.isCircuitBreakerEnabled())
+                .pipelinedSendEnabled(outboxConfig.isPipelinedSendEnabled())
+                .workerPool(workerPoolProvider.getIfAvailable())
+                .leaseEnabled(outboxConfig.isLeaseEnabled())
+                .leaseDuration(Duration.ofSeconds(outboxConfig.getLeaseDurationSeconds()))
+                .keyResolver(keyResolver)
+                .payloadCompressor(payloadCompressor)
+                .build();
+    }
+
+    /**
+     * Poller driving the outbox publisher.
+     * <p>
+     * Adaptive by default: drains full batches back-to-back, backs off when idle
+     * and is woken up by {@link OutboxEventSaver} after commit.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "curve.outbox.publisher-enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnMissingBean
+    public OutboxPoller curveOutboxPoller(OutboxEventPublisher outboxEventPublisher, CurveProperties properties) {
+        CurveProperties.Outbox outboxConfig = properties.getOutbox();
+        return new OutboxPoller(
+                outboxEventPublisher,
+                outboxConfig.getPollIntervalMs(),
+                Math.max(outboxConfig.getPollIntervalMs(), outboxConfig.getMaxPollIntervalMs()),
+                outboxConfig.isAdaptivePollingEnabled(),
+                TimeUnit.SECONDS.toMillis(outboxConfig.getSendTimeoutSeconds())
         );
     }
 
+    /**
+     * PostgreSQL LISTEN/NOTIFY listener waking up the poller on inserts from any instance
+     * (only when curve.outbox.postgres-notify-enabled=true and the PostgreSQL driver is present).
+     */
+    @Bean
+    @ConditionalOnProperty(name = "curve.outbox.publisher-enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnProperty(name = "curve.outbox.postgres-notify-enabled", havingValue = "true")
+    @ConditionalOnClass(name = "org.postgresql.PGConnection")
+    @ConditionalOnMissingBean
+    public PostgresOutboxNotificationListener curvePostgresOutboxNotificationListener(
+            DataSource dataSource,
+            OutboxPoller outboxPoller
+    ) {
+        return new PostgresOutboxNotificationListener(dataSource, outboxPoller);
+    }
+
     @Bean
     @ConditionalOnProperty(name = "curve.outbox.publisher-enabled", havingValue = "true", matchIfMissing = true)
     @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
@@ -108,6 +273,31 @@ public class CurveOutboxAutoConfiguration {
         return new CurveOutboxEndpoint(outboxEventPublisher);
     }
 
+    /**
+     * Per-worker outbox metrics, activated when Micrometer is on the classpath and a worker pool is used.
+     * <p>
+     * Registers the {@code curve.outbox.worker.in.flight} gauge tagged with the worker index.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    @ConditionalOnProperty(name = "curve.outbox.publisher-enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnExpression("${curve.outbox.worker-count:1} > 1")
+    static class OutboxWorkerMetricsConfiguration {
+
+        @Bean
+        public MeterBinder curveOutboxWorkerMetrics(OutboxWorkerPool workerPool) {
+            return registry -> {
+                for (int i = 0; i < workerPool.getWorkerCount(); i++) {
+                    int worker = i;
+                    Gauge.builder("curve.outbox.worker.in.flight", workerPool, pool -> pool.getInFlight(worker))
+                            .tag("worker", String.valueOf(worker))
+                            .description("Number of outbox events currently being published by the worker")
+                            .register(registry);
+                }
+            };
+        }
+    }
+
     /**
      * Configuration activated when JPA is on the classpath.
      */
@@ -125,8 +315,18 @@ public class CurveOutboxAutoConfiguration {
     @Bean
     @ConditionalOnMissingClass("org.springframework.data.jpa.repository.JpaRepository")
     @ConditionalOnMissingBean(OutboxEventRepository.class)
-    public OutboxEventRepository jdbcOutboxEventRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+    public OutboxEventRepository jdbcOutboxEventRepository(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            CurveProperties properties
+    ) {
         log.info("Registering OutboxEventRepository (JDBC implementation)");
-        return new JdbcOutboxEventRepository(jdbcTemplate, dataSource);
+        CurveProperties.Outbox outboxConfig = properties.getOutbox();
+        return JdbcOutboxEventRepository.builder()
+                .jdbcTemplate(jdbcTemplate)
+                .dataSource(dataSource)
+                .postgresNotify(outboxConfig.isPostgresNotifyEnabled())
+                .archiveMode(outboxConfig.getArchiveMode())
+                .build();
     }
 }
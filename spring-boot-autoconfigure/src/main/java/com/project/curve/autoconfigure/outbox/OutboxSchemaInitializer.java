@@ -1,5 +1,8 @@
 package com.project.curve.autoconfigure.outbox;
 
+import com.project.curve.core.outbox.OutboxArchiveMode;
+import com.project.curve.spring.outbox.persistence.jdbc.OutboxPartitionManager;
+import com.project.curve.spring.outbox.persistence.jdbc.PostgresOutboxNotificationListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -9,6 +12,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -23,7 +27,33 @@ import java.util.Set;
  *   <li>H2 / HSQLDB / Derby (embedded)</li>
  * </ul>
  *
+ * <p>
+ * On PostgreSQL with postgresNotify enabled, also creates the {@code curve_outbox_notify} trigger,
+ * which issues {@code pg_notify} for every insert into the outbox table.
+ *
+ * <p>
+ * With partitioned enabled, the table is created range-partitioned on {@code occurred_at} on PostgreSQL and MySQL
+ * (the primary key becomes {@code (event_id, occurred_at)}), with only the default/catch-all partition.
+ * Since unique keys of a partitioned table must include the partition key, {@code event_id} alone is not unique.
+ * Daily partitions are created and dropped by {@link OutboxPartitionManager}.
+ *
+ * <p>
+ * With {@link OutboxArchiveMode#ARCHIVE}, also creates the {@code curve_outbox_events_archive} table,
+ * which has the same columns as the outbox table except the lease columns.
+ *
+ * <h3>Added Columns</h3>
+ * The {@code topic}, {@code partition_key} and {@code payload_codec} columns are added to existing outbox
+ * (and archive) tables that predate them, unless initialize-schema is never.
+ *
+ * <h3>Pending Index</h3>
+ * The publisher's hot query ({@code status = 'PENDING' AND next_retry_at <= ? ORDER BY occurred_at}) is served by
+ * {@code idx_outbox_pending}: a partial index on {@code (occurred_at, next_retry_at) WHERE status = 'PENDING'}
+ * on PostgreSQL, and a composite index on {@code (status, occurred_at, next_retry_at)} elsewhere.
+ * Both return rows in {@code occurred_at} order, so the query stops after the batch size without sorting.
+ * On startup (in every mode), a warning is logged if an existing table lacks this index.
+ *
  * @see InitializeSchema
+ * @see OutboxPartitionManager
  * @see CurveOutboxAutoConfiguration
  */
 @Slf4j
@@ -31,16 +61,39 @@ import java.util.Set;
 public class OutboxSchemaInitializer implements InitializingBean {
 
     private static final String TABLE_NAME = "curve_outbox_events";
+    private static final String ARCHIVE_TABLE_NAME = "curve_outbox_events_archive";
+    private static final String PENDING_INDEX_NAME = "idx_outbox_pending";
+    /**
+     * Nullable columns added after the initial schema, with their VARCHAR length.
+     */
+    private static final Map<String, Integer> ADDED_COLUMNS = Map.of("topic", 255, "partition_key", 255, "payload_codec", 20);
 
     private static final Set<String> EMBEDDED_DATABASES = Set.of("h2", "hsql", "derby", "sqlite");
 
     private final DataSource dataSource;
     private final InitializeSchema mode;
+    private final boolean postgresNotify;
+    private final boolean partitioned;
+    private final OutboxArchiveMode archiveMode;
+
+    public OutboxSchemaInitializer(DataSource dataSource, InitializeSchema mode) {
+        this(dataSource, mode, false);
+    }
+
+    public OutboxSchemaInitializer(DataSource dataSource, InitializeSchema mode, boolean postgresNotify) {
+        this(dataSource, mode, postgresNotify, false);
+    }
+
+    public OutboxSchemaInitializer(DataSource dataSource, InitializeSchema mode, boolean postgresNotify,
+                                   boolean partitioned) {
+        this(dataSource, mode, postgresNotify, partitioned, OutboxArchiveMode.NONE);
+    }
 
     @Override
     public void afterPropertiesSet() throws Exception {
         if (mode == InitializeSchema.NEVER) {
             log.debug("Outbox schema initialization is disabled (initialize-schema=never)");
+            checkPendingIndex();
             return;
         }
 
@@ -50,42 +103,194 @@ public class OutboxSchemaInitializer implements InitializingBean {
             if (mode == InitializeSchema.EMBEDDED && !isEmbeddedDatabase(dbName)) {
                 log.debug("Skipping outbox schema initialization for non-embedded database '{}' " +
                         "(initialize-schema=embedded)", dbName);
+                warnIfPendingIndexMissing(connection, dbName);
                 return;
             }
 
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
             if (tableExists(connection)) {
                 log.debug("Outbox table '{}' already exists, skipping creation", TABLE_NAME);
-                return;
+                addMissingColumns(connection, jdbcTemplate, dbName, TABLE_NAME);
+                warnIfPendingIndexMissing(connection, dbName);
+            } else if (partitioned && isPartitionable(dbName)) {
+                createPartitionedTable(jdbcTemplate, dbName);
+                log.info("Partitioned outbox table '{}' created successfully (mode={})", TABLE_NAME, mode);
+
+                createIndexes(jdbcTemplate, dbName);
+            } else {
+                if (partitioned) {
+                    log.warn("Outbox partitioning is only supported on PostgreSQL and MySQL, " +
+                            "creating a regular table on '{}'", dbName);
+                }
+                String ddl = generateCreateTableDdl(dbName);
+                jdbcTemplate.execute(ddl);
+                log.info("Outbox table '{}' created successfully (mode={})", TABLE_NAME, mode);
+
+                createIndexes(jdbcTemplate, dbName);
             }
 
-            String ddl = generateCreateTableDdl(dbName);
-            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
-            jdbcTemplate.execute(ddl);
-            log.info("Outbox table '{}' created successfully (mode={})", TABLE_NAME, mode);
+            if (archiveMode == OutboxArchiveMode.ARCHIVE) {
+                createArchiveTable(connection, jdbcTemplate, dbName);
+            }
 
-            createIndexes(jdbcTemplate, dbName);
+            if (postgresNotify && dbName.contains("postgresql")) {
+                createNotifyTrigger(jdbcTemplate);
+            }
         } catch (Exception e) {
             log.warn("Failed to auto-create outbox table '{}': {}", TABLE_NAME, e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Checks the pending index without creating anything (initialize-schema=never).
+     * Failures are only logged, as the schema is managed outside of Curve in this mode.
+     */
+    private void checkPendingIndex() {
+        try (Connection connection = dataSource.getConnection()) {
+            warnIfPendingIndexMissing(connection, connection.getMetaData().getDatabaseProductName().toLowerCase());
+        } catch (Exception e) {
+            log.debug("Failed to check outbox pending index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Logs a warning with the DDL to run if the existing outbox table lacks {@code idx_outbox_pending}.
+     */
+    private void warnIfPendingIndexMissing(Connection connection, String dbName) throws Exception {
+        if (!tableExists(connection) || hasIndex(connection, PENDING_INDEX_NAME)) {
+            return;
+        }
+        log.warn("Outbox table '{}' has no '{}' index. The pending-events query may scan and sort the whole table. " +
+                "Create it with: {}", TABLE_NAME, PENDING_INDEX_NAME, pendingIndexDdl(dbName));
+    }
+
+    /**
+     * Adds the columns introduced after the initial schema to a table created before they existed.
+     */
+    private void addMissingColumns(Connection connection, JdbcTemplate jdbcTemplate, String dbName,
+                                          String tableName) throws Exception {
+        for (Map.Entry<String, Integer> entry : ADDED_COLUMNS.entrySet()) {
+            String column = entry.getKey();
+            String type = dbName.contains("sqlite") ? "TEXT"
+                    : (dbName.contains("oracle") ? "VARCHAR2(" : "VARCHAR(") + entry.getValue() + ")";
+            if (!hasColumn(connection, tableName, column)) {
+                jdbcTemplate.execute(String.format("ALTER TABLE %s ADD %s %s", tableName, column, type));
+                log.info("Column '{}' added to existing table '{}'", column, tableName);
+            }
+        }
+    }
+
+    private boolean hasColumn(Connection connection, String tableName, String column) throws Exception {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[]{tableName, tableName.toUpperCase()}) {
+            try (ResultSet rs = metaData.getColumns(null, null, name, null)) {
+                while (rs.next()) {
+                    if (column.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasIndex(Connection connection, String indexName) throws Exception {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String tableName : new String[]{TABLE_NAME, TABLE_NAME.toUpperCase()}) {
+            try (ResultSet rs = metaData.getIndexInfo(null, null, tableName, false, true)) {
+                while (rs.next()) {
+                    if (indexName.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * DDL of the index serving the pending-events query.
+     */
+    static String pendingIndexDdl(String dbName) {
+        if (dbName.contains("postgresql")) {
+            return String.format("CREATE INDEX IF NOT EXISTS %s ON %s (occurred_at, next_retry_at) WHERE status = 'PENDING'",
+                    PENDING_INDEX_NAME, TABLE_NAME);
+        }
+        return String.format("CREATE INDEX %s ON %s (status, occurred_at, next_retry_at)", PENDING_INDEX_NAME, TABLE_NAME);
+    }
+
     private boolean isEmbeddedDatabase(String dbName) {
         return EMBEDDED_DATABASES.stream().anyMatch(dbName::contains);
     }
 
     private boolean tableExists(Connection connection) throws Exception {
+        return tableExists(connection, TABLE_NAME);
+    }
+
+    private boolean tableExists(Connection connection, String tableName) throws Exception {
         DatabaseMetaData metaData = connection.getMetaData();
-        try (ResultSet rs = metaData.getTables(null, null, TABLE_NAME, new String[]{"TABLE"})) {
+        // PostgreSQL reports partitioned tables with their own table type
+        String[] types = {"TABLE", "PARTITIONED TABLE"};
+        try (ResultSet rs = metaData.getTables(null, null, tableName, types)) {
             if (rs.next()) {
                 return true;
             }
         }
-        try (ResultSet rs = metaData.getTables(null, null, TABLE_NAME.toUpperCase(), new String[]{"TABLE"})) {
+        try (ResultSet rs = metaData.getTables(null, null, tableName.toUpperCase(), types)) {
             return rs.next();
         }
     }
 
+    /**
+     * Creates the archive table from the outbox table DDL, without the lease columns.
+     */
+    private void createArchiveTable(Connection connection, JdbcTemplate jdbcTemplate, String dbName) throws Exception {
+        if (tableExists(connection, ARCHIVE_TABLE_NAME)) {
+            log.debug("Outbox archive table '{}' already exists, skipping creation", ARCHIVE_TABLE_NAME);
+            addMissingColumns(connection, jdbcTemplate, dbName, ARCHIVE_TABLE_NAME);
+            return;
+        }
+
+        StringBuilder ddl = new StringBuilder();
+        for (String line : generateCreateTableDdl(dbName).split("\n")) {
+            if (!line.contains("claimed_by") && !line.contains("lease_until")) {
+                ddl.append(line).append('\n');
+            }
+        }
+        jdbcTemplate.execute(ddl.toString().trim().replace(TABLE_NAME + " (", ARCHIVE_TABLE_NAME + " ("));
+        log.info("Outbox archive table '{}' created successfully", ARCHIVE_TABLE_NAME);
+
+        createIndex(jdbcTemplate, dbName, ARCHIVE_TABLE_NAME, "idx_outbox_archive_aggregate", "aggregate_type, aggregate_id");
+        createIndex(jdbcTemplate, dbName, ARCHIVE_TABLE_NAME, "idx_outbox_archive_occurred_at", "occurred_at");
+    }
+
+    private boolean isPartitionable(String dbName) {
+        return dbName.contains("postgresql") || dbName.contains("mysql") || dbName.contains("mariadb");
+    }
+
+    /**
+     * Creates the outbox table range-partitioned on occurred_at, with only the default/catch-all partition.
+     * The partition key must be part of the primary key on both databases.
+     * On MySQL, occurred_at becomes DATETIME(6) partitioned with RANGE COLUMNS, since a partitioning function on
+     * a TIMESTAMP with fractional seconds (UNIX_TIMESTAMP) does not return an integer and is rejected.
+     */
+    private void createPartitionedTable(JdbcTemplate jdbcTemplate, String dbName) {
+        if (dbName.contains("postgresql")) {
+            jdbcTemplate.execute(createPostgresqlDdl()
+                    .replace("NOT NULL PRIMARY KEY", "NOT NULL")
+                    .replace("version         BIGINT\n)",
+                            "version         BIGINT,\n    PRIMARY KEY (event_id, occurred_at)\n) PARTITION BY RANGE (occurred_at)"));
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + "_default PARTITION OF " + TABLE_NAME + " DEFAULT");
+        } else {
+            jdbcTemplate.execute(createMysqlDdl()
+                    .replace("occurred_at     TIMESTAMP(6)    NOT NULL", "occurred_at     DATETIME(6)     NOT NULL")
+                    .replace("PRIMARY KEY (event_id)", "PRIMARY KEY (event_id, occurred_at)")
+                    + " PARTITION BY RANGE COLUMNS (occurred_at) (PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        }
+    }
+
     private String generateCreateTableDdl(String dbName) {
         if (dbName.contains("postgresql")) {
             return createPostgresqlDdl();
@@ -109,6 +314,9 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     aggregate_type  VARCHAR(100)    NOT NULL,
                     aggregate_id    VARCHAR(100)    NOT NULL,
                     event_type      VARCHAR(100)    NOT NULL,
+                    topic           VARCHAR(255),
+                    partition_key   VARCHAR(255),
+                    payload_codec   VARCHAR(20),
                     payload         TEXT            NOT NULL,
                     occurred_at     TIMESTAMP       NOT NULL,
                     status          VARCHAR(20)     NOT NULL,
@@ -116,6 +324,8 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     published_at    TIMESTAMP,
                     error_message   VARCHAR(500),
                     next_retry_at   TIMESTAMP,
+                    claimed_by      VARCHAR(100),
+                    lease_until     TIMESTAMP,
                     created_at      TIMESTAMP       NOT NULL,
                     updated_at      TIMESTAMP       NOT NULL,
                     version         BIGINT
@@ -129,6 +339,9 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     aggregate_type  VARCHAR(100)    NOT NULL,
                     aggregate_id    VARCHAR(100)    NOT NULL,
                     event_type      VARCHAR(100)    NOT NULL,
+                    topic           VARCHAR(255),
+                    partition_key   VARCHAR(255),
+                    payload_codec   VARCHAR(20),
                     payload         TEXT            NOT NULL,
                     occurred_at     TIMESTAMP(6)    NOT NULL,
                     status          VARCHAR(20)     NOT NULL,
@@ -136,6 +349,8 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     published_at    TIMESTAMP(6)    NULL,
                     error_message   VARCHAR(500),
                     next_retry_at   TIMESTAMP(6)    NULL,
+                    claimed_by      VARCHAR(100),
+                    lease_until     TIMESTAMP(6)    NULL,
                     created_at      TIMESTAMP(6)    NOT NULL,
                     updated_at      TIMESTAMP(6)    NOT NULL,
                     version         BIGINT,
@@ -150,6 +365,9 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     aggregate_type  VARCHAR2(100)   NOT NULL,
                     aggregate_id    VARCHAR2(100)   NOT NULL,
                     event_type      VARCHAR2(100)   NOT NULL,
+                    topic           VARCHAR2(255),
+                    partition_key   VARCHAR2(255),
+                    payload_codec   VARCHAR2(20),
                     payload         CLOB            NOT NULL,
                     occurred_at     TIMESTAMP       NOT NULL,
                     status          VARCHAR2(20)    NOT NULL,
@@ -157,6 +375,8 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     published_at    TIMESTAMP,
                     error_message   VARCHAR2(500),
                     next_retry_at   TIMESTAMP,
+                    claimed_by      VARCHAR2(100),
+                    lease_until     TIMESTAMP,
                     created_at      TIMESTAMP       NOT NULL,
                     updated_at      TIMESTAMP       NOT NULL,
                     version         NUMBER(19)
@@ -170,6 +390,9 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     aggregate_type  TEXT        NOT NULL,
                     aggregate_id    TEXT        NOT NULL,
                     event_type      TEXT        NOT NULL,
+                    topic           TEXT,
+                    partition_key   TEXT,
+                    payload_codec   TEXT,
                     payload         TEXT        NOT NULL,
                     occurred_at     TEXT        NOT NULL,
                     status          TEXT        NOT NULL,
@@ -177,6 +400,8 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     published_at    TEXT,
                     error_message   TEXT,
                     next_retry_at   TEXT,
+                    claimed_by      TEXT,
+                    lease_until     TEXT,
                     created_at      TEXT        NOT NULL,
                     updated_at      TEXT        NOT NULL,
                     version         INTEGER
@@ -190,6 +415,9 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     aggregate_type  VARCHAR(100)    NOT NULL,
                     aggregate_id    VARCHAR(100)    NOT NULL,
                     event_type      VARCHAR(100)    NOT NULL,
+                    topic           VARCHAR(255),
+                    partition_key   VARCHAR(255),
+                    payload_codec   VARCHAR(20),
                     payload         TEXT            NOT NULL,
                     occurred_at     TIMESTAMP       NOT NULL,
                     status          VARCHAR(20)     NOT NULL,
@@ -197,31 +425,65 @@ public class OutboxSchemaInitializer implements InitializingBean {
                     published_at    TIMESTAMP,
                     error_message   VARCHAR(500),
                     next_retry_at   TIMESTAMP,
+                    claimed_by      VARCHAR(100),
+                    lease_until     TIMESTAMP,
                     created_at      TIMESTAMP       NOT NULL,
                     updated_at      TIMESTAMP       NOT NULL,
                     version         BIGINT
                 )""";
     }
 
+    /**
+     * Creates the statement-level trigger that notifies {@link PostgresOutboxNotificationListener#CHANNEL} on insert.
+     * Idempotent, so it also upgrades existing tables.
+     */
+    private void createNotifyTrigger(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION curve_outbox_notify() RETURNS trigger AS $$
+                BEGIN
+                    PERFORM pg_notify('%s', '');
+                    RETURN NULL;
+                END;
+                $$ LANGUAGE plpgsql""".formatted(PostgresOutboxNotificationListener.CHANNEL));
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS curve_outbox_notify ON " + TABLE_NAME);
+        jdbcTemplate.execute("CREATE TRIGGER curve_outbox_notify AFTER INSERT ON " + TABLE_NAME +
+                " FOR EACH STATEMENT EXECUTE PROCEDURE curve_outbox_notify()");
+        log.info("Outbox notify trigger 'curve_outbox_notify' created on '{}'", TABLE_NAME);
+    }
+
     private void createIndexes(JdbcTemplate jdbcTemplate, String dbName) {
         createIndex(jdbcTemplate, dbName, "idx_outbox_status", "status");
         createIndex(jdbcTemplate, dbName, "idx_outbox_aggregate", "aggregate_type, aggregate_id");
         createIndex(jdbcTemplate, dbName, "idx_outbox_occurred_at", "occurred_at");
-        createIndex(jdbcTemplate, dbName, "idx_outbox_next_retry", "next_retry_at");
+        if (dbName.contains("postgresql")) {
+            // Partial index: only PENDING rows, which stay few even when the table is large
+            try {
+                jdbcTemplate.execute(pendingIndexDdl(dbName));
+                log.debug("Index '{}' created on '{}'", PENDING_INDEX_NAME, TABLE_NAME);
+            } catch (Exception e) {
+                log.debug("Index '{}' creation skipped (may already exist): {}", PENDING_INDEX_NAME, e.getMessage());
+            }
+        } else {
+            createIndex(jdbcTemplate, dbName, PENDING_INDEX_NAME, "status, occurred_at, next_retry_at");
+        }
     }
 
     private void createIndex(JdbcTemplate jdbcTemplate, String dbName, String indexName, String columns) {
+        createIndex(jdbcTemplate, dbName, TABLE_NAME, indexName, columns);
+    }
+
+    private void createIndex(JdbcTemplate jdbcTemplate, String dbName, String tableName, String indexName, String columns) {
         try {
             String ddl;
             if (dbName.contains("mysql") || dbName.contains("mariadb") || dbName.contains("oracle")) {
                 // MySQL, MariaDB, Oracle: CREATE INDEX IF NOT EXISTS not supported
-                ddl = String.format("CREATE INDEX %s ON %s (%s)", indexName, TABLE_NAME, columns);
+                ddl = String.format("CREATE INDEX %s ON %s (%s)", indexName, tableName, columns);
             } else {
                 // PostgreSQL, H2, SQLite: IF NOT EXISTS supported
-                ddl = String.format("CREATE INDEX IF NOT EXISTS %s ON %s (%s)", indexName, TABLE_NAME, columns);
+                ddl = String.format("CREATE INDEX IF NOT EXISTS %s ON %s (%s)", indexName, tableName, columns);
             }
             jdbcTemplate.execute(ddl);
-            log.debug("Index '{}' created on '{}'", indexName, TABLE_NAME);
+            log.debug("Index '{}' created on '{}'", indexName, tableName);
         } catch (Exception e) {
             log.debug("Index '{}' creation skipped (may already exist): {}", indexName, e.getMessage());
         }
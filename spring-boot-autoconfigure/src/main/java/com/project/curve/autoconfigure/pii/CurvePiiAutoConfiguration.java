@@ -3,6 +3,8 @@ package com.project.curve.autoconfigure.pii;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.curve.autoconfigure.CurveProperties;
 import com.project.curve.core.key.KeyProvider;
+import com.project.curve.spring.metrics.CurveMetricsCollector;
+import com.project.curve.spring.metrics.NoOpCurveMetricsCollector;
 import com.project.curve.spring.pii.crypto.DefaultPiiCryptoProvider;
 import com.project.curve.spring.pii.crypto.KmsPiiCryptoProvider;
 import com.project.curve.spring.pii.crypto.PiiCryptoProvider;
@@ -154,8 +156,11 @@ public class CurvePiiAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public PiiModule piiModule(PiiProcessorRegistry processorRegistry) {
-        return new PiiModule(processorRegistry);
+    public PiiModule piiModule(
+            PiiProcessorRegistry processorRegistry,
+            ObjectProvider<CurveMetricsCollector> metricsCollectorProvider
+    ) {
+        return new PiiModule(processorRegistry, metricsCollectorProvider.getIfAvailable(NoOpCurveMetricsCollector::new));
     }
 
     /**
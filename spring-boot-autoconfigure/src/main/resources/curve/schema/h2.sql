@@ -6,12 +6,18 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
     aggregate_type  VARCHAR(100)    NOT NULL,
     aggregate_id    VARCHAR(100)    NOT NULL,
     event_type      VARCHAR(100)    NOT NULL,
+    topic           VARCHAR(255),
+    partition_key   VARCHAR(255),
+    payload_codec   VARCHAR(20),
     payload         CLOB            NOT NULL,
     occurred_at     TIMESTAMP       NOT NULL,
     status          VARCHAR(20)     NOT NULL,
     retry_count     INT             NOT NULL DEFAULT 0,
     published_at    TIMESTAMP,
     error_message   VARCHAR(500),
+    next_retry_at   TIMESTAMP,
+    claimed_by      VARCHAR(100),
+    lease_until     TIMESTAMP,
     created_at      TIMESTAMP       NOT NULL,
     updated_at      TIMESTAMP       NOT NULL,
     version         BIGINT
@@ -20,3 +26,28 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
 CREATE INDEX IF NOT EXISTS idx_outbox_status ON curve_outbox_events (status);
 CREATE INDEX IF NOT EXISTS idx_outbox_aggregate ON curve_outbox_events (aggregate_type, aggregate_id);
 CREATE INDEX IF NOT EXISTS idx_outbox_occurred_at ON curve_outbox_events (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON curve_outbox_events (status, occurred_at, next_retry_at);
+
+-- (선택) curve.outbox.archive-mode=archive 사용 시: 발행 완료(PUBLISHED) 이벤트를 옮겨 두는 아카이브 테이블
+CREATE TABLE IF NOT EXISTS curve_outbox_events_archive (
+    event_id        VARCHAR(64)     NOT NULL PRIMARY KEY,
+    aggregate_type  VARCHAR(100)    NOT NULL,
+    aggregate_id    VARCHAR(100)    NOT NULL,
+    event_type      VARCHAR(100)    NOT NULL,
+    topic           VARCHAR(255),
+    partition_key   VARCHAR(255),
+    payload_codec   VARCHAR(20),
+    payload         CLOB            NOT NULL,
+    occurred_at     TIMESTAMP       NOT NULL,
+    status          VARCHAR(20)     NOT NULL,
+    retry_count     INT             NOT NULL DEFAULT 0,
+    published_at    TIMESTAMP,
+    error_message   VARCHAR(500),
+    next_retry_at   TIMESTAMP,
+    created_at      TIMESTAMP       NOT NULL,
+    updated_at      TIMESTAMP       NOT NULL,
+    version         BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_archive_aggregate ON curve_outbox_events_archive (aggregate_type, aggregate_id);
+CREATE INDEX IF NOT EXISTS idx_outbox_archive_occurred_at ON curve_outbox_events_archive (occurred_at);
@@ -6,17 +6,48 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
     aggregate_type  VARCHAR(100)    NOT NULL,
     aggregate_id    VARCHAR(100)    NOT NULL,
     event_type      VARCHAR(100)    NOT NULL,
+    topic           VARCHAR(255),
+    partition_key   VARCHAR(255),
+    payload_codec   VARCHAR(20),
     payload         TEXT            NOT NULL,
     occurred_at     TIMESTAMP(6)    NOT NULL,
     status          VARCHAR(20)     NOT NULL,
     retry_count     INT             NOT NULL DEFAULT 0,
     published_at    TIMESTAMP(6)    NULL,
     error_message   VARCHAR(500),
+    next_retry_at   TIMESTAMP(6)    NULL,
+    claimed_by      VARCHAR(100),
+    lease_until     TIMESTAMP(6)    NULL,
     created_at      TIMESTAMP(6)    NOT NULL,
     updated_at      TIMESTAMP(6)    NOT NULL,
     version         BIGINT,
     PRIMARY KEY (event_id),
     INDEX idx_outbox_status (status),
     INDEX idx_outbox_aggregate (aggregate_type, aggregate_id),
-    INDEX idx_outbox_occurred_at (occurred_at)
+    INDEX idx_outbox_occurred_at (occurred_at),
+    INDEX idx_outbox_pending (status, occurred_at, next_retry_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- (선택) curve.outbox.archive-mode=archive 사용 시: 발행 완료(PUBLISHED) 이벤트를 옮겨 두는 아카이브 테이블
+CREATE TABLE IF NOT EXISTS curve_outbox_events_archive (
+    event_id        VARCHAR(64)     NOT NULL,
+    aggregate_type  VARCHAR(100)    NOT NULL,
+    aggregate_id    VARCHAR(100)    NOT NULL,
+    event_type      VARCHAR(100)    NOT NULL,
+    topic           VARCHAR(255),
+    partition_key   VARCHAR(255),
+    payload_codec   VARCHAR(20),
+    payload         TEXT            NOT NULL,
+    occurred_at     TIMESTAMP(6)    NOT NULL,
+    status          VARCHAR(20)     NOT NULL,
+    retry_count     INT             NOT NULL DEFAULT 0,
+    published_at    TIMESTAMP(6)    NULL,
+    error_message   VARCHAR(500),
+    next_retry_at   TIMESTAMP(6)    NULL,
+    created_at      TIMESTAMP(6)    NOT NULL,
+    updated_at      TIMESTAMP(6)    NOT NULL,
+    version         BIGINT,
+    PRIMARY KEY (event_id),
+    INDEX idx_outbox_archive_aggregate (aggregate_type, aggregate_id),
+    INDEX idx_outbox_archive_occurred_at (occurred_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -6,12 +6,18 @@ CREATE TABLE curve_outbox_events (
     aggregate_type  VARCHAR2(100)   NOT NULL,
     aggregate_id    VARCHAR2(100)   NOT NULL,
     event_type      VARCHAR2(100)   NOT NULL,
+    topic           VARCHAR2(255),
+    partition_key   VARCHAR2(255),
+    payload_codec   VARCHAR2(20),
     payload         CLOB            NOT NULL,
     occurred_at     TIMESTAMP       NOT NULL,
     status          VARCHAR2(20)    NOT NULL,
     retry_count     NUMBER(10)      DEFAULT 0 NOT NULL,
     published_at    TIMESTAMP,
     error_message   VARCHAR2(500),
+    next_retry_at   TIMESTAMP,
+    claimed_by      VARCHAR2(100),
+    lease_until     TIMESTAMP,
     created_at      TIMESTAMP       NOT NULL,
     updated_at      TIMESTAMP       NOT NULL,
     version         NUMBER(19)
@@ -20,3 +26,28 @@ CREATE TABLE curve_outbox_events (
 CREATE INDEX idx_outbox_status ON curve_outbox_events (status);
 CREATE INDEX idx_outbox_aggregate ON curve_outbox_events (aggregate_type, aggregate_id);
 CREATE INDEX idx_outbox_occurred_at ON curve_outbox_events (occurred_at);
+CREATE INDEX idx_outbox_pending ON curve_outbox_events (status, occurred_at, next_retry_at);
+
+-- (선택) curve.outbox.archive-mode=archive 사용 시: 발행 완료(PUBLISHED) 이벤트를 옮겨 두는 아카이브 테이블
+CREATE TABLE curve_outbox_events_archive (
+    event_id        VARCHAR2(64)    NOT NULL PRIMARY KEY,
+    aggregate_type  VARCHAR2(100)   NOT NULL,
+    aggregate_id    VARCHAR2(100)   NOT NULL,
+    event_type      VARCHAR2(100)   NOT NULL,
+    topic           VARCHAR2(255),
+    partition_key   VARCHAR2(255),
+    payload_codec   VARCHAR2(20),
+    payload         CLOB            NOT NULL,
+    occurred_at     TIMESTAMP       NOT NULL,
+    status          VARCHAR2(20)    NOT NULL,
+    retry_count     NUMBER(10)      DEFAULT 0 NOT NULL,
+    published_at    TIMESTAMP,
+    error_message   VARCHAR2(500),
+    next_retry_at   TIMESTAMP,
+    created_at      TIMESTAMP       NOT NULL,
+    updated_at      TIMESTAMP       NOT NULL,
+    version         NUMBER(19)
+);
+
+CREATE INDEX idx_outbox_archive_aggregate ON curve_outbox_events_archive (aggregate_type, aggregate_id);
+CREATE INDEX idx_outbox_archive_occurred_at ON curve_outbox_events_archive (occurred_at);
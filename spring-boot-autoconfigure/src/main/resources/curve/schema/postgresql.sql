@@ -6,12 +6,18 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
     aggregate_type  VARCHAR(100)    NOT NULL,
     aggregate_id    VARCHAR(100)    NOT NULL,
     event_type      VARCHAR(100)    NOT NULL,
+    topic           VARCHAR(255),
+    partition_key   VARCHAR(255),
+    payload_codec   VARCHAR(20),
     payload         TEXT            NOT NULL,
     occurred_at     TIMESTAMP       NOT NULL,
     status          VARCHAR(20)     NOT NULL,
     retry_count     INT             NOT NULL DEFAULT 0,
     published_at    TIMESTAMP,
     error_message   VARCHAR(500),
+    next_retry_at   TIMESTAMP,
+    claimed_by      VARCHAR(100),
+    lease_until     TIMESTAMP,
     created_at      TIMESTAMP       NOT NULL,
     updated_at      TIMESTAMP       NOT NULL,
     version         BIGINT
@@ -20,3 +26,41 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
 CREATE INDEX IF NOT EXISTS idx_outbox_status ON curve_outbox_events (status);
 CREATE INDEX IF NOT EXISTS idx_outbox_aggregate ON curve_outbox_events (aggregate_type, aggregate_id);
 CREATE INDEX IF NOT EXISTS idx_outbox_occurred_at ON curve_outbox_events (occurred_at);
+-- 발행 대상 조회용 부분 인덱스: PENDING 행만 포함하므로 테이블이 커져도 작게 유지됩니다.
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON curve_outbox_events (occurred_at, next_retry_at) WHERE status = 'PENDING';
+
+-- (선택) curve.outbox.postgres-notify-enabled=true 사용 시: INSERT마다 LISTEN 중인 인스턴스를 깨우는 트리거
+CREATE OR REPLACE FUNCTION curve_outbox_notify() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('curve_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS curve_outbox_notify ON curve_outbox_events;
+CREATE TRIGGER curve_outbox_notify AFTER INSERT ON curve_outbox_events
+    FOR EACH STATEMENT EXECUTE PROCEDURE curve_outbox_notify();
+
+-- (선택) curve.outbox.archive-mode=archive 사용 시: 발행 완료(PUBLISHED) 이벤트를 옮겨 두는 아카이브 테이블
+CREATE TABLE IF NOT EXISTS curve_outbox_events_archive (
+    event_id        VARCHAR(64)     NOT NULL PRIMARY KEY,
+    aggregate_type  VARCHAR(100)    NOT NULL,
+    aggregate_id    VARCHAR(100)    NOT NULL,
+    event_type      VARCHAR(100)    NOT NULL,
+    topic           VARCHAR(255),
+    partition_key   VARCHAR(255),
+    payload_codec   VARCHAR(20),
+    payload         TEXT            NOT NULL,
+    occurred_at     TIMESTAMP       NOT NULL,
+    status          VARCHAR(20)     NOT NULL,
+    retry_count     INT             NOT NULL DEFAULT 0,
+    published_at    TIMESTAMP,
+    error_message   VARCHAR(500),
+    next_retry_at   TIMESTAMP,
+    created_at      TIMESTAMP       NOT NULL,
+    updated_at      TIMESTAMP       NOT NULL,
+    version         BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_archive_aggregate ON curve_outbox_events_archive (aggregate_type, aggregate_id);
+CREATE INDEX IF NOT EXISTS idx_outbox_archive_occurred_at ON curve_outbox_events_archive (occurred_at);
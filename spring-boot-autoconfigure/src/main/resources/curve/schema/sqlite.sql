@@ -7,12 +7,18 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
     aggregate_type  TEXT        NOT NULL,
     aggregate_id    TEXT        NOT NULL,
     event_type      TEXT        NOT NULL,
+    topic           TEXT,
+    partition_key   TEXT,
+    payload_codec   TEXT,
     payload         TEXT        NOT NULL,
     occurred_at     TEXT        NOT NULL,
     status          TEXT        NOT NULL,
     retry_count     INTEGER     NOT NULL DEFAULT 0,
     published_at    TEXT,
     error_message   TEXT,
+    next_retry_at   TEXT,
+    claimed_by      TEXT,
+    lease_until     TEXT,
     created_at      TEXT        NOT NULL,
     updated_at      TEXT        NOT NULL,
     version         INTEGER
@@ -21,3 +27,28 @@ CREATE TABLE IF NOT EXISTS curve_outbox_events (
 CREATE INDEX IF NOT EXISTS idx_outbox_status ON curve_outbox_events (status);
 CREATE INDEX IF NOT EXISTS idx_outbox_aggregate ON curve_outbox_events (aggregate_type, aggregate_id);
 CREATE INDEX IF NOT EXISTS idx_outbox_occurred_at ON curve_outbox_events (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON curve_outbox_events (status, occurred_at, next_retry_at);
+
+-- (선택) curve.outbox.archive-mode=archive 사용 시: 발행 완료(PUBLISHED) 이벤트를 옮겨 두는 아카이브 테이블
+CREATE TABLE IF NOT EXISTS curve_outbox_events_archive (
+    event_id        TEXT        NOT NULL PRIMARY KEY,
+    aggregate_type  TEXT        NOT NULL,
+    aggregate_id    TEXT        NOT NULL,
+    event_type      TEXT        NOT NULL,
+    topic           TEXT,
+    partition_key   TEXT,
+    payload_codec   TEXT,
+    payload         TEXT        NOT NULL,
+    occurred_at     TEXT        NOT NULL,
+    status          TEXT        NOT NULL,
+    retry_count     INTEGER     NOT NULL DEFAULT 0,
+    published_at    TEXT,
+    error_message   TEXT,
+    next_retry_at   TEXT,
+    created_at      TEXT        NOT NULL,
+    updated_at      TEXT        NOT NULL,
+    version         INTEGER
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_archive_aggregate ON curve_outbox_events_archive (aggregate_type, aggregate_id);
+CREATE INDEX IF NOT EXISTS idx_outbox_archive_occurred_at ON curve_outbox_events_archive (occurred_at);
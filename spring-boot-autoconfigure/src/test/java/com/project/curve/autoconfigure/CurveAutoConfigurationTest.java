@@ -1,8 +1,23 @@
 package com.project.curve.autoconfigure;
 
+import com.project.curve.core.outbox.OutboxKeyResolver;
+import com.project.curve.core.outbox.OutboxKeyStrategy;
 import com.project.curve.core.port.EventProducer;
+import com.project.curve.core.port.IdGenerator;
+import com.project.curve.kafka.producer.AsyncRetryExecutor;
+import com.project.curve.kafka.producer.BackpressurePolicy;
+import com.project.curve.kafka.producer.InFlightLimiter;
 import com.project.curve.spring.audit.aop.PublishEventAspect;
 import com.project.curve.spring.factory.EventEnvelopeFactory;
+import com.project.curve.spring.infrastructure.LockFreeSnowflakeIdGenerator;
+import com.project.curve.spring.infrastructure.StripedSnowflakeIdGenerator;
+import com.project.curve.spring.infrastructure.SnowflakeIdGenerator;
+import com.project.curve.spring.outbox.persistence.jdbc.OutboxPartitionManager;
+import com.project.curve.spring.outbox.persistence.jdbc.PostgresOutboxNotificationListener;
+import com.project.curve.spring.outbox.publisher.OutboxEventPublisher;
+import com.project.curve.spring.outbox.publisher.OutboxPayloadCompressor;
+import com.project.curve.spring.outbox.publisher.OutboxPoller;
+import com.project.curve.spring.outbox.publisher.OutboxWorkerPool;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +27,7 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
 import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.retry.support.RetryTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,6 +124,19 @@ class CurveAutoConfigurationTest {
                         assertThat(context).doesNotHaveBean(RetryTemplate.class);
                     });
         }
+
+        @Test
+        @DisplayName("AsyncRetryExecutor should be registered only when curve.retry.non-blocking=true")
+        void shouldRegisterAsyncRetryExecutorWhenNonBlocking() {
+            contextRunner
+                    .run(context -> assertThat(context).doesNotHaveBean(AsyncRetryExecutor.class));
+            contextRunner
+                    .withPropertyValues("curve.retry.non-blocking=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(AsyncRetryExecutor.class);
+                        assertThat(context.getBean(AsyncRetryExecutor.class).getMaxAttempts()).isEqualTo(3);
+                    });
+        }
     }
 
     @Nested
@@ -140,6 +169,28 @@ class CurveAutoConfigurationTest {
                         assertThat(props.getKafka().getDlqTopic()).isEqualTo("event.audit.dlq.v1");
                     });
         }
+
+        @Test
+        @DisplayName("InFlightLimiter and its gauges should be registered only when an in-flight limit is configured")
+        void shouldRegisterInFlightLimiterWhenLimitConfigured() {
+            contextRunner
+                    .run(context -> {
+                        assertThat(context).doesNotHaveBean(InFlightLimiter.class);
+                        assertThat(context).doesNotHaveBean("curveInFlightMetrics");
+                    });
+            contextRunner
+                    .withPropertyValues(
+                            "curve.kafka.backpressure.max-in-flight-bytes=1048576",
+                            "curve.kafka.backpressure.policy=fail-fast"
+                    )
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(InFlightLimiter.class);
+                        assertThat(context).hasBean("curveInFlightMetrics");
+                        assertThat(context.getBean(InFlightLimiter.class).getMaxInFlightBytes()).isEqualTo(1048576);
+                        assertThat(context.getBean(CurveProperties.class).getKafka().getBackpressure().getPolicy())
+                                .isEqualTo(BackpressurePolicy.FAIL_FAST);
+                    });
+        }
     }
 
     @Nested
@@ -197,8 +248,196 @@ class CurveAutoConfigurationTest {
                         assertThat(props.getIdGenerator().isAutoGenerate()).isFalse();
                         assertThat(props.getOutbox().isEnabled()).isFalse();
                         assertThat(props.getSerde().getType()).isEqualTo(CurveProperties.Serde.SerdeType.JSON);
+                        assertThat(context.getBean(IdGenerator.class)).isExactlyInstanceOf(SnowflakeIdGenerator.class);
                     });
         }
+
+        @Test
+        @DisplayName("Lock-free ID generator should be registered with curve.id-generator.mode=lock-free")
+        void shouldRegisterLockFreeIdGenerator() {
+            contextRunner
+                    .withPropertyValues("curve.id-generator.mode=lock-free")
+                    .run(context -> assertThat(context.getBean(IdGenerator.class))
+                            .isInstanceOf(LockFreeSnowflakeIdGenerator.class));
+        }
+
+        @Test
+        @DisplayName("Striped ID generator should be registered with curve.id-generator.mode=striped")
+        void shouldRegisterStripedIdGenerator() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.id-generator.mode=striped",
+                            "curve.id-generator.worker-id=5",
+                            "curve.id-generator.stripe-bits=3")
+                    .run(context -> {
+                        IdGenerator idGenerator = context.getBean(IdGenerator.class);
+                        assertThat(idGenerator).isInstanceOf(StripedSnowflakeIdGenerator.class);
+                        assertThat(((StripedSnowflakeIdGenerator) idGenerator).getStripeCount()).isEqualTo(8);
+                    });
+        }
+
+        @Test
+        @DisplayName("Startup should fail when the worker ID does not fit into the node bits in striped mode")
+        void shouldFailWhenWorkerIdExceedsNodeBits() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.id-generator.mode=striped",
+                            "curve.id-generator.worker-id=64",
+                            "curve.id-generator.stripe-bits=4")
+                    .run(context -> assertThat(context).hasFailed());
+        }
+    }
+
+    @Nested
+    @DisplayName("Outbox configuration test")
+    class OutboxConfigurationTest {
+
+        @Test
+        @DisplayName("Worker pool should not be registered with the default worker count")
+        void shouldNotRegisterWorkerPoolByDefault() {
+            contextRunner
+                    .withPropertyValues("curve.outbox.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(OutboxEventPublisher.class);
+                        assertThat(context).doesNotHaveBean(OutboxWorkerPool.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("Outbox poller should be registered and running when the publisher is enabled")
+        void shouldRegisterRunningOutboxPoller() {
+            contextRunner
+                    .withPropertyValues("curve.outbox.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(OutboxPoller.class);
+                        assertThat(context.getBean(OutboxPoller.class).isRunning()).isTrue();
+                    });
+        }
+
+        @Test
+        @DisplayName("Outbox poller should not be registered when the publisher is disabled")
+        void shouldNotRegisterOutboxPollerWhenPublisherDisabled() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.publisher-enabled=false"
+                    )
+                    .run(context -> assertThat(context).doesNotHaveBean(OutboxPoller.class));
+        }
+
+        @Test
+        @DisplayName("PostgreSQL notification listener should not be registered without the PostgreSQL driver")
+        void shouldNotRegisterPostgresListenerWithoutDriver() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.postgres-notify-enabled=true"
+                    )
+                    .run(context -> {
+                        assertThat(context).hasNotFailed();
+                        assertThat(context).doesNotHaveBean(PostgresOutboxNotificationListener.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("Worker pool should be registered when curve.outbox.worker-count is greater than 1")
+        void shouldRegisterWorkerPoolWhenWorkerCountGreaterThanOne() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.worker-count=4"
+                    )
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(OutboxWorkerPool.class);
+                        assertThat(context.getBean(OutboxWorkerPool.class).getWorkerCount()).isEqualTo(4);
+                        assertThat(context.getBean(OutboxEventPublisher.class).getWorkerStats()).hasSize(4);
+                    });
+        }
+
+        @Test
+        @DisplayName("Publisher should key records by curve.outbox.key-strategy (event ID by default)")
+        void shouldUseConfiguredKeyStrategy() {
+            contextRunner
+                    .withPropertyValues("curve.outbox.enabled=true")
+                    .run(context -> assertThat(context.getBean(OutboxEventPublisher.class).getKeyResolver())
+                            .isEqualTo(OutboxKeyStrategy.EVENT_ID));
+
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.key-strategy=aggregate-type-and-id"
+                    )
+                    .run(context -> assertThat(context.getBean(OutboxEventPublisher.class).getKeyResolver())
+                            .isEqualTo(OutboxKeyStrategy.AGGREGATE_TYPE_AND_ID));
+        }
+
+        @Test
+        @DisplayName("A custom OutboxKeyResolver bean should replace the key strategy")
+        void shouldUseCustomKeyResolverBean() {
+            OutboxKeyResolver custom = event -> event.getAggregateId();
+            contextRunner
+                    .withPropertyValues("curve.outbox.enabled=true")
+                    .withBean(OutboxKeyResolver.class, () -> custom)
+                    .run(context -> assertThat(context.getBean(OutboxEventPublisher.class).getKeyResolver())
+                            .isSameAs(custom));
+        }
+
+        @Test
+        @DisplayName("An unknown curve.outbox.payload-compression codec should fail the context")
+        void shouldRejectUnknownPayloadCodec() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.payload-compression=zstd"
+                    )
+                    .run(context -> assertThat(context).hasFailed());
+
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.payload-compression=gzip"
+                    )
+                    .run(context -> assertThat(context).hasSingleBean(OutboxPayloadCompressor.class));
+        }
+
+        @Test
+        @DisplayName("Partition manager should be registered when partitioning is enabled")
+        void shouldRegisterPartitionManagerWhenPartitioningEnabled() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.partitioning-enabled=true",
+                            "curve.outbox.cleanup-enabled=true"
+                    )
+                    .run(context -> {
+                        assertThat(context).hasNotFailed();
+                        assertThat(context).hasSingleBean(OutboxPartitionManager.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("Archive table should be created when curve.outbox.archive-mode=archive")
+        void shouldCreateArchiveTableInArchiveMode() {
+            contextRunner
+                    .withPropertyValues(
+                            "curve.outbox.enabled=true",
+                            "curve.outbox.archive-mode=archive"
+                    )
+                    .run(context -> {
+                        assertThat(context).hasNotFailed();
+                        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                        assertThat(jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM curve_outbox_events_archive", Long.class)).isZero();
+                    });
+        }
+
+        @Test
+        @DisplayName("Partition manager should not be registered by default")
+        void shouldNotRegisterPartitionManagerByDefault() {
+            contextRunner
+                    .withPropertyValues("curve.outbox.enabled=true")
+                    .run(context -> assertThat(context).doesNotHaveBean(OutboxPartitionManager.class));
+        }
     }
 
     @Nested
@@ -225,6 +225,34 @@ class CurvePropertiesValidationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Outbox configuration validation")
+    class OutboxValidationTest {
+
+        @Test
+        @DisplayName("Validation should fail when workerCount is 0")
+        void shouldFailWhenWorkerCountIsZero() {
+            CurveProperties properties = new CurveProperties();
+            properties.getOutbox().setWorkerCount(0);
+
+            Set<ConstraintViolation<CurveProperties>> violations = validator.validate(properties);
+
+            assertThat(violations)
+                    .anyMatch(v -> v.getPropertyPath().toString().contains("outbox.workerCount"));
+        }
+
+        @Test
+        @DisplayName("Validation should pass when workerCount is within range")
+        void shouldPassWhenWorkerCountIsValid() {
+            CurveProperties properties = new CurveProperties();
+            properties.getOutbox().setWorkerCount(8);
+
+            Set<ConstraintViolation<CurveProperties>> violations = validator.validate(properties);
+
+            assertThat(violations).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Default values validation")
     class DefaultValueValidationTest {
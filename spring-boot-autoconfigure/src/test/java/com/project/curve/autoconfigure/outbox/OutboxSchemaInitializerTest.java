@@ -0,0 +1,101 @@
+package com.project.curve.autoconfigure.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxSchemaInitializer Test")
+class OutboxSchemaInitializerTest {
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("schema-" + UUID.randomUUID())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    private long indexCount(String indexName) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = ?", Long.class, indexName);
+    }
+
+    @Test
+    @DisplayName("The pending index should be created together with the outbox table")
+    void afterPropertiesSet_shouldCreatePendingIndex() throws Exception {
+        // When
+        new OutboxSchemaInitializer(dataSource, InitializeSchema.EMBEDDED).afterPropertiesSet();
+
+        // Then
+        assertThat(indexCount("IDX_OUTBOX_PENDING")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("An existing table without the pending index should not be modified")
+    void afterPropertiesSet_existingTable_shouldOnlyWarn() throws Exception {
+        // Given
+        new JdbcTemplate(dataSource).execute(
+                "CREATE TABLE curve_outbox_events (event_id VARCHAR(64) PRIMARY KEY, status VARCHAR(20))");
+
+        // When
+        new OutboxSchemaInitializer(dataSource, InitializeSchema.NEVER).afterPropertiesSet();
+        new OutboxSchemaInitializer(dataSource, InitializeSchema.EMBEDDED).afterPropertiesSet();
+
+        // Then
+        assertThat(indexCount("IDX_OUTBOX_PENDING")).isZero();
+    }
+
+    private long columnCount(String columnName) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'CURVE_OUTBOX_EVENTS' AND COLUMN_NAME = ?",
+                Long.class, columnName);
+    }
+
+    @Test
+    @DisplayName("Routing columns should be added to an existing table unless initialize-schema is never")
+    void afterPropertiesSet_existingTable_shouldAddRoutingColumns() throws Exception {
+        // Given
+        new JdbcTemplate(dataSource).execute(
+                "CREATE TABLE curve_outbox_events (event_id VARCHAR(64) PRIMARY KEY, status VARCHAR(20))");
+
+        // When
+        new OutboxSchemaInitializer(dataSource, InitializeSchema.NEVER).afterPropertiesSet();
+
+        // Then
+        assertThat(columnCount("TOPIC")).isZero();
+
+        // When
+        new OutboxSchemaInitializer(dataSource, InitializeSchema.EMBEDDED).afterPropertiesSet();
+        new OutboxSchemaInitializer(dataSource, InitializeSchema.EMBEDDED).afterPropertiesSet();
+
+        // Then
+        assertThat(columnCount("TOPIC")).isEqualTo(1);
+        assertThat(columnCount("PARTITION_KEY")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PostgreSQL should use a partial index, other databases a composite index")
+    void pendingIndexDdl_shouldDependOnDialect() {
+        assertThat(OutboxSchemaInitializer.pendingIndexDdl("postgresql"))
+                .contains("(occurred_at, next_retry_at)")
+                .endsWith("WHERE status = 'PENDING'");
+        assertThat(OutboxSchemaInitializer.pendingIndexDdl("mysql"))
+                .isEqualTo("CREATE INDEX idx_outbox_pending ON curve_outbox_events (status, occurred_at, next_retry_at)");
+    }
+}
@@ -151,6 +151,7 @@ public @interface PublishEvent {
      * <p>
      * When set, overrides the default topic configured in {@code curve.kafka.topic}.
      * Useful when a single service has multiple domain contexts publishing to different topics.
+     * With {@code outbox=true}, the topic is stored with the outbox event and used by the outbox publisher.
      *
      * <h3>Example:</h3>
      * <pre>{@code
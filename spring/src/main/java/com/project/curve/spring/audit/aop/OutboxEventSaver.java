@@ -6,15 +6,22 @@ import com.project.curve.core.outbox.OutboxEventRepository;
 import com.project.curve.spring.audit.annotation.PublishEvent;
 import com.project.curve.spring.audit.payload.EventPayload;
 import com.project.curve.spring.exception.EventPublishException;
-import lombok.RequiredArgsConstructor;
+import com.project.curve.spring.outbox.publisher.OutboxPayloadCompressor;
+import com.project.curve.spring.outbox.publisher.OutboxWakeUpListener;
+import lombok.Builder;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,18 +29,63 @@ import java.util.UUID;
  * <p>
  * Called by {@link PublishEventAspect} when outbox=true.
  * Handles aggregateId extraction via SpEL expressions and payload serialization.
+ * <p>
+ * The target topic ({@link PublishEvent#topic()}, blank means the publisher's default topic) is stored
+ * with the event. The record key is resolved by the publisher's {@code OutboxKeyResolver}.
+ * <p>
+ * With an {@link OutboxPayloadCompressor}, payloads above its size threshold are stored compressed.
+ * <p>
+ * When an {@link OutboxWakeUpListener} is configured, it is notified after the surrounding
+ * transaction commits, so the publisher can send the event without waiting for the next poll.
+ *
+ * <h3>Write Buffering</h3>
+ * With bufferingEnabled, events saved inside a transaction are buffered and written with
+ * {@link OutboxEventRepository#insertAll(List)} in {@code beforeCommit}, so a method publishing many events
+ * issues one multi-row INSERT instead of one UPDATE probe and INSERT per event. A failing flush still rolls back
+ * the transaction. Buffered events are not visible to queries of the same transaction before it commits,
+ * and the buffer is flushed early once it holds {@value #MAX_BUFFERED_EVENTS} events.
  *
  * @see PublishEventAspect
  * @see OutboxEventRepository
  */
 @Slf4j
-@RequiredArgsConstructor
 public class OutboxEventSaver {
 
+    private static final int MAX_BUFFERED_EVENTS = 500;
+
     private final OutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
+    private final OutboxWakeUpListener wakeUpListener;
+    private final OutboxPayloadCompressor payloadCompressor;
+    private final boolean bufferingEnabled;
     private final SpelExpressionParser spelParser = new SpelExpressionParser();
 
+    public OutboxEventSaver(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this(outboxEventRepository, objectMapper, null, null, null);
+    }
+
+    /**
+     * @param outboxEventRepository Outbox repository
+     * @param objectMapper          ObjectMapper serializing the payloads
+     * @param wakeUpListener        Listener notified after commit (nullable)
+     * @param payloadCompressor     Compressor of large payloads (nullable)
+     * @param bufferingEnabled      Whether to buffer events until the transaction commits (default false)
+     */
+    @Builder
+    public OutboxEventSaver(
+            @NonNull OutboxEventRepository outboxEventRepository,
+            @NonNull ObjectMapper objectMapper,
+            OutboxWakeUpListener wakeUpListener,
+            OutboxPayloadCompressor payloadCompressor,
+            Boolean bufferingEnabled
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.wakeUpListener = wakeUpListener;
+        this.payloadCompressor = payloadCompressor;
+        this.bufferingEnabled = bufferingEnabled != null ? bufferingEnabled : false;
+    }
+
     /**
      * Saves an event to the Outbox table.
      *
@@ -45,22 +97,115 @@ public class OutboxEventSaver {
     public void save(JoinPoint joinPoint, PublishEvent publishEvent, EventPayload payload, Object returnValue) {
         String aggregateType = validateAggregateType(publishEvent);
         String aggregateId = validateAndExtractAggregateId(publishEvent, joinPoint, returnValue);
-        String payloadJson = serializePayload(payload);
+        OutboxPayloadCompressor.EncodedPayload encoded = encodePayload(serializePayload(payload));
 
         String eventId = UUID.randomUUID().toString();
-        OutboxEvent outboxEvent = new OutboxEvent(
-                eventId,
-                aggregateType,
-                aggregateId,
-                payload.eventTypeName(),
-                payloadJson,
-                Instant.now()
-        );
-
-        outboxEventRepository.save(outboxEvent);
-
-        log.debug("Event saved to outbox: eventId={}, aggregateType={}, aggregateId={}, eventType={}",
-                eventId, aggregateType, aggregateId, payload.eventTypeName());
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventId(eventId)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(payload.eventTypeName())
+                .payload(encoded.payload())
+                .occurredAt(Instant.now())
+                .topic(publishEvent.topic())
+                .payloadCodec(encoded.codec())
+                .build();
+
+        if (bufferingEnabled && TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            currentBuffer().add(outboxEvent);
+        } else {
+            outboxEventRepository.insert(outboxEvent);
+            notifyAfterCommit();
+        }
+
+        log.debug("Event saved to outbox: eventId={}, aggregateType={}, aggregateId={}, eventType={}, topic={}",
+                eventId, aggregateType, aggregateId, payload.eventTypeName(), outboxEvent.getTopic());
+    }
+
+    /**
+     * Notifies the wake-up listener once the surrounding transaction has committed.
+     * <p>
+     * The event is not visible to the publisher before commit, so notifying earlier would only cause an empty poll.
+     * Without an active transaction synchronization, the listener is notified immediately.
+     */
+    private void notifyAfterCommit() {
+        if (wakeUpListener == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUpListener.onOutboxEventsCommitted();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUpListener.onOutboxEventsCommitted();
+            }
+        });
+    }
+
+    /**
+     * Returns the write buffer of the current transaction, registering it on first use.
+     * <p>
+     * Synchronizations are suspended together with their transaction, so an inner REQUIRES_NEW
+     * transaction gets a buffer of its own.
+     */
+    private WriteBuffer currentBuffer() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof WriteBuffer buffer && buffer.owner() == this) {
+                return buffer;
+            }
+        }
+        WriteBuffer buffer = new WriteBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    /**
+     * Outbox events of one transaction, inserted together right before it commits.
+     */
+    private final class WriteBuffer implements TransactionSynchronization {
+
+        private final List<OutboxEvent> events = new ArrayList<>();
+        private boolean flushed;
+
+        OutboxEventSaver owner() {
+            return OutboxEventSaver.this;
+        }
+
+        void add(OutboxEvent event) {
+            events.add(event);
+            if (events.size() >= MAX_BUFFERED_EVENTS) {
+                flush();
+            }
+        }
+
+        /**
+         * Writes the buffered events, also on an explicit flush of the transaction.
+         */
+        @Override
+        public void flush() {
+            if (events.isEmpty()) {
+                return;
+            }
+            outboxEventRepository.insertAll(new ArrayList<>(events));
+            log.debug("Flushed {} buffered outbox events", events.size());
+            events.clear();
+            flushed = true;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush();
+        }
+
+        @Override
+        public void afterCommit() {
+            if (flushed && wakeUpListener != null) {
+                wakeUpListener.onOutboxEventsCommitted();
+            }
+        }
     }
 
     private String validateAggregateType(PublishEvent publishEvent) {
@@ -85,6 +230,13 @@ public class OutboxEventSaver {
         return extractAggregateId(expression, joinPoint, returnValue);
     }
 
+    private OutboxPayloadCompressor.EncodedPayload encodePayload(String json) {
+        if (payloadCompressor == null) {
+            return new OutboxPayloadCompressor.EncodedPayload(json, null);
+        }
+        return payloadCompressor.encode(json);
+    }
+
     private String serializePayload(EventPayload payload) {
         try {
             return objectMapper.writeValueAsString(payload);
@@ -58,7 +58,7 @@ public class PublishEventAspect {
     }
 
     private void publishEvent(JoinPoint joinPoint, PublishEvent publishEvent, Object returnValue) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             String eventType = determineEventType(joinPoint, publishEvent);
@@ -125,13 +125,13 @@ public class PublishEventAspect {
     }
 
     private void recordSuccessMetrics(String eventType, long startTime) {
-        long duration = System.currentTimeMillis() - startTime;
-        metricsCollector.recordEventPublished(eventType, true, duration);
+        long duration = System.nanoTime() - startTime;
+        metricsCollector.recordEventPublishDuration(eventType, true, duration);
     }
 
     private void recordFailureMetrics(String eventType, Exception e, long startTime) {
-        long duration = System.currentTimeMillis() - startTime;
-        metricsCollector.recordEventPublished(eventType, false, duration);
+        long duration = System.nanoTime() - startTime;
+        metricsCollector.recordEventPublishDuration(eventType, false, duration);
         metricsCollector.recordAuditFailure(eventType, e.getClass().getSimpleName());
     }
 
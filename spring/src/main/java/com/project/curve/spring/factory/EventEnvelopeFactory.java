@@ -1,6 +1,7 @@
 package com.project.curve.spring.factory;
 
 import com.project.curve.core.envelope.EventEnvelope;
+import com.project.curve.core.envelope.EventId;
 import com.project.curve.core.envelope.EventMetadata;
 import com.project.curve.core.payload.DomainEventPayload;
 import com.project.curve.core.port.ClockProvider;
@@ -10,6 +11,9 @@ import com.project.curve.core.type.EventType;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 public record EventEnvelopeFactory(ClockProvider clock, IdGenerator idGenerator) {
@@ -38,4 +42,52 @@ public record EventEnvelopeFactory(ClockProvider clock, IdGenerator idGenerator)
                 now // publishedAt: when the envelope is being published
         );
     }
+
+    /**
+     * Creates envelopes for a batch of payloads.
+     * <p>
+     * Reads the clock once and allocates the event IDs as one block via {@link IdGenerator#generate(int)}.
+     *
+     * @param severity         Severity of every event
+     * @param payloads         Payloads in publish order
+     * @param metadataResolver Resolves the metadata of each payload
+     * @return Envelopes in the order of the payloads
+     */
+    public <T extends DomainEventPayload> List<EventEnvelope<T>> createAll(
+            EventSeverity severity,
+            List<T> payloads,
+            Function<? super T, EventMetadata> metadataResolver
+    ) {
+        Instant now = clock.now();
+        List<EventId> eventIds = idGenerator.generate(payloads.size());
+
+        log.debug("Creating {} event envelopes: severity={}", payloads.size(), severity);
+
+        List<EventEnvelope<T>> envelopes = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            T payload = payloads.get(i);
+            envelopes.add(create(eventIds.get(i), now, severity, metadataResolver.apply(payload), payload));
+        }
+        return envelopes;
+    }
+
+    /**
+     * Creates one envelope of a batch with an event ID and a time allocated for the whole batch.
+     *
+     * @param eventId  Event ID taken from a block allocated via {@link IdGenerator#generate(int)}
+     * @param now      Time read once for the batch
+     * @param severity Severity of the event
+     * @param metadata Metadata of the event
+     * @param payload  Payload of the event
+     * @return The envelope
+     */
+    public <T extends DomainEventPayload> EventEnvelope<T> create(
+            EventId eventId,
+            Instant now,
+            EventSeverity severity,
+            EventMetadata metadata,
+            T payload
+    ) {
+        return EventEnvelope.of(eventId, payload.getEventType(), severity, metadata, payload, now, now);
+    }
 }
@@ -7,23 +7,31 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.net.NetworkInterface;
 import java.net.SocketException;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Snowflake ID generator (41-bit timestamp, 10-bit worker ID, 12-bit sequence).
+ * <p>
+ * Serializes generation with a {@link ReentrantLock}.
+ * See {@link LockFreeSnowflakeIdGenerator} for a CAS-based variant with the same ID layout.
+ */
 @Slf4j
 public class SnowflakeIdGenerator implements IdGenerator {
 
-    private static final long EPOCH = 1704067200000L; // 2024-01-01 00:00:00 UTC
-    private static final long WORKER_ID_BITS = 10L;
-    private static final long SEQUENCE_BITS = 12L;
-    private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS); // 1023
-    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS); // 4095
+    static final long EPOCH = 1704067200000L; // 2024-01-01 00:00:00 UTC
+    static final long WORKER_ID_BITS = 10L;
+    static final long SEQUENCE_BITS = 12L;
+    static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS); // 1023
+    static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS); // 4095
 
     /**
      * Maximum wait time when clock moved backwards (milliseconds)
      */
-    private static final long MAX_BACKWARD_MS = 100L;
+    static final long MAX_BACKWARD_MS = 100L;
 
     /**
      * Timeout for waitUntilNextMillis method (milliseconds)
@@ -42,7 +50,7 @@ public class SnowflakeIdGenerator implements IdGenerator {
      */
     private static final long MAX_BACKOFF_MS = 100L;
 
-    private final long workerId;
+    final long workerId;
     private final Lock lock = new ReentrantLock();
     private long lastTimestamp = -1L;
     private long sequence = 0L;
@@ -76,7 +84,7 @@ public class SnowflakeIdGenerator implements IdGenerator {
      * Generates Worker ID based on MAC address
      * Uses lower 10 bits of MAC address (0 to 1023)
      */
-    private static long generateWorkerIdFromMacAddress() {
+    static long generateWorkerIdFromMacAddress() {
         try {
             Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
             while (networkInterfaces.hasMoreElements()) {
@@ -101,40 +109,62 @@ public class SnowflakeIdGenerator implements IdGenerator {
     public EventId generate() {
         lock.lock();
         try {
-            long timestamp = currentTimeMillis();
-
-            // Handle clock moved backwards case
-            if (timestamp < lastTimestamp) {
-                long backwardMs = lastTimestamp - timestamp;
+            return EventId.of(String.valueOf(nextIdLocked()));
+        } finally {
+            lock.unlock();
+        }
+    }
 
-                // For small clock moves backwards (100ms or less), wait and retry
-                if (backwardMs <= MAX_BACKWARD_MS) {
-                    timestamp = waitUntilNextMillis(lastTimestamp);
-                } else {
-                    // For large clock moves backwards, throw exception
-                    throw new ClockMovedBackwardsException(lastTimestamp, timestamp);
-                }
+    /**
+     * Generates a block of IDs while holding the lock once.
+     */
+    @Override
+    public List<EventId> generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative, but got " + count);
+        }
+        List<EventId> ids = new ArrayList<>(count);
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                ids.add(EventId.of(String.valueOf(nextIdLocked())));
             }
+        } finally {
+            lock.unlock();
+        }
+        return ids;
+    }
 
-            if (lastTimestamp == timestamp) {
-                sequence = (sequence + 1) & SEQUENCE_MASK;
-                if (sequence == 0) {
-                    timestamp = waitUntilNextMillis(timestamp);
-                }
+    private long nextIdLocked() {
+        long timestamp = currentTimeMillis();
+
+        // Handle clock moved backwards case
+        if (timestamp < lastTimestamp) {
+            long backwardMs = lastTimestamp - timestamp;
+
+            // For small clock moves backwards (100ms or less), wait and retry
+            if (backwardMs <= MAX_BACKWARD_MS) {
+                timestamp = waitUntilNextMillis(lastTimestamp);
             } else {
-                sequence = 0L;
+                // For large clock moves backwards, throw exception
+                throw new ClockMovedBackwardsException(lastTimestamp, timestamp);
             }
+        }
 
-            lastTimestamp = timestamp;
+        if (lastTimestamp == timestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitUntilNextMillis(timestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
 
-            long id = ((timestamp - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
-                    | (workerId << SEQUENCE_BITS)
-                    | sequence;
+        lastTimestamp = timestamp;
 
-            return EventId.of(String.valueOf(id));
-        } finally {
-            lock.unlock();
-        }
+        return ((timestamp - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
     }
 
     /**
@@ -147,7 +177,7 @@ public class SnowflakeIdGenerator implements IdGenerator {
      * @return New timestamp
      * @throws ClockMovedBackwardsException When timeout or interrupt occurs
      */
-    private long waitUntilNextMillis(long lastTimestamp) {
+    long waitUntilNextMillis(long lastTimestamp) {
         long startTime = System.currentTimeMillis();
         long timestamp = currentTimeMillis();
         long backoffMs = INITIAL_BACKOFF_MS;
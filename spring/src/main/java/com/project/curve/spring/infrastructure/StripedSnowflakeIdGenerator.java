@@ -0,0 +1,92 @@
+package com.project.curve.spring.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Striped Snowflake ID generator.
+ * <p>
+ * Splits the 10 worker bits into a node ID and a stripe index. Every stripe keeps its own
+ * timestamp/sequence state, and threads are assigned to stripes round-robin on their first call,
+ * so up to {@code 2^stripeBits} threads generate IDs without touching each other's state.
+ * Threads beyond that share stripes, which still produces unique IDs through compare-and-set.
+ *
+ * <h3>ID Layout</h3>
+ * {@code timestamp (41) | nodeId (10 - stripeBits) | stripe (stripeBits) | sequence (12)}
+ * <p>
+ * IDs stay unique as long as node IDs are unique, and are ordered by millisecond across stripes
+ * (within a millisecond, IDs of different stripes are not ordered).
+ * Each stripe issues up to 4096 IDs per millisecond, so the total capacity grows with the stripe count.
+ */
+@Slf4j
+public class StripedSnowflakeIdGenerator extends LockFreeSnowflakeIdGenerator {
+
+    /**
+     * Distance between stripe states in the array, so that each stripe sits on its own cache line.
+     */
+    private static final int PADDING = 8;
+
+    private final int stripeBits;
+    private final int stripeMask;
+    private final AtomicLongArray states;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final ThreadLocal<Integer> stripe;
+
+    /**
+     * @param nodeId     Unique node ID between 0 and {@code 2^(10 - stripeBits) - 1}
+     * @param stripeBits Number of worker bits used for the stripe index (1 ~ 9)
+     */
+    public StripedSnowflakeIdGenerator(long nodeId, int stripeBits) {
+        super(validateNodeId(nodeId, stripeBits) << stripeBits);
+        this.stripeBits = stripeBits;
+        this.stripeMask = (1 << stripeBits) - 1;
+        this.states = new AtomicLongArray((stripeMask + 1) * PADDING);
+        this.stripe = ThreadLocal.withInitial(() -> nextStripe.getAndIncrement() & stripeMask);
+        log.debug("StripedSnowflakeIdGenerator initialized with nodeId: {}, stripes: {}", nodeId, stripeMask + 1);
+    }
+
+    /**
+     * Constructor that auto-generates the node ID based on MAC address
+     * Warning: Collision possibility exists depending on network environment
+     */
+    public static StripedSnowflakeIdGenerator createWithAutoNodeId(int stripeBits) {
+        long generatedNodeId = generateWorkerIdFromMacAddress() & maxNodeId(stripeBits);
+        log.warn("Node ID auto-generated from MAC address: {} (collision possible in distributed environment)",
+                generatedNodeId);
+        return new StripedSnowflakeIdGenerator(generatedNodeId, stripeBits);
+    }
+
+    private static long validateNodeId(long nodeId, int stripeBits) {
+        if (stripeBits < 1 || stripeBits >= WORKER_ID_BITS) {
+            throw new IllegalArgumentException(
+                    String.format("Stripe bits must be between 1 and %d, but got %d", WORKER_ID_BITS - 1, stripeBits));
+        }
+        long maxNodeId = maxNodeId(stripeBits);
+        if (nodeId > maxNodeId || nodeId < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Node ID must be between 0 and %d with %d stripe bits, but got %d",
+                            maxNodeId, stripeBits, nodeId));
+        }
+        return nodeId;
+    }
+
+    private static long maxNodeId(int stripeBits) {
+        return ~(-1L << (WORKER_ID_BITS - stripeBits));
+    }
+
+    @Override
+    public long nextId() {
+        int index = stripe.get();
+        return compose(advance(states, index * PADDING), workerId | index);
+    }
+
+    public int getStripeCount() {
+        return stripeMask + 1;
+    }
+
+    public int getStripeBits() {
+        return stripeBits;
+    }
+}
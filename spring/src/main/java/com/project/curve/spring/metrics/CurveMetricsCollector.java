@@ -1,5 +1,7 @@
 package com.project.curve.spring.metrics;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Interface for Curve event publishing metrics collector.
  * <p>
@@ -10,6 +12,29 @@ public interface CurveMetricsCollector {
 
     void recordEventPublished(String eventType, boolean success, long durationMs);
 
+    /**
+     * Records a publish with a {@link System#nanoTime()} based duration.
+     * <p>
+     * The default implementation truncates the duration to milliseconds.
+     *
+     * @param eventType     Event type
+     * @param success       Whether the publish succeeded
+     * @param durationNanos Publish duration in nanoseconds
+     */
+    default void recordEventPublishDuration(String eventType, boolean success, long durationNanos) {
+        recordEventPublished(eventType, success, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    /**
+     * Records the duration of a single stage of the publish path.
+     *
+     * @param stage         Publish stage
+     * @param durationNanos Stage duration in nanoseconds
+     */
+    default void recordPublishStage(PublishStage stage, long durationNanos) {
+        // no-op by default
+    }
+
     void recordDlqEvent(String eventType, String reason);
 
     void recordRetry(String eventType, int retryCount, String finalStatus);
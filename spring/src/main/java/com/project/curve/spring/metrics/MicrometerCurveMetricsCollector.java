@@ -5,45 +5,145 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Micrometer-based metrics collector implementation.
  * <p>
  * Automatically registered when Micrometer is present in the classpath.
+ *
+ * <h3>Meter Cache</h3>
+ * Meters are registered once per tag combination and kept in local maps, so recording a metric
+ * is a map lookup instead of building and registering a meter on every call.
+ *
+ * <h3>Cardinality Guard</h3>
+ * At most maxEventTypes distinct {@code eventType} tag values are registered per metric.
+ * Further event types are recorded under {@value #OTHER_EVENT_TYPE}, which keeps the number
+ * of time series bounded when event types are derived from user input.
+ *
+ * <h3>Latency Distribution</h3>
+ * The publish timer ({@code curve.events.publish.duration}) and the per-stage timer
+ * ({@code curve.events.publish.stage.duration}, tagged by {@link PublishStage}) can publish
+ * percentile histograms and SLO boundary buckets, so that p99 latency can be aggregated across
+ * instances and attributed to a stage.
  */
 @Slf4j
-public record MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) implements CurveMetricsCollector {
+public class MicrometerCurveMetricsCollector implements CurveMetricsCollector {
+
+    /**
+     * Event type tag of the events beyond the cardinality limit.
+     */
+    public static final String OTHER_EVENT_TYPE = "other";
+
+    /**
+     * Default maximum number of distinct event types per metric.
+     */
+    public static final int DEFAULT_MAX_EVENT_TYPES = 100;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxEventTypes;
+    private final boolean percentileHistogram;
+    private final Duration[] serviceLevelObjectives;
+
+    private final Map<String, PublishMeters> publishMeters = new ConcurrentHashMap<>();
+    private final Map<String, EventTypeCounters> dlqCounters = new ConcurrentHashMap<>();
+    private final Map<String, EventTypeCounters> retryCounters = new ConcurrentHashMap<>();
+    private final Map<String, EventTypeCounters> auditFailureCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> kafkaErrorCounters = new ConcurrentHashMap<>();
+    private final Map<String, OutcomeCounters> piiCounters = new ConcurrentHashMap<>();
+    private final Map<String, IdGenerationMeters> idGenerationMeters = new ConcurrentHashMap<>();
+    private final Map<PublishStage, Timer> stageTimers = new EnumMap<>(PublishStage.class);
+
+    public MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_MAX_EVENT_TYPES);
+    }
+
+    /**
+     * @param meterRegistry Registry the meters are registered to
+     * @param maxEventTypes Maximum number of distinct event types per metric
+     */
+    public MicrometerCurveMetricsCollector(MeterRegistry meterRegistry, int maxEventTypes) {
+        this(meterRegistry, maxEventTypes, false, List.of());
+    }
+
+    /**
+     * @param meterRegistry          Registry the meters are registered to
+     * @param maxEventTypes          Maximum number of distinct event types per metric
+     * @param percentileHistogram    Whether publish timers publish percentile histograms
+     * @param serviceLevelObjectives SLO boundaries published as histogram buckets of the publish timers
+     */
+    public MicrometerCurveMetricsCollector(MeterRegistry meterRegistry, int maxEventTypes,
+                                           boolean percentileHistogram, List<Duration> serviceLevelObjectives) {
+        if (maxEventTypes < 1) {
+            throw new IllegalArgumentException("maxEventTypes must be at least 1, but was: " + maxEventTypes);
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxEventTypes = maxEventTypes;
+        this.percentileHistogram = percentileHistogram;
+        this.serviceLevelObjectives = serviceLevelObjectives.toArray(Duration[]::new);
+        for (PublishStage stage : PublishStage.values()) {
+            stageTimers.put(stage, Timer.builder("curve.events.publish.stage.duration")
+                    .tag("stage", stage.getTagValue())
+                    .description("Duration of a single stage of the event publish path")
+                    .publishPercentileHistogram(percentileHistogram)
+                    .serviceLevelObjectives(this.serviceLevelObjectives)
+                    .register(meterRegistry));
+        }
+    }
+
+    public MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
 
     @Override
     public void recordEventPublished(String eventType, boolean success, long durationMs) {
-        try {
-            Counter.builder("curve.events.published")
-                    .tag("eventType", eventType)
-                    .tag("success", String.valueOf(success))
-                    .description("Total number of events published")
-                    .register(meterRegistry)
-                    .increment();
+        recordPublish(eventType, success, durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordEventPublishDuration(String eventType, boolean success, long durationNanos) {
+        recordPublish(eventType, success, durationNanos, TimeUnit.NANOSECONDS);
+    }
 
-            Timer.builder("curve.events.publish.duration")
-                    .tag("eventType", eventType)
-                    .tag("success", String.valueOf(success))
-                    .description("Event publish duration in milliseconds")
-                    .register(meterRegistry)
-                    .record(durationMs, TimeUnit.MILLISECONDS);
+    private void recordPublish(String eventType, boolean success, long duration, TimeUnit unit) {
+        try {
+            PublishMeters meters = forEventType(publishMeters, eventType, this::newPublishMeters);
+            if (success) {
+                meters.successCounter().increment();
+                meters.successTimer().record(duration, unit);
+            } else {
+                meters.failureCounter().increment();
+                meters.failureTimer().record(duration, unit);
+            }
         } catch (Exception e) {
             log.warn("Failed to record event publish metric", e);
         }
     }
 
+    @Override
+    public void recordPublishStage(PublishStage stage, long durationNanos) {
+        try {
+            stageTimers.get(stage).record(durationNanos, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to record publish stage metric", e);
+        }
+    }
+
     @Override
     public void recordDlqEvent(String eventType, String reason) {
         try {
-            Counter.builder("curve.events.dlq.count")
-                    .tag("eventType", eventType)
-                    .tag("reason", reason)
-                    .description("Total number of events sent to DLQ")
-                    .register(meterRegistry)
+            EventTypeCounters counters = forEventType(dlqCounters, eventType, EventTypeCounters::new);
+            counters.counters().computeIfAbsent(reason, r -> Counter.builder("curve.events.dlq.count")
+                            .tag("eventType", counters.eventType())
+                            .tag("reason", r)
+                            .description("Total number of events sent to DLQ")
+                            .register(meterRegistry))
                     .increment();
         } catch (Exception e) {
             log.warn("Failed to record DLQ metric", e);
@@ -53,11 +153,12 @@ public record MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) imple
     @Override
     public void recordRetry(String eventType, int retryCount, String finalStatus) {
         try {
-            Counter.builder("curve.events.retry.count")
-                    .tag("eventType", eventType)
-                    .tag("finalStatus", finalStatus)
-                    .description("Total number of event publish retries")
-                    .register(meterRegistry)
+            EventTypeCounters counters = forEventType(retryCounters, eventType, EventTypeCounters::new);
+            counters.counters().computeIfAbsent(finalStatus, status -> Counter.builder("curve.events.retry.count")
+                            .tag("eventType", counters.eventType())
+                            .tag("finalStatus", status)
+                            .description("Total number of event publish retries")
+                            .register(meterRegistry))
                     .increment(retryCount);
         } catch (Exception e) {
             log.warn("Failed to record retry metric", e);
@@ -67,10 +168,10 @@ public record MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) imple
     @Override
     public void recordKafkaError(String errorType) {
         try {
-            Counter.builder("curve.kafka.producer.errors")
-                    .tag("errorType", errorType)
-                    .description("Total number of Kafka producer errors")
-                    .register(meterRegistry)
+            kafkaErrorCounters.computeIfAbsent(errorType, type -> Counter.builder("curve.kafka.producer.errors")
+                            .tag("errorType", type)
+                            .description("Total number of Kafka producer errors")
+                            .register(meterRegistry))
                     .increment();
         } catch (Exception e) {
             log.warn("Failed to record Kafka error metric", e);
@@ -80,11 +181,12 @@ public record MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) imple
     @Override
     public void recordAuditFailure(String eventType, String errorType) {
         try {
-            Counter.builder("curve.audit.failures")
-                    .tag("eventType", eventType)
-                    .tag("errorType", errorType)
-                    .description("Total number of audit event failures")
-                    .register(meterRegistry)
+            EventTypeCounters counters = forEventType(auditFailureCounters, eventType, EventTypeCounters::new);
+            counters.counters().computeIfAbsent(errorType, type -> Counter.builder("curve.audit.failures")
+                            .tag("eventType", counters.eventType())
+                            .tag("errorType", type)
+                            .description("Total number of audit event failures")
+                            .register(meterRegistry))
                     .increment();
         } catch (Exception e) {
             log.warn("Failed to record audit failure metric", e);
@@ -94,12 +196,9 @@ public record MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) imple
     @Override
     public void recordPiiProcessing(String strategy, boolean success) {
         try {
-            Counter.builder("curve.pii.processing")
-                    .tag("strategy", strategy)
-                    .tag("success", String.valueOf(success))
-                    .description("Total number of PII processing operations")
-                    .register(meterRegistry)
-                    .increment();
+            OutcomeCounters counters = piiCounters.computeIfAbsent(strategy, s -> new OutcomeCounters(
+                    piiCounter(s, true), piiCounter(s, false)));
+            (success ? counters.success() : counters.failure()).increment();
         } catch (Exception e) {
             log.warn("Failed to record PII processing metric", e);
         }
@@ -108,19 +207,83 @@ public record MicrometerCurveMetricsCollector(MeterRegistry meterRegistry) imple
     @Override
     public void recordIdGeneration(String generatorType, long durationNanos) {
         try {
-            Counter.builder("curve.id.generation.count")
-                    .tag("generatorType", generatorType)
-                    .description("Total number of IDs generated")
-                    .register(meterRegistry)
-                    .increment();
-
-            Timer.builder("curve.id.generation.duration")
-                    .tag("generatorType", generatorType)
-                    .description("ID generation duration in nanoseconds")
-                    .register(meterRegistry)
-                    .record(durationNanos, TimeUnit.NANOSECONDS);
+            IdGenerationMeters meters = idGenerationMeters.computeIfAbsent(generatorType, type ->
+                    new IdGenerationMeters(
+                            Counter.builder("curve.id.generation.count")
+                                    .tag("generatorType", type)
+                                    .description("Total number of IDs generated")
+                                    .register(meterRegistry),
+                            Timer.builder("curve.id.generation.duration")
+                                    .tag("generatorType", type)
+                                    .description("ID generation duration in nanoseconds")
+                                    .register(meterRegistry)));
+            meters.counter().increment();
+            meters.timer().record(durationNanos, TimeUnit.NANOSECONDS);
         } catch (Exception e) {
             log.warn("Failed to record ID generation metric", e);
         }
     }
+
+    /**
+     * Returns the cached meters of an event type, folding event types beyond the limit into {@value #OTHER_EVENT_TYPE}.
+     */
+    private <M> M forEventType(Map<String, M> cache, String eventType, Function<String, M> factory) {
+        M meters = cache.get(eventType);
+        if (meters != null) {
+            return meters;
+        }
+        String tag = cache.size() < maxEventTypes ? eventType : OTHER_EVENT_TYPE;
+        return cache.computeIfAbsent(tag, factory);
+    }
+
+    private PublishMeters newPublishMeters(String eventType) {
+        return new PublishMeters(
+                publishCounter(eventType, true), publishCounter(eventType, false),
+                publishTimer(eventType, true), publishTimer(eventType, false));
+    }
+
+    private Counter publishCounter(String eventType, boolean success) {
+        return Counter.builder("curve.events.published")
+                .tag("eventType", eventType)
+                .tag("success", String.valueOf(success))
+                .description("Total number of events published")
+                .register(meterRegistry);
+    }
+
+    private Timer publishTimer(String eventType, boolean success) {
+        return Timer.builder("curve.events.publish.duration")
+                .tag("eventType", eventType)
+                .tag("success", String.valueOf(success))
+                .description("Event publish duration")
+                .publishPercentileHistogram(percentileHistogram)
+                .serviceLevelObjectives(serviceLevelObjectives)
+                .register(meterRegistry);
+    }
+
+    private Counter piiCounter(String strategy, boolean success) {
+        return Counter.builder("curve.pii.processing")
+                .tag("strategy", strategy)
+                .tag("success", String.valueOf(success))
+                .description("Total number of PII processing operations")
+                .register(meterRegistry);
+    }
+
+    private record PublishMeters(Counter successCounter, Counter failureCounter,
+                                 Timer successTimer, Timer failureTimer) {
+    }
+
+    /**
+     * Counters of one event type, keyed by the value of their second tag.
+     */
+    private record EventTypeCounters(String eventType, Map<String, Counter> counters) {
+        EventTypeCounters(String eventType) {
+            this(eventType, new ConcurrentHashMap<>());
+        }
+    }
+
+    private record OutcomeCounters(Counter success, Counter failure) {
+    }
+
+    private record IdGenerationMeters(Counter counter, Timer timer) {
+    }
 }
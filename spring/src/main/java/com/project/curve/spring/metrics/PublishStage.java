@@ -0,0 +1,49 @@
+package com.project.curve.spring.metrics;
+
+/**
+ * Stages of the event publish path that are timed separately.
+ * <p>
+ * Recorded as the {@code stage} tag of {@code curve.events.publish.stage.duration}.
+ */
+public enum PublishStage {
+
+    /**
+     * Creating and validating the event envelope.
+     */
+    ENVELOPE("envelope"),
+
+    /**
+     * Serializing the envelope (includes PII processing).
+     */
+    SERIALIZATION("serialization"),
+
+    /**
+     * Processing a single {@code @PiiField} value (masking, encryption or hashing).
+     */
+    PII("pii"),
+
+    /**
+     * Waiting for the Kafka broker to acknowledge a sent record.
+     */
+    KAFKA_ACK("kafka_ack"),
+
+    /**
+     * Sending a failed event to the DLQ topic.
+     */
+    DLQ("dlq"),
+
+    /**
+     * Writing a failed event into the outbox for later delivery.
+     */
+    OUTBOX_SPILL("outbox_spill");
+
+    private final String tagValue;
+
+    PublishStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+}
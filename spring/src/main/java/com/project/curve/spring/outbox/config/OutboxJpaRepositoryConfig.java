@@ -1,9 +1,11 @@
 package com.project.curve.spring.outbox.config;
 
+import com.project.curve.core.outbox.OutboxArchiveMode;
 import com.project.curve.core.outbox.OutboxEventRepository;
 import com.project.curve.spring.outbox.persistence.jpa.adapter.JpaOutboxEventRepositoryAdapter;
 import com.project.curve.spring.outbox.persistence.jpa.repository.OutboxEventJpaRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,8 +24,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 public class OutboxJpaRepositoryConfig {
 
     @Bean
-    public OutboxEventRepository outboxEventRepository(OutboxEventJpaRepository jpaRepository) {
-        log.info("Registering OutboxEventRepository (JPA implementation)");
-        return new JpaOutboxEventRepositoryAdapter(jpaRepository);
+    public OutboxEventRepository outboxEventRepository(
+            OutboxEventJpaRepository jpaRepository,
+            @Value("${curve.outbox.archive-mode:NONE}") OutboxArchiveMode archiveMode
+    ) {
+        log.info("Registering OutboxEventRepository (JPA implementation, archiveMode={})", archiveMode);
+        return new JpaOutboxEventRepositoryAdapter(jpaRepository, archiveMode);
     }
 }
@@ -1,20 +1,34 @@
 package com.project.curve.spring.outbox.persistence.jdbc;
 
+import com.project.curve.core.outbox.OutboxArchiveMode;
+import com.project.curve.core.outbox.OutboxCursor;
 import com.project.curve.core.outbox.OutboxEvent;
 import com.project.curve.core.outbox.OutboxEventRepository;
 import com.project.curve.core.outbox.OutboxStatus;
+import lombok.Builder;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,21 +37,103 @@ import java.util.Optional;
  * <p>
  * Implements the Outbox pattern using JdbcTemplate without JPA.
  * Handles SQL dialects to support various databases (MySQL, PostgreSQL, Oracle, H2, etc.).
+ * <p>
+ * On PostgreSQL, inserts can issue {@code pg_notify} on {@link PostgresOutboxNotificationListener#CHANNEL},
+ * which is delivered on commit and wakes up the publisher on every instance.
+ * <p>
+ * With {@link OutboxArchiveMode#ARCHIVE}, published events are moved to {@code curve_outbox_events_archive}
+ * and queries by aggregate or time range read both tables; with {@link OutboxArchiveMode#DELETE},
+ * they are deleted right after publishing.
  */
 @Slf4j
 public class JdbcOutboxEventRepository implements OutboxEventRepository {
 
+    private static final String UPDATE_STATE_SQL = """
+            UPDATE curve_outbox_events SET
+                status = ?, retry_count = ?, published_at = ?, error_message = ?, next_retry_at = ?, updated_at = ?
+            WHERE event_id = ?
+            """;
+
+    private static final String UPDATE_CLAIMED_STATE_SQL = """
+            UPDATE curve_outbox_events SET
+                status = ?, retry_count = ?, published_at = ?, error_message = ?, next_retry_at = ?, updated_at = ?,
+                claimed_by = NULL, lease_until = NULL
+            WHERE event_id = ? AND claimed_by = ?
+            """;
+
+    private static final String INSERT_COLUMNS = """
+            event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at,
+            status, retry_count, published_at, error_message, next_retry_at, topic, partition_key,
+            payload_codec, created_at, updated_at""";
+
+    private static final int INSERT_COLUMN_COUNT = 16;
+
+    private static final String INSERT_VALUES = "(" + String.join(", ", Collections.nCopies(INSERT_COLUMN_COUNT, "?")) + ")";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO curve_outbox_events (" + INSERT_COLUMNS + ") VALUES " + INSERT_VALUES;
+
+    /**
+     * Maximum number of rows of a multi-row INSERT (keeps bind parameters below SQL Server's limit of 2100).
+     */
+    private static final int INSERT_ROWS_PER_STATEMENT = 100;
+
+    /**
+     * Maximum number of rows of a multi-row INSERT on unrecognized databases
+     * (keeps bind parameters below the lowest common limit of 999, e.g. SQLite).
+     */
+    private static final int INSERT_ROWS_PER_STATEMENT_OTHER = 999 / INSERT_COLUMN_COUNT;
+
+    private static final String ARCHIVE_TABLE = "curve_outbox_events_archive";
+
+    private static final String KEYSET_CONDITION =
+            "(occurred_at > ? OR (occurred_at = ? AND event_id > ?)) AND occurred_at < ?";
+
+    /**
+     * Columns read by ROW_MAPPER, selected explicitly when reading both the outbox and the archive table.
+     */
+    private static final String EVENT_COLUMNS = "event_id, aggregate_type, aggregate_id, event_type, payload, " +
+            "occurred_at, status, retry_count, published_at, error_message, next_retry_at, topic, partition_key, payload_codec";
+
+    /**
+     * Maximum number of bind parameters in a single IN clause (Oracle limits IN lists to 1000 elements).
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
     private final DbType dbType;
+    private final boolean notifyOnInsert;
+    private final OutboxArchiveMode archiveMode;
+    private final int insertRowsPerStatement;
 
     private enum DbType {
         MYSQL, POSTGRESQL, ORACLE, H2, SQL_SERVER, OTHER
     }
 
     public JdbcOutboxEventRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this(jdbcTemplate, dataSource, null, null);
+    }
+
+    /**
+     * @param jdbcTemplate   JdbcTemplate
+     * @param dataSource     DataSource used to detect the database type
+     * @param postgresNotify Whether to issue pg_notify on insert (default false, ignored for databases other than PostgreSQL)
+     * @param archiveMode    What happens to events once they are published (default {@link OutboxArchiveMode#NONE})
+     */
+    @Builder
+    public JdbcOutboxEventRepository(@NonNull JdbcTemplate jdbcTemplate, @NonNull DataSource dataSource,
+                                     Boolean postgresNotify, OutboxArchiveMode archiveMode) {
+        boolean notifyRequested = postgresNotify != null && postgresNotify;
         this.jdbcTemplate = jdbcTemplate;
+        this.archiveMode = archiveMode != null ? archiveMode : OutboxArchiveMode.NONE;
         this.dbType = resolveDbType(dataSource);
-        log.info("JdbcOutboxEventRepository initialized with DB type: {}", this.dbType);
+        this.insertRowsPerStatement = dbType == DbType.OTHER ? INSERT_ROWS_PER_STATEMENT_OTHER : INSERT_ROWS_PER_STATEMENT;
+        this.notifyOnInsert = notifyRequested && this.dbType == DbType.POSTGRESQL;
+        if (notifyRequested && !notifyOnInsert) {
+            log.warn("PostgreSQL outbox notifications requested, but DB type is {}. pg_notify is disabled.", this.dbType);
+        }
+        log.info("JdbcOutboxEventRepository initialized with DB type: {}, notifyOnInsert: {}, archiveMode: {}",
+                this.dbType, notifyOnInsert, this.archiveMode);
     }
 
     private DbType resolveDbType(DataSource dataSource) {
@@ -78,70 +174,245 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
         Timestamp nextRetryAtTs = rs.getTimestamp("next_retry_at");
         Instant nextRetryAt = nextRetryAtTs != null ? nextRetryAtTs.toInstant() : null;
 
-        return OutboxEvent.restore(
-                eventId, aggregateType, aggregateId, eventType, payload, occurredAt,
-                status, retryCount, publishedAt, errorMessage, nextRetryAt
-        );
+        return OutboxEvent.restoreBuilder()
+                .eventId(eventId)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .occurredAt(occurredAt)
+                .status(status)
+                .retryCount(retryCount)
+                .publishedAt(publishedAt)
+                .errorMessage(errorMessage)
+                .nextRetryAt(nextRetryAt)
+                .topic(rs.getString("topic"))
+                .partitionKey(rs.getString("partition_key"))
+                .payloadCodec(rs.getString("payload_codec"))
+                .build();
     };
 
     @Override
     @Transactional
     public void save(OutboxEvent event) {
         // 1. Try UPDATE first
-        int updated = jdbcTemplate.update("""
-                        UPDATE curve_outbox_events SET
-                            status = ?, retry_count = ?, published_at = ?, error_message = ?, next_retry_at = ?, updated_at = ?
-                        WHERE event_id = ?
-                        """,
-                event.getStatus().name(),
-                event.getRetryCount(),
-                event.getPublishedAt() != null ? Timestamp.from(event.getPublishedAt()) : null,
-                event.getErrorMessage(),
-                event.getNextRetryAt() != null ? Timestamp.from(event.getNextRetryAt()) : null,
-                Timestamp.from(Instant.now()),
-                event.getEventId()
-        );
+        int updated = updateState(event);
 
         // 2. Try INSERT if UPDATE failed
         if (updated == 0) {
             try {
-                jdbcTemplate.update("""
-                                INSERT INTO curve_outbox_events (
-                                    event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at,
-                                    status, retry_count, published_at, error_message, next_retry_at, created_at, updated_at
-                                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                                """,
-                        event.getEventId(),
-                        event.getAggregateType(),
-                        event.getAggregateId(),
-                        event.getEventType(),
-                        event.getPayload(),
-                        Timestamp.from(event.getOccurredAt()),
-                        event.getStatus().name(),
-                        event.getRetryCount(),
-                        event.getPublishedAt() != null ? Timestamp.from(event.getPublishedAt()) : null,
-                        event.getErrorMessage(),
-                        event.getNextRetryAt() != null ? Timestamp.from(event.getNextRetryAt()) : null,
-                        Timestamp.from(Instant.now()),
-                        Timestamp.from(Instant.now())
-                );
+                jdbcTemplate.update(INSERT_SQL, insertArgs(event, Timestamp.from(Instant.now())));
+                notifyInserted();
             } catch (DuplicateKeyException e) {
                 log.debug("Concurrent insert detected for eventId={}, retrying update.", event.getEventId());
-                jdbcTemplate.update("""
-                                UPDATE curve_outbox_events SET
-                                    status = ?, retry_count = ?, published_at = ?, error_message = ?, next_retry_at = ?, updated_at = ?
-                                WHERE event_id = ?
-                                """,
-                        event.getStatus().name(),
-                        event.getRetryCount(),
-                        event.getPublishedAt() != null ? Timestamp.from(event.getPublishedAt()) : null,
-                        event.getErrorMessage(),
-                        event.getNextRetryAt() != null ? Timestamp.from(event.getNextRetryAt()) : null,
-                        Timestamp.from(Instant.now()),
-                        event.getEventId()
-                );
+                updateState(event);
+            }
+        }
+    }
+
+    /**
+     * Inserts a new event with a single INSERT, without the UPDATE probe of {@link #save(OutboxEvent)}.
+     */
+    @Override
+    @Transactional
+    public void insert(OutboxEvent event) {
+        jdbcTemplate.update(INSERT_SQL, insertArgs(event, Timestamp.from(Instant.now())));
+        notifyInserted();
+    }
+
+    /**
+     * Inserts new events with multi-row INSERT statements of up to {@value #INSERT_ROWS_PER_STATEMENT} rows
+     * ({@value #INSERT_ROWS_PER_STATEMENT_OTHER} on unrecognized databases),
+     * or with a JDBC batch on Oracle, which has no multi-row VALUES clause.
+     */
+    @Override
+    @Transactional
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        if (dbType == DbType.ORACLE) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, events.stream().map(event -> insertArgs(event, now)).toList());
+        } else {
+            for (int from = 0; from < events.size(); from += insertRowsPerStatement) {
+                List<OutboxEvent> chunk = events.subList(from, Math.min(from + insertRowsPerStatement, events.size()));
+                Object[] args = new Object[chunk.size() * INSERT_COLUMN_COUNT];
+                for (int i = 0; i < chunk.size(); i++) {
+                    System.arraycopy(insertArgs(chunk.get(i), now), 0, args, i * INSERT_COLUMN_COUNT, INSERT_COLUMN_COUNT);
+                }
+                jdbcTemplate.update("INSERT INTO curve_outbox_events (" + INSERT_COLUMNS + ") VALUES " +
+                        String.join(", ", Collections.nCopies(chunk.size(), INSERT_VALUES)), args);
+            }
+        }
+        notifyInserted();
+    }
+
+    private static Object[] insertArgs(OutboxEvent event, Timestamp now) {
+        return new Object[]{
+                event.getEventId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getPayload(),
+                Timestamp.from(event.getOccurredAt()),
+                event.getStatus().name(),
+                event.getRetryCount(),
+                toTimestamp(event.getPublishedAt()),
+                event.getErrorMessage(),
+                toTimestamp(event.getNextRetryAt()),
+                event.getTopic(),
+                event.getPartitionKey(),
+                event.getPayloadCodec(),
+                now,
+                now
+        };
+    }
+
+    /**
+     * Issues pg_notify for the outbox channel. Delivered to listeners when the transaction commits
+     * (PostgreSQL collapses identical notifications within a transaction).
+     */
+    private void notifyInserted() {
+        if (notifyOnInsert) {
+            jdbcTemplate.query("SELECT pg_notify(?, '')", (ResultSetExtractor<Void>) rs -> null,
+                    PostgresOutboxNotificationListener.CHANNEL);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setStateParameters(ps, events.get(i), now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+
+        // Rows that do not exist yet fall back to the regular UPDATE-then-INSERT path.
+        // Drivers may report Statement.SUCCESS_NO_INFO for batched statements, which is treated as updated.
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                save(events.get(i));
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public int markPublished(Collection<String> eventIds, Instant publishedAt) {
+        return markPublishedWhere(eventIds, publishedAt, null);
+    }
+
+    @Override
+    @Transactional
+    public int markPublished(Collection<String> eventIds, Instant publishedAt, String owner) {
+        return markPublishedWhere(eventIds, publishedAt, owner);
+    }
+
+    /**
+     * @param owner Claim owner the events must still be claimed by, or null to mark them regardless of leases
+     */
+    private int markPublishedWhere(Collection<String> eventIds, Instant publishedAt, String owner) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ids = new ArrayList<>(eventIds);
+        Timestamp publishedAtTs = Timestamp.from(publishedAt);
+        Timestamp now = Timestamp.from(Instant.now());
+        String ownerSql = owner != null ? " AND claimed_by = ?" : "";
+        int updated = 0;
+
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            String inSql = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> idArgs = new ArrayList<>(chunk);
+            if (owner != null) {
+                idArgs.add(owner);
+            }
+            List<Object> args = new ArrayList<>(idArgs.size() + 3);
+            args.add(OutboxStatus.PUBLISHED.name());
+            args.add(publishedAtTs);
+            args.add(now);
+            args.addAll(idArgs);
+
+            if (archiveMode == OutboxArchiveMode.ARCHIVE) {
+                jdbcTemplate.update(String.format("""
+                        INSERT INTO %s (%s, created_at, updated_at)
+                        SELECT event_id, aggregate_type, aggregate_id, event_type, payload,
+                            occurred_at, ?, retry_count, ?, NULL, NULL, topic, partition_key, payload_codec, created_at, ?
+                        FROM curve_outbox_events WHERE event_id IN (%s)%s
+                        """, ARCHIVE_TABLE, EVENT_COLUMNS, inSql, ownerSql), args.toArray());
+            }
+            if (archiveMode != OutboxArchiveMode.NONE) {
+                updated += jdbcTemplate.update(
+                        String.format("DELETE FROM curve_outbox_events WHERE event_id IN (%s)%s", inSql, ownerSql),
+                        idArgs.toArray());
+                continue;
             }
+
+            updated += jdbcTemplate.update(String.format("""
+                    UPDATE curve_outbox_events SET
+                        status = ?, published_at = ?, error_message = NULL, next_retry_at = NULL, updated_at = ?
+                    WHERE event_id IN (%s)%s
+                    """, inSql, ownerSql), args.toArray());
+        }
+        return updated;
+    }
+
+    /**
+     * Builds a query for events matching the condition: on the outbox table, or on both tables in archive mode.
+     * The condition is applied to each table, so that each side can use its own indexes.
+     * Bind the arguments with {@link #eventArgs(Object...)}.
+     */
+    private String selectEvents(String condition) {
+        if (archiveMode != OutboxArchiveMode.ARCHIVE) {
+            return "SELECT * FROM curve_outbox_events WHERE " + condition;
         }
+        return String.format("SELECT * FROM (SELECT %1$s FROM curve_outbox_events WHERE %3$s " +
+                "UNION ALL SELECT %1$s FROM %2$s WHERE %3$s) e", EVENT_COLUMNS, ARCHIVE_TABLE, condition);
+    }
+
+    private Object[] eventArgs(Object... args) {
+        if (archiveMode != OutboxArchiveMode.ARCHIVE) {
+            return args;
+        }
+        Object[] doubled = Arrays.copyOf(args, args.length * 2);
+        System.arraycopy(args, 0, doubled, args.length, args.length);
+        return doubled;
+    }
+
+    private int updateState(OutboxEvent event) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.update(UPDATE_STATE_SQL, ps -> setStateParameters(ps, event, now));
+    }
+
+    private static void setStateParameters(PreparedStatement ps, OutboxEvent event, Timestamp now) throws SQLException {
+        ps.setString(1, event.getStatus().name());
+        ps.setInt(2, event.getRetryCount());
+        ps.setTimestamp(3, toTimestamp(event.getPublishedAt()));
+        ps.setString(4, event.getErrorMessage());
+        ps.setTimestamp(5, toTimestamp(event.getNextRetryAt()));
+        ps.setTimestamp(6, now);
+        ps.setString(7, event.getEventId());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
     }
 
     @Override
@@ -155,8 +426,16 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
             );
             return Optional.ofNullable(event);
         } catch (EmptyResultDataAccessException e) {
+            return findArchivedById(eventId);
+        }
+    }
+
+    private Optional<OutboxEvent> findArchivedById(String eventId) {
+        if (archiveMode != OutboxArchiveMode.ARCHIVE) {
             return Optional.empty();
         }
+        return jdbcTemplate.query("SELECT " + EVENT_COLUMNS + " FROM " + ARCHIVE_TABLE + " WHERE event_id = ?",
+                ROW_MAPPER, eventId).stream().findFirst();
     }
 
     @Override
@@ -173,7 +452,7 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
         String sql = buildLimitQuery(baseSql, limit);
 
         // Add SKIP LOCKED
-        if (dbType == DbType.MYSQL || dbType == DbType.POSTGRESQL || dbType == DbType.ORACLE) {
+        if (supportsSkipLocked()) {
             sql += " FOR UPDATE SKIP LOCKED";
         } else if (dbType == DbType.SQL_SERVER) {
             // SQL Server uses hint syntax (WITH (READPAST, UPDLOCK))
@@ -190,14 +469,145 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
         }
     }
 
+    @Override
+    @Transactional
+    public List<OutboxEvent> claimPending(String owner, Duration leaseDuration, int limit) {
+        Instant now = Instant.now();
+        Timestamp nowTs = Timestamp.from(now);
+        // Truncated so that the value read back matches the value written on every database
+        Timestamp leaseUntil = Timestamp.from(now.plus(leaseDuration).truncatedTo(ChronoUnit.MILLIS));
+
+        String sql = buildLimitQuery("SELECT event_id FROM curve_outbox_events " +
+                "WHERE status = ? AND next_retry_at <= ? AND (lease_until IS NULL OR lease_until < ?) " +
+                "ORDER BY occurred_at ASC", limit);
+        if (supportsSkipLocked()) {
+            sql += " FOR UPDATE SKIP LOCKED";
+        }
+        List<String> candidates = jdbcTemplate.queryForList(
+                sql, String.class, OutboxStatus.PENDING.name(), nowTs, nowTs);
+
+        List<OutboxEvent> claimed = new ArrayList<>(candidates.size());
+        for (int from = 0; from < candidates.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = candidates.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, candidates.size()));
+            String inSql = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            // The lease condition is re-checked, so rows claimed concurrently by another instance are not stolen
+            List<Object> updateArgs = new ArrayList<>(chunk.size() + 4);
+            updateArgs.add(owner);
+            updateArgs.add(leaseUntil);
+            updateArgs.addAll(chunk);
+            updateArgs.add(OutboxStatus.PENDING.name());
+            updateArgs.add(nowTs);
+            jdbcTemplate.update(String.format("""
+                    UPDATE curve_outbox_events SET claimed_by = ?, lease_until = ?
+                    WHERE event_id IN (%s) AND status = ? AND (lease_until IS NULL OR lease_until < ?)
+                    """, inSql), updateArgs.toArray());
+
+            List<Object> selectArgs = new ArrayList<>(chunk);
+            selectArgs.add(owner);
+            selectArgs.add(leaseUntil);
+            claimed.addAll(jdbcTemplate.query(String.format("""
+                    SELECT * FROM curve_outbox_events
+                    WHERE event_id IN (%s) AND claimed_by = ? AND lease_until = ?
+                    ORDER BY occurred_at ASC
+                    """, inSql), ROW_MAPPER, selectArgs.toArray()));
+        }
+
+        log.debug("Claimed {} of {} outbox events: owner={}, leaseUntil={}",
+                claimed.size(), candidates.size(), owner, leaseUntil);
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public int releaseClaims(Collection<String> eventIds, String owner) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ids = new ArrayList<>(eventIds);
+        int released = 0;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            String inSql = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> args = new ArrayList<>(chunk);
+            args.add(owner);
+            released += jdbcTemplate.update(String.format("""
+                    UPDATE curve_outbox_events SET claimed_by = NULL, lease_until = NULL
+                    WHERE event_id IN (%s) AND claimed_by = ?
+                    """, inSql), args.toArray());
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional
+    public int renewClaims(Collection<String> eventIds, String owner, Duration leaseDuration) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp leaseUntil = Timestamp.from(Instant.now().plus(leaseDuration).truncatedTo(ChronoUnit.MILLIS));
+        List<String> ids = new ArrayList<>(eventIds);
+        int renewed = 0;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            String inSql = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> args = new ArrayList<>(chunk.size() + 2);
+            args.add(leaseUntil);
+            args.addAll(chunk);
+            args.add(owner);
+            renewed += jdbcTemplate.update(String.format(
+                    "UPDATE curve_outbox_events SET lease_until = ? WHERE event_id IN (%s) AND claimed_by = ?",
+                    inSql), args.toArray());
+        }
+        return renewed;
+    }
+
+    /**
+     * Writes the state of the claimed events and releases their leases with one batched statement.
+     * Unlike {@link #saveAll(List)}, missing rows are not inserted.
+     */
+    @Override
+    @Transactional
+    public int saveClaimed(List<OutboxEvent> events, String owner) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_CLAIMED_STATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setStateParameters(ps, events.get(i), now);
+                ps.setString(8, owner);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+
+        // Drivers may report Statement.SUCCESS_NO_INFO for batched statements, which is treated as saved
+        int saved = 0;
+        for (int count : updateCounts) {
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<OutboxEvent> findByAggregate(String aggregateType, String aggregateId) {
         return jdbcTemplate.query(
-                "SELECT * FROM curve_outbox_events WHERE aggregate_type = ? AND aggregate_id = ? ORDER BY occurred_at ASC",
+                selectEvents("aggregate_type = ? AND aggregate_id = ?") + " ORDER BY occurred_at ASC",
                 ROW_MAPPER,
-                aggregateType,
-                aggregateId
+                eventArgs(aggregateType, aggregateId)
         );
     }
 
@@ -210,8 +620,17 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
     @Override
     @Transactional
     public int deleteByStatusAndOccurredAtBefore(OutboxStatus status, Instant before, int limit) {
+        int deleted = deleteBefore("curve_outbox_events", status, before, limit);
+        // Published events live in the archive table in archive mode
+        if (archiveMode == OutboxArchiveMode.ARCHIVE && status == OutboxStatus.PUBLISHED && deleted < limit) {
+            deleted += deleteBefore(ARCHIVE_TABLE, status, before, limit - deleted);
+        }
+        return deleted;
+    }
+
+    private int deleteBefore(String table, OutboxStatus status, Instant before, int limit) {
         // Use query ID then delete approach (safest)
-        String selectSql = buildLimitQuery("SELECT event_id FROM curve_outbox_events WHERE status = ? AND occurred_at < ?", limit);
+        String selectSql = buildLimitQuery("SELECT event_id FROM " + table + " WHERE status = ? AND occurred_at < ?", limit);
 
         List<String> ids = jdbcTemplate.query(
                 selectSql,
@@ -224,9 +643,9 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
             return 0;
         }
 
-        String inSql = String.join(",", java.util.Collections.nCopies(ids.size(), "?"));
+        String inSql = String.join(",", Collections.nCopies(ids.size(), "?"));
         return jdbcTemplate.update(
-                String.format("DELETE FROM curve_outbox_events WHERE event_id IN (%s)", inSql),
+                String.format("DELETE FROM %s WHERE event_id IN (%s)", table, inSql),
                 ids.toArray()
         );
     }
@@ -235,7 +654,12 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
     @Transactional(readOnly = true)
     public long count() {
         Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM curve_outbox_events", Long.class);
-        return count != null ? count : 0;
+        long total = count != null ? count : 0;
+        if (archiveMode == OutboxArchiveMode.ARCHIVE) {
+            Long archived = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + ARCHIVE_TABLE, Long.class);
+            total += archived != null ? archived : 0;
+        }
+        return total;
     }
 
     @Override
@@ -246,17 +670,38 @@ public class JdbcOutboxEventRepository implements OutboxEventRepository {
                 Long.class,
                 status.name()
         );
-        return count != null ? count : 0;
+        long total = count != null ? count : 0;
+        if (archiveMode == OutboxArchiveMode.ARCHIVE && status == OutboxStatus.PUBLISHED) {
+            Long archived = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + ARCHIVE_TABLE, Long.class);
+            total += archived != null ? archived : 0;
+        }
+        return total;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OutboxEvent> findSince(Instant since, int limit) {
         String sql = buildLimitQuery(
-                "SELECT * FROM curve_outbox_events WHERE occurred_at >= ? ORDER BY occurred_at ASC",
+                selectEvents("occurred_at >= ?") + " ORDER BY occurred_at ASC",
                 limit
         );
-        return jdbcTemplate.query(sql, ROW_MAPPER, Timestamp.from(since));
+        return jdbcTemplate.query(sql, ROW_MAPPER, eventArgs(Timestamp.from(since)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findAfter(OutboxCursor cursor, Instant until, int limit) {
+        String sql = buildLimitQuery(selectEvents(KEYSET_CONDITION) + " ORDER BY occurred_at ASC, event_id ASC", limit);
+        return jdbcTemplate.query(sql, ROW_MAPPER, keysetArgs(cursor, until));
+    }
+
+    private Object[] keysetArgs(OutboxCursor cursor, Instant until) {
+        Timestamp occurredAt = Timestamp.from(cursor.occurredAt());
+        return eventArgs(occurredAt, occurredAt, cursor.eventId(), Timestamp.from(until));
+    }
+
+    private boolean supportsSkipLocked() {
+        return dbType == DbType.MYSQL || dbType == DbType.POSTGRESQL || dbType == DbType.ORACLE;
     }
 
     private String buildLimitQuery(String sql, int limit) {
@@ -0,0 +1,304 @@
+package com.project.curve.spring.outbox.persistence.jdbc;
+
+import com.project.curve.core.outbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Maintains daily range partitions of a time-partitioned outbox table (PostgreSQL and MySQL).
+ * <p>
+ * Partitions cover one UTC day of {@code occurred_at} each and are created ahead of time.
+ * Retention drops whole expired partitions instead of deleting rows, which turns cleanup into
+ * a metadata operation without vacuum or binlog churn.
+ *
+ * <h3>Partition Layout</h3>
+ * <ul>
+ *   <li>PostgreSQL: {@code curve_outbox_events_pYYYYMMDD} plus the {@code curve_outbox_events_default} partition</li>
+ *   <li>MySQL: {@code pYYYYMMDD} ({@code RANGE COLUMNS} on a {@code DATETIME(6)} {@code occurred_at}) plus the
+ *       {@code pmax} catch-all partition</li>
+ * </ul>
+ *
+ * <h3>Retention</h3>
+ * A partition is dropped once its day is older than the retention period and it holds no PENDING events.
+ * PUBLISHED and FAILED events are dropped together with their partition. Rows that landed in the
+ * default/catch-all partition are still deleted row by row.
+ *
+ * @see JdbcOutboxEventRepository
+ */
+@Slf4j
+public class OutboxPartitionManager implements SmartInitializingSingleton {
+
+    private static final String TABLE_NAME = "curve_outbox_events";
+    private static final String PARTITION_PREFIX = "p";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    enum Dialect {
+        POSTGRESQL, MYSQL, UNSUPPORTED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final boolean retentionEnabled;
+    private final int retentionDays;
+    private final int premakeDays;
+    private final Clock clock;
+
+    /**
+     * @param dataSource       DataSource of the outbox table (also used to detect the database type)
+     * @param retentionEnabled Whether to drop expired partitions
+     * @param retentionDays    Retention period in days
+     * @param premakeDays      Number of days to create partitions ahead of today
+     */
+    public OutboxPartitionManager(DataSource dataSource, boolean retentionEnabled, int retentionDays, int premakeDays) {
+        this(new JdbcTemplate(dataSource), resolveDialect(dataSource), retentionEnabled, retentionDays, premakeDays,
+                Clock.systemUTC());
+    }
+
+    OutboxPartitionManager(JdbcTemplate jdbcTemplate, Dialect dialect, boolean retentionEnabled,
+                           int retentionDays, int premakeDays, Clock clock) {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("retentionDays must be at least 1, but was: " + retentionDays);
+        }
+        if (premakeDays < 1) {
+            throw new IllegalArgumentException("premakeDays must be at least 1, but was: " + premakeDays);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+        this.retentionEnabled = retentionEnabled;
+        this.retentionDays = retentionDays;
+        this.premakeDays = premakeDays;
+        this.clock = clock;
+        if (dialect == Dialect.UNSUPPORTED) {
+            log.warn("Outbox partitioning is only supported on PostgreSQL and MySQL. Partition maintenance is disabled.");
+        }
+    }
+
+    private static Dialect resolveDialect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String productName = connection.getMetaData().getDatabaseProductName().toLowerCase();
+            if (productName.contains("postgresql")) {
+                return Dialect.POSTGRESQL;
+            } else if (productName.contains("mysql") || productName.contains("mariadb")) {
+                return Dialect.MYSQL;
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to determine database product name", e);
+        }
+        return Dialect.UNSUPPORTED;
+    }
+
+    /**
+     * Creates the upcoming partitions once the application context (and the outbox table) is ready.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            createUpcomingPartitions();
+        } catch (Exception e) {
+            log.warn("Failed to create upcoming outbox partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates upcoming partitions and drops expired ones.
+     * <p>
+     * Runs at configured cleanup-cron intervals.
+     */
+    @Scheduled(cron = "${curve.outbox.cleanup-cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        if (dialect == Dialect.UNSUPPORTED) {
+            return;
+        }
+        try {
+            createUpcomingPartitions();
+            if (retentionEnabled) {
+                dropExpiredPartitions(clock.instant().minus(Duration.ofDays(retentionDays)));
+            }
+        } catch (Exception e) {
+            log.error("Failed to maintain outbox partitions", e);
+        }
+    }
+
+    /**
+     * Creates the partitions from today up to premakeDays ahead that do not exist yet.
+     *
+     * @return Number of created partitions
+     */
+    public int createUpcomingPartitions() {
+        if (dialect == Dialect.UNSUPPORTED) {
+            return 0;
+        }
+
+        TreeSet<LocalDate> existing = new TreeSet<>();
+        for (String partition : listPartitions()) {
+            partitionDay(partition).ifPresent(existing::add);
+        }
+
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        List<LocalDate> missing = new ArrayList<>();
+        for (int i = 0; i <= premakeDays; i++) {
+            LocalDate day = today.plusDays(i);
+            // MySQL range partitions can only be appended after the last existing one
+            boolean creatable = dialect == Dialect.POSTGRESQL
+                    || existing.isEmpty() || day.isAfter(existing.last());
+            if (!existing.contains(day) && creatable) {
+                missing.add(day);
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        if (dialect == Dialect.POSTGRESQL) {
+            for (LocalDate day : missing) {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        partitionName(day), TABLE_NAME, boundLiteral(day), boundLiteral(day.plusDays(1))));
+            }
+        } else {
+            StringBuilder partitions = new StringBuilder();
+            for (LocalDate day : missing) {
+                partitions.append(String.format("PARTITION %s VALUES LESS THAN ('%s'), ",
+                        partitionName(day), boundLiteral(day.plusDays(1))));
+            }
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE %s REORGANIZE PARTITION pmax INTO (%sPARTITION pmax VALUES LESS THAN (MAXVALUE))",
+                    TABLE_NAME, partitions));
+        }
+
+        log.info("Created {} outbox partitions ({} to {})", missing.size(), missing.get(0), missing.get(missing.size() - 1));
+        return missing.size();
+    }
+
+    /**
+     * Drops partitions whose whole day is before the cutoff time and that hold no PENDING events.
+     * Also deletes old PUBLISHED rows from the default/catch-all partition.
+     *
+     * @param before Cutoff time
+     * @return Number of dropped partitions
+     */
+    public int dropExpiredPartitions(Instant before) {
+        if (dialect == Dialect.UNSUPPORTED) {
+            return 0;
+        }
+
+        int dropped = 0;
+        for (String partition : listPartitions()) {
+            Optional<LocalDate> day = partitionDay(partition);
+            if (day.isEmpty() || startOf(day.get().plusDays(1)).isAfter(before)) {
+                continue;
+            }
+
+            long pending = countPending(partition);
+            if (pending > 0) {
+                log.warn("Outbox partition '{}' is expired but still holds {} PENDING events, keeping it",
+                        partition, pending);
+                continue;
+            }
+
+            if (dialect == Dialect.POSTGRESQL) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            } else {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partition);
+            }
+            dropped++;
+            log.info("Dropped expired outbox partition '{}'", partition);
+        }
+
+        int purged = jdbcTemplate.update(
+                "DELETE FROM " + defaultPartitionReference() + " WHERE status = ? AND occurred_at < ?",
+                OutboxStatus.PUBLISHED.name(), Timestamp.from(before));
+
+        log.info("Outbox partition retention completed. Dropped {} partitions, deleted {} rows from the default partition " +
+                "(before={})", dropped, purged, before);
+        return dropped;
+    }
+
+    /**
+     * Lists the partitions of the outbox table.
+     *
+     * @return Partition names
+     */
+    List<String> listPartitions() {
+        if (dialect == Dialect.POSTGRESQL) {
+            return jdbcTemplate.queryForList("""
+                    SELECT c.relname FROM pg_inherits i
+                    JOIN pg_class c ON c.oid = i.inhrelid
+                    JOIN pg_class p ON p.oid = i.inhparent
+                    WHERE p.relname = ?
+                    """, String.class, TABLE_NAME);
+        }
+        return jdbcTemplate.queryForList("""
+                SELECT partition_name FROM information_schema.partitions
+                WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL
+                """, String.class, TABLE_NAME);
+    }
+
+    private long countPending(String partition) {
+        String from = dialect == Dialect.POSTGRESQL ? partition : TABLE_NAME + " PARTITION (" + partition + ")";
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + from + " WHERE status = ?", Long.class, OutboxStatus.PENDING.name());
+        return count != null ? count : 0;
+    }
+
+    private String defaultPartitionReference() {
+        return dialect == Dialect.POSTGRESQL ? TABLE_NAME + "_default" : TABLE_NAME + " PARTITION (pmax)";
+    }
+
+    String partitionName(LocalDate day) {
+        String suffix = PARTITION_PREFIX + DAY_FORMAT.format(day);
+        return dialect == Dialect.POSTGRESQL ? TABLE_NAME + "_" + suffix : suffix;
+    }
+
+    /**
+     * Extracts the day of a daily partition from its name.
+     *
+     * @param partitionName Partition name (e.g., p20260301 or curve_outbox_events_p20260301)
+     * @return Day covered by the partition (empty for the default/catch-all partition)
+     */
+    static Optional<LocalDate> partitionDay(String partitionName) {
+        String name = partitionName.toLowerCase();
+        if (name.startsWith(TABLE_NAME + "_")) {
+            name = name.substring(TABLE_NAME.length() + 1);
+        }
+        if (name.length() != 9 || !name.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(name.substring(1), DAY_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Bound for a TIMESTAMP (PostgreSQL, without time zone) or DATETIME (MySQL) column, rendered the same way
+     * the JDBC driver binds {@link Timestamp} values (in the JVM time zone), so that partition days are UTC days.
+     */
+    private static String boundLiteral(LocalDate day) {
+        return Timestamp.from(startOf(day)).toString();
+    }
+}
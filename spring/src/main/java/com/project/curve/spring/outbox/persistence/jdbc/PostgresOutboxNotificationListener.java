@@ -0,0 +1,155 @@
+package com.project.curve.spring.outbox.persistence.jdbc;
+
+import com.project.curve.spring.outbox.publisher.OutboxWakeUpListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens for PostgreSQL {@code NOTIFY} messages on the outbox channel and wakes up the outbox publisher.
+ * <p>
+ * Outbox inserts issue {@code pg_notify} (from {@link JdbcOutboxEventRepository} or the
+ * {@code curve_outbox_notify} trigger), which PostgreSQL delivers to every listening instance on commit.
+ * Events written by another instance are therefore published within milliseconds,
+ * and the poll interval only acts as a safety net.
+ *
+ * <h3>Connection</h3>
+ * A dedicated connection is borrowed from the DataSource for the lifetime of the listener
+ * (account for it in the pool size). On connection failure the listener reconnects after reconnectDelayMs.
+ * <p>
+ * The PostgreSQL JDBC driver is accessed reflectively, so it is only required at runtime.
+ *
+ * @see OutboxWakeUpListener
+ */
+@Slf4j
+public class PostgresOutboxNotificationListener implements SmartLifecycle {
+
+    /**
+     * NOTIFY channel used for outbox inserts.
+     */
+    public static final String CHANNEL = "curve_outbox";
+
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+    private static final int NOTIFICATION_TIMEOUT_MS = 500;
+    private static final long DEFAULT_RECONNECT_DELAY_MS = 5000L;
+
+    private final DataSource dataSource;
+    private final OutboxWakeUpListener wakeUpListener;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running = false;
+    private volatile Thread listenerThread;
+
+    public PostgresOutboxNotificationListener(DataSource dataSource, OutboxWakeUpListener wakeUpListener) {
+        this(dataSource, wakeUpListener, DEFAULT_RECONNECT_DELAY_MS);
+    }
+
+    public PostgresOutboxNotificationListener(
+            DataSource dataSource,
+            OutboxWakeUpListener wakeUpListener,
+            long reconnectDelayMs
+    ) {
+        this.dataSource = dataSource;
+        this.wakeUpListener = wakeUpListener;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listenLoop, "curve-outbox-pg-listener");
+        thread.setDaemon(true);
+        listenerThread = thread;
+        thread.start();
+        log.info("PostgreSQL outbox notification listener started: channel={}", CHANNEL);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            try {
+                thread.join(NOTIFICATION_TIMEOUT_MS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (ClassNotFoundException e) {
+                log.error("PostgreSQL JDBC driver not found, outbox notifications are disabled");
+                running = false;
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("PostgreSQL outbox notification listener failed, reconnecting in {}ms: {}",
+                        reconnectDelayMs, e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+        log.info("PostgreSQL outbox notification listener stopped");
+    }
+
+    private void listen(Connection connection) throws Exception {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+
+        Class<?> pgConnectionClass = Class.forName(PG_CONNECTION_CLASS);
+        Object pgConnection = connection.unwrap(pgConnectionClass);
+        Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+
+        // An in-JVM wake-up after (re)connecting covers notifications missed while disconnected
+        wakeUpListener.onOutboxEventsCommitted();
+
+        while (running) {
+            Object notifications = invoke(getNotifications, pgConnection);
+            if (notifications != null && Array.getLength(notifications) > 0) {
+                log.trace("Received {} outbox notifications", Array.getLength(notifications));
+                wakeUpListener.onOutboxEventsCommitted();
+            }
+        }
+    }
+
+    private Object invoke(Method getNotifications, Object pgConnection) throws Exception {
+        try {
+            return getNotifications.invoke(pgConnection, NOTIFICATION_TIMEOUT_MS);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw e;
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -1,24 +1,39 @@
 package com.project.curve.spring.outbox.persistence.jpa.adapter;
 
+import com.project.curve.core.outbox.OutboxArchiveMode;
+import com.project.curve.core.outbox.OutboxCursor;
 import com.project.curve.core.outbox.OutboxEvent;
 import com.project.curve.core.outbox.OutboxEventRepository;
 import com.project.curve.core.outbox.OutboxStatus;
 import com.project.curve.spring.outbox.persistence.jpa.entity.OutboxEventJpaEntity;
 import com.project.curve.spring.outbox.persistence.jpa.repository.OutboxEventJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
  * JPA implementation of OutboxEventRepository (Hexagonal Architecture Adapter).
  * <p>
  * Handles conversion between core domain models and JPA entities.
+ * <p>
+ * With {@link OutboxArchiveMode#ARCHIVE}, published events are moved to {@code curve_outbox_events_archive}
+ * with native queries, and queries by aggregate or time range read both tables.
  *
  * @see OutboxEventRepository
  * @see OutboxEventJpaRepository
@@ -28,7 +43,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JpaOutboxEventRepositoryAdapter implements OutboxEventRepository {
 
+    // Maximum number of bind parameters in a single IN clause (Oracle limits IN lists to 1000 elements)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final OutboxEventJpaRepository jpaRepository;
+    private final OutboxArchiveMode archiveMode;
+
+    // Used to detach streamed entities, so that large scans do not fill the persistence context
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaOutboxEventRepositoryAdapter(OutboxEventJpaRepository jpaRepository) {
+        this(jpaRepository, OutboxArchiveMode.NONE);
+    }
 
     @Override
     public void save(OutboxEvent event) {
@@ -43,11 +70,95 @@ public class JpaOutboxEventRepositoryAdapter implements OutboxEventRepository {
         saved.toDomain();
     }
 
+    /**
+     * Persists a new event without the select-before-insert of {@link #save(OutboxEvent)}.
+     * A duplicate event ID fails when the persistence context is flushed.
+     */
+    @Override
+    public void insert(OutboxEvent event) {
+        persist(OutboxEventJpaEntity.fromDomain(event));
+    }
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            persist(OutboxEventJpaEntity.fromDomain(event));
+        }
+    }
+
+    private void persist(OutboxEventJpaEntity entity) {
+        if (entityManager != null) {
+            entityManager.persist(entity);
+        } else {
+            // A null version marks the entity as new, so Spring Data persists it as well
+            jpaRepository.save(entity);
+        }
+    }
+
+    @Override
+    public void saveAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<String, OutboxEventJpaEntity> existing = jpaRepository.findAllById(
+                        events.stream().map(OutboxEvent::getEventId).toList())
+                .stream()
+                .collect(Collectors.toMap(OutboxEventJpaEntity::getEventId, Function.identity()));
+
+        List<OutboxEventJpaEntity> entities = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            OutboxEventJpaEntity entity = existing.get(event.getEventId());
+            if (entity != null) {
+                entity.updateFromDomain(event);
+            } else {
+                entity = OutboxEventJpaEntity.fromDomain(event);
+            }
+            entities.add(entity);
+        }
+
+        jpaRepository.saveAll(entities);
+    }
+
+    @Override
+    public int markPublished(Collection<String> eventIds, Instant publishedAt) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        if (archiveMode == OutboxArchiveMode.ARCHIVE) {
+            forEachChunk(eventIds, chunk ->
+                    jpaRepository.archiveByEventIds(chunk, OutboxStatus.PUBLISHED.name(), publishedAt, now));
+        }
+        if (archiveMode != OutboxArchiveMode.NONE) {
+            return forEachChunk(eventIds, jpaRepository::deleteByEventIds);
+        }
+        return forEachChunk(eventIds, chunk ->
+                jpaRepository.markPublishedByEventIds(chunk, OutboxStatus.PUBLISHED, publishedAt, now));
+    }
+
+    /**
+     * Runs a bulk statement per chunk of IDs, so that no IN clause exceeds {@link #IN_CLAUSE_CHUNK_SIZE}.
+     *
+     * @return Sum of the affected row counts
+     */
+    private int forEachChunk(Collection<String> eventIds, ToIntFunction<List<String>> statement) {
+        List<String> ids = new ArrayList<>(eventIds);
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            affected += statement.applyAsInt(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+        }
+        return affected;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<OutboxEvent> findById(String eventId) {
-        return jpaRepository.findById(eventId)
-                .map(OutboxEventJpaEntity::toDomain);
+        Optional<OutboxEventJpaEntity> entity = jpaRepository.findById(eventId);
+        if (entity.isEmpty() && archiveMode == OutboxArchiveMode.ARCHIVE) {
+            entity = jpaRepository.findArchivedById(eventId);
+        }
+        return entity.map(OutboxEventJpaEntity::toDomain);
     }
 
     @Override
@@ -74,11 +185,75 @@ public class JpaOutboxEventRepositoryAdapter implements OutboxEventRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<OutboxEvent> claimPending(String owner, Duration leaseDuration, int limit) {
+        Instant now = Instant.now();
+        // Truncated so that the value read back matches the value written on every database
+        Instant leaseUntil = now.plus(leaseDuration).truncatedTo(ChronoUnit.MILLIS);
+
+        List<String> candidates = jpaRepository.findClaimableEventIds(
+                OutboxStatus.PENDING.name(), now, PageRequest.of(0, limit));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        jpaRepository.claimByEventIds(candidates, owner, leaseUntil, OutboxStatus.PENDING.name(), now);
+        List<String> claimedIds = jpaRepository.findClaimedEventIds(candidates, owner, leaseUntil);
+
+        return jpaRepository.findAllById(claimedIds)
+                .stream()
+                .sorted(Comparator.comparing(OutboxEventJpaEntity::getOccurredAt))
+                .map(OutboxEventJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int releaseClaims(Collection<String> eventIds, String owner) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.releaseClaimsByEventIds(eventIds, owner);
+    }
+
+    @Override
+    public int renewClaims(Collection<String> eventIds, String owner, Duration leaseDuration) {
+        Instant leaseUntil = Instant.now().plus(leaseDuration).truncatedTo(ChronoUnit.MILLIS);
+        return forEachChunk(eventIds, chunk -> jpaRepository.renewClaimsByEventIds(chunk, owner, leaseUntil));
+    }
+
+    @Override
+    public int markPublished(Collection<String> eventIds, Instant publishedAt, String owner) {
+        Instant now = Instant.now();
+        String status = OutboxStatus.PUBLISHED.name();
+        if (archiveMode == OutboxArchiveMode.ARCHIVE) {
+            forEachChunk(eventIds, chunk ->
+                    jpaRepository.archiveClaimedByEventIds(chunk, owner, status, publishedAt, now));
+        }
+        if (archiveMode != OutboxArchiveMode.NONE) {
+            return forEachChunk(eventIds, chunk -> jpaRepository.deleteClaimedByEventIds(chunk, owner));
+        }
+        return forEachChunk(eventIds, chunk ->
+                jpaRepository.markPublishedClaimedByEventIds(chunk, owner, status, publishedAt, now));
+    }
+
+    @Override
+    public int saveClaimed(List<OutboxEvent> events, String owner) {
+        Instant now = Instant.now();
+        int saved = 0;
+        for (OutboxEvent event : events) {
+            saved += jpaRepository.saveClaimedState(event.getEventId(), owner, event.getStatus().name(),
+                    event.getRetryCount(), event.getErrorMessage(), event.getNextRetryAt(), now);
+        }
+        return saved;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<OutboxEvent> findByAggregate(String aggregateType, String aggregateId) {
-        return jpaRepository.findByAggregateTypeAndAggregateIdOrderByOccurredAtAsc(
-                        aggregateType, aggregateId)
+        List<OutboxEventJpaEntity> entities = archiveMode == OutboxArchiveMode.ARCHIVE
+                ? jpaRepository.findByAggregateIncludingArchive(aggregateType, aggregateId)
+                : jpaRepository.findByAggregateTypeAndAggregateIdOrderByOccurredAtAsc(aggregateType, aggregateId);
+        return entities
                 .stream()
                 .map(OutboxEventJpaEntity::toDomain)
                 .collect(Collectors.toList());
@@ -93,31 +268,57 @@ public class JpaOutboxEventRepositoryAdapter implements OutboxEventRepository {
     public int deleteByStatusAndOccurredAtBefore(OutboxStatus status, Instant before, int limit) {
         PageRequest pageRequest = PageRequest.of(0, limit);
         List<String> idsToDelete = jpaRepository.findIdsByStatusAndOccurredAtBefore(status, before, pageRequest);
+        int deleted = forEachChunk(idsToDelete, jpaRepository::deleteByEventIds);
 
-        if (idsToDelete.isEmpty()) {
-            return 0;
+        // Published events live in the archive table in archive mode
+        if (archiveMode == OutboxArchiveMode.ARCHIVE && status == OutboxStatus.PUBLISHED && deleted < limit) {
+            List<String> archivedIds = jpaRepository.findArchivedIdsOccurredBefore(
+                    before, PageRequest.of(0, limit - deleted));
+            if (!archivedIds.isEmpty()) {
+                deleted += forEachChunk(archivedIds, jpaRepository::deleteArchivedByEventIds);
+            }
         }
-
-        return jpaRepository.deleteByEventIds(idsToDelete);
+        return deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public long count() {
-        return jpaRepository.count();
+        long count = jpaRepository.count();
+        return archiveMode == OutboxArchiveMode.ARCHIVE ? count + jpaRepository.countArchived() : count;
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countByStatus(OutboxStatus status) {
-        return jpaRepository.countByStatus(status);
+        long count = jpaRepository.countByStatus(status);
+        if (archiveMode == OutboxArchiveMode.ARCHIVE && status == OutboxStatus.PUBLISHED) {
+            count += jpaRepository.countArchived();
+        }
+        return count;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OutboxEvent> findSince(Instant since, int limit) {
         PageRequest pageRequest = PageRequest.of(0, limit);
-        return jpaRepository.findByOccurredAtGreaterThanEqual(since, pageRequest)
+        List<OutboxEventJpaEntity> entities = archiveMode == OutboxArchiveMode.ARCHIVE
+                ? jpaRepository.findSinceIncludingArchive(since, pageRequest)
+                : jpaRepository.findByOccurredAtGreaterThanEqual(since, pageRequest);
+        return entities
+                .stream()
+                .map(OutboxEventJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findAfter(OutboxCursor cursor, Instant until, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<OutboxEventJpaEntity> entities = archiveMode == OutboxArchiveMode.ARCHIVE
+                ? jpaRepository.findAfterIncludingArchive(cursor.occurredAt(), cursor.eventId(), until, pageRequest)
+                : jpaRepository.findAfter(cursor.occurredAt(), cursor.eventId(), until, pageRequest);
+        return entities
                 .stream()
                 .map(OutboxEventJpaEntity::toDomain)
                 .collect(Collectors.toList());
@@ -19,7 +19,7 @@ import java.time.Instant;
  *   <li>status: Optimizes PENDING event queries</li>
  *   <li>(aggregateType, aggregateId): Optimizes aggregate-based queries</li>
  *   <li>occurredAt: Optimizes chronological sorting</li>
- *   <li>nextRetryAt: Optimizes retry target queries</li>
+ *   <li>(status, occurredAt, nextRetryAt): Serves the pending-events query in occurredAt order without sorting</li>
  * </ul>
  *
  * @see OutboxEvent
@@ -32,7 +32,7 @@ import java.time.Instant;
                 @Index(name = "idx_outbox_status", columnList = "status"),
                 @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id"),
                 @Index(name = "idx_outbox_occurred_at", columnList = "occurred_at"),
-                @Index(name = "idx_outbox_next_retry", columnList = "next_retry_at")
+                @Index(name = "idx_outbox_pending", columnList = "status, occurred_at, next_retry_at")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -73,6 +73,15 @@ public class OutboxEventJpaEntity {
     @Column(name = "next_retry_at")
     private Instant nextRetryAt;
 
+    @Column(name = "topic", length = 255, updatable = false)
+    private String topic;
+
+    @Column(name = "partition_key", length = 255, updatable = false)
+    private String partitionKey;
+
+    @Column(name = "payload_codec", length = 20, updatable = false)
+    private String payloadCodec;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -110,19 +119,22 @@ public class OutboxEventJpaEntity {
      * @return OutboxEvent domain model
      */
     public OutboxEvent toDomain() {
-        return OutboxEvent.restore(
-                eventId,
-                aggregateType,
-                aggregateId,
-                eventType,
-                payload,
-                occurredAt,
-                status,
-                retryCount,
-                publishedAt,
-                errorMessage,
-                nextRetryAt
-        );
+        return OutboxEvent.restoreBuilder()
+                .eventId(eventId)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .occurredAt(occurredAt)
+                .status(status)
+                .retryCount(retryCount)
+                .publishedAt(publishedAt)
+                .errorMessage(errorMessage)
+                .nextRetryAt(nextRetryAt)
+                .topic(topic)
+                .partitionKey(partitionKey)
+                .payloadCodec(payloadCodec)
+                .build();
     }
 
     /**
@@ -141,6 +153,9 @@ public class OutboxEventJpaEntity {
                 domain.getOccurredAt()
         );
 
+        entity.topic = domain.getTopic();
+        entity.partitionKey = domain.getPartitionKey();
+        entity.payloadCodec = domain.getPayloadCodec();
         entity.status = domain.getStatus();
         entity.retryCount = domain.getRetryCount();
         entity.publishedAt = domain.getPublishedAt();
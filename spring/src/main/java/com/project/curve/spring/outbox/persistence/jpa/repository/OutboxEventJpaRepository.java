@@ -9,7 +9,9 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Outbox event Spring Data JPA repository.
@@ -20,6 +22,12 @@ import java.util.List;
  */
 public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, String> {
 
+    /**
+     * Columns of the archive table (all mapped columns of {@link OutboxEventJpaEntity}).
+     */
+    String ARCHIVE_COLUMNS = "event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at, status, " +
+            "retry_count, published_at, error_message, next_retry_at, topic, partition_key, payload_codec, created_at, updated_at, version";
+
     /**
      * Retrieves events by status (ascending order by occurrence time, supports limit).
      * <p>
@@ -56,6 +64,140 @@ public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEn
             Pageable pageable
     );
 
+    /**
+     * Retrieves IDs of PENDING events that are due and not leased (or whose lease has expired).
+     * <p>
+     * Native query, as the lease columns are not mapped on the entity (they are only required in lease mode).
+     *
+     * @param status   PENDING status name
+     * @param now      Current timestamp
+     * @param pageable Paging (limit setting)
+     * @return Candidate event IDs (ascending order by occurrence time)
+     */
+    @Query(value = "SELECT e.event_id FROM curve_outbox_events e WHERE e.status = :status " +
+            "AND e.next_retry_at <= :now AND (e.lease_until IS NULL OR e.lease_until < :now) " +
+            "ORDER BY e.occurred_at ASC", nativeQuery = true)
+    List<String> findClaimableEventIds(
+            @Param("status") String status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    /**
+     * Claims events by setting the lease columns, re-checking that they are still claimable.
+     *
+     * @param ids        Candidate event IDs
+     * @param owner      Claim owner
+     * @param leaseUntil Lease expiry
+     * @param status     PENDING status name
+     * @param now        Current timestamp
+     * @return Number of claimed events
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE curve_outbox_events SET claimed_by = :owner, lease_until = :leaseUntil " +
+            "WHERE event_id IN (:ids) AND status = :status AND (lease_until IS NULL OR lease_until < :now)",
+            nativeQuery = true)
+    int claimByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("leaseUntil") Instant leaseUntil,
+            @Param("status") String status,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Retrieves IDs of the given events that are claimed by the owner with the given lease.
+     *
+     * @param ids        Candidate event IDs
+     * @param owner      Claim owner
+     * @param leaseUntil Lease expiry written by the claim
+     * @return Claimed event IDs
+     */
+    @Query(value = "SELECT e.event_id FROM curve_outbox_events e " +
+            "WHERE e.event_id IN (:ids) AND e.claimed_by = :owner AND e.lease_until = :leaseUntil",
+            nativeQuery = true)
+    List<String> findClaimedEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("leaseUntil") Instant leaseUntil
+    );
+
+    /**
+     * Releases the leases held by the owner on the given events.
+     *
+     * @param ids   Event IDs
+     * @param owner Claim owner
+     * @return Number of released events
+     */
+    @Modifying
+    @Query(value = "UPDATE curve_outbox_events SET claimed_by = NULL, lease_until = NULL " +
+            "WHERE event_id IN (:ids) AND claimed_by = :owner", nativeQuery = true)
+    int releaseClaimsByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner
+    );
+
+    /**
+     * Extends the leases held by the owner on the given events.
+     *
+     * @param ids        Event IDs
+     * @param owner      Claim owner
+     * @param leaseUntil New lease expiry
+     * @return Number of renewed events
+     */
+    @Modifying
+    @Query(value = "UPDATE curve_outbox_events SET lease_until = :leaseUntil " +
+            "WHERE event_id IN (:ids) AND claimed_by = :owner", nativeQuery = true)
+    int renewClaimsByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("leaseUntil") Instant leaseUntil
+    );
+
+    /**
+     * Marks events as PUBLISHED in a single bulk update, if they are still claimed by the owner.
+     * <p>
+     * Native query, as the lease columns are not mapped on the entity.
+     *
+     * @param ids         IDs of the published events
+     * @param owner       Claim owner
+     * @param status      PUBLISHED status name
+     * @param publishedAt Publish time
+     * @param now         Update time
+     * @return Number of updated events
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE curve_outbox_events SET status = :status, published_at = :publishedAt, " +
+            "error_message = NULL, next_retry_at = NULL, updated_at = :now, version = COALESCE(version, 0) + 1 " +
+            "WHERE event_id IN (:ids) AND claimed_by = :owner", nativeQuery = true)
+    int markPublishedClaimedByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("status") String status,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Writes the retry state of an event and releases its lease, if it is still claimed by the owner.
+     *
+     * @return Number of updated events (0 or 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE curve_outbox_events SET status = :status, retry_count = :retryCount, " +
+            "error_message = :errorMessage, next_retry_at = :nextRetryAt, updated_at = :now, " +
+            "version = COALESCE(version, 0) + 1, claimed_by = NULL, lease_until = NULL " +
+            "WHERE event_id = :id AND claimed_by = :owner", nativeQuery = true)
+    int saveClaimedState(
+            @Param("id") String eventId,
+            @Param("owner") String owner,
+            @Param("status") String status,
+            @Param("retryCount") int retryCount,
+            @Param("errorMessage") String errorMessage,
+            @Param("nextRetryAt") Instant nextRetryAt,
+            @Param("now") Instant now
+    );
+
     /**
      * Retrieves events by aggregate (ascending order by occurrence time).
      *
@@ -92,10 +234,42 @@ public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEn
             Pageable pageable
     );
 
-    @Modifying
+    /**
+     * Deletes events in a single bulk delete.
+     * <p>
+     * Bypasses the persistence context, so it is flushed before and cleared after the delete
+     * to avoid working with stale entities.
+     *
+     * @param ids IDs of the events to delete
+     * @return Number of deleted events
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.eventId IN :ids")
     int deleteByEventIds(@Param("ids") List<String> ids);
 
+    /**
+     * Marks events as PUBLISHED in a single bulk update.
+     * <p>
+     * Bypasses the persistence context, so it is flushed before and cleared after the update
+     * to avoid working with stale entities.
+     *
+     * @param ids         IDs of the published events
+     * @param status      PUBLISHED status
+     * @param publishedAt Publish time
+     * @param now         Update time
+     * @return Number of updated events
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventJpaEntity e SET e.status = :status, e.publishedAt = :publishedAt, " +
+            "e.errorMessage = NULL, e.nextRetryAt = NULL, e.updatedAt = :now, " +
+            "e.version = COALESCE(e.version, 0) + 1 WHERE e.eventId IN :ids")
+    int markPublishedByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("status") OutboxStatus status,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("now") Instant now
+    );
+
     /**
      * Retrieves all events occurred at or after the given timestamp (for replay).
      *
@@ -108,4 +282,136 @@ public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEn
             @Param("since") Instant since,
             Pageable pageable
     );
+
+    /**
+     * Retrieves events after the given keyset position (for paged replay).
+     *
+     * @param occurredAt Occurrence time of the cursor
+     * @param eventId    Event ID of the cursor
+     * @param until      Upper bound timestamp (exclusive)
+     * @param pageable   Paging (limit setting)
+     * @return list of events ordered by occurredAt, eventId ascending
+     */
+    @Query("SELECT e FROM OutboxEventJpaEntity e " +
+            "WHERE (e.occurredAt > :occurredAt OR (e.occurredAt = :occurredAt AND e.eventId > :eventId)) " +
+            "AND e.occurredAt < :until ORDER BY e.occurredAt ASC, e.eventId ASC")
+    List<OutboxEventJpaEntity> findAfter(
+            @Param("occurredAt") Instant occurredAt,
+            @Param("eventId") String eventId,
+            @Param("until") Instant until,
+            Pageable pageable
+    );
+
+    /**
+     * Copies events into the archive table as PUBLISHED (archive mode).
+     *
+     * @param ids         IDs of the published events
+     * @param status      PUBLISHED status name
+     * @param publishedAt Publish time
+     * @param now         Update time
+     * @return Number of archived events
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO curve_outbox_events_archive (" + ARCHIVE_COLUMNS + ") " +
+            "SELECT event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at, :status, retry_count, " +
+            ":publishedAt, NULL, NULL, topic, partition_key, payload_codec, created_at, :now, version " +
+            "FROM curve_outbox_events WHERE event_id IN (:ids)", nativeQuery = true)
+    int archiveByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("status") String status,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Copies events into the archive table as PUBLISHED, if they are still claimed by the owner (archive mode).
+     *
+     * @return Number of archived events
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO curve_outbox_events_archive (" + ARCHIVE_COLUMNS + ") " +
+            "SELECT event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at, :status, retry_count, " +
+            ":publishedAt, NULL, NULL, topic, partition_key, payload_codec, created_at, :now, version " +
+            "FROM curve_outbox_events WHERE event_id IN (:ids) AND claimed_by = :owner", nativeQuery = true)
+    int archiveClaimedByEventIds(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("status") String status,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Deletes events that are still claimed by the owner (archive and delete modes).
+     *
+     * @return Number of deleted events
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM curve_outbox_events WHERE event_id IN (:ids) AND claimed_by = :owner",
+            nativeQuery = true)
+    int deleteClaimedByEventIds(@Param("ids") Collection<String> ids, @Param("owner") String owner);
+
+    /**
+     * Retrieves an archived event by ID (archive mode).
+     */
+    @Query(value = "SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events_archive WHERE event_id = :id",
+            nativeQuery = true)
+    Optional<OutboxEventJpaEntity> findArchivedById(@Param("id") String eventId);
+
+    /**
+     * Retrieves events by aggregate from both the outbox and the archive table (archive mode).
+     */
+    @Query(value = "SELECT * FROM (" +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId " +
+            "UNION ALL SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events_archive " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId" +
+            ") e ORDER BY e.occurred_at ASC", nativeQuery = true)
+    List<OutboxEventJpaEntity> findByAggregateIncludingArchive(
+            @Param("aggregateType") String aggregateType,
+            @Param("aggregateId") String aggregateId
+    );
+
+    /**
+     * Retrieves events occurred at or after the given timestamp from both tables (archive mode).
+     */
+    @Query(value = "SELECT * FROM (" +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events WHERE occurred_at >= :since " +
+            "UNION ALL SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events_archive WHERE occurred_at >= :since" +
+            ") e ORDER BY e.occurred_at ASC", nativeQuery = true)
+    List<OutboxEventJpaEntity> findSinceIncludingArchive(@Param("since") Instant since, Pageable pageable);
+
+    /**
+     * Retrieves events after the given keyset position from both tables (archive mode).
+     */
+    @Query(value = "SELECT * FROM (" +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events " +
+            "WHERE (occurred_at > :occurredAt OR (occurred_at = :occurredAt AND event_id > :eventId)) " +
+            "AND occurred_at < :until " +
+            "UNION ALL SELECT " + ARCHIVE_COLUMNS + " FROM curve_outbox_events_archive " +
+            "WHERE (occurred_at > :occurredAt OR (occurred_at = :occurredAt AND event_id > :eventId)) " +
+            "AND occurred_at < :until" +
+            ") e ORDER BY e.occurred_at ASC, e.event_id ASC", nativeQuery = true)
+    List<OutboxEventJpaEntity> findAfterIncludingArchive(
+            @Param("occurredAt") Instant occurredAt,
+            @Param("eventId") String eventId,
+            @Param("until") Instant until,
+            Pageable pageable
+    );
+
+    /**
+     * Counts archived events (archive mode).
+     */
+    @Query(value = "SELECT COUNT(*) FROM curve_outbox_events_archive", nativeQuery = true)
+    long countArchived();
+
+    /**
+     * Retrieves IDs of archived events occurred before the cutoff time (archive mode).
+     */
+    @Query(value = "SELECT event_id FROM curve_outbox_events_archive WHERE occurred_at < :before", nativeQuery = true)
+    List<String> findArchivedIdsOccurredBefore(@Param("before") Instant before, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM curve_outbox_events_archive WHERE event_id IN (:ids)", nativeQuery = true)
+    int deleteArchivedByEventIds(@Param("ids") List<String> ids);
 }
@@ -0,0 +1,14 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Outcome of publishing a batch (or partition) of outbox events.
+ *
+ * @param published Events acknowledged by Kafka (already marked as PUBLISHED in memory)
+ * @param failed    Events scheduled for retry or marked as FAILED in memory
+ */
+record OutboxBatchResult(List<OutboxEvent> published, List<OutboxEvent> failed) {
+}
@@ -1,29 +1,44 @@
 package com.project.curve.spring.outbox.publisher;
 
+import com.project.curve.core.outbox.OutboxCursor;
 import com.project.curve.core.outbox.OutboxEvent;
 import com.project.curve.core.outbox.OutboxEventRepository;
+import com.project.curve.core.outbox.OutboxKeyResolver;
+import com.project.curve.core.outbox.OutboxKeyStrategy;
 import com.project.curve.core.outbox.OutboxStatus;
+import lombok.Builder;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
 
 /**
- * Publisher that periodically publishes Outbox events to Kafka.
+ * Publisher that publishes Outbox events to Kafka.
  * <p>
  * Core component of the Transactional Outbox Pattern.
+ * Polling is driven by {@link OutboxPoller}.
  *
  * <h3>Operation</h3>
  * <ol>
- *   <li>Query PENDING events at fixed intervals (default 1 second)</li>
+ *   <li>Query PENDING events (adaptively, or at fixed intervals of poll-interval-ms)</li>
  *   <li>Attempt to publish queried events to Kafka</li>
  *   <li>On success, change to PUBLISHED status</li>
  *   <li>On failure, increment retry count; change to FAILED status when max retries exceeded</li>
@@ -35,10 +50,30 @@ import java.util.concurrent.atomic.AtomicLong;
  *   outbox:
  *     enabled: true
  *     poll-interval-ms: 1000      # Polling interval
+ *     adaptive-polling-enabled: true # Back off when idle, wake up on commit
+ *     max-poll-interval-ms: 10000  # Back-off ceiling of the adaptive poller
  *     batch-size: 100              # Number of events to process at once
  *     max-retries: 3               # Maximum retry count
+ *     pipelined-send-enabled: false # Send the whole batch before awaiting acknowledgements
+ *     worker-count: 1              # Parallel workers, partitioned by aggregate
+ *     lease-enabled: false         # Claim-and-lease instead of row locks held during sends
+ *     lease-duration-seconds: 60   # Lease duration of claimed events
  * </pre>
  *
+ * <h3>Topic Routing</h3>
+ * Each event is sent to its own topic ({@link OutboxEvent#getTopic()}, e.g. from {@code @PublishEvent(topic = ...)}),
+ * or to the default topic if it has none. In pipelined mode, the sends of a batch are grouped by topic.
+ * <p>
+ * The record key is the event's own partition key if set, otherwise the key resolved by the
+ * {@link OutboxKeyResolver} (curve.outbox.key-strategy or a custom resolver bean).
+ *
+ * <h3>Claim-and-Lease Mode</h3>
+ * With lease-enabled, events are claimed by a short committed UPDATE ({@code claimed_by}, {@code lease_until})
+ * and sent outside any transaction (see {@link #publishClaimedEvents()}), so no row lock or connection
+ * is held while waiting for Kafka. Events of a publisher that dies are reclaimed once the lease expires.
+ * While a batch is being sent, its leases are renewed whenever they could expire before the next send
+ * times out, and the outcome is only written for events still claimed by this publisher.
+ *
  * @see OutboxEvent
  * @see OutboxEventRepository
  */
@@ -48,6 +83,8 @@ public class OutboxEventPublisher {
     private final OutboxEventRepository outboxRepository;
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final String topic;
+    private final OutboxKeyResolver keyResolver;
+    private final OutboxPayloadCompressor payloadCompressor;
     private final int batchSize;
     private final int maxRetries;
     private final int sendTimeoutSeconds;
@@ -55,6 +92,11 @@ public class OutboxEventPublisher {
     private final int retentionDays;
     private final boolean dynamicBatchingEnabled;
     private final boolean circuitBreakerEnabled;
+    private final boolean pipelinedSendEnabled;
+    private final OutboxWorkerPool workerPool;
+    private final boolean leaseEnabled;
+    private final Duration leaseDuration;
+    private final String instanceId = resolveInstanceId();
 
     // Statistics and metrics
     private final AtomicInteger publishedCount = new AtomicInteger(0);
@@ -66,6 +108,12 @@ public class OutboxEventPublisher {
     private volatile boolean circuitOpen = false;
     private volatile long circuitOpenedAt = 0;
 
+    // Progress of the last paged replay (null if none has been started)
+    private volatile ReplayProgress replayProgress;
+
+    // Maximum number of failed event IDs reported by a paged replay (bounds memory of large replays)
+    private static final int MAX_REPORTED_FAILED_EVENT_IDS = 100;
+
     // Pending count cache (reduces DB query overhead)
     private volatile long cachedPendingCount = 0;
     private volatile long lastCountQueryTime = 0;
@@ -76,6 +124,12 @@ public class OutboxEventPublisher {
     private static final long CIRCUIT_OPEN_DURATION_MS = 60000L; // Attempt Half-Open after 1 minute
     private static final int HALF_OPEN_MAX_ATTEMPTS = 3; // Maximum attempts in Half-Open state
 
+    /**
+     * Creates a publisher with the original options.
+     * <p>
+     * Sends sequentially on one worker with row locks, keys events by event ID and does not compress payloads.
+     * Use {@link #builder()} for the other options.
+     */
     public OutboxEventPublisher(
             OutboxEventRepository outboxRepository,
             KafkaTemplate<String, Object> kafkaTemplate,
@@ -87,74 +141,390 @@ public class OutboxEventPublisher {
             int retentionDays,
             boolean dynamicBatchingEnabled,
             boolean circuitBreakerEnabled
+    ) {
+        this(outboxRepository, kafkaTemplate, topic, batchSize, maxRetries, sendTimeoutSeconds, cleanupEnabled,
+                retentionDays, dynamicBatchingEnabled, circuitBreakerEnabled, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a publisher. Unset options default to the values of {@code curve.outbox.*}.
+     *
+     * @param outboxRepository       Outbox repository
+     * @param kafkaTemplate          Kafka template
+     * @param topic                  Default topic of events without their own topic
+     * @param batchSize              Number of events per batch (default 100)
+     * @param maxRetries             Maximum retry count (default 3)
+     * @param sendTimeoutSeconds     Send timeout in seconds (default 10)
+     * @param cleanupEnabled         Whether old published events are deleted (default false)
+     * @param retentionDays          Retention of published events in days (default 7)
+     * @param dynamicBatchingEnabled Whether the batch size follows the pending count (default true)
+     * @param circuitBreakerEnabled  Whether consecutive batch failures open the circuit (default true)
+     * @param pipelinedSendEnabled   Whether a batch is sent before awaiting the acknowledgements (default false)
+     * @param workerPool             Parallel workers partitioned by aggregate (nullable, null means one worker)
+     * @param leaseEnabled           Whether events are claimed with leases instead of row locks (default false)
+     * @param leaseDuration          Lease duration, must be longer than the send timeout (default 60 seconds)
+     * @param keyResolver            Record key resolver (default {@link OutboxKeyStrategy#EVENT_ID})
+     * @param payloadCompressor      Payload compressor (default decompression only)
+     */
+    @Builder
+    public OutboxEventPublisher(
+            @NonNull OutboxEventRepository outboxRepository,
+            @NonNull KafkaTemplate<String, Object> kafkaTemplate,
+            @NonNull String topic,
+            Integer batchSize,
+            Integer maxRetries,
+            Integer sendTimeoutSeconds,
+            Boolean cleanupEnabled,
+            Integer retentionDays,
+            Boolean dynamicBatchingEnabled,
+            Boolean circuitBreakerEnabled,
+            Boolean pipelinedSendEnabled,
+            OutboxWorkerPool workerPool,
+            Boolean leaseEnabled,
+            Duration leaseDuration,
+            OutboxKeyResolver keyResolver,
+            OutboxPayloadCompressor payloadCompressor
     ) {
         this.outboxRepository = outboxRepository;
         this.kafkaTemplate = kafkaTemplate;
         this.topic = topic;
-        this.batchSize = batchSize;
-        this.maxRetries = maxRetries;
-        this.sendTimeoutSeconds = sendTimeoutSeconds;
-        this.cleanupEnabled = cleanupEnabled;
-        this.retentionDays = retentionDays;
-        this.dynamicBatchingEnabled = dynamicBatchingEnabled;
-        this.circuitBreakerEnabled = circuitBreakerEnabled;
+        this.batchSize = batchSize != null ? batchSize : 100;
+        this.maxRetries = maxRetries != null ? maxRetries : 3;
+        this.sendTimeoutSeconds = sendTimeoutSeconds != null ? sendTimeoutSeconds : 10;
+        this.cleanupEnabled = cleanupEnabled != null ? cleanupEnabled : false;
+        this.retentionDays = retentionDays != null ? retentionDays : 7;
+        this.dynamicBatchingEnabled = dynamicBatchingEnabled != null ? dynamicBatchingEnabled : true;
+        this.circuitBreakerEnabled = circuitBreakerEnabled != null ? circuitBreakerEnabled : true;
+        this.pipelinedSendEnabled = pipelinedSendEnabled != null ? pipelinedSendEnabled : false;
+        this.workerPool = workerPool;
+        this.leaseEnabled = leaseEnabled != null ? leaseEnabled : false;
+        this.leaseDuration = leaseDuration != null ? leaseDuration : Duration.ofSeconds(60);
+        this.keyResolver = keyResolver != null ? keyResolver : OutboxKeyStrategy.EVENT_ID;
+        this.payloadCompressor = payloadCompressor != null ? payloadCompressor : new OutboxPayloadCompressor();
+        if (this.leaseEnabled && this.leaseDuration.compareTo(Duration.ofSeconds(this.sendTimeoutSeconds)) <= 0) {
+            throw new IllegalArgumentException("leaseDuration (" + this.leaseDuration +
+                    ") must be longer than sendTimeoutSeconds (" + this.sendTimeoutSeconds + "s)");
+        }
 
         log.info("OutboxEventPublisher initialized: topic={}, batchSize={}, maxRetries={}, sendTimeoutSeconds={}, " +
-                        "cleanupEnabled={}, retentionDays={}, dynamicBatching={}, circuitBreaker={}",
-                topic, batchSize, maxRetries, sendTimeoutSeconds, cleanupEnabled, retentionDays,
-                dynamicBatchingEnabled, circuitBreakerEnabled);
+                        "cleanupEnabled={}, retentionDays={}, dynamicBatching={}, circuitBreaker={}, pipelinedSend={}, " +
+                        "workers={}, lease={}, keyResolver={}, instanceId={}",
+                this.topic, this.batchSize, this.maxRetries, this.sendTimeoutSeconds, this.cleanupEnabled,
+                this.retentionDays, this.dynamicBatchingEnabled, this.circuitBreakerEnabled, this.pipelinedSendEnabled,
+                workerPool != null ? workerPool.getWorkerCount() : 1,
+                this.leaseEnabled ? this.leaseDuration : "disabled", this.keyResolver, instanceId);
+    }
+
+    private static String resolveInstanceId() {
+        String id = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return id.length() <= 100 ? id : id.substring(id.length() - 100);
     }
 
     /**
-     * Periodically publish PENDING events to Kafka.
+     * Publish one batch of PENDING events to Kafka.
      * <p>
-     * Runs at configured poll-interval-ms intervals.
+     * Called repeatedly by {@link OutboxPoller}, which uses the returned {@link PollResult}
+     * to decide when to poll again.
      * Supports Circuit Breaker and dynamic batch size adjustment.
+     * <p>
+     * Events are locked with FOR UPDATE SKIP LOCKED for the whole transaction, including the Kafka sends.
+     *
+     * @return Number of events requested and fetched by this poll
      */
-    @Scheduled(fixedDelayString = "${curve.outbox.poll-interval-ms:1000}")
     @Transactional
-    public void publishPendingEvents() {
+    public PollResult publishPendingEvents() {
+        return publishBatch(outboxRepository::findPendingForProcessing, false);
+    }
+
+    /**
+     * Publish one batch of PENDING events to Kafka in claim-and-lease mode.
+     * <p>
+     * Deliberately not transactional: events are claimed with a short committed UPDATE,
+     * sent without holding any row lock or connection, and the outcome is recorded with bulk updates.
+     * Leases are renewed while the batch is being sent, and the outcome is only written for events still
+     * claimed by this publisher. Leases of failed events are released so that their retries are not delayed
+     * until the lease expires.
+     *
+     * @return Number of events requested and claimed by this poll
+     */
+    public PollResult publishClaimedEvents() {
+        return publishBatch(limit -> outboxRepository.claimPending(instanceId, leaseDuration, limit), true);
+    }
+
+    /**
+     * Whether events are fetched with claim-and-lease ({@link #publishClaimedEvents()}).
+     */
+    public boolean isLeaseEnabled() {
+        return leaseEnabled;
+    }
+
+    private PollResult publishBatch(IntFunction<List<OutboxEvent>> fetcher, boolean claimed) {
         // Check Circuit Breaker
         if (circuitBreakerEnabled && !shouldAllowRequest()) {
             log.debug("Circuit breaker is OPEN, skipping outbox processing");
-            return;
+            return PollResult.SKIPPED;
         }
 
+        int effectiveBatchSize = 0;
         try {
             // Calculate dynamic batch size
-            int effectiveBatchSize = calculateEffectiveBatchSize();
+            effectiveBatchSize = calculateEffectiveBatchSize();
 
-            List<OutboxEvent> pendingEvents = outboxRepository.findPendingForProcessing(effectiveBatchSize);
+            long fetchedAt = System.nanoTime();
+            List<OutboxEvent> pendingEvents = fetcher.apply(effectiveBatchSize);
 
             if (pendingEvents.isEmpty()) {
-                return;
+                return new PollResult(effectiveBatchSize, 0);
             }
 
             log.debug("Processing {} pending outbox events (batchSize: {}, circuitState: {})",
                     pendingEvents.size(), effectiveBatchSize, getCircuitState());
 
-            // Process events
-            int successCount = 0;
-            int failureCount = 0;
-
-            for (OutboxEvent event : pendingEvents) {
-                try {
-                    processEvent(event);
-                    successCount++;
-                    recordSuccess();
-                } catch (Exception e) {
-                    failureCount++;
-                    recordFailure();
-                    log.warn("Failed to process outbox event: eventId={}", event.getEventId(), e);
-                }
+            OutboxLeaseKeeper lease = claimed
+                    ? new OutboxLeaseKeeper(outboxRepository, pendingEvents, instanceId, leaseDuration,
+                    Duration.ofSeconds(sendTimeoutSeconds), fetchedAt)
+                    : null;
+
+            // Process events (partitioned by aggregate across workers when a worker pool is configured)
+            OutboxBatchResult result = workerPool != null
+                    ? workerPool.execute(pendingEvents, events -> sendBatch(events, lease))
+                    : sendBatch(pendingEvents, lease);
+            if (lease != null) {
+                lease.renewIfExpiring();
             }
+            persistBatchResults(result, claimed);
 
             log.debug("Outbox batch completed: success={}, failure={}, total={}",
-                    successCount, failureCount, pendingEvents.size());
+                    result.published().size(), result.failed().size(), pendingEvents.size());
+
+            return new PollResult(effectiveBatchSize, pendingEvents.size());
 
         } catch (Exception e) {
             log.error("Failed to process pending outbox events", e);
             recordFailure();
+            return new PollResult(effectiveBatchSize, 0);
+        }
+    }
+
+    /**
+     * Result of a single outbox poll.
+     *
+     * @param requested Batch size requested from the repository (0 when the poll was skipped)
+     * @param fetched   Number of PENDING events fetched and processed
+     */
+    public record PollResult(int requested, int fetched) {
+
+        static final PollResult SKIPPED = new PollResult(0, 0);
+
+        /**
+         * Whether the batch was full, meaning more events are probably waiting.
+         */
+        public boolean isFull() {
+            return fetched > 0 && fetched >= requested;
+        }
+
+        /**
+         * Whether no event was fetched.
+         */
+        public boolean isEmpty() {
+            return fetched == 0;
+        }
+    }
+
+    /**
+     * Sends events to Kafka using the configured send mode.
+     * <p>
+     * Only updates the in-memory state of the events; persisting is done by {@link #persistBatchResults}.
+     *
+     * @param events Events to publish, ordered by occurredAt
+     * @param lease  Keeps the leases of claimed events alive, or null if the events are not claimed
+     * @return Outcome of the batch
+     */
+    private OutboxBatchResult sendBatch(List<OutboxEvent> events, OutboxLeaseKeeper lease) {
+        return pipelinedSendEnabled ? sendPipelined(events, lease) : sendSequential(events, lease);
+    }
+
+    /**
+     * Publishes events one by one, waiting for each Kafka acknowledgement before sending the next.
+     *
+     * @param events Events to publish
+     * @param lease  Keeps the leases of claimed events alive, or null
+     * @return Outcome of the batch
+     */
+    private OutboxBatchResult sendSequential(List<OutboxEvent> events, OutboxLeaseKeeper lease) {
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+
+        for (OutboxEvent event : events) {
+            if (lease != null) {
+                lease.renewIfExpiring();
+            }
+            recordOutcome(event, processEvent(event), published, failed);
+        }
+
+        return new OutboxBatchResult(published, failed);
+    }
+
+    /**
+     * Publishes events in pipelined mode.
+     * <p>
+     * All sends of the batch are handed to the producer first, so that producer batching and
+     * {@code max.in.flight.requests.per.connection} can be used, and then the acknowledgements
+     * are awaited against a single deadline of {@code sendTimeoutSeconds} shared by the whole batch.
+     * Each event is still marked as PUBLISHED or scheduled for retry individually.
+     *
+     * @param events Events to publish
+     * @param lease  Keeps the leases of claimed events alive, or null
+     * @return Outcome of the batch
+     */
+    private OutboxBatchResult sendPipelined(List<OutboxEvent> events, OutboxLeaseKeeper lease) {
+        if (lease != null) {
+            lease.renewIfExpiring();
+        }
+        List<OutboxEvent> sent = new ArrayList<>(events.size());
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (List<OutboxEvent> topicEvents : groupByTopic(events).values()) {
+            for (OutboxEvent event : topicEvents) {
+                sent.add(event);
+                futures.add(sendAsync(event));
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+
+        for (int i = 0; i < sent.size(); i++) {
+            OutboxEvent event = sent.get(i);
+            recordOutcome(event, completeEvent(event, futures.get(i), deadline), published, failed);
+        }
+
+        return new OutboxBatchResult(published, failed);
+    }
+
+    /**
+     * Groups events by their target topic, preserving the order of events within each topic.
+     * <p>
+     * Sending one topic after the other keeps the producer batches of each topic filled, instead of
+     * interleaving records of every topic of the batch.
+     *
+     * @param events Events ordered by occurredAt
+     * @return Events per topic, in order of first appearance
+     */
+    Map<String, List<OutboxEvent>> groupByTopic(List<OutboxEvent> events) {
+        Map<String, List<OutboxEvent>> byTopic = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            byTopic.computeIfAbsent(event.resolveTopic(topic), t -> new ArrayList<>()).add(event);
+        }
+        return byTopic;
+    }
+
+    /**
+     * Sends an event to its topic, keyed by its partition key, with its decompressed payload.
+     */
+    private CompletableFuture<?> send(OutboxEvent event) {
+        return kafkaTemplate.send(event.resolveTopic(topic), event.resolvePartitionKey(keyResolver),
+                payloadCompressor.decode(event));
+    }
+
+    /**
+     * Sends an event, turning a synchronous send failure into a failed future.
+     */
+    private CompletableFuture<?> sendAsync(OutboxEvent event) {
+        try {
+            return send(event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Waits for the send result of a pipelined event and records the outcome.
+     *
+     * @param event    Event that was sent
+     * @param future   Send result future
+     * @param deadline Batch deadline ({@link System#nanoTime()} based)
+     * @return true if the event was published
+     */
+    private boolean completeEvent(OutboxEvent event, CompletableFuture<?> future, long deadline) {
+        try {
+            long remainingNanos = Math.max(0L, deadline - System.nanoTime());
+            future.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            handlePublishFailure(event, e.getCause() instanceof Exception cause ? cause : e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handlePublishFailure(event, e);
+            return false;
+        } catch (Exception e) {
+            handlePublishFailure(event, e);
+            return false;
+        }
+
+        markPublished(event);
+        return true;
+    }
+
+    /**
+     * Collects the outcome of an event.
+     * <p>
+     * A failed send is handled by scheduling a retry of the event, so it counts as a successful
+     * poll for the circuit breaker; only failures of the batch itself (e.g., database errors) open the circuit.
+     */
+    private void recordOutcome(OutboxEvent event, boolean success,
+                               List<OutboxEvent> published, List<OutboxEvent> failed) {
+        if (success) {
+            published.add(event);
+        } else {
+            failed.add(event);
+        }
+        recordSuccess();
+    }
+
+    /**
+     * Persists the outcome of a batch with bulk repository operations.
+     * <p>
+     * Published events are marked with a single bulk update, and the retry state of failed
+     * events is written with one batched save instead of one statement per event.
+     * The bulk update stamps every event of the batch with the latest publish time of the batch,
+     * so {@code published_at} is batch-granular.
+     * <p>
+     * For claimed events, only events still claimed by this publisher are written: if a lease expired and another
+     * instance took the event over, its state belongs to the new owner.
+     *
+     * @param result  Outcome of the batch
+     * @param claimed Whether the events were claimed with a lease
+     */
+    private void persistBatchResults(OutboxBatchResult result, boolean claimed) {
+        List<OutboxEvent> published = result.published();
+        List<OutboxEvent> failed = result.failed();
+        if (!published.isEmpty()) {
+            List<String> eventIds = published.stream().map(OutboxEvent::getEventId).toList();
+            Instant publishedAt = published.stream()
+                    .map(OutboxEvent::getPublishedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+            if (claimed) {
+                warnIfLeaseLost(outboxRepository.markPublished(eventIds, publishedAt, instanceId), published.size());
+            } else {
+                outboxRepository.markPublished(eventIds, publishedAt);
+            }
+            publishedCount.addAndGet(published.size());
+        }
+        if (!failed.isEmpty()) {
+            if (claimed) {
+                warnIfLeaseLost(outboxRepository.saveClaimed(failed, instanceId), failed.size());
+            } else {
+                outboxRepository.saveAll(failed);
+            }
+        }
+    }
+
+    private void warnIfLeaseLost(int written, int expected) {
+        if (written < expected) {
+            log.warn("Lease of {} of {} outbox events expired and was taken over by another instance; " +
+                    "their outcome is left to the new owner: owner={}", expected - written, expected, instanceId);
         }
     }
 
@@ -312,25 +682,33 @@ public class OutboxEventPublisher {
      * Process individual event.
      *
      * @param event Event to process
+     * @return true if the event was published
      */
-    private void processEvent(OutboxEvent event) {
+    private boolean processEvent(OutboxEvent event) {
         try {
             // Publish to Kafka (with timeout)
-            kafkaTemplate.send(topic, event.getEventId(), event.getPayload())
-                    .get(sendTimeoutSeconds, TimeUnit.SECONDS);
-
-            // Publish success
-            event.markAsPublished();
-            outboxRepository.save(event);
-            publishedCount.incrementAndGet();
-
-            log.debug("Outbox event published successfully: eventId={}, aggregateType={}, aggregateId={}",
-                    event.getEventId(), event.getAggregateType(), event.getAggregateId());
-
+            send(event).get(sendTimeoutSeconds, TimeUnit.SECONDS);
         } catch (Exception e) {
             // Publish failure
             handlePublishFailure(event, e);
+            return false;
         }
+
+        // Publish success
+        markPublished(event);
+        return true;
+    }
+
+    /**
+     * Marks event as PUBLISHED. The new state is persisted by {@link #persistBatchResults}.
+     *
+     * @param event Successfully published event
+     */
+    private void markPublished(OutboxEvent event) {
+        event.markAsPublished();
+
+        log.debug("Outbox event published successfully: eventId={}, aggregateType={}, aggregateId={}",
+                event.getEventId(), event.getAggregateType(), event.getAggregateId());
     }
 
     /**
@@ -355,8 +733,6 @@ public class OutboxEventPublisher {
             log.error("Outbox event permanently failed after {} retries: eventId={}, aggregateType={}, aggregateId={}",
                     maxRetries, event.getEventId(), event.getAggregateType(), event.getAggregateId());
         }
-
-        outboxRepository.save(event);
     }
 
     /**
@@ -377,29 +753,189 @@ public class OutboxEventPublisher {
     public ReplayResult replay(Instant since, int limit) {
         List<OutboxEvent> events = outboxRepository.findSince(since, limit);
 
-        int success = 0;
-        int failed = 0;
+        List<String> replayedEventIds = new ArrayList<>(events.size());
         List<String> failedEventIds = new ArrayList<>();
 
         for (OutboxEvent event : events) {
             try {
-                kafkaTemplate.send(topic, event.getEventId(), event.getPayload())
-                        .get(sendTimeoutSeconds, TimeUnit.SECONDS);
-                event.markAsPublished();
-                outboxRepository.save(event);
-                success++;
+                send(event).get(sendTimeoutSeconds, TimeUnit.SECONDS);
+                replayedEventIds.add(event.getEventId());
                 log.info("Replayed outbox event: eventId={}, aggregateType={}", event.getEventId(), event.getAggregateType());
             } catch (Exception e) {
-                failed++;
                 failedEventIds.add(event.getEventId());
                 log.warn("Failed to replay outbox event: eventId={}", event.getEventId(), e);
             }
         }
 
+        if (!replayedEventIds.isEmpty()) {
+            outboxRepository.markPublished(replayedEventIds, Instant.now());
+        }
+
+        int success = replayedEventIds.size();
+        int failed = failedEventIds.size();
+
         log.info("Outbox replay completed: total={}, success={}, failed={}, since={}", events.size(), success, failed, since);
         return new ReplayResult(events.size(), success, failed, failedEventIds);
     }
 
+    /**
+     * Re-publishes outbox events page by page using keyset pagination on {@code (occurredAt, eventId)}.
+     * <p>
+     * Only one page is held in memory at a time, and each page is sent (pipelined when
+     * pipelined-send-enabled) and marked as PUBLISHED before the next page is read, without a surrounding
+     * transaction. The returned cursor can be passed back to resume the replay where it stopped,
+     * so a large range (e.g., a full day for a new consumer) can be replayed in several bounded calls.
+     * Progress is available through {@link #getReplayProgress()} while the replay runs.
+     *
+     * <p><b>Idempotency Note:</b> Consumers must handle duplicate events, as events that
+     * were already PUBLISHED will be sent again.
+     *
+     * @param from      position to continue after ({@link OutboxCursor#start(Instant)} to start at a timestamp)
+     * @param until     upper bound timestamp (exclusive); keep it fixed when resuming
+     * @param pageSize  number of events read and sent per page
+     * @param maxEvents maximum number of events to replay in this call
+     * @return summary of this call, including the cursor to resume from
+     */
+    public PagedReplayResult replayPaged(OutboxCursor from, Instant until, int pageSize, int maxEvents) {
+        OutboxCursor cursor = from;
+        int total = 0;
+        int success = 0;
+        int failed = 0;
+        List<String> failedEventIds = new ArrayList<>();
+        boolean completed = false;
+        replayProgress = new ReplayProgress(cursor, until, 0, 0, 0, true);
+
+        try {
+            while (total < maxEvents) {
+                int limit = Math.min(pageSize, maxEvents - total);
+                List<OutboxEvent> page = outboxRepository.findAfter(cursor, until, limit);
+                if (page.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+
+                List<String> replayedIds = new ArrayList<>(page.size());
+                List<String> pageFailedIds = new ArrayList<>();
+                sendReplayPage(page, replayedIds, pageFailedIds);
+                if (!replayedIds.isEmpty()) {
+                    outboxRepository.markPublished(replayedIds, Instant.now());
+                }
+
+                total += page.size();
+                success += replayedIds.size();
+                failed += pageFailedIds.size();
+                for (String eventId : pageFailedIds) {
+                    if (failedEventIds.size() >= MAX_REPORTED_FAILED_EVENT_IDS) {
+                        break;
+                    }
+                    failedEventIds.add(eventId);
+                }
+                cursor = OutboxCursor.after(page.get(page.size() - 1));
+                replayProgress = new ReplayProgress(cursor, until, total, success, failed, true);
+
+                log.info("Outbox replay progress: replayed={}, failed={}, cursor={}", success, failed, cursor);
+
+                if (page.size() < limit) {
+                    completed = true;
+                    break;
+                }
+            }
+        } finally {
+            replayProgress = new ReplayProgress(cursor, until, total, success, failed, false);
+        }
+
+        log.info("Outbox paged replay {}: total={}, success={}, failed={}, cursor={}, until={}",
+                completed ? "completed" : "paused", total, success, failed, cursor, until);
+        return new PagedReplayResult(total, success, failed, failedEventIds, completed ? null : cursor, until);
+    }
+
+    /**
+     * Sends one replay page, collecting the IDs of replayed and failed events.
+     */
+    private void sendReplayPage(List<OutboxEvent> page, List<String> replayedIds, List<String> failedIds) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(page.size());
+        long deadline = 0L;
+        if (pipelinedSendEnabled) {
+            for (OutboxEvent event : page) {
+                futures.add(sendAsync(event));
+            }
+            deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        }
+
+        for (int i = 0; i < page.size(); i++) {
+            OutboxEvent event = page.get(i);
+            try {
+                if (pipelinedSendEnabled) {
+                    futures.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } else {
+                    sendAsync(event).get(sendTimeoutSeconds, TimeUnit.SECONDS);
+                }
+                replayedIds.add(event.getEventId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(event.getEventId());
+            } catch (Exception e) {
+                failedIds.add(event.getEventId());
+                log.warn("Failed to replay outbox event: eventId={}", event.getEventId(), e);
+            }
+        }
+    }
+
+    /**
+     * Query the progress of the last paged replay.
+     *
+     * @return Progress of the running or last finished paged replay (null if none has been started)
+     */
+    public ReplayProgress getReplayProgress() {
+        return replayProgress;
+    }
+
+    /**
+     * Result of a paged outbox replay call.
+     *
+     * @param total          number of events read in this call
+     * @param success        number of events successfully re-published
+     * @param failed         number of events that failed to re-publish
+     * @param failedEventIds IDs of events that failed to re-publish (at most 100)
+     * @param nextCursor     cursor to resume from, or null when the range has been fully replayed
+     * @param until          upper bound of the replayed range (exclusive)
+     */
+    public record PagedReplayResult(
+            int total,
+            int success,
+            int failed,
+            List<String> failedEventIds,
+            OutboxCursor nextCursor,
+            Instant until
+    ) {
+
+        /**
+         * Whether the whole range has been replayed.
+         */
+        public boolean completed() {
+            return nextCursor == null;
+        }
+    }
+
+    /**
+     * Progress of a paged outbox replay.
+     *
+     * @param cursor  position after the last replayed page
+     * @param until   upper bound of the replayed range (exclusive)
+     * @param total   number of events read so far
+     * @param success number of events successfully re-published so far
+     * @param failed  number of events that failed to re-publish so far
+     * @param running whether the replay is still running
+     */
+    public record ReplayProgress(
+            OutboxCursor cursor,
+            Instant until,
+            long total,
+            long success,
+            long failed,
+            boolean running
+    ) {}
+
     /**
      * Result of an outbox replay operation.
      *
@@ -437,6 +973,24 @@ public class OutboxEventPublisher {
         );
     }
 
+    /**
+     * Query per-worker statistics.
+     *
+     * @return Statistics of each outbox worker (empty when events are published on the scheduler thread)
+     */
+    public List<OutboxWorkerPool.WorkerStats> getWorkerStats() {
+        return workerPool != null ? workerPool.getStats() : List.of();
+    }
+
+    /**
+     * Query the resolver of Kafka record keys.
+     *
+     * @return Key resolver used for events without a partition key of their own
+     */
+    public OutboxKeyResolver getKeyResolver() {
+        return keyResolver;
+    }
+
     /**
      * Reset statistics.
      */
@@ -0,0 +1,73 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Keeps the leases of a claimed batch alive while the batch is being sent.
+ * <p>
+ * A batch can take longer to send than the lease duration (e.g., a sequential batch of slow sends).
+ * Before each wait for Kafka, {@link #renewIfExpiring()} renews the leases of the whole batch when they could
+ * expire before the wait ends, so that another instance does not reclaim and resend events that are still in flight
+ * or whose outcome has not been persisted yet.
+ * <p>
+ * Thread-safe, as the partitions of a batch are sent by parallel workers.
+ */
+@Slf4j
+class OutboxLeaseKeeper {
+
+    private final OutboxEventRepository outboxRepository;
+    private final List<String> eventIds;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final long maxWaitNanos;
+    private long expiresAtNanos;
+
+    /**
+     * @param outboxRepository Repository holding the leases
+     * @param events           Claimed events
+     * @param owner            Claim owner
+     * @param leaseDuration    Lease duration
+     * @param maxWait          Longest single wait for Kafka (the send timeout)
+     * @param claimedAtNanos   {@link System#nanoTime()} taken before the events were claimed
+     */
+    OutboxLeaseKeeper(OutboxEventRepository outboxRepository, List<OutboxEvent> events, String owner,
+                      Duration leaseDuration, Duration maxWait, long claimedAtNanos) {
+        this.outboxRepository = outboxRepository;
+        this.eventIds = events.stream().map(OutboxEvent::getEventId).toList();
+        this.owner = owner;
+        this.leaseDuration = leaseDuration;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.expiresAtNanos = claimedAtNanos + leaseDuration.toNanos();
+    }
+
+    /**
+     * Renews the leases if they could expire within the next wait for Kafka.
+     * <p>
+     * A failed renewal is logged and retried before the next wait; events whose lease is lost are
+     * left to the new owner when the outcome is persisted.
+     */
+    synchronized void renewIfExpiring() {
+        long now = System.nanoTime();
+        if (now + maxWaitNanos < expiresAtNanos) {
+            return;
+        }
+
+        try {
+            int renewed = outboxRepository.renewClaims(eventIds, owner, leaseDuration);
+            expiresAtNanos = now + leaseDuration.toNanos();
+            if (renewed < eventIds.size()) {
+                log.warn("Lost the lease of {} of {} outbox events while sending: owner={}",
+                        eventIds.size() - renewed, eventIds.size(), owner);
+            } else {
+                log.debug("Renewed the lease of {} outbox events: owner={}", renewed, owner);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew outbox leases: owner={}, events={}", owner, eventIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.GzipOutboxPayloadCodec;
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxPayloadCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compresses outbox payloads above a size threshold and decompresses them before publishing.
+ * <p>
+ * Compressed payloads are stored Base64-encoded in the regular payload column, with the codec name in
+ * {@code payload_codec}, so the outbox schema keeps a single text payload column on every database.
+ * Payloads below the threshold, or that do not shrink, are stored as plain JSON.
+ * <p>
+ * Decompression works for every registered codec regardless of the active one, so events stored
+ * with a previous setting can still be published.
+ *
+ * @see OutboxPayloadCodec
+ */
+@Slf4j
+public class OutboxPayloadCompressor {
+
+    private final Map<String, OutboxPayloadCodec> codecs = new LinkedHashMap<>();
+    private final OutboxPayloadCodec activeCodec;
+    private final int thresholdBytes;
+
+    /**
+     * Creates a compressor that only decompresses (with the built-in GZIP codec).
+     */
+    public OutboxPayloadCompressor() {
+        this(List.of(), null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param codecs         Additional codecs (the GZIP codec is always registered)
+     * @param activeCodec    Name of the codec used to compress new payloads (null or "none" disables compression)
+     * @param thresholdBytes Minimum payload size in bytes (UTF-8) to compress
+     */
+    public OutboxPayloadCompressor(Collection<? extends OutboxPayloadCodec> codecs, String activeCodec, int thresholdBytes) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("thresholdBytes must not be negative, but was: " + thresholdBytes);
+        }
+        register(new GzipOutboxPayloadCodec());
+        codecs.forEach(this::register);
+        this.thresholdBytes = thresholdBytes;
+
+        if (activeCodec == null || activeCodec.isBlank() || "none".equalsIgnoreCase(activeCodec)) {
+            this.activeCodec = null;
+        } else {
+            this.activeCodec = this.codecs.get(activeCodec.toLowerCase());
+            if (this.activeCodec == null) {
+                throw new IllegalArgumentException("Unknown outbox payload codec '" + activeCodec +
+                        "'. Registered codecs: " + this.codecs.keySet());
+            }
+        }
+    }
+
+    private void register(OutboxPayloadCodec codec) {
+        String name = codec.name().toLowerCase();
+        if (name.length() > 20) {
+            throw new IllegalArgumentException("Outbox payload codec name must be at most 20 characters: " + name);
+        }
+        codecs.put(name, codec);
+    }
+
+    /**
+     * Encodes a payload for storage.
+     *
+     * @param json Payload JSON
+     * @return Stored payload and codec name (null codec if stored as plain JSON)
+     */
+    public EncodedPayload encode(String json) {
+        if (activeCodec == null) {
+            return new EncodedPayload(json, null);
+        }
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return new EncodedPayload(json, null);
+        }
+
+        String encoded = Base64.getEncoder().encodeToString(activeCodec.compress(raw));
+        if (encoded.length() >= json.length()) {
+            return new EncodedPayload(json, null);
+        }
+        log.trace("Outbox payload compressed with {}: {} -> {} chars", activeCodec.name(), json.length(), encoded.length());
+        return new EncodedPayload(encoded, activeCodec.name());
+    }
+
+    /**
+     * Returns the payload JSON of an event, decompressing it if needed.
+     *
+     * @param event Outbox event
+     * @return Payload JSON
+     * @throws IllegalStateException if the codec of the event is not registered
+     */
+    public String decode(OutboxEvent event) {
+        if (!event.isPayloadCompressed()) {
+            return event.getPayload();
+        }
+        OutboxPayloadCodec codec = codecs.get(event.getPayloadCodec().toLowerCase());
+        if (codec == null) {
+            throw new IllegalStateException("Unknown outbox payload codec '" + event.getPayloadCodec() +
+                    "' of event " + event.getEventId());
+        }
+        byte[] compressed = Base64.getDecoder().decode(event.getPayload());
+        return new String(codec.decompress(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Payload as stored in the outbox table.
+     *
+     * @param payload Plain JSON, or the Base64 of the compressed JSON
+     * @param codec   Codec name (null for plain JSON)
+     */
+    public record EncodedPayload(String payload, String codec) {
+    }
+}
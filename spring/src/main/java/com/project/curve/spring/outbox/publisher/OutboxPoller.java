@@ -0,0 +1,193 @@
+package com.project.curve.spring.outbox.publisher;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drives {@link OutboxEventPublisher} polling on a dedicated thread.
+ *
+ * <h3>Adaptive Mode</h3>
+ * <ul>
+ *   <li>Full batch: polls again immediately to drain the backlog</li>
+ *   <li>Partial batch: waits pollIntervalMs</li>
+ *   <li>Empty batch: doubles the wait, up to maxPollIntervalMs</li>
+ *   <li>Wake-up signal ({@link #onOutboxEventsCommitted()}): polls immediately and resets the back-off</li>
+ * </ul>
+ * Newly committed events are therefore published within milliseconds,
+ * while an idle system issues fewer and fewer empty queries.
+ *
+ * <h3>Fixed Mode</h3>
+ * When adaptive polling is disabled, polls every pollIntervalMs (fixed delay) and ignores wake-up signals.
+ *
+ * @see OutboxEventPublisher
+ */
+@Slf4j
+public class OutboxPoller implements SmartLifecycle, OutboxWakeUpListener {
+
+    private final OutboxEventPublisher publisher;
+    private final long pollIntervalMs;
+    private final long maxPollIntervalMs;
+    private final boolean adaptive;
+    private final long shutdownTimeoutMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    private boolean wakeUpRequested = false; // guarded by lock
+
+    private volatile boolean running = false;
+    private volatile Thread pollerThread;
+    private long idleDelayMs;
+
+    /**
+     * Creates an outbox poller.
+     *
+     * @param publisher          Publisher (transactional proxy) to poll
+     * @param pollIntervalMs     Fixed poll interval, or initial idle interval in adaptive mode
+     * @param maxPollIntervalMs  Idle back-off ceiling in adaptive mode
+     * @param adaptive           Whether to use adaptive polling
+     * @param shutdownTimeoutMs  Maximum time to wait for the in-progress poll on shutdown
+     */
+    public OutboxPoller(OutboxEventPublisher publisher, long pollIntervalMs, long maxPollIntervalMs,
+                        boolean adaptive, long shutdownTimeoutMs) {
+        if (pollIntervalMs <= 0) {
+            throw new IllegalArgumentException("pollIntervalMs must be positive, but was: " + pollIntervalMs);
+        }
+        if (maxPollIntervalMs < pollIntervalMs) {
+            throw new IllegalArgumentException("maxPollIntervalMs must be greater than or equal to pollIntervalMs");
+        }
+        this.publisher = publisher;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxPollIntervalMs = maxPollIntervalMs;
+        this.adaptive = adaptive;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.idleDelayMs = pollIntervalMs;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::pollLoop, "curve-outbox-poller");
+        thread.setDaemon(true);
+        pollerThread = thread;
+        thread.start();
+        log.info("Outbox poller started: adaptive={}, pollIntervalMs={}, maxPollIntervalMs={}",
+                adaptive, pollIntervalMs, maxPollIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        signal();
+
+        Thread thread = pollerThread;
+        if (thread != null) {
+            try {
+                thread.join(shutdownTimeoutMs);
+                if (thread.isAlive()) {
+                    log.warn("Outbox poller did not finish within {}ms, interrupting", shutdownTimeoutMs);
+                    thread.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Outbox poller stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Wakes up the poller so that newly committed events are published immediately.
+     * <p>
+     * Ignored in fixed mode.
+     */
+    @Override
+    public void onOutboxEventsCommitted() {
+        if (adaptive) {
+            signal();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            long delayMs;
+            try {
+                delayMs = nextDelayMs(publisher.isLeaseEnabled()
+                        ? publisher.publishClaimedEvents()
+                        : publisher.publishPendingEvents());
+            } catch (Exception e) {
+                log.error("Outbox poll failed", e);
+                delayMs = pollIntervalMs;
+            }
+
+            if (delayMs > 0 && running) {
+                awaitWakeUp(delayMs);
+            }
+        }
+    }
+
+    /**
+     * Computes the delay before the next poll from the result of the last poll.
+     *
+     * @param result Result of the last poll
+     * @return Delay in milliseconds (0 to poll again immediately)
+     */
+    long nextDelayMs(OutboxEventPublisher.PollResult result) {
+        if (!adaptive) {
+            return pollIntervalMs;
+        }
+        if (result.isFull()) {
+            idleDelayMs = pollIntervalMs;
+            return 0L;
+        }
+        if (!result.isEmpty()) {
+            idleDelayMs = pollIntervalMs;
+            return pollIntervalMs;
+        }
+        long delayMs = idleDelayMs;
+        idleDelayMs = Math.min(idleDelayMs * 2, maxPollIntervalMs);
+        return delayMs;
+    }
+
+    private void awaitWakeUp(long delayMs) {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(delayMs);
+            while (!wakeUpRequested && running && remainingNanos > 0) {
+                remainingNanos = wakeUp.awaitNanos(remainingNanos);
+            }
+            if (wakeUpRequested) {
+                wakeUpRequested = false;
+                idleDelayMs = pollIntervalMs;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            wakeUpRequested = true;
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
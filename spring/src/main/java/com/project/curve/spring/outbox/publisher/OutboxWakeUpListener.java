@@ -0,0 +1,19 @@
+package com.project.curve.spring.outbox.publisher;
+
+/**
+ * Listener notified when new outbox events have been committed.
+ * <p>
+ * Lets the outbox publisher pick up new events immediately instead of waiting for the next poll.
+ * Implementations must be cheap and non-blocking, as they are called on the committing thread.
+ *
+ * @see OutboxPoller
+ */
+@FunctionalInterface
+public interface OutboxWakeUpListener {
+
+    /**
+     * Called after a transaction that saved outbox events has committed
+     * (or right after the save when no transaction is active).
+     */
+    void onOutboxEventsCommitted();
+}
@@ -0,0 +1,208 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Worker pool that publishes an outbox batch in parallel, partitioned by aggregate.
+ * <p>
+ * Events are assigned to a worker by a hash of {@code aggregateType + aggregateId}, so all events
+ * of the same aggregate are handled by the same worker in the order they were fetched
+ * ({@code occurredAt} ascending), while different aggregates are published in parallel.
+ *
+ * <h3>Thread Model</h3>
+ * Workers only send to Kafka and update the in-memory event state.
+ * Persisting the results stays on the calling thread, so it runs inside the publisher's transaction.
+ *
+ * @see OutboxEventPublisher
+ */
+@Slf4j
+public class OutboxWorkerPool {
+
+    private final int workerCount;
+    private final ExecutorService executor;
+    private final WorkerMetrics[] workerMetrics;
+
+    /**
+     * Creates a worker pool.
+     *
+     * @param workerCount Number of workers (partitions)
+     * @param executor    Executor running the workers (should provide at least workerCount threads)
+     */
+    public OutboxWorkerPool(int workerCount, ExecutorService executor) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be at least 1, but was: " + workerCount);
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.workerCount = workerCount;
+        this.executor = executor;
+        this.workerMetrics = new WorkerMetrics[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workerMetrics[i] = new WorkerMetrics();
+        }
+    }
+
+    /**
+     * Returns the worker index for the given event.
+     *
+     * @param event       Outbox event
+     * @param workerCount Number of workers
+     * @return Worker index between 0 and workerCount - 1
+     */
+    static int workerIndexOf(OutboxEvent event, int workerCount) {
+        int hash = 31 * event.getAggregateType().hashCode() + event.getAggregateId().hashCode();
+        return Math.floorMod(hash, workerCount);
+    }
+
+    /**
+     * Splits events into one partition per worker, preserving the original order within each partition.
+     *
+     * @param events Events ordered by occurredAt
+     * @return Partitions indexed by worker
+     */
+    List<List<OutboxEvent>> partition(List<OutboxEvent> events) {
+        List<List<OutboxEvent>> partitions = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (OutboxEvent event : events) {
+            partitions.get(workerIndexOf(event, workerCount)).add(event);
+        }
+        return partitions;
+    }
+
+    /**
+     * Publishes the events on the workers and waits until every partition has completed.
+     * <p>
+     * If a worker fails unexpectedly, the events of its partition are reported as failed with whatever
+     * in-memory state they reached, so that the caller persists them and releases their claims;
+     * events still PENDING are picked up again by the next poll.
+     * <p>
+     * An interrupt does not abandon partitions that were already handed to Kafka: the results of all
+     * workers are still awaited, and the interrupt flag is restored afterwards.
+     *
+     * @param events Events ordered by occurredAt
+     * @param sender Publishes one partition and returns its outcome
+     * @return Merged outcome of all partitions
+     */
+    OutboxBatchResult execute(List<OutboxEvent> events, Function<List<OutboxEvent>, OutboxBatchResult> sender) {
+        List<List<OutboxEvent>> partitions = partition(events);
+        List<Future<OutboxBatchResult>> futures = new ArrayList<>(workerCount);
+
+        for (int i = 0; i < workerCount; i++) {
+            List<OutboxEvent> partition = partitions.get(i);
+            if (partition.isEmpty()) {
+                futures.add(null);
+                continue;
+            }
+            WorkerMetrics metrics = workerMetrics[i];
+            futures.add(executor.submit(() -> {
+                metrics.inFlight.addAndGet(partition.size());
+                try {
+                    OutboxBatchResult result = sender.apply(partition);
+                    metrics.published.addAndGet(result.published().size());
+                    metrics.failed.addAndGet(result.failed().size());
+                    return result;
+                } finally {
+                    metrics.inFlight.addAndGet(-partition.size());
+                }
+            }));
+        }
+
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+        boolean interrupted = false;
+        for (int i = 0; i < workerCount; i++) {
+            Future<OutboxBatchResult> future = futures.get(i);
+            if (future == null) {
+                continue;
+            }
+            while (true) {
+                try {
+                    OutboxBatchResult result = future.get();
+                    published.addAll(result.published());
+                    failed.addAll(result.failed());
+                    break;
+                } catch (InterruptedException e) {
+                    // Keep waiting: the partition may already be in Kafka, and its outcome must be persisted
+                    if (!interrupted) {
+                        log.warn("Interrupted while waiting for outbox workers, waiting for the running partitions to complete");
+                    }
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    log.error("Outbox worker {} failed, {} events will be retried on the next poll",
+                            i, partitions.get(i).size(), e.getCause());
+                    failed.addAll(partitions.get(i));
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return new OutboxBatchResult(published, failed);
+    }
+
+    /**
+     * Returns per-worker statistics.
+     *
+     * @return Statistics of each worker, indexed by worker
+     */
+    public List<WorkerStats> getStats() {
+        List<WorkerStats> stats = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            stats.add(new WorkerStats(i, getInFlight(i),
+                    workerMetrics[i].published.get(), workerMetrics[i].failed.get()));
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the number of events currently being published by a worker.
+     *
+     * @param worker Worker index
+     * @return In-flight event count
+     */
+    public int getInFlight(int worker) {
+        return workerMetrics[worker].inFlight.get();
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Shuts down the underlying executor.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class WorkerMetrics {
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicLong published = new AtomicLong(0);
+        private final AtomicLong failed = new AtomicLong(0);
+    }
+
+    /**
+     * Outbox worker statistics.
+     *
+     * @param worker    Worker index
+     * @param inFlight  Number of events currently being published
+     * @param published Published events count since start
+     * @param failed    Failed publish attempts count since start
+     */
+    public record WorkerStats(int worker, int inFlight, long published, long failed) {
+    }
+}
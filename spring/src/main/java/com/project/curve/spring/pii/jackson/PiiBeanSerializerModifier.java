@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.project.curve.spring.metrics.CurveMetricsCollector;
+import com.project.curve.spring.metrics.NoOpCurveMetricsCollector;
 import com.project.curve.spring.pii.annotation.PiiField;
 import com.project.curve.spring.pii.processor.PiiProcessorRegistry;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,11 @@ import java.util.List;
 public class PiiBeanSerializerModifier extends BeanSerializerModifier {
 
     private final PiiProcessorRegistry processorRegistry;
+    private final CurveMetricsCollector metricsCollector;
+
+    public PiiBeanSerializerModifier(PiiProcessorRegistry processorRegistry) {
+        this(processorRegistry, new NoOpCurveMetricsCollector());
+    }
 
     @Override
     public List<BeanPropertyWriter> changeProperties(
@@ -33,7 +40,7 @@ public class PiiBeanSerializerModifier extends BeanSerializerModifier {
             PiiField piiField = findPiiFieldAnnotation(beanDesc.getBeanClass(), writer.getName());
 
             if (piiField != null) {
-                result.add(new PiiPropertyWriter(writer, piiField, processorRegistry));
+                result.add(new PiiPropertyWriter(writer, piiField, processorRegistry, metricsCollector));
             } else {
                 result.add(writer);
             }
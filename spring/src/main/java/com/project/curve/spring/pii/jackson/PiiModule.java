@@ -1,6 +1,8 @@
 package com.project.curve.spring.pii.jackson;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.project.curve.spring.metrics.CurveMetricsCollector;
+import com.project.curve.spring.metrics.NoOpCurveMetricsCollector;
 import com.project.curve.spring.pii.processor.PiiProcessorRegistry;
 
 /**
@@ -15,13 +17,20 @@ import com.project.curve.spring.pii.processor.PiiProcessorRegistry;
  * String json = mapper.writeValueAsString(userPayload);
  * // {"email":"j***@gm***.com","phone":"010-****-5678",...}
  * }</pre>
+ * <p>
+ * With a {@link CurveMetricsCollector}, the time spent processing each PII value is recorded
+ * as the {@code pii} publish stage.
  */
 public class PiiModule extends SimpleModule {
 
     private static final String MODULE_NAME = "PiiModule";
 
     public PiiModule(PiiProcessorRegistry processorRegistry) {
+        this(processorRegistry, new NoOpCurveMetricsCollector());
+    }
+
+    public PiiModule(PiiProcessorRegistry processorRegistry, CurveMetricsCollector metricsCollector) {
         super(MODULE_NAME);
-        setSerializerModifier(new PiiBeanSerializerModifier(processorRegistry));
+        setSerializerModifier(new PiiBeanSerializerModifier(processorRegistry, metricsCollector));
     }
 }
@@ -2,14 +2,27 @@ package com.project.curve.spring.publisher;
 
 import com.project.curve.core.context.EventContextProvider;
 import com.project.curve.core.envelope.EventEnvelope;
+import com.project.curve.core.envelope.EventId;
+import com.project.curve.core.envelope.EventMetadata;
 import com.project.curve.core.payload.DomainEventPayload;
+import com.project.curve.core.port.BatchPublishResult;
 import com.project.curve.core.port.EventProducer;
+import com.project.curve.core.port.PublishResult;
 import com.project.curve.core.type.EventSeverity;
 import com.project.curve.core.validation.DefaultEventValidator;
 import com.project.curve.core.validation.EventValidator;
 import com.project.curve.spring.factory.EventEnvelopeFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 public abstract class AbstractEventPublisher implements EventProducer {
 
@@ -29,14 +42,7 @@ public abstract class AbstractEventPublisher implements EventProducer {
 
     @Override
     public <T extends DomainEventPayload> void publish(T payload, EventSeverity severity) {
-        EventEnvelope<T> envelope = envelopeFactory.create(
-                payload.getEventType(),
-                severity,
-                eventContextProvider.currentMetadata(payload),
-                payload
-        );
-
-        eventValidator.validate(envelope);
+        EventEnvelope<T> envelope = createEnvelope(payload, severity);
         send(envelope);
     }
 
@@ -47,6 +53,90 @@ public abstract class AbstractEventPublisher implements EventProducer {
 
     @Override
     public <T extends DomainEventPayload> void publish(T payload, EventSeverity severity, String topic) {
+        EventEnvelope<T> envelope = createEnvelope(payload, severity);
+        send(envelope, topic);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload) {
+        return publishAsync(payload, EventSeverity.INFO);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, EventSeverity severity) {
+        return publishAsync(payload, severity, null);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, String topic) {
+        return publishAsync(payload, EventSeverity.INFO, topic);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, EventSeverity severity, String topic) {
+        // Invalid or unserializable events fail the future like send errors, as in publishAll
+        try {
+            EventEnvelope<T> envelope = createEnvelope(payload, severity);
+            return sendAsync(envelope, topic);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Publishes a batch with the per-event overhead amortized over the batch.
+     * <p>
+     * Context metadata is resolved once per payload class, the clock is read once, and the event IDs are
+     * allocated as one block. Events that cannot be enveloped or fail validation (e.g. a {@code null} payload
+     * or event type) are reported as failed outcomes in their slot; the valid ones are handed to
+     * {@link #sendAllAsync(List, String)} together.
+     */
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<BatchPublishResult> publishAll(
+            Collection<T> payloads, EventSeverity severity, String topic) {
+        if (payloads.isEmpty()) {
+            return CompletableFuture.completedFuture(new BatchPublishResult(List.of()));
+        }
+
+        long startTime = System.nanoTime();
+        // Copied with ArrayList, which tolerates null elements, so that a null payload only fails its own slot
+        List<T> batch = new ArrayList<>(payloads);
+        Instant now = envelopeFactory.clock().now();
+        List<EventId> eventIds = envelopeFactory.idGenerator().generate(batch.size());
+        Map<Class<?>, EventMetadata> metadataByType = new HashMap<>();
+
+        List<CompletableFuture<PublishResult>> futures = new ArrayList<>(batch.size());
+        List<EventEnvelope<T>> validEnvelopes = new ArrayList<>(batch.size());
+        List<Integer> validIndexes = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                T payload = batch.get(i);
+                EventMetadata metadata = metadataByType.computeIfAbsent(payload.getClass(),
+                        type -> eventContextProvider.currentMetadata(payload));
+                EventEnvelope<T> envelope = envelopeFactory.create(eventIds.get(i), now, severity, metadata, payload);
+                eventValidator.validate(envelope);
+                validEnvelopes.add(envelope);
+                validIndexes.add(i);
+                futures.add(null);
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        long perEnvelopeNanos = (System.nanoTime() - startTime) / batch.size();
+        for (int i = 0; i < validEnvelopes.size(); i++) {
+            onEnvelopeCreated(perEnvelopeNanos);
+        }
+
+        List<CompletableFuture<PublishResult>> sent = sendAllAsync(validEnvelopes, topic);
+        for (int i = 0; i < sent.size(); i++) {
+            futures.set(validIndexes.get(i), sent.get(i));
+        }
+        return BatchPublishResult.aggregate(futures);
+    }
+
+    private <T extends DomainEventPayload> EventEnvelope<T> createEnvelope(T payload, EventSeverity severity) {
+        long startTime = System.nanoTime();
         EventEnvelope<T> envelope = envelopeFactory.create(
                 payload.getEventType(),
                 severity,
@@ -55,7 +145,19 @@ public abstract class AbstractEventPublisher implements EventProducer {
         );
 
         eventValidator.validate(envelope);
-        send(envelope, topic);
+        onEnvelopeCreated(System.nanoTime() - startTime);
+        return envelope;
+    }
+
+    /**
+     * Called after an envelope has been created and validated, before it is sent.
+     * <p>
+     * Subclasses can override this method to record the envelope creation time.
+     *
+     * @param durationNanos Time spent creating and validating the envelope, in nanoseconds
+     */
+    protected void onEnvelopeCreated(long durationNanos) {
+        // no-op by default
     }
 
     protected abstract <T extends DomainEventPayload> void send(EventEnvelope<T> envelope);
@@ -72,4 +174,58 @@ public abstract class AbstractEventPublisher implements EventProducer {
     protected <T extends DomainEventPayload> void send(EventEnvelope<T> envelope, String topic) {
         send(envelope);
     }
+
+    /**
+     * Sends an event envelope without waiting for the broker acknowledgement.
+     * <p>
+     * Subclasses should override this method to send natively. The default implementation sends
+     * synchronously through {@link #send(EventEnvelope, String)} and completes with an unknown
+     * partition and offset.
+     *
+     * @param envelope the event envelope to send
+     * @param topic    the target topic, or {@code null} for the default topic
+     * @return future completed with the publish result
+     */
+    protected <T extends DomainEventPayload> CompletableFuture<PublishResult> sendAsync(EventEnvelope<T> envelope, String topic) {
+        long startTime = System.nanoTime();
+        try {
+            if (topic != null && !topic.isBlank()) {
+                send(envelope, topic);
+            } else {
+                send(envelope);
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(new PublishResult(
+                envelope.eventId().value(),
+                topic,
+                PublishResult.UNKNOWN_PARTITION,
+                PublishResult.UNKNOWN_OFFSET,
+                Duration.ofNanos(System.nanoTime() - startTime)));
+    }
+
+    /**
+     * Sends a batch of validated event envelopes without waiting for the broker acknowledgements.
+     * <p>
+     * Subclasses can override this method to send the batch natively. The default implementation
+     * calls {@link #sendAsync(EventEnvelope, String)} for each envelope. Failures must be reported
+     * through the returned futures, not thrown.
+     *
+     * @param envelopes the event envelopes to send
+     * @param topic     the target topic, or {@code null} for the default topic
+     * @return one future per envelope, in the order of the envelopes
+     */
+    protected <T extends DomainEventPayload> List<CompletableFuture<PublishResult>> sendAllAsync(
+            List<EventEnvelope<T>> envelopes, String topic) {
+        List<CompletableFuture<PublishResult>> futures = new ArrayList<>(envelopes.size());
+        for (EventEnvelope<T> envelope : envelopes) {
+            try {
+                futures.add(sendAsync(envelope, topic));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return futures;
+    }
 }
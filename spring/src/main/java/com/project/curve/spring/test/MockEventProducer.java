@@ -2,10 +2,14 @@ package com.project.curve.spring.test;
 
 import com.project.curve.core.payload.DomainEventPayload;
 import com.project.curve.core.port.EventProducer;
+import com.project.curve.core.port.PublishResult;
 import com.project.curve.core.type.EventSeverity;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -33,11 +37,22 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *     assertThat(mockProducer.getEvents()).hasSize(1);
  * }
  * </pre>
+ *
+ * <h3>publishAsync</h3>
+ * {@code publishAsync} records the event like {@code publish} and returns a completed future.
+ * The result has partition 0, the recording position as offset and zero latency.
+ * Use {@link #failWith(Throwable)} to simulate send failures.
  */
 public class MockEventProducer implements EventProducer {
 
+    /**
+     * Topic reported in publish results when no topic is given.
+     */
+    public static final String DEFAULT_TOPIC = "mock-topic";
+
     private final List<Object> payloads = new CopyOnWriteArrayList<>();
     private final List<EventSeverity> severities = new CopyOnWriteArrayList<>();
+    private volatile Throwable failure;
 
     @Override
     public <T extends DomainEventPayload> void publish(T payload) {
@@ -60,6 +75,47 @@ public class MockEventProducer implements EventProducer {
         publish(payload, severity);
     }
 
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload) {
+        return publishAsync(payload, EventSeverity.INFO, null);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, EventSeverity severity) {
+        return publishAsync(payload, severity, null);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, String topic) {
+        return publishAsync(payload, EventSeverity.INFO, topic);
+    }
+
+    @Override
+    public <T extends DomainEventPayload> CompletableFuture<PublishResult> publishAsync(T payload, EventSeverity severity, String topic) {
+        Throwable currentFailure = failure;
+        if (currentFailure != null) {
+            return CompletableFuture.failedFuture(currentFailure);
+        }
+        synchronized (this) {
+            publish(payload, severity);
+            return CompletableFuture.completedFuture(new PublishResult(
+                    UUID.randomUUID().toString(),
+                    (topic != null && !topic.isBlank()) ? topic : DEFAULT_TOPIC,
+                    0,
+                    payloads.size() - 1L,
+                    Duration.ZERO));
+        }
+    }
+
+    /**
+     * Makes subsequent {@code publishAsync} calls fail with the given error without recording the events.
+     *
+     * @param failure Error to complete the futures with, or {@code null} to succeed again
+     */
+    public void failWith(Throwable failure) {
+        this.failure = failure;
+    }
+
     public List<Object> getPayloads() {
         return Collections.unmodifiableList(payloads);
     }
@@ -71,5 +127,6 @@ public class MockEventProducer implements EventProducer {
     public void clear() {
         payloads.clear();
         severities.clear();
+        failure = null;
     }
 }
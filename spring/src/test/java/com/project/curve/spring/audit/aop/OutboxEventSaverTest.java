@@ -0,0 +1,243 @@
+package com.project.curve.spring.audit.aop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxEventRepository;
+import com.project.curve.spring.audit.annotation.PublishEvent;
+import com.project.curve.spring.audit.payload.EventPayload;
+import com.project.curve.spring.outbox.publisher.OutboxPayloadCompressor;
+import com.project.curve.spring.outbox.publisher.OutboxWakeUpListener;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventSaver Test")
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OutboxEventSaverTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxWakeUpListener wakeUpListener;
+
+    @Mock
+    private JoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature methodSignature;
+
+    @Mock
+    private PublishEvent publishEvent;
+
+    private final EventPayload payload = new EventPayload("ORDER_CREATED", "TestService", "createOrder", "order-1");
+
+    private OutboxEventSaver saver;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        saver = OutboxEventSaver.builder()
+                .outboxEventRepository(outboxEventRepository)
+                .objectMapper(new ObjectMapper())
+                .wakeUpListener(wakeUpListener)
+                .build();
+
+        Method method = TestService.class.getMethod("createOrder", String.class);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"order-1"});
+        when(methodSignature.getMethod()).thenReturn(method);
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{"orderId"});
+        when(publishEvent.aggregateType()).thenReturn("Order");
+        when(publishEvent.aggregateId()).thenReturn("#orderId");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Wake-up listener should be notified only after the transaction commits")
+    void save_inTransaction_shouldNotifyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        saver.save(joinPoint, publishEvent, payload, null);
+
+        // Then
+        verify(outboxEventRepository).insert(any(OutboxEvent.class));
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+        verifyNoInteractions(wakeUpListener);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(wakeUpListener).onOutboxEventsCommitted();
+    }
+
+    @Test
+    @DisplayName("Wake-up listener should be notified immediately without a transaction")
+    void save_withoutTransaction_shouldNotifyImmediately() {
+        // When
+        saver.save(joinPoint, publishEvent, payload, null);
+
+        // Then
+        verify(wakeUpListener).onOutboxEventsCommitted();
+    }
+
+    @Test
+    @DisplayName("Wake-up listener should not be notified when the save fails")
+    void save_whenRepositoryFails_shouldNotNotify() {
+        // Given
+        doThrow(new IllegalStateException("db down")).when(outboxEventRepository).insert(any(OutboxEvent.class));
+
+        // When
+        try {
+            saver.save(joinPoint, publishEvent, payload, null);
+        } catch (IllegalStateException ignored) {
+            // expected
+        }
+
+        // Then
+        verifyNoInteractions(wakeUpListener);
+    }
+
+    @Test
+    @DisplayName("Topic of the annotation should be stored, leaving the record key to the publisher")
+    void save_shouldStoreTopic() {
+        // Given
+        when(publishEvent.topic()).thenReturn("order.events");
+
+        // When
+        saver.save(joinPoint, publishEvent, payload, null);
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).insert(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("order.events");
+        assertThat(captor.getValue().getPartitionKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("Blank topic should be stored as null so that the default topic is used")
+    void save_blankTopic_shouldStoreNullTopic() {
+        // Given
+        when(publishEvent.topic()).thenReturn("");
+
+        // When
+        saver.save(joinPoint, publishEvent, payload, null);
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).insert(captor.capture());
+        assertThat(captor.getValue().getTopic()).isNull();
+        assertThat(captor.getValue().resolveTopic("default.events")).isEqualTo("default.events");
+    }
+
+    @Test
+    @DisplayName("Payloads above the compression threshold should be stored compressed")
+    void save_withCompressor_shouldStoreCompressedPayload() {
+        // Given
+        OutboxPayloadCompressor compressor = new OutboxPayloadCompressor(List.of(), "gzip", 0);
+        EventPayload largePayload = new EventPayload("ORDER_CREATED", "TestService", "createOrder",
+                "order-1".repeat(200));
+        saver = OutboxEventSaver.builder()
+                .outboxEventRepository(outboxEventRepository)
+                .objectMapper(new ObjectMapper())
+                .wakeUpListener(wakeUpListener)
+                .payloadCompressor(compressor)
+                .build();
+
+        // When
+        saver.save(joinPoint, publishEvent, largePayload, null);
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).insert(captor.capture());
+        OutboxEvent saved = captor.getValue();
+        assertThat(saved.getPayloadCodec()).isEqualTo("gzip");
+        assertThat(compressor.decode(saved)).contains("order-1order-1");
+    }
+
+    @Test
+    @DisplayName("Buffered events should be inserted together before commit and notified once after commit")
+    void save_withBuffering_shouldInsertAllBeforeCommit() {
+        // Given
+        saver = OutboxEventSaver.builder()
+                .outboxEventRepository(outboxEventRepository)
+                .objectMapper(new ObjectMapper())
+                .wakeUpListener(wakeUpListener)
+                .bufferingEnabled(true)
+                .build();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        saver.save(joinPoint, publishEvent, payload, null);
+        saver.save(joinPoint, publishEvent, payload, null);
+        saver.save(joinPoint, publishEvent, payload, null);
+
+        // Then
+        verifyNoInteractions(outboxEventRepository);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).insertAll(captor.capture());
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+        assertThat(captor.getValue()).hasSize(3);
+        verifyNoInteractions(wakeUpListener);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(wakeUpListener).onOutboxEventsCommitted();
+    }
+
+    @Test
+    @DisplayName("Buffering should fall back to a direct insert without an actual transaction")
+    void save_withBufferingWithoutTransaction_shouldInsertImmediately() {
+        // Given
+        saver = OutboxEventSaver.builder()
+                .outboxEventRepository(outboxEventRepository)
+                .objectMapper(new ObjectMapper())
+                .wakeUpListener(wakeUpListener)
+                .bufferingEnabled(true)
+                .build();
+
+        // When
+        saver.save(joinPoint, publishEvent, payload, null);
+
+        // Then
+        verify(outboxEventRepository).insert(any(OutboxEvent.class));
+        verify(outboxEventRepository, never()).insertAll(anyList());
+        verify(wakeUpListener).onOutboxEventsCommitted();
+    }
+
+    static class TestService {
+        public String createOrder(String orderId) {
+            return orderId;
+        }
+    }
+}
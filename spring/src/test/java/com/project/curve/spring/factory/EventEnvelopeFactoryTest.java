@@ -13,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -145,6 +146,32 @@ class EventEnvelopeFactoryTest {
         assertThat(envelope2.payload()).isInstanceOf(AnotherPayload.class);
     }
 
+    @Test
+    @DisplayName("Should create a batch of envelopes with one clock read and one ID block")
+    void createAll_shouldUseOneClockReadAndOneIdBlock() {
+        // Given
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        EventMetadata metadata = mock(EventMetadata.class);
+        List<TestPayload> payloads = List.of(new TestPayload("a"), new TestPayload("b"), new TestPayload("c"));
+
+        when(clockProvider.now()).thenReturn(now);
+        when(idGenerator.generate(3)).thenReturn(List.of(EventId.of("1"), EventId.of("2"), EventId.of("3")));
+
+        // When
+        List<EventEnvelope<TestPayload>> envelopes = factory.createAll(EventSeverity.WARN, payloads, payload -> metadata);
+
+        // Then
+        assertThat(envelopes).extracting(envelope -> envelope.eventId().value()).containsExactly("1", "2", "3");
+        assertThat(envelopes).extracting(EventEnvelope::payload).containsExactlyElementsOf(payloads);
+        assertThat(envelopes).allSatisfy(envelope -> {
+            assertThat(envelope.severity()).isEqualTo(EventSeverity.WARN);
+            assertThat(envelope.metadata()).isEqualTo(metadata);
+            assertThat(envelope.occurredAt()).isEqualTo(now);
+        });
+        verify(clockProvider, times(1)).now();
+        verify(idGenerator, never()).generate();
+    }
+
     // ── Test helper classes ──────────────────────────────────────────────────
 
     static class TestEventType implements EventType {
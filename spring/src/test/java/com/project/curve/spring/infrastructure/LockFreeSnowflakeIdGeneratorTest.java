@@ -0,0 +1,192 @@
+package com.project.curve.spring.infrastructure;
+
+import com.project.curve.core.exception.ClockMovedBackwardsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LockFreeSnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should throw exception when constructor is called with invalid Worker ID")
+    void constructor_withInvalidWorkerId_shouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> new LockFreeSnowflakeIdGenerator(1024L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Worker ID must be between 0 and 1023");
+    }
+
+    @Test
+    @DisplayName("IDs generated by a single thread should be strictly increasing")
+    void nextId_singleThread_shouldBeStrictlyIncreasing() {
+        // Given
+        LockFreeSnowflakeIdGenerator generator = new LockFreeSnowflakeIdGenerator(1L);
+        long previous = generator.nextId();
+
+        // When & Then: more than 4096 IDs, so the sequence rolls over at least once
+        for (int i = 0; i < 10000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("A generated block should contain unique, increasing IDs")
+    void generateBlock_shouldReturnUniqueIncreasingIds() {
+        // Given
+        LockFreeSnowflakeIdGenerator generator = new LockFreeSnowflakeIdGenerator(1L);
+
+        // When
+        List<Long> ids = generator.generate(5000).stream().map(id -> Long.parseLong(id.value())).toList();
+
+        // Then
+        assertThat(ids).hasSize(5000).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("Should maintain uniqueness when generating IDs concurrently from multiple threads")
+    void generate_concurrently_shouldMaintainUniqueness() throws InterruptedException {
+        // Given
+        LockFreeSnowflakeIdGenerator generator = new LockFreeSnowflakeIdGenerator(1L);
+        int threadCount = 16;
+        int idsPerThread = 5000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<String> generatedIds = ConcurrentHashMap.newKeySet();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        generatedIds.add(generator.generate().value());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(generatedIds).hasSize(threadCount * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("IDs should have the same layout as the locking generator")
+    void nextId_shouldMatchLockingLayout() {
+        // Given
+        long fixedTime = System.currentTimeMillis();
+        LockFreeSnowflakeIdGenerator lockFree = new FixedClockLockFreeGenerator(7L, fixedTime);
+        SnowflakeIdGenerator locking = new SnowflakeIdGenerator(7L) {
+            @Override
+            protected long currentTimeMillis() {
+                return fixedTime;
+            }
+        };
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(lockFree.generate()).isEqualTo(locking.generate());
+        }
+    }
+
+    @Test
+    @DisplayName("Small clock backward movement should wait until the clock passes the last timestamp")
+    void nextId_smallClockBackward_shouldWaitAndSucceed() {
+        // Given
+        long baseTime = System.currentTimeMillis();
+        FixedClockLockFreeGenerator generator = new FixedClockLockFreeGenerator(1L, baseTime);
+        long first = generator.nextId();
+        generator.addTimeSequence(baseTime - 50, baseTime - 50, baseTime - 10);
+        generator.setCurrentTime(baseTime + 1);
+
+        // When
+        long second = generator.nextId();
+
+        // Then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("Large clock backward movement (> 100ms) should throw exception")
+    void nextId_largeClockBackward_shouldThrowException() {
+        // Given
+        long baseTime = System.currentTimeMillis();
+        FixedClockLockFreeGenerator generator = new FixedClockLockFreeGenerator(1L, baseTime);
+        generator.nextId();
+        generator.setCurrentTime(baseTime - 200);
+
+        // When & Then
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(ClockMovedBackwardsException.class);
+    }
+
+    @Test
+    @DisplayName("Exhausted sequence should continue in the next millisecond")
+    void nextId_sequenceExhausted_shouldMoveToNextMillis() {
+        // Given
+        long baseTime = System.currentTimeMillis();
+        FixedClockLockFreeGenerator generator = new FixedClockLockFreeGenerator(1L, baseTime);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4096; i++) {
+            ids.add(generator.nextId());
+        }
+        generator.addTimeSequence(baseTime);
+        generator.setCurrentTime(baseTime + 1);
+
+        // When
+        long next = generator.nextId();
+
+        // Then
+        Set<Long> unique = new HashSet<>(ids);
+        assertThat(unique).hasSize(4096).doesNotContain(next);
+        assertThat(next & 0xFFF).isZero();
+        assertThat(next).isGreaterThan(ids.get(ids.size() - 1));
+    }
+
+    /**
+     * Lock-free generator with a controllable clock
+     */
+    private static class FixedClockLockFreeGenerator extends LockFreeSnowflakeIdGenerator {
+        private volatile long currentTime;
+        private final Queue<Long> timeSequence = new LinkedList<>();
+
+        FixedClockLockFreeGenerator(long workerId, long currentTime) {
+            super(workerId);
+            this.currentTime = currentTime;
+        }
+
+        void setCurrentTime(long time) {
+            this.currentTime = time;
+        }
+
+        void addTimeSequence(long... times) {
+            for (long time : times) {
+                timeSequence.add(time);
+            }
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            Long next = timeSequence.poll();
+            return next != null ? next : currentTime;
+        }
+    }
+}
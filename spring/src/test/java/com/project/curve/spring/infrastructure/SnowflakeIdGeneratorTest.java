@@ -8,6 +8,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -71,6 +72,29 @@ class SnowflakeIdGeneratorTest {
         assertThat(generatedIds).hasSize(count);
     }
 
+    @Test
+    @DisplayName("A generated block should contain unique, increasing IDs that continue the single-ID sequence")
+    void generateBlock_shouldReturnUniqueIncreasingIds() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L);
+        long before = Long.parseLong(generator.generate().value());
+
+        // When: more than 4096 IDs, so the block spans several milliseconds
+        List<EventId> block = generator.generate(10000);
+        long after = Long.parseLong(generator.generate().value());
+
+        // Then
+        assertThat(block).hasSize(10000).doesNotHaveDuplicates();
+        long previous = before;
+        for (EventId eventId : block) {
+            long id = Long.parseLong(eventId.value());
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(after).isGreaterThan(previous);
+        assertThatThrownBy(() -> generator.generate(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("Should maintain uniqueness when generating IDs concurrently from multiple threads")
     void generate_concurrently_shouldMaintainUniqueness() throws InterruptedException {
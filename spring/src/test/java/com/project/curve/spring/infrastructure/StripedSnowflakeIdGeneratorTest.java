@@ -0,0 +1,118 @@
+package com.project.curve.spring.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StripedSnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should throw exception when stripe bits are out of range")
+    void constructor_withInvalidStripeBits_shouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> new StripedSnowflakeIdGenerator(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Stripe bits must be between 1 and 9");
+        assertThatThrownBy(() -> new StripedSnowflakeIdGenerator(1L, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Stripe bits must be between 1 and 9");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when node ID does not fit into the remaining worker bits")
+    void constructor_withInvalidNodeId_shouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> new StripedSnowflakeIdGenerator(64L, 4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Node ID must be between 0 and 63");
+        assertThatThrownBy(() -> new StripedSnowflakeIdGenerator(-1L, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Auto-generated node ID should fit into the node bits")
+    void createWithAutoNodeId_shouldFitIntoNodeBits() {
+        // When
+        StripedSnowflakeIdGenerator generator = StripedSnowflakeIdGenerator.createWithAutoNodeId(8);
+
+        // Then
+        assertThat(generator.workerId).isBetween(0L, 1023L);
+        assertThat(generator.workerId & 0xFF).isZero();
+        assertThat(generator.getStripeCount()).isEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("Worker field of an ID should be the node ID followed by the stripe index")
+    void nextId_shouldEncodeNodeIdAndStripe() throws InterruptedException {
+        // Given
+        StripedSnowflakeIdGenerator generator = new StripedSnowflakeIdGenerator(5L, 2);
+        Set<Long> workerFields = ConcurrentHashMap.newKeySet();
+
+        // When: 4 threads take the 4 stripes round-robin
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> workerFields.add((generator.nextId() >> 12) & 0x3FF));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(workerFields).containsExactlyInAnyOrder(20L, 21L, 22L, 23L);
+    }
+
+    @Test
+    @DisplayName("IDs generated by a single thread should be strictly increasing")
+    void nextId_singleThread_shouldBeStrictlyIncreasing() {
+        // Given
+        StripedSnowflakeIdGenerator generator = new StripedSnowflakeIdGenerator(1L, 4);
+        long previous = generator.nextId();
+
+        // When & Then: more than 4096 IDs, so the stripe sequence rolls over at least once
+        for (int i = 0; i < 10000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("Should maintain uniqueness when more threads than stripes generate IDs concurrently")
+    void generate_concurrently_shouldMaintainUniqueness() throws InterruptedException {
+        // Given: 32 threads on 16 stripes, so stripes are shared
+        StripedSnowflakeIdGenerator generator = new StripedSnowflakeIdGenerator(1L, 4);
+        int threadCount = 32;
+        int idsPerThread = 5000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<String> generatedIds = ConcurrentHashMap.newKeySet();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        generatedIds.add(generator.generate().value());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(generatedIds).hasSize(threadCount * idsPerThread);
+    }
+}
@@ -0,0 +1,164 @@
+package com.project.curve.spring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MicrometerCurveMetricsCollector Test")
+class MicrometerCurveMetricsCollectorTest {
+
+    private MeterRegistry meterRegistry;
+    private MicrometerCurveMetricsCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        collector = new MicrometerCurveMetricsCollector(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Published events should be counted and timed per event type and outcome")
+    void recordEventPublished_shouldRecordPerEventTypeAndOutcome() {
+        // When
+        collector.recordEventPublished("ORDER_CREATED", true, 10L);
+        collector.recordEventPublished("ORDER_CREATED", true, 30L);
+        collector.recordEventPublished("ORDER_CREATED", false, 5L);
+
+        // Then
+        Counter success = meterRegistry.get("curve.events.published")
+                .tags("eventType", "ORDER_CREATED", "success", "true").counter();
+        Counter failure = meterRegistry.get("curve.events.published")
+                .tags("eventType", "ORDER_CREATED", "success", "false").counter();
+        Timer successTimer = meterRegistry.get("curve.events.publish.duration")
+                .tags("eventType", "ORDER_CREATED", "success", "true").timer();
+        assertThat(success.count()).isEqualTo(2.0);
+        assertThat(failure.count()).isEqualTo(1.0);
+        assertThat(successTimer.count()).isEqualTo(2);
+        assertThat(successTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+    }
+
+    @Test
+    @DisplayName("Event types beyond the limit should be recorded as 'other'")
+    void recordEventPublished_beyondLimit_shouldFoldIntoOther() {
+        // When
+        collector.recordEventPublished("ORDER_CREATED", true, 1L);
+        collector.recordEventPublished("ORDER_CANCELLED", true, 1L);
+        collector.recordEventPublished("ORDER_SHIPPED", true, 1L);
+        collector.recordEventPublished("ORDER_RETURNED", true, 1L);
+        collector.recordEventPublished("ORDER_CREATED", true, 1L);
+
+        // Then
+        assertThat(meterRegistry.get("curve.events.published")
+                .tags("eventType", "ORDER_CREATED", "success", "true").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("curve.events.published")
+                .tags("eventType", MicrometerCurveMetricsCollector.OTHER_EVENT_TYPE, "success", "true")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.find("curve.events.published").tag("eventType", "ORDER_SHIPPED").counter())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("DLQ counters beyond the limit should keep their reason tag")
+    void recordDlqEvent_beyondLimit_shouldKeepReason() {
+        // When
+        collector.recordDlqEvent("A", "timeout");
+        collector.recordDlqEvent("B", "timeout");
+        collector.recordDlqEvent("C", "serialization");
+
+        // Then
+        assertThat(meterRegistry.get("curve.events.dlq.count")
+                .tags("eventType", "other", "reason", "serialization").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("curve.events.dlq.count").counters()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Repeated records should reuse the registered meters")
+    void record_shouldReuseRegisteredMeters() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            collector.recordRetry("ORDER_CREATED", 2, "SUCCESS");
+            collector.recordKafkaError("TimeoutException");
+            collector.recordPiiProcessing("MASK", true);
+            collector.recordIdGeneration("snowflake", 100L);
+        }
+
+        // Then
+        assertThat(meterRegistry.get("curve.events.retry.count").counter().count()).isEqualTo(20.0);
+        assertThat(meterRegistry.get("curve.kafka.producer.errors").counter().count()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("curve.pii.processing").tag("success", "true").counter().count())
+                .isEqualTo(10.0);
+        assertThat(meterRegistry.get("curve.id.generation.duration").timer().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Nanosecond publish durations should be recorded without truncation")
+    void recordEventPublishDuration_shouldKeepNanosecondResolution() {
+        // When
+        collector.recordEventPublishDuration("ORDER_CREATED", true, 1_500L);
+
+        // Then
+        Timer timer = meterRegistry.get("curve.events.publish.duration")
+                .tags("eventType", "ORDER_CREATED", "success", "true").timer();
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(1_500.0);
+    }
+
+    @Test
+    @DisplayName("Stage durations should be recorded per publish stage")
+    void recordPublishStage_shouldRecordPerStage() {
+        // When
+        collector.recordPublishStage(PublishStage.SERIALIZATION, 2_000L);
+        collector.recordPublishStage(PublishStage.SERIALIZATION, 4_000L);
+        collector.recordPublishStage(PublishStage.KAFKA_ACK, 1_000_000L);
+
+        // Then
+        Timer serialization = meterRegistry.get("curve.events.publish.stage.duration")
+                .tag("stage", "serialization").timer();
+        assertThat(serialization.count()).isEqualTo(2);
+        assertThat(serialization.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(6_000.0);
+        assertThat(meterRegistry.get("curve.events.publish.stage.duration").tag("stage", "kafka_ack").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SLO boundaries should be published as histogram buckets of the publish timers")
+    void publishTimers_withSlo_shouldPublishBuckets() {
+        // Given
+        collector = new MicrometerCurveMetricsCollector(meterRegistry, 2, true,
+                List.of(Duration.ofMillis(10), Duration.ofMillis(100)));
+
+        // When
+        collector.recordEventPublishDuration("ORDER_CREATED", true, Duration.ofMillis(5).toNanos());
+        collector.recordEventPublishDuration("ORDER_CREATED", true, Duration.ofMillis(50).toNanos());
+
+        // Then
+        Timer timer = meterRegistry.get("curve.events.publish.duration")
+                .tags("eventType", "ORDER_CREATED", "success", "true").timer();
+        assertThat(timer.takeSnapshot().histogramCounts())
+                .anySatisfy(bucket -> {
+                    assertThat(bucket.bucket(TimeUnit.MILLISECONDS)).isEqualTo(10.0);
+                    assertThat(bucket.count()).isEqualTo(1.0);
+                })
+                .anySatisfy(bucket -> {
+                    assertThat(bucket.bucket(TimeUnit.MILLISECONDS)).isEqualTo(100.0);
+                    assertThat(bucket.count()).isEqualTo(2.0);
+                });
+    }
+
+    @Test
+    @DisplayName("A non-positive event type limit should be rejected")
+    void constructor_withInvalidLimit_shouldThrow() {
+        assertThatThrownBy(() -> new MicrometerCurveMetricsCollector(meterRegistry, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
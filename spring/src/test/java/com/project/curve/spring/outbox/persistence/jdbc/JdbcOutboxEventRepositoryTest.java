@@ -0,0 +1,543 @@
+package com.project.curve.spring.outbox.persistence.jdbc;
+
+import com.project.curve.core.outbox.OutboxArchiveMode;
+import com.project.curve.core.outbox.OutboxCursor;
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JdbcOutboxEventRepository Test")
+class JdbcOutboxEventRepositoryTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcOutboxEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("outbox-" + UUID.randomUUID())
+                .addScript("schema/outbox-schema.sql")
+                .build();
+        repository = new JdbcOutboxEventRepository(new JdbcTemplate(dataSource), dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    private OutboxEvent event(String id) {
+        return new OutboxEvent(id, "Order", "order-" + id, "ORDER_CREATED", "{\"id\":\"" + id + "\"}",
+                Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    private OutboxEvent routedEvent(String id) {
+        return OutboxEvent.builder()
+                .eventId(id)
+                .aggregateType("Order")
+                .aggregateId("order-" + id)
+                .eventType("ORDER_CREATED")
+                .payload("{}")
+                .occurredAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .topic("order.events")
+                .partitionKey("order-" + id)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Bulk operations")
+    class BulkOperationsTest {
+
+        @Test
+        @DisplayName("saveAll should update existing rows and insert missing ones")
+        void saveAll_shouldUpdateExistingAndInsertNew() {
+            // Given
+            OutboxEvent existing = event("1");
+            repository.save(existing);
+            existing.scheduleNextRetry(1000L);
+            OutboxEvent fresh = event("2");
+
+            // When
+            repository.saveAll(List.of(existing, fresh));
+
+            // Then
+            assertThat(repository.findById("1")).get()
+                    .extracting(OutboxEvent::getRetryCount).isEqualTo(1);
+            assertThat(repository.findById("2")).get()
+                    .extracting(OutboxEvent::getStatus).isEqualTo(OutboxStatus.PENDING);
+            assertThat(repository.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("markPublished should update all given events in bulk")
+        void markPublished_shouldUpdateAllGivenEvents() {
+            // Given
+            OutboxEvent failedOnce = event("1");
+            failedOnce.scheduleNextRetry(1000L);
+            repository.saveAll(List.of(failedOnce, event("2"), event("3")));
+            Instant publishedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+            // When
+            int updated = repository.markPublished(List.of("1", "2"), publishedAt);
+
+            // Then
+            assertThat(updated).isEqualTo(2);
+            OutboxEvent published = repository.findById("1").orElseThrow();
+            assertThat(published.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+            assertThat(published.getPublishedAt()).isEqualTo(publishedAt);
+            assertThat(repository.countByStatus(OutboxStatus.PUBLISHED)).isEqualTo(2);
+            assertThat(repository.countByStatus(OutboxStatus.PENDING)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Topic and partition key should be stored and restored")
+        void save_shouldRoundTripRoutingColumns() {
+            // Given
+            OutboxEvent routed = routedEvent("1");
+
+            // When
+            repository.saveAll(List.of(routed, event("2")));
+
+            // Then
+            OutboxEvent restored = repository.findById("1").orElseThrow();
+            assertThat(restored.getTopic()).isEqualTo("order.events");
+            assertThat(restored.getPartitionKey()).isEqualTo("order-1");
+            OutboxEvent unrouted = repository.findById("2").orElseThrow();
+            assertThat(unrouted.getTopic()).isNull();
+            assertThat(unrouted.getPartitionKey()).isNull();
+        }
+
+        @Test
+        @DisplayName("Payload codec should be stored and restored")
+        void save_shouldRoundTripPayloadCodec() {
+            // Given
+            OutboxEvent compressed = OutboxEvent.builder()
+                    .eventId("1")
+                    .aggregateType("Order")
+                    .aggregateId("order-1")
+                    .eventType("ORDER_CREATED")
+                    .payload("H4sIAAAA")
+                    .occurredAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                    .payloadCodec("gzip")
+                    .build();
+
+            // When
+            repository.save(compressed);
+
+            // Then
+            assertThat(repository.findById("1")).get()
+                    .extracting(OutboxEvent::getPayloadCodec).isEqualTo("gzip");
+            assertThat(repository.findById("1")).get()
+                    .extracting(OutboxEvent::isPayloadCompressed).isEqualTo(true);
+        }
+
+        @Test
+        @DisplayName("insert should store a new event and fail on an existing one")
+        void insert_shouldInsertNewAndRejectExisting() {
+            // Given
+            OutboxEvent fresh = event("1");
+
+            // When
+            repository.insert(fresh);
+
+            // Then
+            assertThat(repository.findById("1")).get()
+                    .extracting(OutboxEvent::getStatus).isEqualTo(OutboxStatus.PENDING);
+            assertThatThrownBy(() -> repository.insert(event("1")))
+                    .isInstanceOf(DuplicateKeyException.class);
+        }
+
+        @Test
+        @DisplayName("insertAll should insert every event across multi-row statements")
+        void insertAll_shouldInsertAcrossChunks() {
+            // Given
+            List<OutboxEvent> events = new ArrayList<>();
+            for (int i = 0; i < 250; i++) {
+                events.add(event(String.valueOf(i)));
+            }
+
+            // When
+            repository.insertAll(events);
+
+            // Then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.findById("249")).get()
+                    .extracting(OutboxEvent::getPayload).isEqualTo("{\"id\":\"249\"}");
+        }
+
+        @Test
+        @DisplayName("insertAll should stay below 999 bind parameters per statement on unrecognized databases")
+        void insertAll_onUnrecognizedDatabase_shouldLimitBindParameters() throws Exception {
+            // Given: a database reported as SQLite
+            DataSource sqlite = mock(DataSource.class, RETURNS_DEEP_STUBS);
+            when(sqlite.getConnection().getMetaData().getDatabaseProductName()).thenReturn("SQLite");
+            List<Integer> parameterCounts = new ArrayList<>();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource) {
+                @Override
+                public int update(String sql, Object... args) {
+                    parameterCounts.add(args.length);
+                    return super.update(sql, args);
+                }
+            };
+            JdbcOutboxEventRepository sqliteRepository = new JdbcOutboxEventRepository(jdbcTemplate, sqlite);
+            List<OutboxEvent> events = new ArrayList<>();
+            for (int i = 0; i < 130; i++) {
+                events.add(event(String.valueOf(i)));
+            }
+
+            // When
+            sqliteRepository.insertAll(events);
+
+            // Then
+            assertThat(repository.count()).isEqualTo(130);
+            assertThat(parameterCounts).hasSize(3).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(999));
+        }
+
+        @Test
+        @DisplayName("insertAll should fail on an already stored event")
+        void insertAll_withExistingEvent_shouldThrow() {
+            // Given
+            repository.save(event("1"));
+
+            // When & Then
+            assertThatThrownBy(() -> repository.insertAll(List.of(event("2"), event("1"))))
+                    .isInstanceOf(DuplicateKeyException.class);
+        }
+
+        @Test
+        @DisplayName("markPublished with no IDs should not touch the table")
+        void markPublished_withNoIds_shouldReturnZero() {
+            assertThat(repository.markPublished(List.of(), Instant.now())).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim-and-lease")
+    class ClaimAndLeaseTest {
+
+        @Test
+        @DisplayName("claimPending should claim up to the limit, oldest first")
+        void claimPending_shouldClaimUpToLimit() {
+            // Given
+            Instant base = Instant.now().minusSeconds(10).truncatedTo(ChronoUnit.MILLIS);
+            for (int i = 1; i <= 3; i++) {
+                repository.save(new OutboxEvent(String.valueOf(i), "Order", "order-" + i, "ORDER_CREATED", "{}",
+                        base.plusMillis(i)));
+            }
+
+            // When
+            List<OutboxEvent> claimed = repository.claimPending("node-a", Duration.ofSeconds(60), 2);
+
+            // Then
+            assertThat(claimed).extracting(OutboxEvent::getEventId).containsExactly("1", "2");
+        }
+
+        @Test
+        @DisplayName("Leased events should not be claimed by another owner until the lease expires")
+        void claimPending_shouldSkipLeasedEvents() {
+            // Given
+            repository.save(event("1"));
+            repository.save(event("2"));
+            repository.claimPending("node-a", Duration.ofSeconds(60), 1);
+
+            // When
+            List<OutboxEvent> claimed = repository.claimPending("node-b", Duration.ofSeconds(60), 10);
+
+            // Then
+            assertThat(claimed).extracting(OutboxEvent::getEventId).containsExactly("2");
+            assertThat(repository.claimPending("node-c", Duration.ofSeconds(60), 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Expired leases should be reclaimed")
+        void claimPending_shouldReclaimExpiredLeases() {
+            // Given
+            repository.save(event("1"));
+            repository.claimPending("node-a", Duration.ofSeconds(-1), 10);
+
+            // When
+            List<OutboxEvent> claimed = repository.claimPending("node-b", Duration.ofSeconds(60), 10);
+
+            // Then
+            assertThat(claimed).extracting(OutboxEvent::getEventId).containsExactly("1");
+        }
+
+        @Test
+        @DisplayName("releaseClaims should only release leases held by the owner")
+        void releaseClaims_shouldReleaseOwnedLeases() {
+            // Given
+            repository.save(event("1"));
+            repository.claimPending("node-a", Duration.ofSeconds(60), 10);
+
+            // When
+            int releasedByOther = repository.releaseClaims(List.of("1"), "node-b");
+            int released = repository.releaseClaims(List.of("1"), "node-a");
+
+            // Then
+            assertThat(releasedByOther).isZero();
+            assertThat(released).isEqualTo(1);
+            assertThat(repository.claimPending("node-b", Duration.ofSeconds(60), 10))
+                    .extracting(OutboxEvent::getEventId).containsExactly("1");
+        }
+
+        @Test
+        @DisplayName("renewClaims should only extend leases held by the owner")
+        void renewClaims_shouldRenewOwnedLeases() {
+            // Given
+            repository.save(event("1"));
+            repository.claimPending("node-a", Duration.ofSeconds(-1), 10);
+
+            // When
+            int renewedByOther = repository.renewClaims(List.of("1"), "node-b", Duration.ofSeconds(60));
+            int renewed = repository.renewClaims(List.of("1"), "node-a", Duration.ofSeconds(60));
+
+            // Then
+            assertThat(renewedByOther).isZero();
+            assertThat(renewed).isEqualTo(1);
+            assertThat(repository.claimPending("node-b", Duration.ofSeconds(60), 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("An owner whose lease expired mid-batch should not overwrite the new owner's outcome")
+        void completion_afterLeaseExpired_shouldNotOverwriteNewOwner() {
+            // Given: node-a's lease expires while sending, and node-b reclaims the events
+            repository.save(event("1"));
+            repository.save(event("2"));
+            List<OutboxEvent> staleClaim = repository.claimPending("node-a", Duration.ofSeconds(-1), 10);
+            repository.claimPending("node-b", Duration.ofSeconds(60), 10);
+
+            // When: node-a finishes its batch
+            OutboxEvent staleFailure = staleClaim.get(1);
+            staleFailure.scheduleNextRetry(1000L);
+            int published = repository.markPublished(List.of("1"), Instant.now(), "node-a");
+            int saved = repository.saveClaimed(List.of(staleFailure), "node-a");
+
+            // Then
+            assertThat(published).isZero();
+            assertThat(saved).isZero();
+            assertThat(repository.findById("1")).get().extracting(OutboxEvent::getStatus)
+                    .isEqualTo(OutboxStatus.PENDING);
+            assertThat(repository.findById("2")).get().extracting(OutboxEvent::getRetryCount).isEqualTo(0);
+            assertThat(repository.releaseClaims(List.of("1", "2"), "node-b")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("The owner should complete its claimed events and release their leases")
+        void completion_byOwner_shouldWriteOutcome() {
+            // Given
+            repository.save(event("1"));
+            repository.save(event("2"));
+            List<OutboxEvent> claimed = repository.claimPending("node-a", Duration.ofSeconds(60), 10);
+
+            // When
+            OutboxEvent failure = claimed.get(1);
+            failure.scheduleNextRetry(1000L);
+            int published = repository.markPublished(List.of("1"), Instant.now(), "node-a");
+            int saved = repository.saveClaimed(List.of(failure), "node-a");
+
+            // Then
+            assertThat(published).isEqualTo(1);
+            assertThat(saved).isEqualTo(1);
+            assertThat(repository.findById("1")).get().extracting(OutboxEvent::getStatus)
+                    .isEqualTo(OutboxStatus.PUBLISHED);
+            assertThat(repository.findById("2")).get().extracting(OutboxEvent::getRetryCount).isEqualTo(1);
+            assertThat(repository.releaseClaims(List.of("2"), "node-a")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset pagination")
+    class KeysetPaginationTest {
+
+        private OutboxEvent eventAt(String id, Instant occurredAt) {
+            return new OutboxEvent(id, "Order", "order-" + id, "ORDER_CREATED", "{}", occurredAt);
+        }
+
+        @Test
+        @DisplayName("findAfter should page through events ordered by occurredAt and eventId")
+        void findAfter_shouldPageInKeysetOrder() {
+            // Given
+            Instant t0 = Instant.parse("2026-03-01T00:00:00Z");
+            Instant t1 = t0.plusSeconds(1);
+            repository.saveAll(List.of(eventAt("b", t0), eventAt("a", t0), eventAt("c", t1), eventAt("d", t1)));
+
+            // When
+            List<OutboxEvent> first = repository.findAfter(OutboxCursor.start(t0), t0.plusSeconds(10), 3);
+            List<OutboxEvent> second = repository.findAfter(
+                    OutboxCursor.after(first.get(first.size() - 1)), t0.plusSeconds(10), 3);
+
+            // Then
+            assertThat(first).extracting(OutboxEvent::getEventId).containsExactly("a", "b", "c");
+            assertThat(second).extracting(OutboxEvent::getEventId).containsExactly("d");
+        }
+
+        @Test
+        @DisplayName("findAfter should exclude events at or after the upper bound")
+        void findAfter_shouldRespectUntil() {
+            // Given
+            Instant t0 = Instant.parse("2026-03-01T00:00:00Z");
+            repository.saveAll(List.of(eventAt("1", t0), eventAt("2", t0.plusSeconds(5)), eventAt("3", t0.plusSeconds(10))));
+
+            // When
+            List<OutboxEvent> events = repository.findAfter(OutboxCursor.start(t0), t0.plusSeconds(10), 10);
+
+            // Then
+            assertThat(events).extracting(OutboxEvent::getEventId).containsExactly("1", "2");
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive modes")
+    class ArchiveModeTest {
+
+        private JdbcOutboxEventRepository repository(OutboxArchiveMode archiveMode) {
+            return JdbcOutboxEventRepository.builder()
+                    .jdbcTemplate(new JdbcTemplate(dataSource))
+                    .dataSource(dataSource)
+                    .archiveMode(archiveMode)
+                    .build();
+        }
+
+        private long rows(String table) {
+            return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        }
+
+        @Test
+        @DisplayName("ARCHIVE should move published events to the archive table")
+        void markPublished_archive_shouldMoveEventsToArchive() {
+            // Given
+            JdbcOutboxEventRepository archiving = repository(OutboxArchiveMode.ARCHIVE);
+            archiving.saveAll(List.of(event("1"), event("2"), event("3")));
+
+            // When
+            int published = archiving.markPublished(List.of("1", "2"), Instant.now());
+
+            // Then
+            assertThat(published).isEqualTo(2);
+            assertThat(rows("curve_outbox_events")).isEqualTo(1);
+            assertThat(rows("curve_outbox_events_archive")).isEqualTo(2);
+            assertThat(archiving.findById("1")).get()
+                    .extracting(OutboxEvent::getStatus).isEqualTo(OutboxStatus.PUBLISHED);
+            assertThat(archiving.countByStatus(OutboxStatus.PUBLISHED)).isEqualTo(2);
+            assertThat(archiving.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("ARCHIVE should keep the routing columns of archived events")
+        void markPublished_archive_shouldKeepRoutingColumns() {
+            // Given
+            JdbcOutboxEventRepository archiving = repository(OutboxArchiveMode.ARCHIVE);
+            archiving.save(routedEvent("1"));
+
+            // When
+            archiving.markPublished(List.of("1"), Instant.now());
+
+            // Then
+            assertThat(archiving.findById("1")).get()
+                    .satisfies(e -> {
+                        assertThat(e.getTopic()).isEqualTo("order.events");
+                        assertThat(e.getPartitionKey()).isEqualTo("order-1");
+                    });
+        }
+
+        @Test
+        @DisplayName("ARCHIVE queries by aggregate and time range should read both tables")
+        void queries_archive_shouldUnionBothTables() {
+            // Given
+            JdbcOutboxEventRepository archiving = repository(OutboxArchiveMode.ARCHIVE);
+            Instant t0 = Instant.parse("2026-03-01T00:00:00Z");
+            archiving.saveAll(List.of(
+                    new OutboxEvent("1", "Order", "order-1", "ORDER_CREATED", "{}", t0),
+                    new OutboxEvent("2", "Order", "order-1", "ORDER_PAID", "{}", t0.plusSeconds(1))));
+            archiving.markPublished(List.of("1"), Instant.now());
+
+            // When & Then
+            assertThat(archiving.findByAggregate("Order", "order-1"))
+                    .extracting(OutboxEvent::getEventId).containsExactly("1", "2");
+            assertThat(archiving.findSince(t0, 10))
+                    .extracting(OutboxEvent::getEventId).containsExactly("1", "2");
+            assertThat(archiving.findAfter(OutboxCursor.start(t0), t0.plusSeconds(10), 10))
+                    .extracting(OutboxEvent::getEventId).containsExactly("1", "2");
+        }
+
+        @Test
+        @DisplayName("ARCHIVE cleanup should delete old published events from the archive table")
+        void deleteByStatusAndOccurredAtBefore_archive_shouldDeleteArchivedEvents() {
+            // Given
+            JdbcOutboxEventRepository archiving = repository(OutboxArchiveMode.ARCHIVE);
+            archiving.saveAll(List.of(event("1"), event("2")));
+            archiving.markPublished(List.of("1", "2"), Instant.now());
+
+            // When
+            int deleted = archiving.deleteByStatusAndOccurredAtBefore(
+                    OutboxStatus.PUBLISHED, Instant.now().plusSeconds(60), 10);
+
+            // Then
+            assertThat(deleted).isEqualTo(2);
+            assertThat(rows("curve_outbox_events_archive")).isZero();
+        }
+
+        @Test
+        @DisplayName("DELETE should remove published events right away")
+        void markPublished_delete_shouldDeleteEvents() {
+            // Given
+            JdbcOutboxEventRepository deleting = repository(OutboxArchiveMode.DELETE);
+            deleting.saveAll(List.of(event("1"), event("2")));
+
+            // When
+            int published = deleting.markPublished(List.of("1"), Instant.now());
+
+            // Then
+            assertThat(published).isEqualTo(1);
+            assertThat(deleting.findById("1")).isEmpty();
+            assertThat(rows("curve_outbox_events_archive")).isZero();
+            assertThat(deleting.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("PostgreSQL notifications")
+    class PostgresNotifyTest {
+
+        @Test
+        @DisplayName("pg_notify should be ignored on databases other than PostgreSQL")
+        void save_withPostgresNotifyOnH2_shouldInsertWithoutNotify() {
+            // Given
+            JdbcOutboxEventRepository notifyingRepository = JdbcOutboxEventRepository.builder()
+                    .jdbcTemplate(new JdbcTemplate(dataSource))
+                    .dataSource(dataSource)
+                    .postgresNotify(true)
+                    .build();
+
+            // When
+            notifyingRepository.save(event("1"));
+
+            // Then
+            assertThat(notifyingRepository.findById("1")).isPresent();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.curve.spring.outbox.persistence.jdbc;
+
+import com.project.curve.spring.outbox.persistence.jdbc.OutboxPartitionManager.Dialect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OutboxPartitionManager Test")
+class OutboxPartitionManagerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-10T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxPartitionManager manager(Dialect dialect) {
+        return new OutboxPartitionManager(jdbcTemplate, dialect, true, 7, 2, CLOCK);
+    }
+
+    /**
+     * Start of the UTC day as bound by the JDBC driver (in the JVM time zone).
+     */
+    private static String bound(String day) {
+        return Timestamp.from(Instant.parse(day + "T00:00:00Z")).toString();
+    }
+
+    private void givenPartitions(String... partitions) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of(partitions));
+    }
+
+    @Test
+    @DisplayName("Partition day should be parsed from PostgreSQL and MySQL partition names")
+    void partitionDay_shouldParseDailyPartitionNames() {
+        assertThat(OutboxPartitionManager.partitionDay("curve_outbox_events_p20260301"))
+                .contains(LocalDate.of(2026, 3, 1));
+        assertThat(OutboxPartitionManager.partitionDay("p20260301")).contains(LocalDate.of(2026, 3, 1));
+        assertThat(OutboxPartitionManager.partitionDay("curve_outbox_events_default")).isEmpty();
+        assertThat(OutboxPartitionManager.partitionDay("pmax")).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("PostgreSQL")
+    class PostgresqlTest {
+
+        @Test
+        @DisplayName("Missing partitions from today up to premakeDays ahead should be created")
+        void createUpcomingPartitions_shouldCreateMissingDays() {
+            // Given
+            givenPartitions("curve_outbox_events_default", "curve_outbox_events_p20260310");
+
+            // When
+            int created = manager(Dialect.POSTGRESQL).createUpcomingPartitions();
+
+            // Then
+            assertThat(created).isEqualTo(2);
+            ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+            verify(jdbcTemplate, times(2)).execute(ddl.capture());
+            assertThat(ddl.getAllValues()).anySatisfy(sql -> assertThat(sql)
+                    .startsWith("CREATE TABLE IF NOT EXISTS curve_outbox_events_p20260311 PARTITION OF curve_outbox_events"));
+            assertThat(ddl.getAllValues()).anySatisfy(sql -> assertThat(sql)
+                    .startsWith("CREATE TABLE IF NOT EXISTS curve_outbox_events_p20260312 PARTITION OF curve_outbox_events"));
+        }
+
+        @Test
+        @DisplayName("Expired partitions without PENDING events should be detached and dropped")
+        void dropExpiredPartitions_shouldDropOnlyExpiredPartitionsWithoutPending() {
+            // Given
+            givenPartitions("curve_outbox_events_default", "curve_outbox_events_p20260301",
+                    "curve_outbox_events_p20260302", "curve_outbox_events_p20260303");
+            when(jdbcTemplate.queryForObject(contains("curve_outbox_events_p20260301"), eq(Long.class), any()))
+                    .thenReturn(0L);
+            when(jdbcTemplate.queryForObject(contains("curve_outbox_events_p20260302"), eq(Long.class), any()))
+                    .thenReturn(5L);
+
+            // When
+            int dropped = manager(Dialect.POSTGRESQL).dropExpiredPartitions(Instant.parse("2026-03-03T00:00:00Z"));
+
+            // Then
+            assertThat(dropped).isEqualTo(1);
+            verify(jdbcTemplate).execute("ALTER TABLE curve_outbox_events DETACH PARTITION curve_outbox_events_p20260301");
+            verify(jdbcTemplate).execute("DROP TABLE curve_outbox_events_p20260301");
+            verify(jdbcTemplate, never()).execute(contains("curve_outbox_events_p20260302"));
+            verify(jdbcTemplate, never()).execute(contains("curve_outbox_events_p20260303"));
+            verify(jdbcTemplate).update(startsWith("DELETE FROM curve_outbox_events_default"), eq("PUBLISHED"), any(Timestamp.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("MySQL")
+    class MysqlTest {
+
+        @Test
+        @DisplayName("Missing partitions should be split off the pmax partition in one statement")
+        void createUpcomingPartitions_shouldReorganizePmax() {
+            // Given
+            givenPartitions("pmax");
+
+            // When
+            int created = manager(Dialect.MYSQL).createUpcomingPartitions();
+
+            // Then
+            assertThat(created).isEqualTo(3);
+            verify(jdbcTemplate).execute("ALTER TABLE curve_outbox_events REORGANIZE PARTITION pmax INTO (" +
+                    "PARTITION p20260310 VALUES LESS THAN ('" + bound("2026-03-11") + "'), " +
+                    "PARTITION p20260311 VALUES LESS THAN ('" + bound("2026-03-12") + "'), " +
+                    "PARTITION p20260312 VALUES LESS THAN ('" + bound("2026-03-13") + "'), " +
+                    "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        }
+
+        @Test
+        @DisplayName("Expired partitions should be dropped with DROP PARTITION")
+        void dropExpiredPartitions_shouldDropPartition() {
+            // Given
+            givenPartitions("p20260301", "pmax");
+            when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any())).thenReturn(0L);
+
+            // When
+            int dropped = manager(Dialect.MYSQL).dropExpiredPartitions(Instant.parse("2026-03-03T00:00:00Z"));
+
+            // Then
+            assertThat(dropped).isEqualTo(1);
+            verify(jdbcTemplate).queryForObject(
+                    eq("SELECT COUNT(*) FROM curve_outbox_events PARTITION (p20260301) WHERE status = ?"),
+                    eq(Long.class), eq("PENDING"));
+            verify(jdbcTemplate).execute("ALTER TABLE curve_outbox_events DROP PARTITION p20260301");
+        }
+    }
+
+    @Test
+    @DisplayName("Unsupported databases should not be touched")
+    void unsupportedDatabase_shouldDoNothing() {
+        // When
+        OutboxPartitionManager manager = manager(Dialect.UNSUPPORTED);
+        manager.maintainPartitions();
+
+        // Then
+        assertThat(manager.createUpcomingPartitions()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.curve.spring.outbox.persistence.jdbc;
+
+import com.project.curve.spring.outbox.publisher.OutboxWakeUpListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostgresOutboxNotificationListener Test")
+class PostgresOutboxNotificationListenerTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final OutboxWakeUpListener wakeUpListener = mock(OutboxWakeUpListener.class);
+    private PostgresOutboxNotificationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should LISTEN on the outbox channel and stop when the PostgreSQL driver is missing")
+    void start_withoutPostgresDriver_shouldStop() throws Exception {
+        // Given
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        listener = new PostgresOutboxNotificationListener(dataSource, wakeUpListener, 10);
+
+        // When
+        listener.start();
+
+        // Then
+        verify(statement, timeout(1000)).execute("LISTEN " + PostgresOutboxNotificationListener.CHANNEL);
+        awaitStopped();
+        verifyNoInteractions(wakeUpListener);
+    }
+
+    @Test
+    @DisplayName("Should reconnect after a connection failure")
+    void start_whenConnectionFails_shouldReconnect() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        listener = new PostgresOutboxNotificationListener(dataSource, wakeUpListener, 10);
+
+        // When
+        listener.start();
+
+        // Then
+        verify(dataSource, timeout(1000).atLeast(3)).getConnection();
+        assertThat(listener.isRunning()).isTrue();
+        verify(wakeUpListener, never()).onOutboxEventsCommitted();
+    }
+
+    private void awaitStopped() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (listener.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(listener.isRunning()).isFalse();
+    }
+}
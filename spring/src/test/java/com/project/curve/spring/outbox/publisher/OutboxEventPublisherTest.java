@@ -0,0 +1,566 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.OutboxCursor;
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxEventRepository;
+import com.project.curve.core.outbox.OutboxKeyResolver;
+import com.project.curve.core.outbox.OutboxKeyStrategy;
+import com.project.curve.core.outbox.OutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventPublisher Test")
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OutboxEventPublisherTest {
+
+    private static final String TOPIC = "test-topic";
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private OutboxEventPublisher createPublisher(int sendTimeoutSeconds, boolean pipelined) {
+        return createPublisher(sendTimeoutSeconds, pipelined, null);
+    }
+
+    private OutboxEventPublisher createPublisher(int sendTimeoutSeconds, boolean pipelined, OutboxWorkerPool workerPool) {
+        return createPublisher(sendTimeoutSeconds, pipelined, workerPool, false);
+    }
+
+    private OutboxEventPublisher createPublisher(int sendTimeoutSeconds, boolean pipelined,
+                                                 OutboxWorkerPool workerPool, boolean leaseEnabled) {
+        return createPublisher(sendTimeoutSeconds, pipelined, workerPool, leaseEnabled, Duration.ofSeconds(60));
+    }
+
+    private OutboxEventPublisher createPublisher(int sendTimeoutSeconds, boolean pipelined,
+                                                 OutboxWorkerPool workerPool, boolean leaseEnabled,
+                                                 Duration leaseDuration) {
+        return OutboxEventPublisher.builder()
+                .outboxRepository(outboxRepository)
+                .kafkaTemplate(kafkaTemplate)
+                .topic(TOPIC)
+                .sendTimeoutSeconds(sendTimeoutSeconds)
+                .dynamicBatchingEnabled(false)
+                .pipelinedSendEnabled(pipelined)
+                .workerPool(workerPool)
+                .leaseEnabled(leaseEnabled)
+                .leaseDuration(leaseDuration)
+                .build();
+    }
+
+    private OutboxEvent event(String id) {
+        return new OutboxEvent(id, "Order", "order-" + id, "ORDER_CREATED", "{}", Instant.now());
+    }
+
+    private CompletableFuture<SendResult<String, Object>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Nested
+    @DisplayName("Sequential mode")
+    class SequentialModeTest {
+
+        @Test
+        @DisplayName("Published events should be marked as PUBLISHED")
+        void publishPendingEvents_shouldMarkEventsAsPublished() {
+            // Given
+            OutboxEvent e1 = event("1");
+            OutboxEvent e2 = event("2");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(e1, e2));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(5, false).publishPendingEvents();
+
+            // Then
+            assertThat(e1.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+            assertThat(e2.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+            Instant latest = Collections.max(List.of(e1.getPublishedAt(), e2.getPublishedAt()));
+            verify(outboxRepository).markPublished(eq(List.of("1", "2")), eq(latest));
+            verify(outboxRepository, never()).save(any(OutboxEvent.class));
+        }
+
+        @Test
+        @DisplayName("Send failures should be retried without opening the circuit breaker")
+        void publishPendingEvents_sendFailures_shouldKeepCircuitClosed() {
+            // Given
+            List<OutboxEvent> events = List.of(event("1"), event("2"), event("3"), event("4"), event("5"));
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(events);
+            when(kafkaTemplate.send(anyString(), anyString(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+            OutboxEventPublisher publisher = createPublisher(5, false);
+
+            // When
+            publisher.publishPendingEvents();
+
+            // Then
+            assertThat(publisher.getStats().circuitBreakerState()).isEqualTo("CLOSED");
+            assertThat(events).allSatisfy(e -> assertThat(e.getRetryCount()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("Batch failures should count towards the circuit breaker threshold")
+        void publishPendingEvents_batchFailures_shouldOpenCircuit() {
+            // Given
+            when(outboxRepository.findPendingForProcessing(anyInt()))
+                    .thenThrow(new IllegalStateException("Database down"));
+            OutboxEventPublisher publisher = createPublisher(5, false);
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                publisher.publishPendingEvents();
+            }
+
+            // Then
+            assertThat(publisher.getStats().circuitBreakerState()).isEqualTo("OPEN");
+        }
+    }
+
+    @Nested
+    @DisplayName("Pipelined mode")
+    class PipelinedModeTest {
+
+        @Test
+        @DisplayName("All sends should be issued before any acknowledgement is recorded")
+        void publishPendingEvents_shouldSendWholeBatchBeforeSaving() {
+            // Given
+            OutboxEvent e1 = event("1");
+            OutboxEvent e2 = event("2");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(e1, e2));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(5, true).publishPendingEvents();
+
+            // Then
+            InOrder inOrder = inOrder(kafkaTemplate, outboxRepository);
+            inOrder.verify(kafkaTemplate).send(TOPIC, "1", "{}");
+            inOrder.verify(kafkaTemplate).send(TOPIC, "2", "{}");
+            inOrder.verify(outboxRepository).markPublished(eq(List.of("1", "2")), any(Instant.class));
+            assertThat(e1.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+            assertThat(e2.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        }
+
+        @Test
+        @DisplayName("A failed send should only schedule a retry for that event")
+        void publishPendingEvents_partialFailure_shouldHandleEventsIndividually() {
+            // Given
+            OutboxEvent ok = event("1");
+            OutboxEvent failed = event("2");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(ok, failed));
+            when(kafkaTemplate.send(TOPIC, "1", "{}")).thenReturn(acked());
+            when(kafkaTemplate.send(TOPIC, "2", "{}"))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("send failed")));
+
+            // When
+            createPublisher(5, true).publishPendingEvents();
+
+            // Then
+            assertThat(ok.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+            assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(failed.getRetryCount()).isEqualTo(1);
+            verify(outboxRepository).markPublished(eq(List.of("1")), any(Instant.class));
+            verify(outboxRepository).saveAll(List.of(failed));
+        }
+
+        @Test
+        @DisplayName("Unacknowledged sends should share a single deadline")
+        void publishPendingEvents_timeouts_shouldShareDeadline() {
+            // Given
+            List<OutboxEvent> events = List.of(event("1"), event("2"), event("3"));
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(events);
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(inv -> new CompletableFuture<>());
+
+            // When
+            long start = System.nanoTime();
+            createPublisher(1, true).publishPendingEvents();
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertThat(elapsedMs).isLessThan(2000);
+            assertThat(events).allSatisfy(e -> assertThat(e.getRetryCount()).isEqualTo(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Topic routing")
+    class TopicRoutingTest {
+
+        private OutboxEvent routed(String id, String topic) {
+            return OutboxEvent.builder()
+                    .eventId(id)
+                    .aggregateType("Order")
+                    .aggregateId("order-" + id)
+                    .eventType("ORDER_CREATED")
+                    .payload("{}")
+                    .occurredAt(Instant.now())
+                    .topic(topic)
+                    .partitionKey("order-" + id)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Events should be sent to their own topic keyed by partition key, others to the default topic")
+        void publishPendingEvents_shouldRouteByEventTopic() {
+            // Given
+            OutboxEvent routed = routed("1", "order.events");
+            OutboxEvent legacy = event("2");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(routed, legacy));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(5, false).publishPendingEvents();
+
+            // Then
+            verify(kafkaTemplate).send("order.events", "order-1", "{}");
+            verify(kafkaTemplate).send(TOPIC, "2", "{}");
+            verify(outboxRepository).markPublished(eq(List.of("1", "2")), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Pipelined sends should be grouped by topic, keeping the order within each topic")
+        void publishPendingEvents_pipelined_shouldGroupSendsByTopic() {
+            // Given
+            OutboxEvent o1 = routed("1", "order.events");
+            OutboxEvent s2 = routed("2", "stock.events");
+            OutboxEvent o3 = routed("3", "order.events");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(o1, s2, o3));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(5, true).publishPendingEvents();
+
+            // Then
+            InOrder inOrder = inOrder(kafkaTemplate);
+            inOrder.verify(kafkaTemplate).send("order.events", "order-1", "{}");
+            inOrder.verify(kafkaTemplate).send("order.events", "order-3", "{}");
+            inOrder.verify(kafkaTemplate).send("stock.events", "order-2", "{}");
+            assertThat(List.of(o1, s2, o3)).allSatisfy(e -> assertThat(e.getStatus()).isEqualTo(OutboxStatus.PUBLISHED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Record keys")
+    class RecordKeyTest {
+
+        private OutboxEventPublisher createPublisher(OutboxKeyResolver keyResolver) {
+            return OutboxEventPublisher.builder()
+                    .outboxRepository(outboxRepository)
+                    .kafkaTemplate(kafkaTemplate)
+                    .topic(TOPIC)
+                    .sendTimeoutSeconds(5)
+                    .dynamicBatchingEnabled(false)
+                    .keyResolver(keyResolver)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("AGGREGATE_ID should key events of one aggregate alike")
+        void publishPendingEvents_aggregateId_shouldKeyByAggregate() {
+            // Given
+            OutboxEvent created = new OutboxEvent("1", "Order", "order-1", "ORDER_CREATED", "{}", Instant.now());
+            OutboxEvent paid = new OutboxEvent("2", "Order", "order-1", "ORDER_PAID", "{}", Instant.now());
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(created, paid));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(OutboxKeyStrategy.AGGREGATE_ID).publishPendingEvents();
+
+            // Then
+            verify(kafkaTemplate, times(2)).send(TOPIC, "order-1", "{}");
+        }
+
+        @Test
+        @DisplayName("AGGREGATE_TYPE_AND_ID should prefix the aggregate ID with the aggregate type")
+        void publishPendingEvents_aggregateTypeAndId_shouldKeyByTypeAndId() {
+            // Given
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(event("1")));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(OutboxKeyStrategy.AGGREGATE_TYPE_AND_ID).publishPendingEvents();
+
+            // Then
+            verify(kafkaTemplate).send(TOPIC, "Order:order-1", "{}");
+        }
+
+        @Test
+        @DisplayName("A custom resolver should be used unless the event has its own partition key")
+        void publishPendingEvents_customResolver_shouldYieldToEventPartitionKey() {
+            // Given
+            OutboxEvent keyed = OutboxEvent.builder()
+                    .eventId("1")
+                    .aggregateType("Order")
+                    .aggregateId("order-1")
+                    .eventType("ORDER_CREATED")
+                    .payload("{}")
+                    .occurredAt(Instant.now())
+                    .partitionKey("tenant-a")
+                    .build();
+            OutboxEvent unkeyed = event("2");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(keyed, unkeyed));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(e -> "custom-" + e.getEventId()).publishPendingEvents();
+
+            // Then
+            verify(kafkaTemplate).send(TOPIC, "tenant-a", "{}");
+            verify(kafkaTemplate).send(TOPIC, "custom-2", "{}");
+        }
+    }
+
+    @Nested
+    @DisplayName("Payload compression")
+    class PayloadCompressionTest {
+
+        private OutboxEvent encodedEvent(String payload, String codec) {
+            return OutboxEvent.builder()
+                    .eventId("1")
+                    .aggregateType("Order")
+                    .aggregateId("order-1")
+                    .eventType("ORDER_CREATED")
+                    .payload(payload)
+                    .occurredAt(Instant.now())
+                    .payloadCodec(codec)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Compressed payloads should be sent as the original JSON")
+        void publishPendingEvents_compressedPayload_shouldSendJson() {
+            // Given
+            String json = "{\"note\":\"" + "x".repeat(500) + "\"}";
+            OutboxPayloadCompressor.EncodedPayload encoded =
+                    new OutboxPayloadCompressor(List.of(), "gzip", 0).encode(json);
+            OutboxEvent compressed = encodedEvent(encoded.payload(), encoded.codec());
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(compressed));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            createPublisher(5, true).publishPendingEvents();
+
+            // Then
+            verify(kafkaTemplate).send(TOPIC, "1", json);
+            assertThat(compressed.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        }
+
+        @Test
+        @DisplayName("Events with an unknown codec should be scheduled for retry")
+        void publishPendingEvents_unknownCodec_shouldFailEvent() {
+            // Given
+            OutboxEvent unknown = encodedEvent("AAAA", "zstd");
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(List.of(unknown));
+
+            // When
+            createPublisher(5, false).publishPendingEvents();
+
+            // Then
+            verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+            assertThat(unknown.getRetryCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim-and-lease mode")
+    class LeaseModeTest {
+
+        @Test
+        @DisplayName("Claimed events should be published, and leases of failed events released")
+        void publishClaimedEvents_shouldRecordOutcomeAndReleaseFailedClaims() {
+            // Given
+            OutboxEvent ok = event("1");
+            OutboxEvent failed = event("2");
+            when(outboxRepository.claimPending(anyString(), eq(Duration.ofSeconds(60)), anyInt()))
+                    .thenReturn(List.of(ok, failed));
+            when(outboxRepository.markPublished(anyCollection(), any(Instant.class), anyString())).thenReturn(1);
+            when(outboxRepository.saveClaimed(anyList(), anyString())).thenReturn(1);
+            when(kafkaTemplate.send(TOPIC, "1", "{}")).thenReturn(acked());
+            when(kafkaTemplate.send(TOPIC, "2", "{}"))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+            OutboxEventPublisher publisher = createPublisher(5, false, null, true);
+
+            // When
+            OutboxEventPublisher.PollResult result = publisher.publishClaimedEvents();
+
+            // Then
+            assertThat(result.fetched()).isEqualTo(2);
+            verify(outboxRepository, never()).findPendingForProcessing(anyInt());
+            verify(outboxRepository).markPublished(eq(List.of("1")), any(Instant.class), anyString());
+            verify(outboxRepository).saveClaimed(eq(List.of(failed)), anyString());
+            verify(outboxRepository, never()).markPublished(anyCollection(), any(Instant.class));
+            verify(outboxRepository, never()).saveAll(anyList());
+            verify(outboxRepository, never()).renewClaims(anyCollection(), anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Outcomes should be written with the same owner that claimed the events")
+        void publishClaimedEvents_shouldUseSameOwner() {
+            // Given
+            OutboxEvent failed = event("1");
+            when(outboxRepository.claimPending(anyString(), any(Duration.class), anyInt())).thenReturn(List.of(failed));
+            when(kafkaTemplate.send(anyString(), anyString(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+            // When
+            createPublisher(5, false, null, true).publishClaimedEvents();
+
+            // Then
+            ArgumentCaptor<String> claimOwner = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> releaseOwner = ArgumentCaptor.forClass(String.class);
+            verify(outboxRepository).claimPending(claimOwner.capture(), any(Duration.class), anyInt());
+            verify(outboxRepository).saveClaimed(anyList(), releaseOwner.capture());
+            assertThat(releaseOwner.getValue()).isNotBlank().isEqualTo(claimOwner.getValue());
+        }
+
+        @Test
+        @DisplayName("Leases should be renewed when a batch takes longer than the lease")
+        void publishClaimedEvents_slowBatch_shouldRenewLeases() {
+            // Given: 3 sends of 600ms each take longer than the 2s lease
+            List<OutboxEvent> events = List.of(event("1"), event("2"), event("3"));
+            when(outboxRepository.claimPending(anyString(), any(Duration.class), anyInt())).thenReturn(events);
+            when(outboxRepository.renewClaims(anyCollection(), anyString(), any(Duration.class))).thenReturn(3);
+            when(outboxRepository.markPublished(anyCollection(), any(Instant.class), anyString())).thenReturn(3);
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation ->
+                    CompletableFuture.supplyAsync(() -> null,
+                            CompletableFuture.delayedExecutor(600, TimeUnit.MILLISECONDS)));
+
+            // When
+            createPublisher(1, false, null, true, Duration.ofSeconds(2)).publishClaimedEvents();
+
+            // Then
+            ArgumentCaptor<String> claimOwner = ArgumentCaptor.forClass(String.class);
+            verify(outboxRepository).claimPending(claimOwner.capture(), any(Duration.class), anyInt());
+            verify(outboxRepository, atLeastOnce())
+                    .renewClaims(eq(List.of("1", "2", "3")), eq(claimOwner.getValue()), eq(Duration.ofSeconds(2)));
+            verify(outboxRepository).markPublished(eq(List.of("1", "2", "3")), any(Instant.class),
+                    eq(claimOwner.getValue()));
+        }
+
+        @Test
+        @DisplayName("A lease not longer than the send timeout should be rejected")
+        void constructor_leaseNotLongerThanSendTimeout_shouldThrow() {
+            assertThatThrownBy(() -> createPublisher(5, false, null, true, Duration.ofSeconds(5)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("leaseDuration");
+        }
+    }
+
+    @Nested
+    @DisplayName("Paged replay")
+    class PagedReplayTest {
+
+        private final Instant since = Instant.parse("2026-03-01T00:00:00Z");
+        private final Instant until = since.plusSeconds(3600);
+
+        @Test
+        @DisplayName("Pages should be replayed and marked as published one by one until a short page")
+        void replayPaged_shouldWalkPagesUntilShortPage() {
+            // Given
+            OutboxEvent e1 = event("1");
+            OutboxEvent e2 = event("2");
+            OutboxEvent e3 = event("3");
+            when(outboxRepository.findAfter(OutboxCursor.start(since), until, 2)).thenReturn(List.of(e1, e2));
+            when(outboxRepository.findAfter(OutboxCursor.after(e2), until, 2)).thenReturn(List.of(e3));
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+
+            // When
+            OutboxEventPublisher publisher = createPublisher(5, true);
+            OutboxEventPublisher.PagedReplayResult result =
+                    publisher.replayPaged(OutboxCursor.start(since), until, 2, 100);
+
+            // Then
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.success()).isEqualTo(3);
+            assertThat(result.completed()).isTrue();
+            InOrder inOrder = inOrder(outboxRepository);
+            inOrder.verify(outboxRepository).markPublished(eq(List.of("1", "2")), any(Instant.class));
+            inOrder.verify(outboxRepository).markPublished(eq(List.of("3")), any(Instant.class));
+            assertThat(publisher.getReplayProgress().running()).isFalse();
+            assertThat(publisher.getReplayProgress().total()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Reaching maxEvents should return a cursor to resume from")
+        void replayPaged_reachingMaxEvents_shouldReturnNextCursor() {
+            // Given
+            OutboxEvent e1 = event("1");
+            OutboxEvent e2 = event("2");
+            when(outboxRepository.findAfter(OutboxCursor.start(since), until, 2)).thenReturn(List.of(e1, e2));
+            when(kafkaTemplate.send(TOPIC, "1", "{}")).thenReturn(acked());
+            when(kafkaTemplate.send(TOPIC, "2", "{}"))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+            // When
+            OutboxEventPublisher.PagedReplayResult result =
+                    createPublisher(5, false).replayPaged(OutboxCursor.start(since), until, 10, 2);
+
+            // Then
+            assertThat(result.completed()).isFalse();
+            assertThat(result.nextCursor()).isEqualTo(OutboxCursor.after(e2));
+            assertThat(result.failedEventIds()).containsExactly("2");
+            verify(outboxRepository).markPublished(eq(List.of("1")), any(Instant.class));
+            verify(outboxRepository, times(1)).findAfter(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Partitioned workers")
+    class PartitionedWorkersTest {
+
+        @Test
+        @DisplayName("Events from all workers should be persisted on the calling thread")
+        void publishPendingEvents_withWorkerPool_shouldPersistMergedResults() {
+            // Given
+            List<OutboxEvent> events = List.of(event("1"), event("2"), event("3"), event("4"));
+            when(outboxRepository.findPendingForProcessing(anyInt())).thenReturn(events);
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(acked());
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            OutboxWorkerPool workerPool = new OutboxWorkerPool(2, executor);
+
+            try {
+                // When
+                OutboxEventPublisher publisher = createPublisher(5, false, workerPool);
+                publisher.publishPendingEvents();
+
+                // Then
+                assertThat(events).allSatisfy(e -> assertThat(e.getStatus()).isEqualTo(OutboxStatus.PUBLISHED));
+                verify(outboxRepository).markPublished(argThat(ids -> ids.size() == 4), any(Instant.class));
+                assertThat(publisher.getWorkerStats())
+                        .hasSize(2)
+                        .allSatisfy(stats -> assertThat(stats.inFlight()).isZero());
+                assertThat(publisher.getWorkerStats().stream().mapToLong(OutboxWorkerPool.WorkerStats::published).sum())
+                        .isEqualTo(4);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.OutboxEvent;
+import com.project.curve.core.outbox.OutboxPayloadCodec;
+import com.project.curve.spring.outbox.publisher.OutboxPayloadCompressor.EncodedPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OutboxPayloadCompressor Test")
+class OutboxPayloadCompressorTest {
+
+    private static final String LARGE_JSON = "{\"items\":[" + "\"item\",".repeat(200) + "\"item\"]}";
+
+    private OutboxEvent stored(EncodedPayload encoded) {
+        return OutboxEvent.builder()
+                .eventId("1")
+                .aggregateType("Order")
+                .aggregateId("order-1")
+                .eventType("ORDER_CREATED")
+                .payload(encoded.payload())
+                .occurredAt(Instant.now())
+                .payloadCodec(encoded.codec())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Payloads above the threshold should be compressed and decoded back to JSON")
+    void encode_aboveThreshold_shouldCompress() {
+        // Given
+        OutboxPayloadCompressor compressor = new OutboxPayloadCompressor(List.of(), "gzip", 100);
+
+        // When
+        EncodedPayload encoded = compressor.encode(LARGE_JSON);
+
+        // Then
+        assertThat(encoded.codec()).isEqualTo("gzip");
+        assertThat(encoded.payload().length()).isLessThan(LARGE_JSON.length());
+        assertThat(compressor.decode(stored(encoded))).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    @DisplayName("Payloads below the threshold, or without an active codec, should be stored as plain JSON")
+    void encode_belowThresholdOrDisabled_shouldKeepJson() {
+        // When
+        EncodedPayload small = new OutboxPayloadCompressor(List.of(), "gzip", 100_000).encode(LARGE_JSON);
+        EncodedPayload disabled = new OutboxPayloadCompressor(List.of(), "none", 0).encode(LARGE_JSON);
+
+        // Then
+        assertThat(small).isEqualTo(new EncodedPayload(LARGE_JSON, null));
+        assertThat(disabled).isEqualTo(new EncodedPayload(LARGE_JSON, null));
+    }
+
+    @Test
+    @DisplayName("Payloads that do not shrink should be stored as plain JSON")
+    void encode_incompressible_shouldKeepJson() {
+        // When
+        EncodedPayload encoded = new OutboxPayloadCompressor(List.of(), "gzip", 0).encode("{}");
+
+        // Then
+        assertThat(encoded.codec()).isNull();
+        assertThat(encoded.payload()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Custom codecs should be selectable by name and decodable after being deactivated")
+    void customCodec_shouldBeUsedByName() {
+        // Given
+        OutboxPayloadCodec halving = new OutboxPayloadCodec() {
+            @Override
+            public String name() {
+                return "halving";
+            }
+
+            @Override
+            public byte[] compress(byte[] data) {
+                return new String(data).substring(0, data.length / 2).getBytes();
+            }
+
+            @Override
+            public byte[] decompress(byte[] data) {
+                return (new String(data) + new String(data)).getBytes();
+            }
+        };
+        EncodedPayload encoded = new OutboxPayloadCompressor(List.of(halving), "halving", 0).encode("abababababababab");
+
+        // When
+        String decoded = new OutboxPayloadCompressor(List.of(halving), "none", 0).decode(stored(encoded));
+
+        // Then
+        assertThat(encoded.codec()).isEqualTo("halving");
+        assertThat(decoded).isEqualTo("abababababababab");
+    }
+
+    @Test
+    @DisplayName("Unknown codecs should be rejected")
+    void unknownCodec_shouldThrow() {
+        assertThatThrownBy(() -> new OutboxPayloadCompressor(List.of(), "zstd", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("zstd");
+        assertThatThrownBy(() -> new OutboxPayloadCompressor().decode(stored(new EncodedPayload("AAAA", "zstd"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.spring.outbox.publisher.OutboxEventPublisher.PollResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxPoller Test")
+class OutboxPollerTest {
+
+    private final OutboxEventPublisher publisher = mock(OutboxEventPublisher.class);
+    private OutboxPoller poller;
+
+    @AfterEach
+    void tearDown() {
+        if (poller != null) {
+            poller.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw exception when maxPollIntervalMs is less than pollIntervalMs")
+    void constructor_withInvalidIntervals_shouldThrowException() {
+        assertThatThrownBy(() -> new OutboxPoller(publisher, 1000, 500, true, 1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxPollIntervalMs");
+    }
+
+    @Nested
+    @DisplayName("Adaptive delay")
+    class AdaptiveDelayTest {
+
+        @Test
+        @DisplayName("Full batch should poll again immediately")
+        void fullBatch_shouldPollImmediately() {
+            poller = new OutboxPoller(publisher, 100, 1000, true, 1000);
+
+            assertThat(poller.nextDelayMs(new PollResult(50, 50))).isZero();
+        }
+
+        @Test
+        @DisplayName("Empty batches should back off exponentially up to the ceiling")
+        void emptyBatches_shouldBackOffExponentially() {
+            poller = new OutboxPoller(publisher, 100, 500, true, 1000);
+            PollResult empty = new PollResult(50, 0);
+
+            assertThat(poller.nextDelayMs(empty)).isEqualTo(100);
+            assertThat(poller.nextDelayMs(empty)).isEqualTo(200);
+            assertThat(poller.nextDelayMs(empty)).isEqualTo(400);
+            assertThat(poller.nextDelayMs(empty)).isEqualTo(500);
+            assertThat(poller.nextDelayMs(empty)).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("Non-empty batch should reset the back-off")
+        void partialBatch_shouldResetBackOff() {
+            poller = new OutboxPoller(publisher, 100, 1000, true, 1000);
+            PollResult empty = new PollResult(50, 0);
+            poller.nextDelayMs(empty);
+            poller.nextDelayMs(empty);
+
+            assertThat(poller.nextDelayMs(new PollResult(50, 10))).isEqualTo(100);
+            assertThat(poller.nextDelayMs(empty)).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("Fixed mode should always wait pollIntervalMs")
+        void fixedMode_shouldAlwaysWaitPollInterval() {
+            poller = new OutboxPoller(publisher, 100, 1000, false, 1000);
+
+            assertThat(poller.nextDelayMs(new PollResult(50, 50))).isEqualTo(100);
+            assertThat(poller.nextDelayMs(new PollResult(50, 0))).isEqualTo(100);
+            assertThat(poller.nextDelayMs(new PollResult(50, 0))).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("Wake-up")
+    class WakeUpTest {
+
+        @Test
+        @DisplayName("Wake-up signal should trigger a poll without waiting for the interval")
+        void onOutboxEventsCommitted_shouldTriggerPoll() {
+            // Given
+            when(publisher.publishPendingEvents()).thenReturn(new PollResult(50, 0));
+            poller = new OutboxPoller(publisher, 60_000, 60_000, true, 1000);
+            poller.start();
+            verify(publisher, timeout(1000).times(1)).publishPendingEvents();
+
+            // When
+            poller.onOutboxEventsCommitted();
+
+            // Then
+            verify(publisher, timeout(1000).times(2)).publishPendingEvents();
+        }
+
+        @Test
+        @DisplayName("Wake-up signal should be ignored in fixed mode")
+        void onOutboxEventsCommitted_inFixedMode_shouldBeIgnored() throws InterruptedException {
+            // Given
+            when(publisher.publishPendingEvents()).thenReturn(new PollResult(50, 0));
+            poller = new OutboxPoller(publisher, 60_000, 60_000, false, 1000);
+            poller.start();
+            verify(publisher, timeout(1000).times(1)).publishPendingEvents();
+
+            // When
+            poller.onOutboxEventsCommitted();
+            Thread.sleep(200);
+
+            // Then
+            verify(publisher, times(1)).publishPendingEvents();
+        }
+
+        @Test
+        @DisplayName("Full batches should be drained back-to-back")
+        void fullBatches_shouldBeDrainedBackToBack() {
+            // Given
+            when(publisher.publishPendingEvents())
+                    .thenReturn(new PollResult(50, 50), new PollResult(50, 50), new PollResult(50, 0));
+            poller = new OutboxPoller(publisher, 60_000, 60_000, true, 1000);
+
+            // When
+            poller.start();
+
+            // Then
+            verify(publisher, timeout(1000).times(3)).publishPendingEvents();
+        }
+
+        @Test
+        @DisplayName("Lease mode should poll with claim-and-lease")
+        void leaseMode_shouldPublishClaimedEvents() {
+            // Given
+            when(publisher.isLeaseEnabled()).thenReturn(true);
+            when(publisher.publishClaimedEvents()).thenReturn(new PollResult(50, 0));
+            poller = new OutboxPoller(publisher, 60_000, 60_000, true, 1000);
+
+            // When
+            poller.start();
+
+            // Then
+            verify(publisher, timeout(1000)).publishClaimedEvents();
+            verify(publisher, never()).publishPendingEvents();
+        }
+
+        @Test
+        @DisplayName("Stop should end the polling thread")
+        void stop_shouldEndPolling() {
+            when(publisher.publishPendingEvents()).thenReturn(new PollResult(50, 0));
+            poller = new OutboxPoller(publisher, 60_000, 60_000, true, 1000);
+            poller.start();
+
+            poller.stop();
+
+            assertThat(poller.isRunning()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.project.curve.spring.outbox.publisher;
+
+import com.project.curve.core.outbox.OutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OutboxWorkerPool Test")
+class OutboxWorkerPoolTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private OutboxEvent event(String id, String aggregateId, Instant occurredAt) {
+        return new OutboxEvent(id, "Order", aggregateId, "ORDER_CREATED", "{}", occurredAt);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when workerCount is less than 1")
+    void constructor_withInvalidWorkerCount_shouldThrowException() {
+        assertThatThrownBy(() -> new OutboxWorkerPool(0, executor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("workerCount must be at least 1");
+    }
+
+    @Test
+    @DisplayName("Events of the same aggregate should be assigned to one worker in their original order")
+    void partition_shouldKeepAggregateOnOneWorkerInOrder() {
+        // Given
+        OutboxWorkerPool pool = new OutboxWorkerPool(4, executor);
+        Instant base = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            events.add(event("e" + i, "order-" + (i % 10), base.plusMillis(i)));
+        }
+
+        // When
+        List<List<OutboxEvent>> partitions = pool.partition(events);
+
+        // Then
+        assertThat(partitions).hasSize(4);
+        assertThat(partitions.stream().mapToInt(List::size).sum()).isEqualTo(40);
+        for (List<OutboxEvent> partition : partitions) {
+            for (int i = 1; i < partition.size(); i++) {
+                assertThat(partition.get(i).getOccurredAt()).isAfter(partition.get(i - 1).getOccurredAt());
+            }
+        }
+        for (int aggregate = 0; aggregate < 10; aggregate++) {
+            String aggregateId = "order-" + aggregate;
+            long workersWithAggregate = partitions.stream()
+                    .filter(p -> p.stream().anyMatch(e -> e.getAggregateId().equals(aggregateId)))
+                    .count();
+            assertThat(workersWithAggregate).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Partitions should run on worker threads and their results should be merged")
+    void execute_shouldRunPartitionsOnWorkersAndMergeResults() {
+        // Given
+        OutboxWorkerPool pool = new OutboxWorkerPool(4, executor);
+        Instant base = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add(event("e" + i, "order-" + i, base.plusMillis(i)));
+        }
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // When
+        OutboxBatchResult result = pool.execute(events, partition -> {
+            threads.add(Thread.currentThread().getName());
+            return new OutboxBatchResult(partition, List.of());
+        });
+
+        // Then
+        assertThat(result.published()).hasSize(20).containsExactlyInAnyOrderElementsOf(events);
+        assertThat(result.failed()).isEmpty();
+        assertThat(threads).doesNotContain(Thread.currentThread().getName());
+        assertThat(pool.getStats().stream().mapToLong(OutboxWorkerPool.WorkerStats::published).sum()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("A failing worker should report its partition as failed")
+    void execute_whenWorkerFails_shouldReportItsPartitionAsFailed() {
+        // Given
+        OutboxWorkerPool pool = new OutboxWorkerPool(2, executor);
+        OutboxEvent event = event("e1", "order-1", Instant.now());
+
+        // When
+        OutboxBatchResult result = pool.execute(List.of(event), partition -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Then
+        assertThat(result.published()).isEmpty();
+        assertThat(result.failed()).containsExactly(event);
+        assertThat(pool.getStats()).allSatisfy(stats -> assertThat(stats.inFlight()).isZero());
+    }
+
+    @Test
+    @DisplayName("An interrupt should still collect the results of every worker and restore the interrupt flag")
+    void execute_whenInterrupted_shouldCollectAllResults() {
+        // Given
+        OutboxWorkerPool pool = new OutboxWorkerPool(4, executor);
+        Instant base = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            events.add(event("e" + i, "order-" + i, base.plusMillis(i)));
+        }
+        Thread.currentThread().interrupt();
+
+        // When
+        OutboxBatchResult result;
+        try {
+            result = pool.execute(events, partition -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new OutboxBatchResult(partition, List.of());
+            });
+        } finally {
+            // Then: clears the flag so that it does not leak into other tests
+            assertThat(Thread.interrupted()).isTrue();
+        }
+        assertThat(result.published()).containsExactlyInAnyOrderElementsOf(events);
+    }
+}
@@ -2,6 +2,8 @@ package com.project.curve.spring.pii.jackson;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.curve.spring.metrics.CurveMetricsCollector;
+import com.project.curve.spring.metrics.PublishStage;
 import com.project.curve.spring.pii.annotation.PiiField;
 import com.project.curve.spring.pii.crypto.DefaultPiiCryptoProvider;
 import com.project.curve.spring.pii.mask.DefaultMasker;
@@ -21,6 +23,9 @@ import java.util.Base64;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @DisplayName("PiiModule Test")
 class PiiModuleTest {
@@ -305,6 +310,24 @@ class PiiModuleTest {
             assertThat(json).doesNotContain("test@example.com");
             assertThat(json).contains("*");
         }
+
+        @Test
+        @DisplayName("Should record the PII stage duration of each processed value")
+        void serialize_withMetricsCollector_shouldRecordPiiStage() throws JsonProcessingException {
+            // Given
+            CurveMetricsCollector metricsCollector = mock(CurveMetricsCollector.class);
+            ObjectMapper meteredMapper = new ObjectMapper();
+            meteredMapper.registerModule(new PiiModule(processorRegistry, metricsCollector));
+            TestPayload payload = new TestPayload();
+            payload.email = "test@example.com";
+            payload.phone = "010-1234-5678";
+
+            // When
+            meteredMapper.writeValueAsString(payload);
+
+            // Then
+            verify(metricsCollector, times(2)).recordPublishStage(eq(PublishStage.PII), anyLong());
+        }
     }
 
     @Nested
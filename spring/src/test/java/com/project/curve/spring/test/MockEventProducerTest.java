@@ -0,0 +1,76 @@
+package com.project.curve.spring.test;
+
+import com.project.curve.core.payload.DomainEventPayload;
+import com.project.curve.core.port.PublishResult;
+import com.project.curve.core.type.EventSeverity;
+import com.project.curve.core.type.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MockEventProducer Test")
+class MockEventProducerTest {
+
+    @Test
+    @DisplayName("publishAsync should record the event and complete with its position")
+    void publishAsync_shouldRecordAndComplete() {
+        // Given
+        MockEventProducer producer = new MockEventProducer();
+        producer.publish(new TestPayload());
+
+        // When
+        PublishResult result = producer.publishAsync(new TestPayload(), EventSeverity.WARN, "orders").join();
+
+        // Then
+        assertThat(producer.getPayloads()).hasSize(2);
+        assertThat(producer.getSeverities()).containsExactly(EventSeverity.INFO, EventSeverity.WARN);
+        assertThat(result.topic()).isEqualTo("orders");
+        assertThat(result.partition()).isZero();
+        assertThat(result.offset()).isEqualTo(1);
+        assertThat(result.latency()).isEqualTo(Duration.ZERO);
+        assertThat(result.eventId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("publishAsync without topic should report the default topic")
+    void publishAsync_withoutTopic_shouldReportDefaultTopic() {
+        // Given
+        MockEventProducer producer = new MockEventProducer();
+
+        // When
+        PublishResult result = producer.publishAsync(new TestPayload()).join();
+
+        // Then
+        assertThat(result.topic()).isEqualTo(MockEventProducer.DEFAULT_TOPIC);
+    }
+
+    @Test
+    @DisplayName("failWith should fail publishAsync without recording the event until cleared")
+    void failWith_shouldFailUntilCleared() {
+        // Given
+        MockEventProducer producer = new MockEventProducer();
+        producer.failWith(new IllegalStateException("Broker down"));
+
+        // When
+        CompletableFuture<PublishResult> failed = producer.publishAsync(new TestPayload());
+
+        // Then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(producer.getPayloads()).isEmpty();
+
+        producer.clear();
+        assertThat(producer.publishAsync(new TestPayload())).isCompleted();
+        assertThat(producer.getPayloads()).hasSize(1);
+    }
+
+    static class TestPayload implements DomainEventPayload {
+        @Override
+        public EventType getEventType() {
+            return () -> "TEST_EVENT";
+        }
+    }
+}